@@ -10,6 +10,8 @@ package legends.characters;
 /**
  * Entity is the base class for all characters in the game.
  * It stores shared fields such as name, level, and HP.
+ * Every entity also gets a dense int id when it joins a match (see
+ * EntityIds), so per-entity data can live in flat arrays indexed by id.
  */
 public abstract class Entity {
 
@@ -17,6 +19,9 @@ public abstract class Entity {
     protected int level;     // Character's level
     protected double hp;     // Current HP value
 
+    private int id = -1;           // Dense id within the current match, -1 before joining one
+    private EntityIds idOwner;     // Allocator of the match that issued the id
+
     // ---------- Setters ----------
     public void setName(String name) { this.name = name; }
     public void setLevel(int level) { this.level = level; }
@@ -26,6 +31,16 @@ public abstract class Entity {
     public boolean isAlive() { return hp > 0; }
 
     // ---------- Getters ----------
+    public int getId() { return id; }
+
+    // ---------- Id assignment (EntityIds only) ----------
+    EntityIds getIdOwner() { return idOwner; }
+
+    void assignId(EntityIds owner, int id) {
+        this.idOwner = owner;
+        this.id = id;
+    }
+
     public String getName() { return name; }
     public int getLevel() { return level; }
     public double getHP() { return hp; }
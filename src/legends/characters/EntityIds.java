@@ -0,0 +1,39 @@
+/**
+ * File: EntityIds.java
+ * Package: legends.characters
+ *
+ * Purpose:
+ *   Hands out dense Entity ids within one match.
+ *
+ * Responsibilities:
+ *   - Give each entity that joins the match the next id (0, 1, 2, ...)
+ *   - Keep the id of an entity that already holds one from this allocator
+ *     (respawned heroes, monsters reused from a pool)
+ *   - Report the id bound so id-indexed tables can be sized to the match
+ *
+ * Every match owns its own allocator (ValorBoard creates one), so tables
+ * indexed by Entity id only ever grow to the number of units that took
+ * part in that match, however many matches the process plays.
+ */
+package legends.characters;
+
+public class EntityIds {
+
+    // Next id to hand out
+    private int next = 0;
+
+    /**
+     * Returns the entity's id in this match, issuing the next one if the
+     * entity has none yet or holds an id from another match.
+     */
+    public synchronized int issue(Entity e) {
+        if (e == null) return -1;
+        if (e.getIdOwner() != this) e.assignId(this, next++);
+        return e.getId();
+    }
+
+    /**
+     * One past the highest id handed out so far (a safe array size for id-indexed tables).
+     */
+    public synchronized int getBound() { return next; }
+}
@@ -0,0 +1,114 @@
+/**
+ * File: EntityIdsTest.java
+ * Description: Simple test harness for per-match entity ids.
+ *              Checks that ids are dense within a match, that respawned and
+ *              pooled units keep their id, that a new match issues ids from 0
+ *              again, that id-indexed tables stay small across many
+ *              matches, and that GameStats finds each hero by id. Exits
+ *              with status 1 on a failure.
+ */
+
+package legends.characters;
+
+import java.util.Arrays;
+
+import legends.stats.GameStats;
+import legends.valor.game.MonsterPool;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorTile;
+
+public class EntityIdsTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+
+        // --- Allocator ---
+        System.out.println("=== Allocator ===");
+        EntityIds ids = new EntityIds();
+        Hero a = new Warrior("A", 1, 100, 100, 500, 500, 500);
+        Hero b = new Warrior("B", 1, 100, 100, 500, 500, 500);
+        check(a.getId() == -1, "no id before joining a match");
+        check(ids.issue(a) == 0 && ids.issue(b) == 1, "ids issued in order from 0");
+        check(ids.issue(a) == 0 && ids.getBound() == 2, "second issue keeps the id");
+
+        EntityIds other = new EntityIds();
+        check(other.issue(b) == 0 && b.getId() == 0, "another match re-issues from 0");
+
+        // --- Board placement ---
+        System.out.println("\n=== Board ===");
+        Monster proto = new Dragon("Drake", 1, 300, 200, 0.2);
+        MonsterPool pool = new MonsterPool();
+        ValorBoard board = new ValorBoard();
+        ValorTile heroTile = spawn(board, true);
+        ValorTile monsterTile = spawn(board, false);
+
+        heroTile.placeHero(a);
+        Monster m = pool.acquire(proto);
+        monsterTile.placeMonster(m);
+        check(a.getId() == 0 && m.getId() == 1, "first placements get ids 0 and 1");
+        check(proto.getId() == -1, "catalog prototype never gets an id");
+
+        heroTile.removeHero();
+        heroTile.placeHero(a);
+        check(a.getId() == 0, "respawned hero keeps its id");
+
+        m.setHP(0);
+        monsterTile.removeMonster();
+        pool.compact(null);
+        Monster reused = pool.acquire(proto);
+        monsterTile.placeMonster(reused);
+        check(reused == m && reused.getId() == 1, "pooled monster keeps its id");
+        check(board.getEntityIds().getBound() == 2, "no id spent on reuse");
+
+        // --- Many matches: ids restart, tables stay small ---
+        System.out.println("\n=== Many matches ===");
+        int highest = 0;
+        for (int match = 0; match < 200; match++) {
+            ValorBoard next = new ValorBoard();
+            Hero h = a.copy();
+            spawn(next, true).placeHero(h);
+            Monster mm = new MonsterPool().acquire(proto);
+            spawn(next, false).placeMonster(mm);
+            highest = Math.max(highest, Math.max(h.getId(), mm.getId()));
+        }
+        check(highest == 1, "ids stay below the units of one match");
+
+        EntityIntTable table = new EntityIntTable(-1);
+        table.put(proto, 7);
+        check(!table.contains(proto), "entity without an id is never stored");
+
+        // --- Stats looked up by id stay right when a new match renumbers ---
+        System.out.println("\n=== Stats lookup ===");
+        Hero c = new Warrior("C", 1, 100, 100, 500, 500, 500);
+        Hero d = new Warrior("D", 1, 100, 100, 500, 500, 500);
+        GameStats stats = new GameStats(GameStats.GameMode.LEGENDS_OF_VALOR, Arrays.asList(c, d));
+        check(stats.statsFor(c).getHero() == c && stats.statsFor(d).getHero() == d, "heroes without ids found");
+
+        ValorBoard first = new ValorBoard();
+        spawn(first, true).placeHero(c);
+        first.getTile(first.getHeroSpawnCell(1)[0], first.getHeroSpawnCell(1)[1]).placeHero(d);
+        check(stats.statsFor(c).getHero() == c && stats.statsFor(d).getHero() == d, "heroes found by id");
+
+        ValorBoard second = new ValorBoard();
+        spawn(second, true).placeHero(d);
+        second.getTile(second.getHeroSpawnCell(1)[0], second.getHeroSpawnCell(1)[1]).placeHero(c);
+        check(d.getId() == 0 && stats.statsFor(d).getHero() == d && stats.statsFor(c).getHero() == c,
+                "swapped ids still find the right hero");
+        check(stats.statsFor(a) == null, "hero outside the party has no stats");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Lane 0 spawn tile for heroes or monsters
+    private static ValorTile spawn(ValorBoard board, boolean hero) {
+        int[] cell = hero ? board.getHeroSpawnCell(0) : board.getMonsterSpawnCell(0);
+        return board.getTile(cell[0], cell[1]);
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * File: EntityIntTable.java
+ * Package: legends.characters
+ *
+ * Purpose:
+ *   Flat int-per-entity table indexed by Entity ids.
+ *
+ * Responsibilities:
+ *   - Store one int value per entity without hashing or boxing
+ *   - Report a fixed "missing" value for entities that were never set
+ *     (including entities that have not joined a match and have no id)
+ *   - Grow on demand when a newer (higher) id is stored
+ */
+package legends.characters;
+
+import java.util.Arrays;
+
+public class EntityIntTable {
+
+    // Value returned for entities that have no entry
+    private final int missing;
+
+    // values[id] for every entity id seen so far
+    private int[] values;
+
+    public EntityIntTable(int missing) {
+        this.missing = missing;
+        this.values = new int[16];
+        Arrays.fill(values, missing);
+    }
+
+    /**
+     * Returns the stored value for the entity, or the missing value.
+     */
+    public int get(Entity e) {
+        if (e == null) return missing;
+        int id = e.getId();
+        return (id >= 0 && id < values.length) ? values[id] : missing;
+    }
+
+    public boolean contains(Entity e) {
+        return get(e) != missing;
+    }
+
+    public void put(Entity e, int value) {
+        if (e == null || e.getId() < 0) return;
+        int id = e.getId();
+        if (id >= values.length) {
+            int old = values.length;
+            values = Arrays.copyOf(values, Math.max(id + 1, old * 2));
+            Arrays.fill(values, old, values.length, missing);
+        }
+        values[id] = value;
+    }
+}
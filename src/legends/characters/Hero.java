@@ -83,7 +83,12 @@ public abstract class Hero extends Entity {
 
     // Calculates total attack damage using strength and weapon damage
     public double getAttackDamage() {
-        double weaponDamage = (weapon != null) ? weapon.getDamage() : 0;
+        return getAttackDamage(weapon);
+    }
+
+    // Attack damage the hero would have with the given weapon equipped (null = none)
+    public double getAttackDamage(Weapon with) {
+        double weaponDamage = (with != null) ? with.getDamage() : 0;
         return (strength + weaponDamage) * 0.31;
     }
 
@@ -120,6 +125,20 @@ public abstract class Hero extends Entity {
     // Each subclass must implement their own leveling bonuses
     public abstract void levelUp();
 
+    /**
+     * Creates a fresh copy of this hero with the same stats, gold and XP.
+     * Used so catalog heroes can be handed out to several games
+     * without one game mutating another's party.
+     */
+    public abstract Hero copy();
+
+    // Copies progression fields shared by every hero type onto a new instance
+    protected <T extends Hero> T copyProgressTo(T h) {
+        h.setGold(this.gold);
+        h.setExperience(this.experience);
+        return h;
+    }
+
     // Potion use applies boosts to relevant stats
     public void usePotion(Potion p) {
         for (PotionAttribute attr : p.getAttributes()) {
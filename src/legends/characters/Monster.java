@@ -48,6 +48,20 @@ public abstract class Monster extends Entity {
      */
     public abstract Monster copy();
 
+    /**
+     * Re-initializes this monster with a prototype's stats so a dead
+     * instance can be reused for a new spawn instead of allocating a copy.
+     * The prototype should be the same monster type as this instance.
+     */
+    public void resetFrom(Monster prototype) {
+        this.name = prototype.name;
+        this.level = prototype.level;
+        this.hp = prototype.hp;
+        this.damage = prototype.damage;
+        this.defense = prototype.defense;
+        this.dodgeChance = prototype.dodgeChance;
+    }
+
     /**
      * Fire spells lower monster defense.
      */
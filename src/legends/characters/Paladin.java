@@ -48,4 +48,12 @@ public class Paladin extends Hero {
         System.out.println("\u001B[92m" + name +
                 " is now Level " + level + "! (Paladin)\u001B[0m");
     }
+
+    /**
+     * Returns a new Paladin with identical stats, gold and experience.
+     */
+    @Override
+    public Paladin copy() {
+        return copyProgressTo(new Paladin(name, level, hp, mp, strength, dexterity, agility));
+    }
 }
\ No newline at end of file
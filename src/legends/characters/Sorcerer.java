@@ -46,4 +46,12 @@ public class Sorcerer extends Hero {
         System.out.println("\u001B[92m" + name +
                 " is now Level " + level + "! (Sorcerer)\u001B[0m");
     }
+
+    /**
+     * Returns a new Sorcerer with identical stats, gold and experience.
+     */
+    @Override
+    public Sorcerer copy() {
+        return copyProgressTo(new Sorcerer(name, level, hp, mp, strength, dexterity, agility));
+    }
 }
\ No newline at end of file
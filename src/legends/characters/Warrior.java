@@ -48,4 +48,12 @@ public class Warrior extends Hero {
         System.out.println("\u001B[92m" + name +
                 " is now Level " + level + "! (Warrior)\u001B[0m");
     }
+
+    /**
+     * Returns a new Warrior with identical stats, gold and experience.
+     */
+    @Override
+    public Warrior copy() {
+        return copyProgressTo(new Warrior(name, level, hp, mp, strength, dexterity, agility));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,462 @@
+/**
+ * File: CatalogCache.java
+ * Package: legends.data
+ *
+ * Purpose:
+ *   Keeps a compact binary copy of the parsed catalog so later launches
+ *   can skip text parsing.
+ *
+ * Responsibilities:
+ *   - Stamp each data file with its size, modification time and CRC32,
+ *     taken from the same bytes that are parsed
+ *   - Memory-map the cache and decode every section whose file is unchanged
+ *   - Re-parse only the files whose stamp no longer matches
+ *   - Rewrite the cache whenever anything had to be parsed again
+ *
+ * File layout (big-endian):
+ *   int MAGIC, int VERSION, int sectionCount, then per section:
+ *   string fileName, long size, long mtime, long crc, int payloadBytes, payload
+ *
+ * A file is considered unchanged when size and mtime match. If only the
+ * mtime differs (e.g. the file was touched or checked out again), the CRC
+ * decides, so the cache survives edits that are undone.
+ */
+package legends.data;
+
+import legends.characters.*;
+import legends.items.*;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.zip.CRC32;
+
+public class CatalogCache {
+
+    private static final int MAGIC = 0x4C4F5643;   // "LOVC"
+    private static final int VERSION = 1;
+
+    // Default cache location, next to the other save files
+    private static final Path DEFAULT_CACHE = FileUtils.savePath("catalog.cache");
+
+    private final Path cacheFile;
+
+    public CatalogCache() {
+        this(DEFAULT_CACHE);
+    }
+
+    public CatalogCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * Size, modification time and content hash of one data file.
+     */
+    static final class Stamp {
+        final long size;
+        final long mtime;
+        long crc;   // 0 until computed
+
+        Stamp(long size, long mtime, long crc) {
+            this.size = size;
+            this.mtime = mtime;
+            this.crc = crc;
+        }
+    }
+
+    /**
+     * Contents of one data file and the stamp they were read under. Parsing
+     * these bytes (instead of opening the file again) keeps the cache key and
+     * the cached rows in step even if the file changes in between.
+     */
+    static final class Source {
+        final Stamp stamp;
+        final byte[] bytes;
+
+        private Source(Stamp stamp, byte[] bytes) {
+            this.stamp = stamp;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Reads a data file into memory and stamps it from those bytes.
+     */
+    static Source read(DataFile file) throws IOException {
+        Path path = FileUtils.resourcePath(file.getFileName());
+        // mtime first: a write after this point moves it, so the next start re-checks the CRC
+        long mtime = Files.getLastModifiedTime(path).toMillis();
+        byte[] bytes = Files.readAllBytes(path);
+        return new Source(new Stamp(bytes.length, mtime, crcOf(bytes)), bytes);
+    }
+
+    /**
+     * Loads the catalog from the cache where possible and parses the rest.
+     * Never fails because of the cache: any cache problem falls back to text parsing.
+     */
+    public GameCatalog load(DataLoader loader) {
+        Map<DataFile, Stamp> current = new EnumMap<>(DataFile.class);
+        for (DataFile f : DataFile.values()) {
+            current.put(f, stampOf(f));
+        }
+
+        Map<DataFile, Stamp> cachedStamps = new EnumMap<>(DataFile.class);
+        Map<DataFile, ByteBuffer> payloads = new EnumMap<>(DataFile.class);
+        readCache(cachedStamps, payloads);
+
+        Map<DataFile, Stamp> stamps = new EnumMap<>(DataFile.class);
+        Map<DataFile, List<?>> sections = new EnumMap<>(DataFile.class);
+        boolean rewrite = false;
+
+        for (DataFile f : DataFile.values()) {
+            Stamp cached = cachedStamps.get(f);
+            Stamp now = current.get(f);
+            if (cached == null || now == null || !matches(f, cached, now)) continue;
+            try {
+                sections.put(f, decode(f, payloads.get(f).duplicate()));
+                // Content unchanged but mtime moved: store the new one so the next start skips hashing
+                stamps.put(f, (cached.mtime == now.mtime) ? cached : now);
+                rewrite |= cached.mtime != now.mtime;
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                System.out.println("Catalog cache ignored for " + f.getFileName() + ": " + e);
+            }
+        }
+
+        Set<DataFile> stale = EnumSet.allOf(DataFile.class);
+        stale.removeAll(sections.keySet());
+
+        if (!stale.isEmpty()) {
+            Map<DataFile, byte[]> contents = new EnumMap<>(DataFile.class);
+            for (DataFile f : stale) {
+                try {
+                    Source src = read(f);
+                    stamps.put(f, src.stamp);
+                    contents.put(f, src.bytes);
+                } catch (IOException e) {
+                    // Missing file: an empty section that is not cached
+                    System.out.println("Error reading resource: " + f.getFileName());
+                }
+            }
+            sections.putAll(loader.parseFiles(contents));
+            rewrite = true;
+        }
+
+        if (rewrite) writeCache(stamps, sections, payloads);
+        return new GameCatalog(sections);
+    }
+
+    /**
+     * Replaces the cached sections of the given files (used after hot reloads).
+     * Each section is stored under the stamp of the bytes it was parsed from;
+     * sections of other files keep their cached entry.
+     */
+    public void update(Map<DataFile, Source> sources, Map<DataFile, ? extends List<?>> parsed) {
+        Map<DataFile, Stamp> stamps = new EnumMap<>(DataFile.class);
+        Map<DataFile, ByteBuffer> payloads = new EnumMap<>(DataFile.class);
+        readCache(stamps, payloads);
+
+        Map<DataFile, List<?>> sections = new EnumMap<>(DataFile.class);
+        for (Map.Entry<DataFile, ? extends List<?>> e : parsed.entrySet()) {
+            Source src = sources.get(e.getKey());
+            if (src == null) continue;
+            stamps.put(e.getKey(), src.stamp);
+            payloads.remove(e.getKey());
+            sections.put(e.getKey(), e.getValue());
+        }
+        writeCache(stamps, sections, payloads);
+    }
+
+    // ---------- Reading ----------
+
+    // Collects the stamp and raw payload of every section in the cache file
+    private void readCache(Map<DataFile, Stamp> stamps, Map<DataFile, ByteBuffer> payloads) {
+        if (!Files.isRegularFile(cacheFile)) return;
+
+        try (FileChannel ch = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+
+            if (buf.getInt() != MAGIC || buf.getInt() != VERSION) return;
+
+            int count = buf.getInt();
+            for (int i = 0; i < count; i++) {
+                DataFile file = DataFile.fromFileName(getString(buf));
+                Stamp cached = new Stamp(buf.getLong(), buf.getLong(), buf.getLong());
+                int payload = buf.getInt();
+                if (payload < 0 || payload > buf.remaining()) {
+                    throw new IllegalArgumentException("Bad section length " + payload);
+                }
+
+                if (file != null) {
+                    stamps.put(file, cached);
+                    payloads.put(file, buf.slice(buf.position(), payload));
+                }
+                buf.position(buf.position() + payload);
+            }
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            // Corrupt or unreadable cache: whatever was not collected gets re-parsed
+            System.out.println("Catalog cache ignored: " + e);
+        }
+    }
+
+    // A cached section is valid if size+mtime match, or size matches and the content hash matches
+    private static boolean matches(DataFile file, Stamp cached, Stamp now) {
+        if (cached.size != now.size) return false;
+        if (cached.mtime == now.mtime) {
+            now.crc = cached.crc;
+            return true;
+        }
+        if (now.crc == 0) now.crc = crcOf(file);
+        return now.crc == cached.crc;
+    }
+
+    private List<?> decode(DataFile file, ByteBuffer buf) {
+        int n = buf.getInt();
+        switch (file) {
+            case WARRIORS:  return readHeroes(buf, n, Warrior::new);
+            case PALADINS:  return readHeroes(buf, n, Paladin::new);
+            case SORCERERS: return readHeroes(buf, n, Sorcerer::new);
+
+            case DRAGONS:
+            case SPIRITS:
+            case EXOSKELETONS: {
+                List<Monster> out = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    String name = getString(buf);
+                    int level = buf.getInt();
+                    double damage = buf.getDouble();
+                    double defense = buf.getDouble();
+                    double dodge = buf.getDouble();
+                    if (file == DataFile.DRAGONS)      out.add(new Dragon(name, level, damage, defense, dodge));
+                    else if (file == DataFile.SPIRITS) out.add(new Spirit(name, level, damage, defense, dodge));
+                    else                               out.add(new Exoskeleton(name, level, damage, defense, dodge));
+                }
+                return out;
+            }
+
+            case WEAPONRY: {
+                List<Weapon> out = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    out.add(new Weapon(getString(buf), buf.getInt(), buf.getInt(), buf.getInt(), buf.getInt()));
+                }
+                return out;
+            }
+
+            case ARMORY: {
+                List<Armor> out = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    out.add(new Armor(getString(buf), buf.getInt(), buf.getInt(), buf.getInt()));
+                }
+                return out;
+            }
+
+            case POTIONS: {
+                List<Potion> out = new ArrayList<>(n);
+                PotionAttribute[] all = PotionAttribute.values();
+                for (int i = 0; i < n; i++) {
+                    String name = getString(buf);
+                    int price = buf.getInt();
+                    int level = buf.getInt();
+                    int effect = buf.getInt();
+                    int mask = buf.getInt();
+
+                    List<PotionAttribute> attrs = new ArrayList<>();
+                    for (PotionAttribute a : all) {
+                        if ((mask & (1 << a.ordinal())) != 0) attrs.add(a);
+                    }
+                    out.add(new Potion(name, price, level, effect, attrs));
+                }
+                return out;
+            }
+
+            case FIRE_SPELLS:
+            case ICE_SPELLS:
+            case LIGHTNING_SPELLS: {
+                SpellType type = (file == DataFile.FIRE_SPELLS) ? SpellType.FIRE
+                        : (file == DataFile.ICE_SPELLS) ? SpellType.ICE : SpellType.LIGHTNING;
+                List<Spell> out = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    out.add(new Spell(getString(buf), buf.getInt(), buf.getInt(),
+                            buf.getDouble(), buf.getDouble(), type));
+                }
+                return out;
+            }
+
+            default:
+                throw new IllegalArgumentException("Unknown catalog section " + file);
+        }
+    }
+
+    private <T extends Hero> List<T> readHeroes(ByteBuffer buf, int n, HeroFactory.HeroConstructor<T> ctor) {
+        List<T> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String name = getString(buf);
+            int level = buf.getInt();
+            double hp = buf.getDouble();
+            double mp = buf.getDouble();
+            double str = buf.getDouble();
+            double dex = buf.getDouble();
+            double agi = buf.getDouble();
+
+            T h = ctor.create(name, level, hp, mp, str, dex, agi);
+            h.setGold(buf.getInt());
+            h.setExperience(buf.getInt());
+            out.add(h);
+        }
+        return out;
+    }
+
+    // ---------- Writing ----------
+
+    // Writes every stamped section: parsed ones are encoded, the others copied from their old payload
+    private void writeCache(Map<DataFile, Stamp> stamps, Map<DataFile, List<?>> sections,
+                            Map<DataFile, ByteBuffer> payloads) {
+        try {
+            Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+            Path tmp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+
+                List<DataFile> present = new ArrayList<>();
+                for (DataFile f : DataFile.values()) {
+                    if (stamps.get(f) == null) continue;
+                    if (sections.containsKey(f) || payloads.containsKey(f)) present.add(f);
+                }
+                out.writeInt(present.size());
+
+                for (DataFile f : present) {
+                    Stamp s = stamps.get(f);
+                    byte[] payload = sections.containsKey(f)
+                            ? encode(f, sections.get(f))
+                            : copyOf(payloads.get(f));
+
+                    putString(out, f.getFileName());
+                    out.writeLong(s.size);
+                    out.writeLong(s.mtime);
+                    out.writeLong(s.crc);
+                    out.writeInt(payload.length);
+                    out.write(payload);
+                }
+            }
+
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("Could not write catalog cache: " + e.getMessage());
+        }
+    }
+
+    private static byte[] copyOf(ByteBuffer payload) {
+        byte[] b = new byte[payload.remaining()];
+        payload.duplicate().get(b);
+        return b;
+    }
+
+    private byte[] encode(DataFile file, List<?> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(rows.size());
+
+        for (Object row : rows) {
+            if (row instanceof Hero h) {
+                putString(out, h.getName());
+                out.writeInt(h.getLevel());
+                out.writeDouble(h.getHP());
+                out.writeDouble(h.getMP());
+                out.writeDouble(h.getStrength());
+                out.writeDouble(h.getDexterity());
+                out.writeDouble(h.getAgility());
+                out.writeInt(h.getGold());
+                out.writeInt(h.getExperience());
+            } else if (row instanceof Monster m) {
+                putString(out, m.getName());
+                out.writeInt(m.getLevel());
+                out.writeDouble(m.getDamage());
+                out.writeDouble(m.getDefense());
+                out.writeDouble(m.getDodgeChance());
+            } else if (row instanceof Weapon w) {
+                putString(out, w.getName());
+                out.writeInt(w.getPrice());
+                out.writeInt(w.getRequiredLevel());
+                out.writeInt(w.getDamage());
+                out.writeInt(w.getHandsRequired());
+            } else if (row instanceof Armor a) {
+                putString(out, a.getName());
+                out.writeInt(a.getPrice());
+                out.writeInt(a.getRequiredLevel());
+                out.writeInt(a.getReduction());
+            } else if (row instanceof Potion p) {
+                putString(out, p.getName());
+                out.writeInt(p.getPrice());
+                out.writeInt(p.getRequiredLevel());
+                out.writeInt(p.getEffectAmount());
+                int mask = 0;
+                for (PotionAttribute a : p.getAttributes()) mask |= 1 << a.ordinal();
+                out.writeInt(mask);
+            } else if (row instanceof Spell s) {
+                putString(out, s.getName());
+                out.writeInt(s.getPrice());
+                out.writeInt(s.getRequiredLevel());
+                out.writeDouble(s.getDamage());
+                out.writeDouble(s.getManaCost());
+            } else {
+                throw new IOException("Cannot encode " + row + " in " + file);
+            }
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    // ---------- Stamps ----------
+
+    // Returns size + mtime of a data file (crc computed lazily), or null if it is missing
+    private static Stamp stampOf(DataFile file) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(
+                    FileUtils.resourcePath(file.getFileName()), BasicFileAttributes.class);
+            return new Stamp(attrs.size(), attrs.lastModifiedTime().toMillis(), 0);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static long crcOf(DataFile file) {
+        try {
+            return crcOf(Files.readAllBytes(FileUtils.resourcePath(file.getFileName())));
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long crcOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        // Never return 0 so it can mean "not computed yet"
+        return crc.getValue() | (1L << 32);
+    }
+
+    // ---------- String helpers (int length + UTF-8 bytes) ----------
+
+    private static void putString(DataOutputStream out, String s) throws IOException {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String getString(ByteBuffer buf) {
+        int len = buf.getInt();
+        if (len < 0 || len > buf.remaining()) throw new IllegalArgumentException("Bad string length " + len);
+        byte[] b = new byte[len];
+        buf.get(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * File: CatalogCacheTest.java
+ * Description: Simple test harness for CatalogCache.
+ *              Writes a cache to a temporary file, loads it back without
+ *              parsing, checks that every section survives the round trip,
+ *              that update() keeps the rows it was given under the stamp of
+ *              the bytes they came from, and that a corrupt cache falls back
+ *              to parsing. Run from the project root; exits with status 1 on a failure.
+ */
+
+package legends.data;
+
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.items.Item;
+import legends.items.Weapon;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+public class CatalogCacheTest {
+
+    private static int failures = 0;
+
+    // Counts the files handed to the parser
+    private static final class CountingLoader extends DataLoader {
+        int parsed = 0;
+
+        @Override
+        public Map<DataFile, List<?>> parseFiles(Map<DataFile, byte[]> contents) {
+            parsed += contents.size();
+            return super.parseFiles(contents);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("catalog-cache-test");
+        Path file = dir.resolve("catalog.cache");
+        GameCatalog parsed = new DataLoader().loadCatalog();
+
+        // --- First load parses everything and writes the cache ---
+        System.out.println("=== Cold load ===");
+        CountingLoader cold = new CountingLoader();
+        GameCatalog first = new CatalogCache(file).load(cold);
+        check(cold.parsed == DataFile.values().length, "every file parsed");
+        check(Files.isRegularFile(file), "cache written");
+        check(sameRows(parsed, first), "parsed sections match DataLoader");
+
+        // --- Second load decodes every section from the cache ---
+        System.out.println("\n=== Warm load ===");
+        CountingLoader warm = new CountingLoader();
+        GameCatalog second = new CatalogCache(file).load(warm);
+        check(warm.parsed == 0, "nothing parsed");
+        check(sameRows(parsed, second), "cached sections match DataLoader");
+
+        // --- update() stores the given rows under the stamp of the bytes read ---
+        System.out.println("\n=== Update ===");
+        CatalogCache.Source src = CatalogCache.read(DataFile.WEAPONRY);
+        List<Weapon> edited = List.of(new Weapon("Test_Blade", 1, 1, 1, 1));
+        new CatalogCache(file).update(Map.of(DataFile.WEAPONRY, src), Map.of(DataFile.WEAPONRY, edited));
+        CountingLoader afterUpdate = new CountingLoader();
+        GameCatalog third = new CatalogCache(file).load(afterUpdate);
+        check(afterUpdate.parsed == 0, "updated cache still matches every file");
+        List<Weapon> weapons = third.section(DataFile.WEAPONRY);
+        check(weapons.size() == 1 && weapons.get(0).getName().equals("Test_Blade"), "updated section kept");
+        check(third.section(DataFile.DRAGONS).size() == parsed.section(DataFile.DRAGONS).size(),
+                "other sections kept");
+
+        // --- A corrupt cache is ignored ---
+        System.out.println("\n=== Corrupt cache ===");
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+        CountingLoader corrupt = new CountingLoader();
+        GameCatalog fourth = new CatalogCache(file).load(corrupt);
+        check(corrupt.parsed > 0, "truncated sections parsed again");
+        check(sameRows(parsed, fourth), "catalog complete after fallback");
+
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dir);
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Same rows per section, compared on the fields the cache stores
+    private static boolean sameRows(GameCatalog a, GameCatalog b) {
+        for (DataFile f : DataFile.values()) {
+            List<?> x = a.section(f), y = b.section(f);
+            if (x.size() != y.size()) return false;
+            for (int i = 0; i < x.size(); i++) {
+                if (!describe(x.get(i)).equals(describe(y.get(i)))) return false;
+            }
+        }
+        return true;
+    }
+
+    private static String describe(Object row) {
+        if (row instanceof Hero h) {
+            return h.getName() + " " + h.getLevel() + " " + h.getHP() + " " + h.getMP() + " "
+                    + h.getStrength() + " " + h.getDexterity() + " " + h.getAgility() + " "
+                    + h.getGold() + " " + h.getExperience();
+        }
+        if (row instanceof Monster m) {
+            return m.getName() + " " + m.getLevel() + " " + m.getDamage() + " "
+                    + m.getDefense() + " " + m.getDodgeChance();
+        }
+        if (row instanceof Item it) {
+            return it.getClass().getSimpleName() + " " + it.getName() + " " + it.getPrice()
+                    + " " + it.getRequiredLevel();
+        }
+        return String.valueOf(row);
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
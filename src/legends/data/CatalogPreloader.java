@@ -0,0 +1,89 @@
+/**
+ * File: CatalogPreloader.java
+ * Package: legends.data
+ *
+ * Purpose:
+ *   Loads the game catalog on a background thread while the player reads menus.
+ *
+ * Responsibilities:
+ *   - Start catalog loading once, as early as the application starts
+ *   - Prefer the binary CatalogCache over parsing the text files
+ *   - Let games join the pending load the first time they need data
+ *   - Fall back to a synchronous load if the background load failed
+ *   - Swap in newer catalog versions published by CatalogWatcher, deriving
+ *     each one from the current version under the same lock
+ */
+package legends.data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+public class CatalogPreloader {
+
+    // Pending (or finished) catalog load shared by every game in this process
+    private static CompletableFuture<GameCatalog> pending;
+
+    // Runs the load on a daemon thread so it never keeps the JVM alive on quit
+    private static final Executor LOADER_THREAD = task -> {
+        Thread t = new Thread(task, "catalog-preload");
+        t.setDaemon(true);
+        t.start();
+    };
+
+    private CatalogPreloader() {
+        // utility class
+    }
+
+    /**
+     * Starts loading the catalog in the background if not already started.
+     * Safe to call multiple times.
+     */
+    public static synchronized CompletableFuture<GameCatalog> start() {
+        if (pending == null) {
+            pending = CompletableFuture.supplyAsync(
+                    () -> new CatalogCache().load(new DataLoader()), LOADER_THREAD);
+        }
+        return pending;
+    }
+
+    /**
+     * Replaces the current catalog. Games that already took a catalog keep
+     * their own snapshot; only later calls to get() see the new version.
+     */
+    public static synchronized void publish(GameCatalog catalog) {
+        if (catalog == null) return;
+        pending = CompletableFuture.completedFuture(catalog);
+    }
+
+    /**
+     * Replaces the current catalog with one derived from it. Reading the
+     * current version and publishing the next happen under one lock, so
+     * concurrent updates never overwrite each other.
+     *
+     * @return the published catalog
+     */
+    public static synchronized GameCatalog update(UnaryOperator<GameCatalog> change) {
+        GameCatalog next = change.apply(get());
+        publish(next);
+        return next;
+    }
+
+    /**
+     * Returns the loaded catalog, waiting for the background load if it
+     * is still running. Starts the load first if nobody has yet.
+     */
+    public static GameCatalog get() {
+        try {
+            return start().join();
+        } catch (CompletionException e) {
+            System.out.println("Background data load failed, loading again: " + e.getCause());
+            GameCatalog catalog = new DataLoader().loadCatalog();
+            synchronized (CatalogPreloader.class) {
+                pending = CompletableFuture.completedFuture(catalog);
+            }
+            return catalog;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * File: CatalogWatcher.java
+ * Package: legends.data
+ *
+ * Purpose:
+ *   Hot-reloads catalog files while the game is running (balance tuning).
+ *
+ * Responsibilities:
+ *   - Watch src/data/ for changes on a background daemon thread
+ *   - Re-parse only the data files that changed
+ *   - Publish a new immutable GameCatalog version through CatalogPreloader
+ *   - Keep the previous version if a file cannot be read, a row does not
+ *     parse, or the file holds fewer complete rows than lines (half-written)
+ *
+ * Matches and markets that already took a catalog keep their snapshot;
+ * the next match (and the Market it creates) picks up the new version.
+ */
+package legends.data;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+public class CatalogWatcher implements Runnable {
+
+    // Editors usually write a file in several steps; wait for them to settle
+    private static final long SETTLE_MILLIS = 150;
+
+    // Only one watcher per process
+    private static Thread watcherThread;
+
+    private final Path dataDir;
+    private final DataLoader loader = new DataLoader();
+
+    private CatalogWatcher(Path dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    /**
+     * Starts watching src/data/ if not already started. Safe to call multiple times.
+     */
+    public static synchronized void start() {
+        if (watcherThread != null) return;
+
+        Path dir = FileUtils.resourcePath("").toAbsolutePath().normalize();
+        if (!Files.isDirectory(dir)) return;
+
+        watcherThread = new Thread(new CatalogWatcher(dir), "catalog-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    @Override
+    public void run() {
+        try (WatchService watch = dataDir.getFileSystem().newWatchService()) {
+            dataDir.register(watch,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+
+            while (true) {
+                WatchKey key = watch.take();
+
+                // Collect everything that changes within the settle window
+                Set<DataFile> changed = EnumSet.noneOf(DataFile.class);
+                collect(key, changed);
+                Thread.sleep(SETTLE_MILLIS);
+                WatchKey more;
+                while ((more = watch.poll()) != null) collect(more, changed);
+
+                if (!changed.isEmpty()) reload(changed);
+            }
+        } catch (IOException e) {
+            System.out.println("Catalog hot reload disabled: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Adds the DataFiles named by a key's events and re-arms the key
+    private void collect(WatchKey key, Set<DataFile> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed.addAll(EnumSet.allOf(DataFile.class));
+                continue;
+            }
+            Object ctx = event.context();
+            if (ctx instanceof Path p) {
+                DataFile f = DataFile.fromFileName(p.getFileName().toString());
+                if (f != null) changed.add(f);
+            }
+        }
+        key.reset();
+    }
+
+    // Re-parses the changed files and swaps in the next catalog version
+    private void reload(Set<DataFile> changed) {
+        Map<DataFile, CatalogCache.Source> sources = new EnumMap<>(DataFile.class);
+        Map<DataFile, byte[]> contents = new EnumMap<>(DataFile.class);
+        Map<DataFile, List<?>> parsed;
+        try {
+            for (DataFile f : changed) {
+                CatalogCache.Source src = CatalogCache.read(f);
+                sources.put(f, src);
+                contents.put(f, src.bytes);
+            }
+            parsed = loader.parseFiles(contents);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("[Catalog] Reload skipped, keeping current data: " + e.getMessage());
+            return;
+        }
+
+        for (DataFile f : changed) {
+            String problem = checkComplete(contents.get(f), parsed.get(f));
+            if (problem != null) {
+                System.out.println("[Catalog] Reload skipped, keeping current data: "
+                        + f.getFileName() + " " + problem);
+                return;
+            }
+        }
+
+        GameCatalog next = CatalogPreloader.update(current -> current.withSections(parsed));
+        new CatalogCache().update(sources, parsed);
+
+        List<String> names = new ArrayList<>();
+        for (DataFile f : changed) names.add(f.getFileName());
+        System.out.println("[Catalog] Reloaded " + String.join(", ", names)
+                + " (version " + next.getVersion() + ")");
+    }
+
+    /**
+     * Checks a reloaded section against the bytes it came from: every
+     * non-blank line after the header must have produced a row (loaders skip
+     * short rows, e.g. the last row of a file still being written), and a
+     * file without rows is treated as truncated.
+     *
+     * @return a description of the problem, or null if the section is complete
+     */
+    static String checkComplete(byte[] contents, List<?> rows) {
+        int lines = dataLines(contents);
+        if (lines == 0) return "has no rows";
+        if (rows.size() != lines) return "has " + lines + " rows but only " + rows.size() + " parsed";
+        return null;
+    }
+
+    // Non-blank lines after the header line
+    private static int dataLines(byte[] contents) {
+        int lines = 0;
+        boolean header = true, blank = true;
+        for (byte b : contents) {
+            if (b == '\n') {
+                if (!header && !blank) lines++;
+                header = false;
+                blank = true;
+            } else if (b != ' ' && b != '\t' && b != '\r') {
+                blank = false;
+            }
+        }
+        if (!header && !blank) lines++;
+        return lines;
+    }
+}
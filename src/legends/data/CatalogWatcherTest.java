@@ -0,0 +1,73 @@
+/**
+ * File: CatalogWatcherTest.java
+ * Description: Simple test harness for hot-reload safety.
+ *              Checks that every data file passes the completeness check,
+ *              that truncated, header-only and empty files are rejected, and
+ *              that concurrent CatalogPreloader updates never lose a version.
+ *              Run from the project root; exits with status 1 on a failure.
+ */
+
+package legends.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class CatalogWatcherTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) throws Exception {
+        DataLoader loader = new DataLoader();
+
+        // --- Every shipped file is complete ---
+        System.out.println("=== Data files ===");
+        for (DataFile f : DataFile.values()) {
+            byte[] bytes = CatalogCache.read(f).bytes;
+            check(CatalogWatcher.checkComplete(bytes, loader.parse(f, bytes)) == null,
+                    f.getFileName() + " complete");
+        }
+
+        // --- Half-written files are rejected ---
+        System.out.println("\n=== Half-written files ===");
+        byte[] dragons = CatalogCache.read(DataFile.DRAGONS).bytes;
+        String text = new String(dragons, StandardCharsets.UTF_8).stripTrailing();
+        byte[] cut = text.substring(0, text.lastIndexOf(' ')).getBytes(StandardCharsets.UTF_8);
+        check(CatalogWatcher.checkComplete(cut, loader.parse(DataFile.DRAGONS, cut)) != null,
+                "last row cut short rejected");
+
+        byte[] header = text.substring(0, text.indexOf('\n') + 1).getBytes(StandardCharsets.UTF_8);
+        check(CatalogWatcher.checkComplete(header, loader.parse(DataFile.DRAGONS, header)) != null,
+                "header only rejected");
+        check(CatalogWatcher.checkComplete(new byte[0], loader.parse(DataFile.DRAGONS, new byte[0])) != null,
+                "empty file rejected");
+
+        byte[] blankTail = (text + "\n\n   \n").getBytes(StandardCharsets.UTF_8);
+        check(CatalogWatcher.checkComplete(blankTail, loader.parse(DataFile.DRAGONS, blankTail)) == null,
+                "trailing blank lines accepted");
+
+        // --- Concurrent updates each publish their own version ---
+        System.out.println("\n=== Atomic publish ===");
+        CatalogPreloader.publish(loader.loadCatalog());
+        int before = CatalogPreloader.get().getVersion();
+        int threads = 4, perThread = 50;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    CatalogPreloader.update(c -> c.withSections(Collections.emptyMap()));
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread w : workers) w.join();
+        check(CatalogPreloader.get().getVersion() == before + threads * perThread, "no update lost");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
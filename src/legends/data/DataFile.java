@@ -0,0 +1,54 @@
+/**
+ * File: DataFile.java
+ * Package: legends.data
+ *
+ * Purpose:
+ *   Enumerates every catalog file under src/data/.
+ *
+ * Responsibilities:
+ *   - Map each catalog section to its file name
+ *   - Give loaders, the binary cache and the file watcher one shared list of files
+ */
+package legends.data;
+
+public enum DataFile {
+
+    // Heroes
+    WARRIORS("Warriors.txt"),
+    PALADINS("Paladins.txt"),
+    SORCERERS("Sorcerers.txt"),
+
+    // Monsters
+    DRAGONS("Dragons.txt"),
+    SPIRITS("Spirits.txt"),
+    EXOSKELETONS("Exoskeletons.txt"),
+
+    // Items
+    WEAPONRY("Weaponry.txt"),
+    ARMORY("Armory.txt"),
+    POTIONS("Potions.txt"),
+    FIRE_SPELLS("FireSpells.txt"),
+    ICE_SPELLS("IceSpells.txt"),
+    LIGHTNING_SPELLS("LightningSpells.txt");
+
+    // File name inside src/data/
+    private final String fileName;
+
+    DataFile(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the DataFile for a file name, or null if it is not a catalog file.
+     */
+    public static DataFile fromFileName(String name) {
+        for (DataFile f : values()) {
+            if (f.fileName.equals(name)) return f;
+        }
+        return null;
+    }
+}
@@ -4,19 +4,94 @@
  *  Loads heroes, monsters, and items from text files.
  *  This class builds the initial game data used everywhere else.
  *  It reads the files in src/data/ and converts each line into objects.
+ *  Parsing itself lives in the factories, which share DataTokenizer.
  */
 
 package legends.data;
 
 import legends.characters.*;
 import legends.items.*;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public class DataLoader {
 
     // Holds all monsters after loading so battles can generate from this list
     public static List<Monster> globalMonsters = new ArrayList<>();
 
+    // Loads heroes, monsters and items into one immutable snapshot.
+    // All catalog files are parsed in parallel on the shared fork/join pool.
+    // Does not touch globalMonsters so it is safe to run on a background thread.
+    public GameCatalog loadCatalog() {
+        return new GameCatalog(loadFiles(EnumSet.allOf(DataFile.class)));
+    }
+
+    // Parses the given data files concurrently and returns their rows per file
+    public Map<DataFile, List<?>> loadFiles(Set<DataFile> files) {
+        Map<DataFile, CompletableFuture<List<?>>> pending = new EnumMap<>(DataFile.class);
+        for (DataFile f : files) {
+            pending.put(f, CompletableFuture.supplyAsync(() -> loadFile(f)));
+        }
+        return joinAll(pending);
+    }
+
+    // Parses already-read file contents concurrently (the bytes are not re-read from disk)
+    public Map<DataFile, List<?>> parseFiles(Map<DataFile, byte[]> contents) {
+        Map<DataFile, CompletableFuture<List<?>>> pending = new EnumMap<>(DataFile.class);
+        for (Map.Entry<DataFile, byte[]> e : contents.entrySet()) {
+            DataFile f = e.getKey();
+            byte[] bytes = e.getValue();
+            pending.put(f, CompletableFuture.supplyAsync(() -> parse(f, bytes)));
+        }
+        return joinAll(pending);
+    }
+
+    // Parses a single data file with the matching factory
+    public List<?> loadFile(DataFile file) {
+        try (DataTokenizer tok = DataTokenizer.open(file.getFileName())) {
+            return parse(file, tok);
+        }
+    }
+
+    // Parses the contents of a data file that were read into memory
+    public List<?> parse(DataFile file, byte[] contents) {
+        Reader in = new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8);
+        try (DataTokenizer tok = new DataTokenizer(in)) {
+            return parse(file, tok);
+        }
+    }
+
+    // Reads every row of the tokenizer with the factory matching the file
+    private List<?> parse(DataFile file, DataTokenizer tok) {
+        switch (file) {
+            case WARRIORS:         return HeroFactory.loadHeroes(tok, Warrior::new);
+            case PALADINS:         return HeroFactory.loadHeroes(tok, Paladin::new);
+            case SORCERERS:        return HeroFactory.loadHeroes(tok, Sorcerer::new);
+            case DRAGONS:          return MonsterFactory.loadMonsters(tok, MonsterType.DRAGON);
+            case SPIRITS:          return MonsterFactory.loadMonsters(tok, MonsterType.SPIRIT);
+            case EXOSKELETONS:     return MonsterFactory.loadMonsters(tok, MonsterType.EXOSKELETON);
+            case WEAPONRY:         return ItemFactory.loadWeapons(tok);
+            case ARMORY:           return ItemFactory.loadArmor(tok);
+            case POTIONS:          return ItemFactory.loadPotions(tok);
+            case FIRE_SPELLS:      return ItemFactory.loadSpells(tok, SpellType.FIRE);
+            case ICE_SPELLS:       return ItemFactory.loadSpells(tok, SpellType.ICE);
+            case LIGHTNING_SPELLS: return ItemFactory.loadSpells(tok, SpellType.LIGHTNING);
+            default:               return Collections.emptyList();
+        }
+    }
+
+    private static Map<DataFile, List<?>> joinAll(Map<DataFile, CompletableFuture<List<?>>> pending) {
+        Map<DataFile, List<?>> parsed = new EnumMap<>(DataFile.class);
+        for (Map.Entry<DataFile, CompletableFuture<List<?>>> e : pending.entrySet()) {
+            parsed.put(e.getKey(), e.getValue().join());
+        }
+        return parsed;
+    }
+
     // Loads every hero type into one combined list
     public List<Hero> loadAllHeroes() {
         List<Hero> list = new ArrayList<>();
@@ -55,96 +130,16 @@ public class DataLoader {
 
     // Reads Warriors.txt and converts each line into a Warrior hero
     public List<Warrior> loadWarriors() {
-        List<Warrior> list = new ArrayList<>();
-        List<String> lines = FileUtils.readResource("Warriors.txt");
-
-        boolean skipHeader = true; // Skip the column names
-
-        for (String line : lines) {
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue; // Ignore empty lines
-
-            String[] p = line.trim().split("\\s+");
-
-            // File format: name MP STR AGI DEX GOLD EXP
-            String name = p[0];
-            int level = 1; // Start all heroes at level 1
-            double mp  = Double.parseDouble(p[1]);
-            double str = Double.parseDouble(p[2]);
-            double agi = Double.parseDouble(p[3]);
-            double dex = Double.parseDouble(p[4]);
-            int gold   = Integer.parseInt(p[5]);
-            int exp    = Integer.parseInt(p[6]);
-
-            // HP uses PDF formula: HP = level × 100
-            Warrior w = new Warrior(name, level, level * 100, mp, str, dex, agi);
-            w.setGold(gold);
-            w.setExperience(exp);
-
-            list.add(w);
-        }
-        return list;
+        return HeroFactory.loadHeroes("Warriors.txt", Warrior::new);
     }
 
     // Reads Paladins.txt
     public List<Paladin> loadPaladins() {
-        List<Paladin> list = new ArrayList<>();
-        List<String> lines = FileUtils.readResource("Paladins.txt");
-
-        boolean skipHeader = true;
-
-        for (String line : lines) {
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue;
-
-            String[] p = line.trim().split("\\s+");
-
-            String name = p[0];
-            int level = 1;
-            double mp  = Double.parseDouble(p[1]);
-            double str = Double.parseDouble(p[2]);
-            double agi = Double.parseDouble(p[3]);
-            double dex = Double.parseDouble(p[4]);
-            int gold   = Integer.parseInt(p[5]);
-            int exp    = Integer.parseInt(p[6]);
-
-            Paladin pal = new Paladin(name, level, level * 100, mp, str, dex, agi);
-            pal.setGold(gold);
-            pal.setExperience(exp);
-
-            list.add(pal);
-        }
-        return list;
+        return HeroFactory.loadHeroes("Paladins.txt", Paladin::new);
     }
 
     // Reads Sorcerers.txt
     public List<Sorcerer> loadSorcerers() {
-        List<Sorcerer> list = new ArrayList<>();
-        List<String> lines = FileUtils.readResource("Sorcerers.txt");
-
-        boolean skipHeader = true;
-
-        for (String line : lines) {
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue;
-
-            String[] p = line.trim().split("\\s+");
-
-            String name = p[0];
-            int level = 1;
-            double mp  = Double.parseDouble(p[1]);
-            double str = Double.parseDouble(p[2]);
-            double agi = Double.parseDouble(p[3]);
-            double dex = Double.parseDouble(p[4]);
-            int gold   = Integer.parseInt(p[5]);
-            int exp    = Integer.parseInt(p[6]);
-
-            Sorcerer s = new Sorcerer(name, level, level * 100, mp, str, dex, agi);
-            s.setGold(gold);
-            s.setExperience(exp);
-
-            list.add(s);
-        }
-        return list;
+        return HeroFactory.loadHeroes("Sorcerers.txt", Sorcerer::new);
     }
-}
\ No newline at end of file
+}
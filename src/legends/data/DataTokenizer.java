@@ -0,0 +1,266 @@
+/**
+ * File: DataTokenizer.java
+ * Package: legends.data
+ *
+ * Purpose:
+ *   Streaming whitespace tokenizer shared by every data file loader.
+ *
+ * Responsibilities:
+ *   - Read a data file through a fixed char buffer (no per-line Strings)
+ *   - Split rows on spaces/tabs without regular expressions
+ *   - Parse int and double fields directly from the buffer
+ *   - Skip the header line and blank lines the same way for every file
+ *
+ * Usage:
+ *   try (DataTokenizer tok = DataTokenizer.open("Weaponry.txt")) {
+ *       tok.skipLine();                 // column header
+ *       while (tok.nextRow()) {
+ *           String name = tok.nextString();
+ *           int price   = tok.nextInt();
+ *           ...
+ *       }
+ *   }
+ */
+package legends.data;
+
+import java.io.*;
+
+public class DataTokenizer implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Up to 15 digits fit a long that converts to double exactly
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    // Exact powers of ten for the fraction divisor (10^15 is the largest needed)
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private final Reader in;
+    private final char[] buf = new char[BUFFER_SIZE];
+    private int pos = 0;
+    private int limit = 0;
+    private boolean eof = false;
+
+    // True when nothing of the current line has been consumed yet
+    private boolean atLineStart = true;
+
+    // Reused for name/attribute tokens so only the final String is allocated
+    private final StringBuilder token = new StringBuilder(32);
+
+    public DataTokenizer(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Opens a tokenizer over a file in src/data/.
+     * Mirrors FileUtils.readResource: prints an error and behaves like an
+     * empty file if it cannot be opened.
+     */
+    public static DataTokenizer open(String filename) {
+        try {
+            return new DataTokenizer(FileUtils.openResource(filename));
+        } catch (IOException e) {
+            System.out.println("Error reading resource: " + filename);
+            return new DataTokenizer(new StringReader(""));
+        }
+    }
+
+    // ---------- Row navigation ----------
+
+    /**
+     * Consumes the rest of the current line (used for the column header).
+     */
+    public void skipLine() {
+        int c;
+        while ((c = peek()) != -1) {
+            pos++;
+            if (c == '\n') break;
+        }
+        atLineStart = true;
+    }
+
+    /**
+     * Moves to the first token of the next non-blank row.
+     * Any unread fields on the current row are discarded.
+     *
+     * @return false once the end of the file is reached
+     */
+    public boolean nextRow() {
+        if (!atLineStart) skipLine();
+
+        while (true) {
+            skipSpaces();
+            int c = peek();
+            if (c == -1) return false;
+            if (c == '\n') {
+                pos++;
+                continue;
+            }
+            atLineStart = false;
+            return true;
+        }
+    }
+
+    /**
+     * @return true if the current row has another field
+     */
+    public boolean hasNext() {
+        skipSpaces();
+        int c = peek();
+        return c != -1 && c != '\n';
+    }
+
+    // ---------- Field parsing ----------
+
+    /**
+     * Reads the next field as a String (names, attribute lists).
+     */
+    public String nextString() {
+        requireField();
+        token.setLength(0);
+        int c;
+        while ((c = peek()) != -1 && !isSeparator(c)) {
+            token.append((char) c);
+            pos++;
+        }
+        return token.toString();
+    }
+
+    /**
+     * Parses the next field as an int without creating a String.
+     */
+    public int nextInt() {
+        requireField();
+        boolean negative = consumeSign();
+
+        long value = 0;
+        int digits = 0;
+        int c;
+        while ((c = peek()) != -1 && !isSeparator(c)) {
+            if (c < '0' || c > '9') throw badNumber(c);
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("Number too large in data file");
+            }
+            digits++;
+            pos++;
+        }
+        if (digits == 0) throw new NumberFormatException("Expected a number in data file");
+
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) throw new NumberFormatException("Number too large in data file");
+        return (int) value;
+    }
+
+    /**
+     * Parses the next field as a double. Plain decimals are read as a long of
+     * digits and divided once by a power of ten, which gives the same bits as
+     * Double.parseDouble; exponents and very long fields go through
+     * Double.parseDouble itself.
+     */
+    public double nextDouble() {
+        requireField();
+        token.setLength(0);
+        int c;
+        while ((c = peek()) != -1 && !isSeparator(c)) {
+            token.append((char) c);
+            pos++;
+        }
+
+        int i = 0;
+        int n = token.length();
+        boolean negative = false;
+        if (token.charAt(0) == '-' || token.charAt(0) == '+') {
+            negative = token.charAt(0) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;    // -1 until the decimal point is seen
+        for (; i < n; i++) {
+            char ch = token.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                mantissa = mantissa * 10 + (ch - '0');
+                digits++;
+                if (fractionDigits >= 0) fractionDigits++;
+                if (digits > MAX_EXACT_DIGITS) return Double.parseDouble(token.toString());
+            } else if (ch == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (ch == 'e' || ch == 'E') {
+                if (digits == 0) throw badNumber(ch);
+                return Double.parseDouble(token.toString());
+            } else {
+                throw badNumber(ch);
+            }
+        }
+        if (digits == 0) throw new NumberFormatException("Expected a number in data file");
+
+        // Both operands are exact doubles, so the single division rounds correctly
+        double value = (fractionDigits > 0) ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // nothing useful to do for a read-only file
+        }
+    }
+
+    // ---------- Buffer helpers ----------
+
+    // Returns the current char without consuming it, or -1 at EOF
+    private int peek() {
+        if (pos >= limit && !fill()) return -1;
+        return buf[pos];
+    }
+
+    private boolean fill() {
+        if (eof) return false;
+        try {
+            int n = in.read(buf, 0, buf.length);
+            if (n <= 0) {
+                eof = true;
+                return false;
+            }
+            pos = 0;
+            limit = n;
+            return true;
+        } catch (IOException e) {
+            eof = true;
+            return false;
+        }
+    }
+
+    private void skipSpaces() {
+        int c;
+        // '\r' is treated as a space so CRLF files behave like LF files
+        while ((c = peek()) == ' ' || c == '\t' || c == '\r') pos++;
+    }
+
+    private void requireField() {
+        if (!hasNext()) throw new NumberFormatException("Missing field in data file row");
+    }
+
+    private boolean consumeSign() {
+        int c = peek();
+        if (c == '-' || c == '+') {
+            pos++;
+            return c == '-';
+        }
+        return false;
+    }
+
+    private static boolean isSeparator(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    private static NumberFormatException badNumber(int c) {
+        return new NumberFormatException("Unexpected character '" + (char) c + "' in numeric field");
+    }
+}
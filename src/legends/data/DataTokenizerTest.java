@@ -0,0 +1,131 @@
+/**
+ * File: DataTokenizerTest.java
+ * Description: Simple test harness for DataTokenizer and the monster loader.
+ *              Checks field parsing on hand-written rows, that every data
+ *              file tokenizes to the same fields as a plain whitespace split,
+ *              and that short rows are skipped while bad numbers fail loudly.
+ *              Run from the project root; exits with status 1 on a failure.
+ */
+
+package legends.data;
+
+import legends.characters.Monster;
+import legends.characters.MonsterType;
+
+import java.io.StringReader;
+import java.util.List;
+
+public class DataTokenizerTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+
+        // --- Hand-written rows: header, blank lines, tabs, CRLF, signs and fractions ---
+        System.out.println("=== Row parsing ===");
+        String text = "Name level value\r\n"
+                + "\n"
+                + "Alpha\t 3   -12.5\r\n"
+                + "   \n"
+                + "Beta 4 +7 extra\n"
+                + "Gamma";
+        try (DataTokenizer tok = new DataTokenizer(new StringReader(text))) {
+            tok.skipLine();
+            check(tok.nextRow(), "first row found");
+            check("Alpha".equals(tok.nextString()), "name read");
+            check(tok.nextInt() == 3, "int read");
+            check(tok.nextDouble() == -12.5, "negative fraction read");
+            check(!tok.hasNext(), "row ends at CRLF");
+
+            check(tok.nextRow(), "blank line skipped");
+            check("Beta".equals(tok.nextString()) && tok.nextInt() == 4 && tok.nextInt() == 7, "signed int read");
+
+            check(tok.nextRow(), "unread fields discarded");
+            check("Gamma".equals(tok.nextString()), "last row without newline");
+            check(!tok.hasNext() && !tok.nextRow(), "end of file");
+        }
+
+        // --- Bad numbers throw instead of being skipped ---
+        System.out.println("\n=== Bad numbers ===");
+        check(throwsOnInt("12x"), "letter inside a number throws");
+        check(throwsOnInt(""), "missing field throws");
+        check(throwsOnInt("99999999999"), "overflow throws");
+        check(throwsOnDouble("1.2.3"), "second decimal point throws");
+        check(throwsOnDouble("e5") && throwsOnDouble("1e"), "malformed exponent throws");
+
+        // --- Doubles are bit-identical to Double.parseDouble ---
+        System.out.println("\n=== Doubles ===");
+        String[] fields = { "0.35", "0.1", "700", "-12.5", "2.675", "0.3000000000000001",
+                "1e3", "-2.5E-2", "123456789012345678.9", "+.5" };
+        for (String f : fields) {
+            check(Double.doubleToLongBits(parseDouble(f)) == Double.doubleToLongBits(Double.parseDouble(f)),
+                    f + " parses like Double.parseDouble");
+        }
+
+        // --- Every data file gives the same fields as a whitespace split ---
+        System.out.println("\n=== Data files ===");
+        for (DataFile f : DataFile.values()) {
+            check(matchesSplit(f.getFileName()), f.getFileName() + " tokenizes like split");
+        }
+
+        // --- Monster loader keeps the baseline's row rules ---
+        System.out.println("\n=== Monster loader ===");
+        List<Monster> dragons = MonsterFactory.loadMonsters("Dragons.txt", MonsterType.DRAGON);
+        check(dragons.size() == FileUtils.readResource("Dragons.txt").stream()
+                .skip(1).filter(l -> l.trim().split("\\s+").length >= 5).count(), "every full Dragons row loaded");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Field by field comparison against the String.split parsing the loaders used before
+    private static boolean matchesSplit(String filename) {
+        List<String> lines = FileUtils.readResource(filename);
+        try (DataTokenizer tok = DataTokenizer.open(filename)) {
+            tok.skipLine();
+            for (int i = 1; i < lines.size(); i++) {
+                String line = lines.get(i).trim();
+                if (line.isEmpty()) continue;
+                if (!tok.nextRow()) return false;
+                for (String part : line.split("\\s+")) {
+                    if (!part.equals(tok.nextString())) return false;
+                }
+                if (tok.hasNext()) return false;
+            }
+            return !tok.nextRow();
+        }
+    }
+
+    private static boolean throwsOnInt(String field) {
+        try (DataTokenizer tok = new DataTokenizer(new StringReader("Name " + field))) {
+            tok.nextRow();
+            tok.nextString();
+            tok.nextInt();
+            return false;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static double parseDouble(String field) {
+        try (DataTokenizer tok = new DataTokenizer(new StringReader("Name " + field))) {
+            tok.nextRow();
+            tok.nextString();
+            return tok.nextDouble();
+        }
+    }
+
+    private static boolean throwsOnDouble(String field) {
+        try {
+            parseDouble(field);
+            return false;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
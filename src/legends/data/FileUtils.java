@@ -9,12 +9,17 @@
 
 package legends.data;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
+import java.io.BufferedReader;
 import java.io.IOException;
 
 public class FileUtils {
 
+    // Folder for files the game writes (saves, caches, AI tables)
+    public static final String SAVE_DIR = "saves";
+
     /**
      * Reads a file from the "src/data/" folder and returns its lines.
      * Example:
@@ -26,16 +31,47 @@ public class FileUtils {
      */
     public static List<String> readResource(String filename) {
 
-        // Build absolute path to the data file
-        String fullPath = "src/data/" + filename;
-
         try {
             // Read and return all lines from the file
-            return Files.readAllLines(Paths.get(fullPath));
+            return Files.readAllLines(resourcePath(filename));
 
         } catch (IOException e) {
             System.out.println("Error reading resource: " + filename);
             return Collections.emptyList();   // Return empty list if file not found
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolves the path of a data file inside "src/data/".
+     *
+     * @param filename Name of the file inside src/data/
+     * @return relative path to the file
+     */
+    public static Path resourcePath(String filename) {
+        return Paths.get("src/data/" + filename);
+    }
+
+    /**
+     * Resolves a file inside the "saves/" folder (the folder SaveManager uses),
+     * e.g. caches and AI tables derived from the data files. Like resourcePath
+     * it is relative to the project root the game is started from.
+     *
+     * @param filename Name of the file inside saves/
+     * @return relative path to the file
+     */
+    public static Path savePath(String filename) {
+        return Paths.get(SAVE_DIR, filename);
+    }
+
+    /**
+     * Opens a data file for streaming reads (used by DataTokenizer).
+     * Unlike readResource, failures are reported to the caller.
+     *
+     * @param filename Name of the file inside src/data/
+     * @return buffered reader positioned at the start of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static BufferedReader openResource(String filename) throws IOException {
+        return Files.newBufferedReader(resourcePath(filename), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * File: GameCatalog.java
+ * Package: legends.data
+ *
+ * Purpose:
+ *   Immutable snapshot of everything loaded from the data files.
+ *
+ * Responsibilities:
+ *   - Hold the parsed contents of every DataFile as one section each
+ *   - Produce a new version with one section replaced (used by hot reload)
+ *   - Hand out fresh hero copies so each game gets its own party objects
+ *   - Keep monsters and items as shared prototypes (monsters are copied on spawn)
+ */
+package legends.data;
+
+import legends.characters.*;
+import legends.items.Item;
+
+import java.util.*;
+
+public class GameCatalog {
+
+    // Parsed rows of each data file, in file order
+    private final EnumMap<DataFile, List<?>> sections;
+
+    // Combined views built once from the sections
+    private final List<Monster> monsters;
+    private final List<Item> items;
+
+    // Increases by one every time sections are replaced
+    private final int version;
+
+    /**
+     * @param sections parsed contents per file; missing files are treated as empty
+     */
+    public GameCatalog(Map<DataFile, ? extends List<?>> sections) {
+        this(sections, 1);
+    }
+
+    private GameCatalog(Map<DataFile, ? extends List<?>> sections, int version) {
+        this.version = version;
+        this.sections = new EnumMap<>(DataFile.class);
+        for (DataFile f : DataFile.values()) {
+            List<?> rows = sections.get(f);
+            this.sections.put(f, rows == null
+                    ? Collections.emptyList()
+                    : Collections.unmodifiableList(new ArrayList<>(rows)));
+        }
+
+        List<Monster> m = new ArrayList<>();
+        m.addAll(section(DataFile.DRAGONS));
+        m.addAll(section(DataFile.SPIRITS));
+        m.addAll(section(DataFile.EXOSKELETONS));
+        this.monsters = Collections.unmodifiableList(m);
+
+        List<Item> i = new ArrayList<>();
+        i.addAll(section(DataFile.WEAPONRY));
+        i.addAll(section(DataFile.ARMORY));
+        i.addAll(section(DataFile.POTIONS));
+        i.addAll(section(DataFile.FIRE_SPELLS));
+        i.addAll(section(DataFile.ICE_SPELLS));
+        i.addAll(section(DataFile.LIGHTNING_SPELLS));
+        this.items = Collections.unmodifiableList(i);
+    }
+
+    /**
+     * Returns the parsed rows of a single data file.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> section(DataFile file) {
+        return (List<T>) sections.get(file);
+    }
+
+    /**
+     * Returns the next catalog version with the given files' rows replaced.
+     * This catalog is left untouched, so anything holding it keeps its snapshot.
+     */
+    public GameCatalog withSections(Map<DataFile, ? extends List<?>> replaced) {
+        EnumMap<DataFile, List<?>> next = new EnumMap<>(sections);
+        next.putAll(replaced);
+        return new GameCatalog(next, version + 1);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    // ---------- Heroes (fresh copies per call) ----------
+
+    public List<Warrior> newWarriors() {
+        List<Warrior> out = new ArrayList<>();
+        for (Warrior w : this.<Warrior>section(DataFile.WARRIORS)) out.add(w.copy());
+        return out;
+    }
+
+    public List<Paladin> newPaladins() {
+        List<Paladin> out = new ArrayList<>();
+        for (Paladin p : this.<Paladin>section(DataFile.PALADINS)) out.add(p.copy());
+        return out;
+    }
+
+    public List<Sorcerer> newSorcerers() {
+        List<Sorcerer> out = new ArrayList<>();
+        for (Sorcerer s : this.<Sorcerer>section(DataFile.SORCERERS)) out.add(s.copy());
+        return out;
+    }
+
+    // ---------- Shared prototypes ----------
+
+    public List<Monster> getMonsters() {
+        return monsters;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+}
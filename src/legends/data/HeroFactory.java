@@ -3,7 +3,7 @@
  * Description: Loads hero data from text files and creates Hero objects
  *              (Warriors, Paladins, Sorcerers) based on their stats.
  * Notes:
- *  - Uses FileUtils to read hero attribute files.
+ *  - Uses DataTokenizer to stream hero attribute files.
  *  - Ensures each hero starts at level 1 with base HP = 100.
  *  - Correct ordering of stats is preserved for each hero type.
  */
@@ -15,88 +15,67 @@ import java.util.*;
 
 public class HeroFactory {
 
+    /**
+     * Matches the (name, level, hp, mp, strength, dexterity, agility)
+     * constructor shared by every hero class, e.g. Warrior::new.
+     */
+    @FunctionalInterface
+    public interface HeroConstructor<T extends Hero> {
+        T create(String name, int level, double hp, double mp,
+                 double strength, double dexterity, double agility);
+    }
+
     // Load all warriors from a file
     public static List<Hero> loadWarriors(String filename) {
-        return loadHeroesOfType(filename, "warrior");
+        return new ArrayList<>(loadHeroes(filename, Warrior::new));
     }
 
     // Load all paladins from a file
     public static List<Hero> loadPaladins(String filename) {
-        return loadHeroesOfType(filename, "paladin");
+        return new ArrayList<>(loadHeroes(filename, Paladin::new));
     }
 
     // Load all sorcerers from a file
     public static List<Hero> loadSorcerers(String filename) {
-        return loadHeroesOfType(filename, "sorcerer");
+        return new ArrayList<>(loadHeroes(filename, Sorcerer::new));
     }
 
-    // Helper method that creates heroes based on the type string
-    private static List<Hero> loadHeroesOfType(String filename, String type) {
-
-        List<Hero> heroes = new ArrayList<>();
-        List<String> lines = FileUtils.readResource(filename);
+    /**
+     * Reads a hero file and creates one hero per row using the given constructor.
+     * Every hero starts at level 1 with HP = level × 100.
+     */
+    public static <T extends Hero> List<T> loadHeroes(String filename, HeroConstructor<T> ctor) {
+        try (DataTokenizer tok = DataTokenizer.open(filename)) {
+            return loadHeroes(tok, ctor);
+        }
+    }
 
-        boolean skipHeader = true;
+    /**
+     * Same as loadHeroes(filename, ctor) for a tokenizer that is already open.
+     */
+    public static <T extends Hero> List<T> loadHeroes(DataTokenizer tok, HeroConstructor<T> ctor) {
 
-        // Process each line of the file
-        for (String line : lines) {
+        List<T> heroes = new ArrayList<>();
 
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue;
+        tok.skipLine(); // header
 
-            String[] p = line.trim().split("\\s+");
+        // Process each row of the file
+        while (tok.nextRow()) {
 
             // Expected file format:
             // name  mana  strength  agility  dexterity  gold  experience
-            String name = p[0];
-            int mana = Integer.parseInt(p[1]);
-            int strength = Integer.parseInt(p[2]);
-            int agility = Integer.parseInt(p[3]);
-            int dexterity = Integer.parseInt(p[4]);
-            int startingMoney = Integer.parseInt(p[5]);
-            int experience = Integer.parseInt(p[6]);
-
-            Hero h = null;
-
-            // Create the correct hero subclass
-            switch (type) {
-
-                case "warrior":
-                    h = new Warrior(
-                            name,
-                            1,               // starting level
-                            100,             // base HP
-                            mana,
-                            strength,
-                            dexterity,       // correct stat order
-                            agility
-                    );
-                    break;
-
-                case "paladin":
-                    h = new Paladin(
-                            name,
-                            1,
-                            100,
-                            mana,
-                            strength,
-                            dexterity,
-                            agility
-                    );
-                    break;
-
-                case "sorcerer":
-                    h = new Sorcerer(
-                            name,
-                            1,
-                            100,
-                            mana,
-                            strength,
-                            dexterity,
-                            agility
-                    );
-                    break;
-            }
+            String name = tok.nextString();
+            double mana = tok.nextDouble();
+            double strength = tok.nextDouble();
+            double agility = tok.nextDouble();
+            double dexterity = tok.nextDouble();
+            int startingMoney = tok.nextInt();
+            int experience = tok.nextInt();
+
+            int level = 1; // starting level
+
+            // Constructor order is (strength, dexterity, agility)
+            T h = ctor.create(name, level, level * 100, mana, strength, dexterity, agility);
 
             // Set starting gold + experience
             h.setGold(startingMoney);
@@ -107,4 +86,4 @@ public class HeroFactory {
 
         return heroes;
     }
-}
\ No newline at end of file
+}
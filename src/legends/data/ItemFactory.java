@@ -3,7 +3,7 @@
  * Description: Loads all item types (weapons, armor, potions, spells)
  *              from text files into usable Java objects.
  * Notes:
- *  - Uses FileUtils to read files from /src/data/
+ *  - Uses DataTokenizer to stream files from /src/data/
  *  - Each loader handles parsing its own item format
  *  - No game logic is modified
  */
@@ -17,23 +17,24 @@ public class ItemFactory {
 
     // Loads all weapons from a text file
     public static List<Weapon> loadWeapons(String filename) {
-        List<Weapon> weapons = new ArrayList<>();
-        List<String> lines = FileUtils.readResource(filename);
-
-        boolean skipHeader = true; // ignore first line
+        try (DataTokenizer tok = DataTokenizer.open(filename)) {
+            return loadWeapons(tok);
+        }
+    }
 
-        for (String line : lines) {
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue; // skip blank lines
+    // Loads all weapons from an open tokenizer
+    public static List<Weapon> loadWeapons(DataTokenizer tok) {
+        List<Weapon> weapons = new ArrayList<>();
 
-            String[] parts = line.trim().split("\\s+");
+        tok.skipLine(); // ignore header
 
+        while (tok.nextRow()) {
             // File format: name price level damage hands
-            String name = parts[0];
-            int price = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int damage = Integer.parseInt(parts[3]);
-            int hands = Integer.parseInt(parts[4]);
+            String name = tok.nextString();
+            int price = tok.nextInt();
+            int level = tok.nextInt();
+            int damage = tok.nextInt();
+            int hands = tok.nextInt();
 
             weapons.add(new Weapon(name, price, level, damage, hands));
         }
@@ -43,22 +44,23 @@ public class ItemFactory {
 
     // Loads all armor pieces
     public static List<Armor> loadArmor(String filename) {
-        List<Armor> armorList = new ArrayList<>();
-        List<String> lines = FileUtils.readResource(filename);
-
-        boolean skipHeader = true;
+        try (DataTokenizer tok = DataTokenizer.open(filename)) {
+            return loadArmor(tok);
+        }
+    }
 
-        for (String line : lines) {
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue;
+    // Loads all armor pieces from an open tokenizer
+    public static List<Armor> loadArmor(DataTokenizer tok) {
+        List<Armor> armorList = new ArrayList<>();
 
-            String[] parts = line.trim().split("\\s+");
+        tok.skipLine();
 
+        while (tok.nextRow()) {
             // File format: name price level reduction
-            String name = parts[0];
-            int price = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int reduction = Integer.parseInt(parts[3]);
+            String name = tok.nextString();
+            int price = tok.nextInt();
+            int level = tok.nextInt();
+            int reduction = tok.nextInt();
 
             armorList.add(new Armor(name, price, level, reduction));
         }
@@ -68,39 +70,26 @@ public class ItemFactory {
 
     // Loads all potions
     public static List<Potion> loadPotions(String filename) {
-        List<Potion> potions = new ArrayList<>();
-        List<String> lines = FileUtils.readResource(filename);
-
-        boolean skipHeader = true;
+        try (DataTokenizer tok = DataTokenizer.open(filename)) {
+            return loadPotions(tok);
+        }
+    }
 
-        for (String line : lines) {
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue;
+    // Loads all potions from an open tokenizer
+    public static List<Potion> loadPotions(DataTokenizer tok) {
+        List<Potion> potions = new ArrayList<>();
 
-            String[] parts = line.trim().split("\\s+");
+        tok.skipLine();
 
+        while (tok.nextRow()) {
             // File format: name price level effect attributes
-            String name = parts[0];
-            int price = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int effect = Integer.parseInt(parts[3]);
-
-            List<PotionAttribute> attrs = new ArrayList<>();
-            String attributeField = parts[4].trim().toUpperCase();
-
-            // If potion boosts ALL attributes
-            if (attributeField.equals("ALL")) {
-                attrs.addAll(Arrays.asList(PotionAttribute.values()));
-            } 
-            else {
-                // For formats like HEALTH/MANA/AGILITY
-                String[] boosts = attributeField.split("/");
-                for (String b : boosts) {
-                    attrs.add(PotionAttribute.valueOf(b.trim()));
-                }
-            }
+            String name = tok.nextString();
+            int price = tok.nextInt();
+            int level = tok.nextInt();
+            int effect = tok.nextInt();
 
-            potions.add(new Potion(name, price, level, effect, attrs));
+            potions.add(new Potion(name, price, level, effect,
+                    parseAttributes(tok.nextString())));
         }
 
         return potions;
@@ -108,27 +97,48 @@ public class ItemFactory {
 
     // Loads all spells of a specific type (Fire, Ice, Lightning)
     public static List<Spell> loadSpells(String filename, SpellType type) {
-        List<Spell> spells = new ArrayList<>();
-        List<String> lines = FileUtils.readResource(filename);
-
-        boolean skipHeader = true;
+        try (DataTokenizer tok = DataTokenizer.open(filename)) {
+            return loadSpells(tok, type);
+        }
+    }
 
-        for (String line : lines) {
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue;
+    // Loads all spells of a specific type from an open tokenizer
+    public static List<Spell> loadSpells(DataTokenizer tok, SpellType type) {
+        List<Spell> spells = new ArrayList<>();
 
-            String[] parts = line.trim().split("\\s+");
+        tok.skipLine();
 
+        while (tok.nextRow()) {
             // File format: name price level damage manaCost
-            String name = parts[0];
-            int price = Integer.parseInt(parts[1]);
-            int level = Integer.parseInt(parts[2]);
-            int damage = Integer.parseInt(parts[3]);
-            int manaCost = Integer.parseInt(parts[4]);
+            String name = tok.nextString();
+            int price = tok.nextInt();
+            int level = tok.nextInt();
+            int damage = tok.nextInt();
+            int manaCost = tok.nextInt();
 
             spells.add(new Spell(name, price, level, damage, manaCost, type));
         }
 
         return spells;
     }
-}
\ No newline at end of file
+
+    // Converts a potion attribute field ("ALL" or e.g. "Health/Mana") into attributes
+    private static List<PotionAttribute> parseAttributes(String field) {
+        List<PotionAttribute> attrs = new ArrayList<>();
+        String attributeField = field.trim().toUpperCase();
+
+        // If potion boosts ALL attributes
+        if (attributeField.equals("ALL")) {
+            attrs.addAll(Arrays.asList(PotionAttribute.values()));
+        }
+        else {
+            // For formats like HEALTH/MANA/AGILITY (single-char split, no regex)
+            String[] boosts = attributeField.split("/");
+            for (String b : boosts) {
+                attrs.add(PotionAttribute.valueOf(b.trim()));
+            }
+        }
+
+        return attrs;
+    }
+}
@@ -15,25 +15,34 @@ public class MonsterFactory {
      * from a given data file. Each line represents one monster.
      */
     public static List<Monster> loadMonsters(String filename, MonsterType type) {
+        try (DataTokenizer tok = DataTokenizer.open(filename)) {
+            return loadMonsters(tok, type);
+        }
+    }
+
+    /**
+     * Same as loadMonsters(filename, type) for a tokenizer that is already open.
+     */
+    public static List<Monster> loadMonsters(DataTokenizer tok, MonsterType type) {
 
         List<Monster> monsters = new ArrayList<>();
-        List<String> lines = FileUtils.readResource(filename);
 
-        boolean skipHeader = true;
+        // level, damage, defense, dodge% of the current row
+        int[] stats = new int[4];
 
-        for (String line : lines) {
-            if (skipHeader) { skipHeader = false; continue; }
-            if (line.trim().isEmpty()) continue;
+        tok.skipLine(); // header
 
+        while (tok.nextRow()) {
             // Expected format: name level damage defense dodge%
-            String[] parts = line.trim().split("\\s+");
-            if (parts.length < 5) continue;
+            String name = tok.nextString();
+            int fields = 0;
+            while (fields < stats.length && tok.hasNext()) stats[fields++] = tok.nextInt();
+            if (fields < stats.length) continue; // skip short rows
 
-            String name      = parts[0];
-            int level        = Integer.parseInt(parts[1]);
-            int damage       = Integer.parseInt(parts[2]);
-            int defense      = Integer.parseInt(parts[3]);
-            double dodgeChance = Integer.parseInt(parts[4]) / 100.0;
+            int level          = stats[0];
+            int damage         = stats[1];
+            int defense        = stats[2];
+            double dodgeChance = stats[3] / 100.0;
 
             Monster m;
 
@@ -58,12 +67,36 @@ public class MonsterFactory {
         return monsters;
     }
 
+    // Level index over the current monster catalog (rebuilt when the catalog changes)
+    private static MonsterIndex index;
+
+    // Shared RNG so battles don't seed a new generator every call
+    private static final Random RNG = new Random();
+
     /**
      * Generates a list of monsters for a battle.
      * One monster per hero, scaled roughly to party's average level.
      */
     public static List<Monster> generateMonstersForParty(Party party) {
 
+        List<Monster> result = new ArrayList<>(party.getHeroes().size());
+        pickPrototypesForParty(party, result);
+
+        // Copy monsters so the original loaded stats are not modified
+        for (int i = 0; i < result.size(); i++) {
+            result.set(i, result.get(i).copy());
+        }
+
+        return result;
+    }
+
+    /**
+     * Appends one catalog prototype per hero to out, chosen near the party's
+     * average level. Prototypes are shared: callers must copy (or pool) them
+     * before placing them in a game.
+     */
+    public static void pickPrototypesForParty(Party party, List<Monster> out) {
+
         List<Monster> all = DataLoader.globalMonsters;
 
         if (all == null || all.isEmpty()) {
@@ -72,37 +105,27 @@ public class MonsterFactory {
             );
         }
 
-        List<Monster> result = new ArrayList<>();
+        MonsterIndex levels = indexFor(all);
 
-        int heroCount = party.getHeroes().size();
+        List<Hero> heroes = party.getHeroes();
+        int heroCount = heroes.size();
 
         // Use average hero level to choose appropriately leveled monsters
-        int avgLevel = (int) Math.ceil(
-                party.getHeroes().stream()
-                        .mapToInt(Hero::getLevel)
-                        .average()
-                        .orElse(1)
-        );
-
-        Random rand = new Random();
+        int levelSum = 0;
+        for (Hero h : heroes) levelSum += h.getLevel();
+        int avgLevel = heroCount == 0 ? 1 : (levelSum + heroCount - 1) / heroCount;
 
         for (int i = 0; i < heroCount; i++) {
-
-            // Choose monsters within ±2 levels of the party average
-            List<Monster> candidates = all.stream()
-                    .filter(m -> Math.abs(m.getLevel() - avgLevel) <= 2)
-                    .toList();
-
-            // If none match the range, fallback to any monster
-            if (candidates.isEmpty()) {
-                candidates = all;
-            }
-
-            // Copy monster so the original loaded stats are not modified
-            Monster chosen = candidates.get(rand.nextInt(candidates.size()));
-            result.add(chosen.copy());
+            // Weighted pick within ±2 levels of the party average (any monster if none)
+            out.add(levels.pick(avgLevel, RNG));
         }
+    }
 
-        return result;
+    // Returns the level index for this monster list, building it on first use
+    private static synchronized MonsterIndex indexFor(List<Monster> all) {
+        if (index == null || index.getSource() != all) {
+            index = new MonsterIndex(all);
+        }
+        return index;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+/**
+ * File: MonsterIndex.java
+ * Package: legends.data
+ *
+ * Purpose:
+ *   Level-bucketed view of the monster catalog for fast spawn selection.
+ *
+ * Responsibilities:
+ *   - Sort monster prototypes by level into one flat array
+ *   - Keep a prefix table so each level's monsters form one contiguous slice
+ *   - Pick a monster near a target level with weighted, allocation-free sampling
+ *
+ * Layout:
+ *   byLevel[levelStart[L] .. levelStart[L + 1] - 1] holds every level-L monster,
+ *   so the ±LEVEL_WINDOW candidate range is found in O(1).
+ */
+package legends.data;
+
+import legends.characters.Monster;
+
+import java.util.*;
+
+public class MonsterIndex {
+
+    // Monsters within this many levels of the target are candidates
+    public static final int LEVEL_WINDOW = 2;
+
+    // Sampling weight per level distance 0, 1, 2 (closer levels are more likely)
+    private static final int[] DISTANCE_WEIGHT = {3, 2, 1};
+
+    // The list this index was built from (used to detect catalog swaps)
+    private final List<Monster> source;
+
+    // Monster prototypes sorted by level
+    private final Monster[] byLevel;
+
+    // levelStart[L] = first index in byLevel with level >= L (length maxLevel + 2)
+    private final int[] levelStart;
+
+    private final int minLevel;
+    private final int maxLevel;
+
+    public MonsterIndex(List<Monster> monsters) {
+        this.source = monsters;
+
+        List<Monster> valid = new ArrayList<>();
+        int lo = Integer.MAX_VALUE, hi = 0;
+        for (Monster m : monsters) {
+            if (m == null) continue;
+            valid.add(m);
+            lo = Math.min(lo, Math.max(0, m.getLevel()));
+            hi = Math.max(hi, Math.max(0, m.getLevel()));
+        }
+        if (valid.isEmpty()) lo = 0;
+
+        this.minLevel = lo;
+        this.maxLevel = hi;
+
+        // Counting sort by level keeps catalog order inside each bucket
+        this.levelStart = new int[hi + 2];
+        for (Monster m : valid) levelStart[Math.max(0, m.getLevel()) + 1]++;
+        for (int l = 1; l < levelStart.length; l++) levelStart[l] += levelStart[l - 1];
+
+        this.byLevel = new Monster[valid.size()];
+        int[] next = Arrays.copyOf(levelStart, levelStart.length);
+        for (Monster m : valid) byLevel[next[Math.max(0, m.getLevel())]++] = m;
+    }
+
+    /**
+     * @return the list this index was built from
+     */
+    public List<Monster> getSource() {
+        return source;
+    }
+
+    /**
+     * Picks a prototype within LEVEL_WINDOW levels of the target level.
+     * Levels closer to the target are weighted higher; monsters of the same
+     * level are equally likely. Falls back to any monster if none are in range.
+     *
+     * @return a catalog prototype (callers must copy() it before use), or null if empty
+     */
+    public Monster pick(int targetLevel, Random rng) {
+        if (byLevel.length == 0) return null;
+
+        // Total weight of the window: count of each level × its distance weight
+        int total = 0;
+        for (int d = -LEVEL_WINDOW; d <= LEVEL_WINDOW; d++) {
+            total += countAt(targetLevel + d) * DISTANCE_WEIGHT[Math.abs(d)];
+        }
+
+        if (total == 0) {
+            // No monster near the target level: uniform over the whole catalog
+            return byLevel[rng.nextInt(byLevel.length)];
+        }
+
+        int roll = rng.nextInt(total);
+        for (int d = -LEVEL_WINDOW; d <= LEVEL_WINDOW; d++) {
+            int level = targetLevel + d;
+            int count = countAt(level);
+            int weight = count * DISTANCE_WEIGHT[Math.abs(d)];
+            if (roll < weight) {
+                return byLevel[levelStart[level] + roll / DISTANCE_WEIGHT[Math.abs(d)]];
+            }
+            roll -= weight;
+        }
+
+        // Unreachable: roll is always below the total weight
+        return byLevel[byLevel.length - 1];
+    }
+
+    // Number of monsters with exactly this level
+    private int countAt(int level) {
+        if (level < minLevel || level > maxLevel) return 0;
+        return levelStart[level + 1] - levelStart[level];
+    }
+}
@@ -16,6 +16,7 @@ package legends.game;
 
 import legends.characters.*;
 import legends.data.DataLoader;
+import legends.data.GameCatalog;
 
 import java.util.*;
 
@@ -75,6 +76,27 @@ public class HeroSelection {
         resetHeroStatsToPDF(sorcerers);
     }
 
+    /**
+     * Builds a selection menu from an already-loaded catalog.
+     * Heroes are fresh copies, so the catalog itself is never modified.
+     *
+     * @param catalog  preloaded game data
+     * @param minParty minimum number of heroes required
+     * @param maxParty maximum number of heroes allowed
+     */
+    public HeroSelection(GameCatalog catalog, int minParty, int maxParty) {
+        this.minParty = minParty;
+        this.maxParty = maxParty;
+
+        this.warriors  = catalog.newWarriors();
+        this.paladins  = catalog.newPaladins();
+        this.sorcerers = catalog.newSorcerers();
+
+        resetHeroStatsToPDF(warriors);
+        resetHeroStatsToPDF(paladins);
+        resetHeroStatsToPDF(sorcerers);
+    }
+
     /**
      * Resets HP and MP for a list of heroes according to the game rules.
      * PDF rules:
@@ -14,6 +14,8 @@
 package legends.game;
 
 import java.util.Scanner;
+import legends.data.CatalogPreloader;
+import legends.data.CatalogWatcher;
 import legends.valor.game.ValorGame;
 
 public class LegendsApp implements Game {
@@ -27,6 +29,12 @@ public class LegendsApp implements Game {
 
     @Override
     public void run() {
+        // Start parsing the data files now so they are ready once a game needs them
+        CatalogPreloader.start();
+
+        // Pick up edits to the data files without restarting (new matches use the new data)
+        CatalogWatcher.start();
+
         // Shared scanner for reading user input
         Scanner in = new Scanner(System.in);
 
@@ -16,11 +16,10 @@ import java.util.Scanner;
 import legends.world.WorldMap;
 import legends.world.MapGenerator;
 import legends.characters.Party;
+import legends.data.CatalogPreloader;
 import legends.data.DataLoader;
+import legends.data.GameCatalog;
 import legends.market.Market;
-import legends.items.Item;
-
-import java.util.List;
 
 public class LegendsGame implements Game {
 
@@ -45,8 +44,9 @@ public class LegendsGame implements Game {
      * Constructor initializes:
      * - A randomly generated world map
      * - An empty temporary party
-     * - A market loaded with all items in the game
      * - Initial game state (exploration)
+     *
+     * Game data is loaded in the background and joined in run().
      */
     public LegendsGame() {
 
@@ -56,10 +56,8 @@ public class LegendsGame implements Game {
         // Initial empty party — actual heroes selected later
         this.party = new Party();
 
-        // Load items and construct the market
-        DataLoader loader = new DataLoader();
-        List<Item> items = loader.loadAllItems();
-        this.market = new Market(items);
+        // Make sure data loading is underway while the intro is shown
+        CatalogPreloader.start();
 
         // Set the initial state before hero selection
         this.state = new ExplorationState(party, map, this);
@@ -73,13 +71,13 @@ public class LegendsGame implements Game {
 
         showIntroScreen();  // Display the opening screen and instructions
 
-        // Load game data
-        DataLoader loader = new DataLoader();
-        List<Item> items = loader.loadAllItems();
-        DataLoader.globalMonsters = loader.loadAllMonsters();
+        // Join the background data load (usually finished during the intro)
+        GameCatalog catalog = CatalogPreloader.get();
+        this.market = new Market(catalog.getItems());
+        DataLoader.globalMonsters = catalog.getMonsters();
 
         // Allow the player to pick heroes
-        HeroSelection selection = new HeroSelection(loader);
+        HeroSelection selection = new HeroSelection(catalog, 1, 3);
 
         System.out.println(GREEN + "Welcome to Legends of Valor!" + RESET);
         this.party = selection.selectHeroes();
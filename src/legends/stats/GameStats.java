@@ -13,6 +13,7 @@
  */
 package legends.stats;
 
+import legends.characters.EntityIntTable;
 import legends.characters.Hero;
 
 import java.time.Duration;
@@ -54,7 +55,10 @@ public class GameStats {
     private int rounds = 0;
 
     // Per-hero statistics, preserved in insertion order
-    private final Map<Hero, HeroStats> heroStats = new LinkedHashMap<>();
+    private final List<HeroStats> heroStats = new ArrayList<>();
+
+    // Position in heroStats by Entity id (filled once a hero holds a match id)
+    private final EntityIntTable statsIndex = new EntityIntTable(-1);
 
     /**
      * Initializes game statistics for a new session.
@@ -64,7 +68,8 @@ public class GameStats {
         this.startedAt = LocalDateTime.now();
         if (heroes != null) {
             for (Hero h : heroes) {
-                heroStats.put(h, new HeroStats(h));
+                if (h == null) continue;
+                heroStats.add(new HeroStats(h));
             }
         }
     }
@@ -105,14 +110,28 @@ public class GameStats {
      * Returns statistics for all heroes in the game.
      */
     public Collection<HeroStats> getHeroStats() {
-        return heroStats.values();
+        return Collections.unmodifiableList(heroStats);
     }
 
     /**
      * Returns statistics for a specific hero.
+     * Looked up by the hero's Entity id; the id is issued when the hero is
+     * first placed on a board, so the first lookup after that scans once and
+     * records the position. Heroes without an id (other game modes) always scan.
      */
     public HeroStats statsFor(Hero hero) {
-        return heroStats.get(hero);
+        if (hero == null) return null;
+
+        int index = statsIndex.get(hero);
+        if (index >= 0 && heroStats.get(index).getHero() == hero) return heroStats.get(index);
+
+        for (int i = 0; i < heroStats.size(); i++) {
+            if (heroStats.get(i).getHero() == hero) {
+                statsIndex.put(hero, i);
+                return heroStats.get(i);
+            }
+        }
+        return null;
     }
 
     // Aggregated totals (leaderboard use)
@@ -120,37 +139,37 @@ public class GameStats {
 
     public int totalKills() {
         int sum = 0;
-        for (HeroStats hs : heroStats.values()) sum += hs.getMonstersKilled();
+        for (HeroStats hs : heroStats) sum += hs.getMonstersKilled();
         return sum;
     }
 
     public int totalFaints() {
         int sum = 0;
-        for (HeroStats hs : heroStats.values()) sum += hs.getTimesFainted();
+        for (HeroStats hs : heroStats) sum += hs.getTimesFainted();
         return sum;
     }
 
     public double totalDamageDealt() {
         double sum = 0;
-        for (HeroStats hs : heroStats.values()) sum += hs.getDamageDealt();
+        for (HeroStats hs : heroStats) sum += hs.getDamageDealt();
         return sum;
     }
 
     public double totalDamageTaken() {
         double sum = 0;
-        for (HeroStats hs : heroStats.values()) sum += hs.getDamageTaken();
+        for (HeroStats hs : heroStats) sum += hs.getDamageTaken();
         return sum;
     }
 
     public int totalGoldGained() {
         int sum = 0;
-        for (HeroStats hs : heroStats.values()) sum += hs.getGoldGained();
+        for (HeroStats hs : heroStats) sum += hs.getGoldGained();
         return sum;
     }
 
     public int totalXpGained() {
         int sum = 0;
-        for (HeroStats hs : heroStats.values()) sum += hs.getXpGained();
+        for (HeroStats hs : heroStats) sum += hs.getXpGained();
         return sum;
     }
 
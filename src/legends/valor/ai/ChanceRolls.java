@@ -0,0 +1,88 @@
+/**
+ * File: ChanceRolls.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Random source that lets a search walk through every dodge outcome of a
+ *   ValorSimState step instead of drawing one.
+ *
+ * Responsibilities:
+ *   - Answer each dodge roll of a step from the current branch pattern
+ *   - Multiply up the probability of the branch being played
+ *   - Step to the next untried branch (depth-first over the rolls)
+ *
+ * Usage:
+ *   start(); do { begin(); state.apply(action, rolls); p = probability(); ... } while (advance());
+ *
+ * Rolls that cannot go either way (chance 0 or 1) are not branched. After
+ * MAX_ROLLS branched rolls in one step, further rolls take their more likely
+ * outcome. Coin flips (monster sidesteps) always come out false.
+ */
+package legends.valor.ai;
+
+import java.util.Random;
+
+final class ChanceRolls extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    // Rolls per step that are branched on (2^MAX_ROLLS branches at most)
+    static final int MAX_ROLLS = 6;
+
+    // Bit i set = roll i of the step is dodged
+    private long pattern;
+
+    // Rolls branched on so far in this branch and the branch probability
+    private int used;
+    private double probability;
+
+    /**
+     * Starts with the first branch (no roll dodged).
+     */
+    void start() {
+        pattern = 0;
+    }
+
+    /**
+     * Resets the per-branch figures before the step is applied.
+     */
+    void begin() {
+        used = 0;
+        probability = 1.0;
+    }
+
+    double probability() { return probability; }
+
+    /**
+     * Outcome of the next dodge roll in this branch.
+     */
+    boolean dodges(double chance) {
+        if (chance <= 0) return false;
+        if (chance >= 1) return true;
+        if (used >= MAX_ROLLS) return chance >= 0.5;
+
+        boolean dodged = ((pattern >>> used) & 1L) != 0;
+        used++;
+        probability *= dodged ? chance : 1.0 - chance;
+        return dodged;
+    }
+
+    /**
+     * Moves to the next branch: flips the last roll that was not dodged yet
+     * and clears the rolls after it. Returns false when every branch was played.
+     */
+    boolean advance() {
+        for (int i = used - 1; i >= 0; i--) {
+            if (((pattern >>> i) & 1L) == 0) {
+                pattern = (pattern & ((1L << i) - 1)) | (1L << i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return false;
+    }
+}
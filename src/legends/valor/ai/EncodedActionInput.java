@@ -0,0 +1,169 @@
+/**
+ * File: EncodedActionInput.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Base ValorInput for AIs that decide a hero turn as one encoded ValorAction.
+ *
+ * Responsibilities:
+ *   - Ask the subclass for an action at the start of every hero turn
+ *   - Translate that action into the menu command and the answers to its
+ *     follow-up prompts (target, spell, item, teleport, direction)
+ *   - Wait if the game rejects the command, so a turn never stalls
+ *
+ * Subclasses only implement decide(); prompt handling is shared.
+ */
+package legends.valor.ai;
+
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.valor.combat.ValorCombat;
+import legends.valor.turn.ValorAction;
+import legends.valor.turn.ValorInput;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorMovement;
+
+public abstract class EncodedActionInput implements ValorInput {
+
+    // Orthogonal cells around a teleport target (same order as HeroMovementActions)
+    private static final int[][] TELEPORT_OFFSETS = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+    protected final ValorBoard board;
+    protected final ValorMovement movement;
+    protected final ValorCombat combat;
+
+    // Whether prompts and answers are echoed to the console
+    protected final boolean echo;
+
+    // Hero whose turn is running, its action and whether the command was issued
+    private Hero current;
+    private int action;
+    private boolean issued;
+
+    protected EncodedActionInput(ValorBoard board, ValorMovement movement, ValorCombat combat, boolean echo) {
+        this.board = board;
+        this.movement = movement;
+        this.combat = combat;
+        this.echo = echo;
+    }
+
+    /**
+     * Chooses the encoded ValorAction the hero plays this turn.
+     */
+    protected abstract int decide(Hero hero);
+
+    @Override
+    public void beginTurn(Hero hero) {
+        current = hero;
+        action = decide(hero);
+        issued = false;
+    }
+
+    @Override
+    public String readLine(String prompt) {
+        String answer = answer(prompt == null ? "" : prompt);
+        if (echo) System.out.println(prompt + answer);
+        return answer;
+    }
+
+    // ---------- Prompt dispatch ----------
+
+    private String answer(String prompt) {
+        if (current == null) return "N";
+
+        if (prompt.startsWith("Enter command")) return command();
+        if (prompt.startsWith("Choose: ")) return ValorAction.kind(action) == ValorAction.EQUIP_ARMOR ? "2" : "1";
+        if (prompt.startsWith("Choose monster")) return pick(targetIndex());
+        if (prompt.startsWith("Choose spell")
+                || prompt.startsWith("Choose potion")
+                || prompt.startsWith("Choose weapon")
+                || prompt.startsWith("Choose armor")) return pick(ValorAction.a(action));
+        if (prompt.startsWith("Choose hero")) return pick(teleportHeroIndex());
+        if (prompt.startsWith("Choose destination")) return pick(teleportCellIndex());
+        if (prompt.startsWith("Direction")) return directionKey(ValorAction.direction(action));
+
+        return prompt.startsWith("Press ENTER") ? "" : "0";
+    }
+
+    // 1-based answer for a 0-based index, "0" (cancel) when nothing fits
+    private String pick(int index) {
+        return (index < 0) ? "0" : String.valueOf(index + 1);
+    }
+
+    // Menu command for the planned action; a second request means it was rejected
+    private String command() {
+        if (issued) return "N";
+        issued = true;
+
+        switch (ValorAction.kind(action)) {
+            case ValorAction.MOVE:            return directionKey(ValorAction.direction(action));
+            case ValorAction.ATTACK:          return "F";
+            case ValorAction.CAST_SPELL:      return "C";
+            case ValorAction.USE_POTION:      return "P";
+            case ValorAction.EQUIP_WEAPON:
+            case ValorAction.EQUIP_ARMOR:     return "E";
+            case ValorAction.TELEPORT:        return "T";
+            case ValorAction.RECALL:          return "R";
+            case ValorAction.REMOVE_OBSTACLE: return "O";
+            default:                          return "N";
+        }
+    }
+
+    private String directionKey(ValorDirection d) {
+        switch (d) {
+            case NORTH: return "W";
+            case SOUTH: return "S";
+            case WEST:  return "A";
+            default:    return "D";
+        }
+    }
+
+    // Index of the targeted monster in the combat engine's in-range list
+    private int targetIndex() {
+        int kind = ValorAction.kind(action);
+        int r = (kind == ValorAction.CAST_SPELL) ? ValorAction.b(action) : ValorAction.a(action);
+        int c = (kind == ValorAction.CAST_SPELL) ? ValorAction.c(action) : ValorAction.b(action);
+        if (!board.inBounds(r, c)) return -1;
+
+        Monster target = board.getTile(r, c).getMonster();
+        return (target == null) ? -1 : combat.getMonstersInRange(current).indexOf(target);
+    }
+
+    // Index (among the other living heroes on the board) of the hero next to the destination
+    private int teleportHeroIndex() {
+        int index = 0;
+        for (Hero h : board.getHeroesOnBoard()) {
+            if (h == null || h == current || h.getHP() <= 0) continue;
+            if (teleportCellIndex(h) >= 0) return index;
+            index++;
+        }
+        return -1;
+    }
+
+    private int teleportCellIndex() {
+        for (Hero h : board.getHeroesOnBoard()) {
+            if (h == null || h == current || h.getHP() <= 0) continue;
+            int i = teleportCellIndex(h);
+            if (i >= 0) return i;
+        }
+        return -1;
+    }
+
+    // Position of the destination in HeroMovementActions' candidate list for this target
+    private int teleportCellIndex(Hero target) {
+        int[] tp = movement.findHero(target);
+        int[] me = movement.findHero(current);
+        if (tp == null || me == null || board.getLane(tp[1]) == board.getLane(me[1])) return -1;
+
+        int index = 0;
+        for (int[] d : TELEPORT_OFFSETS) {
+            int r = tp[0] + d[0], c = tp[1] + d[1];
+            if (!board.inBounds(r, c) || board.getLane(c) == -1 || r < tp[0]) continue;
+            if (!movement.canTeleportHeroTo(current, r, c)) continue;
+            if (r == ValorAction.a(action) && c == ValorAction.b(action)) return index;
+            index++;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * File: ExpectimaxValorInput.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   ValorInput that plays each hero turn with the action chosen by ValorExpectimaxPlanner.
+ *
+ * Responsibilities:
+ *   - Search once at the start of every hero turn
+ *   - Leave the menu answers for the chosen action to EncodedActionInput
+ *   - Count turns and searched nodes for benchmarks
+ *
+ * Drop-in replacement for ConsoleValorInput or BotValorInput in ValorTurnManager.
+ */
+package legends.valor.ai;
+
+import java.util.List;
+
+import legends.characters.Hero;
+import legends.valor.combat.ValorCombat;
+import legends.valor.turn.ValorAction;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorMovement;
+
+public class ExpectimaxValorInput extends EncodedActionInput {
+
+    private final ValorExpectimaxPlanner planner;
+
+    // Counters for benchmarks
+    private long turns = 0;
+    private long nodes = 0;
+
+    public ExpectimaxValorInput(ValorBoard board, ValorMovement movement, ValorCombat combat, List<Hero> heroes) {
+        this(board, movement, combat, heroes, true);
+    }
+
+    public ExpectimaxValorInput(ValorBoard board, ValorMovement movement, ValorCombat combat,
+                                List<Hero> heroes, boolean echo) {
+        super(board, movement, combat, echo);
+        this.planner = new ValorExpectimaxPlanner(board, movement, heroes);
+    }
+
+    /**
+     * Planner used for every decision (budget and depth are set here).
+     */
+    public ValorExpectimaxPlanner getPlanner() { return planner; }
+
+    public long getTurnCount() { return turns; }
+    public long getNodeCount() { return nodes; }
+
+    @Override
+    protected int decide(Hero hero) {
+        int action = planner.chooseAction(hero);
+        turns++;
+        nodes += planner.getLastNodes();
+
+        if (echo) {
+            System.out.println("[Search] " + hero.getName() + ": " + ValorAction.describe(action)
+                    + " (depth " + planner.getLastDepth() + ", " + planner.getLastNodes() + " nodes)");
+        }
+        return action;
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * File: LaneEndgameKey.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Identifies one solved lane endgame table and lays out its positions.
+ *
+ * Responsibilities:
+ *   - Quantize hero / monster figures into the table configuration
+ *     (hits in tenths of an HP bucket, dodge in 5% steps, spell cost in MP units)
+ *   - Map a position (hero cell, monster cells, HP buckets, MP units) to a
+ *     dense table index and back, so a probe is one array read
+ *   - Name the table file and write / check its header
+ *
+ * A configuration is one hero against one or two monsters in a single lane.
+ * Monster slots are kept in ascending code order, so the same matchup always
+ * maps to the same table no matter how the monsters were found on the board.
+ *
+ * Position layout (fastest-varying first):
+ *   hero cell, monster cells (cells = dead), monster HP buckets, hero HP bucket, MP units
+ * HP sits in the slow part of the index so states with less HP come first;
+ * the solver sweeps in index order and most transitions point backwards.
+ */
+package legends.valor.ai;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public final class LaneEndgameKey {
+
+    // Quantization of the position
+    public static final int HERO_HP_BUCKETS = 5;
+    public static final int MONSTER_HP_BUCKETS = 5;
+    public static final int MP_UNITS = 3;
+
+    public static final int MAX_MONSTERS = 2;
+
+    // Dodge chances are stored in steps of this many percent
+    static final int DODGE_STEP = 5;
+
+    // Local action codes stored in the table
+    static final int ACT_WAIT = 0;
+    static final int ACT_MOVE = 1;       // + ValorDirection.ordinal()
+    static final int ACT_ATTACK = 5;     // + monster slot
+    static final int ACT_SPELL = 7;      // + monster slot
+
+    // File header
+    static final int MAGIC = 0x4C565442;   // "LVTB"
+    static final int VERSION = 1;
+
+    private final int rows;
+    private final int width;
+    private final int cells;
+
+    // Hero figures: dodge (percent) and spell cost in MP units (0 = no usable spell)
+    private final int heroDodge;
+    private final int spellCost;
+
+    // Per monster slot, packed: heroHit << 24 | spellHit << 16 | monsterHit << 8 | dodge
+    private final int[] codes;
+
+    // Index strides
+    private final int monsterCells;      // cells + 1 (dead)
+    private final int strideCell1;
+    private final int strideHp0;
+    private final int strideHp1;
+    private final int strideHeroHp;
+    private final int strideMp;
+    private final int size;
+
+    public LaneEndgameKey(int rows, int width, int heroDodge, int spellCost, int[] slotCodes) {
+        if (slotCodes.length < 1 || slotCodes.length > MAX_MONSTERS) {
+            throw new IllegalArgumentException("Lane endgames have 1-" + MAX_MONSTERS + " monsters");
+        }
+        this.rows = rows;
+        this.width = width;
+        this.cells = rows * width;
+        this.heroDodge = heroDodge;
+        this.spellCost = spellCost;
+        this.codes = slotCodes.clone();
+        Arrays.sort(this.codes);
+
+        boolean two = codes.length == 2;
+        monsterCells = cells + 1;
+        strideCell1 = cells * monsterCells;
+        strideHp0 = strideCell1 * (two ? monsterCells : 1);
+        strideHp1 = strideHp0 * MONSTER_HP_BUCKETS;
+        strideHeroHp = strideHp1 * (two ? MONSTER_HP_BUCKETS : 1);
+        strideMp = strideHeroHp * HERO_HP_BUCKETS;
+        size = strideMp * (MP_UNITS + 1);
+    }
+
+    // ---------- Quantization ----------
+
+    /**
+     * Packs one monster slot (all hits in tenths of the target's HP bucket).
+     */
+    public static int slotCode(int heroHit, int spellHit, int monsterHit, int dodge) {
+        return (heroHit << 24) | (spellHit << 16) | (monsterHit << 8) | dodge;
+    }
+
+    /**
+     * Damage in tenths of an HP bucket, capped at one full HP bar.
+     */
+    public static int tenths(double damage, double bucket, int buckets) {
+        if (bucket <= 0) return 10 * buckets;
+        return (int) Math.max(0, Math.min(10 * buckets, Math.round(damage * 10 / bucket)));
+    }
+
+    /**
+     * Dodge chance in percent, rounded to DODGE_STEP.
+     */
+    public static int dodge(double chance) {
+        int pct = (int) Math.round(chance * 100 / DODGE_STEP) * DODGE_STEP;
+        return Math.max(0, Math.min(100 - DODGE_STEP, pct));
+    }
+
+    /**
+     * HP bucket 1..buckets of a living unit (partial buckets round up).
+     */
+    public static int hpBucket(double hp, double max, int buckets) {
+        int b = (int) Math.ceil(hp * buckets / Math.max(1, max));
+        return Math.max(1, Math.min(buckets, b));
+    }
+
+    /**
+     * Whole MP units 0..MP_UNITS (partial units round down).
+     */
+    public static int mpUnits(double mp, double max) {
+        int u = (int) Math.floor(mp * MP_UNITS / Math.max(1, max));
+        return Math.max(0, Math.min(MP_UNITS, u));
+    }
+
+    // ---------- Layout ----------
+
+    public int getRows() { return rows; }
+    public int getWidth() { return width; }
+    public int getCells() { return cells; }
+    public int getMonsterCount() { return codes.length; }
+    public int getHeroDodge() { return heroDodge; }
+    public int getSpellCost() { return spellCost; }
+    public int getSlotCode(int slot) { return codes[slot]; }
+    public int size() { return size; }
+
+    static int heroHit(int code) { return code >>> 24; }
+    static int spellHit(int code) { return (code >>> 16) & 0xFF; }
+    static int monsterHit(int code) { return (code >>> 8) & 0xFF; }
+    static int monsterDodge(int code) { return code & 0xFF; }
+
+    /**
+     * Table index of a position. Monster cells use getCells() for a dead
+     * monster; HP buckets are 1-based, a dead monster's bucket is ignored.
+     */
+    public int index(int heroCell, int cell0, int cell1, int heroHp, int hp0, int hp1, int mp) {
+        int idx = heroCell + cells * cell0 + mp * strideMp + (heroHp - 1) * strideHeroHp;
+        if (cell0 < cells) idx += (hp0 - 1) * strideHp0;
+        if (codes.length == 2) {
+            idx += cell1 * strideCell1;
+            if (cell1 < cells) idx += (hp1 - 1) * strideHp1;
+        }
+        return idx;
+    }
+
+    // ---------- Entries ----------
+
+    // Entry = win probability (12 bits) << 4 | local action (4 bits)
+    private static final int WIN_SCALE = 4095;
+
+    static short entry(double win, int action) {
+        int w = (int) Math.round(Math.max(0, Math.min(1, win)) * WIN_SCALE);
+        return (short) ((w << 4) | action);
+    }
+
+    static int entryAction(int entry) { return entry & 0xF; }
+    static double entryWin(int entry) { return ((entry & 0xFFFF) >>> 4) / (double) WIN_SCALE; }
+
+    // ---------- File ----------
+
+    /**
+     * Table file name, unique per configuration.
+     */
+    public String fileName() {
+        StringBuilder sb = new StringBuilder("lane").append(rows).append('x').append(width)
+                .append("-d").append(heroDodge).append("-s").append(spellCost);
+        for (int code : codes) sb.append('-').append(Integer.toHexString(code));
+        return sb.append(".tb").toString();
+    }
+
+    public int headerBytes() {
+        return 4 * (7 + codes.length);
+    }
+
+    void writeHeader(ByteBuffer buf) {
+        buf.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(width)
+           .putInt(heroDodge).putInt(spellCost).putInt(codes.length);
+        for (int code : codes) buf.putInt(code);
+    }
+
+    boolean matchesHeader(ByteBuffer buf) {
+        if (buf.capacity() != headerBytes() + 2L * size) return false;
+        if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) return false;
+        if (buf.getInt(8) != rows || buf.getInt(12) != width) return false;
+        if (buf.getInt(16) != heroDodge || buf.getInt(20) != spellCost || buf.getInt(24) != codes.length) return false;
+        for (int i = 0; i < codes.length; i++) {
+            if (buf.getInt(28 + 4 * i) != codes[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof LaneEndgameKey)) return false;
+        LaneEndgameKey k = (LaneEndgameKey) o;
+        return rows == k.rows && width == k.width && heroDodge == k.heroDodge
+                && spellCost == k.spellCost && Arrays.equals(codes, k.codes);
+    }
+
+    @Override
+    public int hashCode() {
+        return fileName().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return fileName();
+    }
+}
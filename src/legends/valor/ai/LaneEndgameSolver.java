@@ -0,0 +1,392 @@
+/**
+ * File: LaneEndgameSolver.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Offline solver that builds the lane endgame tables probed by LaneTablebase.
+ *
+ * Responsibilities:
+ *   - Enumerate every position of one configuration (see LaneEndgameKey)
+ *   - Back values up from won / lost positions until they stop changing
+ *     (retrograde value iteration), treating dodges, damage rounding,
+ *     monster sidesteps and regeneration as chance outcomes
+ *   - Store each position's win probability and best hero action
+ *   - Write the table in the compact file format LaneTablebase maps
+ *
+ * Model (same lane rules as ValorSimState, one lane only):
+ *   The hero acts (move within the lane, attack, cast its best spell or
+ *   wait), then the monsters act front to back: attack the hero if it is in
+ *   range, otherwise step south, otherwise sidestep. The hero regenerates 10%
+ *   HP / MP at the end of the round. The hero wins by killing every monster
+ *   or reaching row 0; it loses if it faints or a monster reaches the last row.
+ *   Damage that falls between two buckets moves the target down the lower or
+ *   upper bucket with the matching odds, so expected damage is preserved.
+ *
+ * Run as a program to solve the single-lane matchups of the catalog heroes
+ * against the monsters of their level:
+ *   java legends.valor.ai.LaneEndgameSolver [outputDir] [pairs]
+ * ("pairs" also solves each monster doubled up, which takes much longer.)
+ */
+package legends.valor.ai;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.data.DataLoader;
+import legends.data.GameCatalog;
+import legends.valor.world.BoardGeometry;
+import legends.valor.world.ValorDirection;
+
+public class LaneEndgameSolver {
+
+    // Per-round discount, so among equally winning moves the faster one is stored
+    static final double DISCOUNT = 0.999;
+
+    // Iteration stops once no value moved by more than this
+    private static final double EPSILON = 1e-6;
+    private static final int MAX_SWEEPS = 10000;
+
+    private static final int HB = LaneEndgameKey.HERO_HP_BUCKETS;
+    private static final int MP = LaneEndgameKey.MP_UNITS;
+
+    // 10% regeneration, in tenths of a bucket / unit
+    private static final int REGEN_HP = HB;
+    private static final int REGEN_MP = MP;
+
+    private static final ValorDirection[] DIRECTIONS = ValorDirection.values();
+
+    private final LaneEndgameKey key;
+    private final int rows;
+    private final int width;
+    private final int cells;
+    private final int count;
+
+    // Figures per monster slot (hits in tenths of a bucket, dodge as a chance)
+    private final int[] heroHit;
+    private final int[] spellHit;
+    private final int[] monsterHit;
+    private final double[] monsterDodge;
+
+    private final double heroDodge;
+    private final int spellCost;
+
+    // Working values and best actions, indexed like the table
+    private final float[] value;
+    private final byte[] best;
+
+    private int sweeps = 0;
+
+    public LaneEndgameSolver(LaneEndgameKey key) {
+        this.key = key;
+        this.rows = key.getRows();
+        this.width = key.getWidth();
+        this.cells = key.getCells();
+        this.count = key.getMonsterCount();
+
+        heroHit = new int[LaneEndgameKey.MAX_MONSTERS];
+        spellHit = new int[LaneEndgameKey.MAX_MONSTERS];
+        monsterHit = new int[LaneEndgameKey.MAX_MONSTERS];
+        monsterDodge = new double[LaneEndgameKey.MAX_MONSTERS];
+        for (int s = 0; s < count; s++) {
+            int code = key.getSlotCode(s);
+            heroHit[s] = LaneEndgameKey.heroHit(code);
+            spellHit[s] = LaneEndgameKey.spellHit(code);
+            monsterHit[s] = LaneEndgameKey.monsterHit(code);
+            monsterDodge[s] = LaneEndgameKey.monsterDodge(code) / 100.0;
+        }
+        heroDodge = key.getHeroDodge() / 100.0;
+        spellCost = key.getSpellCost();
+
+        value = new float[key.size()];
+        best = new byte[key.size()];
+    }
+
+    public LaneEndgameKey getKey() { return key; }
+    public int getSweeps() { return sweeps; }
+
+    /**
+     * Iterates the whole table until values settle. Returns the number of sweeps.
+     */
+    public int solve() {
+        int dead = cells;
+        int firstCell1 = (count == 2) ? 0 : dead;
+        int lastHp1 = (count == 2) ? LaneEndgameKey.MONSTER_HP_BUCKETS : 1;
+
+        double delta;
+        do {
+            delta = 0;
+            for (int mp = 0; mp <= MP; mp++)
+            for (int hb = 1; hb <= HB; hb++)
+            for (int h1 = 1; h1 <= lastHp1; h1++)
+            for (int h0 = 1; h0 <= LaneEndgameKey.MONSTER_HP_BUCKETS; h0++)
+            for (int c1 = firstCell1; c1 <= dead; c1++) {
+                if (c1 == dead && h1 != 1) continue;
+                for (int c0 = 0; c0 <= dead; c0++) {
+                    if (c0 == dead && h0 != 1) continue;
+                    if (c0 == dead && c1 == dead) continue;
+                    if (c0 != dead && c0 == c1) continue;
+                    if (isTerminal(c0) || isTerminal(c1)) continue;
+
+                    for (int hc = width; hc < cells; hc++) {
+                        if (hc == c0 || hc == c1) continue;
+
+                        int idx = key.index(hc, c0, c1, hb, h0, h1, mp);
+                        double bestValue = -1;
+                        int bestAction = LaneEndgameKey.ACT_WAIT;
+                        for (int act : ACTION_ORDER) {
+                            double v = heroAction(act, hc, c0, c1, h0, h1, hb, mp);
+                            if (v > bestValue + 1e-12) {
+                                bestValue = v;
+                                bestAction = act;
+                            }
+                        }
+
+                        delta = Math.max(delta, Math.abs(bestValue - value[idx]));
+                        value[idx] = (float) bestValue;
+                        best[idx] = (byte) bestAction;
+                    }
+                }
+            }
+            sweeps++;
+        } while (delta > EPSILON && sweeps < MAX_SWEEPS);
+
+        return sweeps;
+    }
+
+    // Attacks and spells first, so ties favour doing damage; WAIT last
+    private static final int[] ACTION_ORDER = {
+            LaneEndgameKey.ACT_ATTACK, LaneEndgameKey.ACT_ATTACK + 1,
+            LaneEndgameKey.ACT_SPELL, LaneEndgameKey.ACT_SPELL + 1,
+            LaneEndgameKey.ACT_MOVE + ValorDirection.NORTH.ordinal(),
+            LaneEndgameKey.ACT_MOVE + ValorDirection.WEST.ordinal(),
+            LaneEndgameKey.ACT_MOVE + ValorDirection.EAST.ordinal(),
+            LaneEndgameKey.ACT_MOVE + ValorDirection.SOUTH.ordinal(),
+            LaneEndgameKey.ACT_WAIT
+    };
+
+    // A living monster on the heroes' Nexus row ends the game
+    private boolean isTerminal(int cell) {
+        return cell < cells && cell / width == rows - 1;
+    }
+
+    // ---------- Hero ply ----------
+
+    // Value of an action, or -1 if it is not legal in this position
+    private double heroAction(int act, int hc, int c0, int c1, int h0, int h1, int hb, int mp) {
+        if (act == LaneEndgameKey.ACT_WAIT) return monsters(hc, c0, c1, h0, h1, hb, mp);
+
+        if (act < LaneEndgameKey.ACT_ATTACK) {
+            ValorDirection d = DIRECTIONS[act - LaneEndgameKey.ACT_MOVE];
+            int tr = hc / width + d.deltaRow(), tc = hc % width + d.deltaCol();
+            if (tr < 0 || tr >= rows || tc < 0 || tc >= width) return -1;
+            int to = tr * width + tc;
+            if (to == c0 || (count == 2 && to == c1)) return -1;
+
+            // No walking past the closest monster ahead
+            int block = Math.max(rowAhead(c0, hc), rowAhead(c1, hc));
+            if (tr < block) return -1;
+
+            if (tr == 0) return 1.0;
+            return monsters(to, c0, c1, h0, h1, hb, mp);
+        }
+
+        boolean spell = act >= LaneEndgameKey.ACT_SPELL;
+        int s = act - (spell ? LaneEndgameKey.ACT_SPELL : LaneEndgameKey.ACT_ATTACK);
+        if (s >= count) return -1;
+        int target = (s == 0) ? c0 : c1;
+        if (target >= cells || !adjacent(target, hc)) return -1;
+
+        int hit = heroHit[s];
+        if (spell) {
+            if (spellCost == 0 || mp < spellCost) return -1;
+            mp -= spellCost;
+            hit = spellHit[s];
+        }
+
+        double p = monsterDodge[s];
+        double v = p * monsters(hc, c0, c1, h0, h1, hb, mp);
+        int lo = hit / 10, frac = hit % 10;
+        double hitValue = (1 - frac / 10.0) * afterHit(s, lo, hc, c0, c1, h0, h1, hb, mp);
+        if (frac > 0) hitValue += (frac / 10.0) * afterHit(s, lo + 1, hc, c0, c1, h0, h1, hb, mp);
+        return v + (1 - p) * hitValue;
+    }
+
+    private double afterHit(int s, int dmg, int hc, int c0, int c1, int h0, int h1, int hb, int mp) {
+        if (s == 0) {
+            h0 -= dmg;
+            if (h0 <= 0) { c0 = cells; h0 = 1; }
+        } else {
+            h1 -= dmg;
+            if (h1 <= 0) { c1 = cells; h1 = 1; }
+        }
+        if (c0 >= cells && (count == 1 || c1 >= cells)) return 1.0;
+        return monsters(hc, c0, c1, h0, h1, hb, mp);
+    }
+
+    // Row of a living monster ahead of (north of) the hero, or -1
+    private int rowAhead(int cell, int hc) {
+        if (cell >= cells) return -1;
+        int r = cell / width;
+        return (r < hc / width) ? r : -1;
+    }
+
+    private boolean adjacent(int a, int b) {
+        return Math.abs(a / width - b / width) <= 1 && Math.abs(a % width - b % width) <= 1;
+    }
+
+    // ---------- Monster ply ----------
+
+    private double monsters(int hc, int c0, int c1, int h0, int h1, int hb, int mp) {
+        // Front-most (highest row) first, slot order on ties
+        int first = 0;
+        if (count == 2 && c1 < cells && (c0 >= cells || c1 / width > c0 / width)) first = 1;
+        return monsterTurn(first, 0, hc, c0, c1, h0, h1, hb, mp);
+    }
+
+    private double monsterTurn(int first, int step, int hc, int c0, int c1, int h0, int h1, int hb, int mp) {
+        if (step == count) return endOfRound(hc, c0, c1, h0, h1, hb, mp);
+
+        int s = (step == 0) ? first : 1 - first;
+        int cell = (s == 0) ? c0 : c1;
+        if (cell >= cells) return monsterTurn(first, step + 1, hc, c0, c1, h0, h1, hb, mp);
+
+        if (adjacent(cell, hc)) {
+            double v = heroDodge * monsterTurn(first, step + 1, hc, c0, c1, h0, h1, hb, mp);
+            int lo = monsterHit[s] / 10, frac = monsterHit[s] % 10;
+            double hit = (1 - frac / 10.0) * afterMonsterHit(first, step, lo, hc, c0, c1, h0, h1, hb, mp);
+            if (frac > 0) hit += (frac / 10.0) * afterMonsterHit(first, step, lo + 1, hc, c0, c1, h0, h1, hb, mp);
+            return v + (1 - heroDodge) * hit;
+        }
+
+        int r = cell / width, lc = cell % width;
+        int other = (s == 0) ? c1 : c0;
+        int block = (hc / width > r) ? hc / width : Integer.MAX_VALUE;
+
+        int south = cell + width;
+        if (r + 1 < rows && r + 1 <= block && south != hc && south != other) {
+            if (r + 1 == rows - 1) return 0.0;
+            return monsterTurn(first, step + 1, hc, s == 0 ? south : c0, s == 1 ? south : c1, h0, h1, hb, mp);
+        }
+
+        // Blocked: sidestep, trying a random side first
+        double v = 0;
+        for (int side = -1; side <= 1; side += 2) {
+            int to = cell;
+            if (free(r, lc + side, hc, other)) to = cell + side;
+            else if (free(r, lc - side, hc, other)) to = cell - side;
+            v += 0.5 * monsterTurn(first, step + 1, hc, s == 0 ? to : c0, s == 1 ? to : c1, h0, h1, hb, mp);
+        }
+        return v;
+    }
+
+    private double afterMonsterHit(int first, int step, int dmg, int hc, int c0, int c1, int h0, int h1, int hb, int mp) {
+        if (hb - dmg <= 0) return 0.0;
+        return monsterTurn(first, step + 1, hc, c0, c1, h0, h1, hb - dmg, mp);
+    }
+
+    private boolean free(int r, int lc, int hc, int other) {
+        if (lc < 0 || lc >= width) return false;
+        int cell = r * width + lc;
+        return cell != hc && cell != other;
+    }
+
+    // ---------- End of round ----------
+
+    // Regeneration (rounded up or down with the matching odds), then the stored value
+    private double endOfRound(int hc, int c0, int c1, int h0, int h1, int hb, int mp) {
+        double v = 0;
+        for (int i = 0; i <= 1; i++) {
+            double ph = chance(REGEN_HP, i);
+            if (ph == 0) continue;
+            int nh = Math.min(HB, hb + REGEN_HP / 10 + i);
+            for (int j = 0; j <= 1; j++) {
+                double pm = chance(REGEN_MP, j);
+                if (pm == 0) continue;
+                int nm = Math.min(MP, mp + REGEN_MP / 10 + j);
+                v += ph * pm * value[key.index(hc, c0, c1, nh, h0, h1, nm)];
+            }
+        }
+        return DISCOUNT * v;
+    }
+
+    // Odds of rounding a tenths amount down (up = 0) or up (up = 1)
+    private static double chance(int tenths, int up) {
+        double frac = (tenths % 10) / 10.0;
+        return (up == 0) ? 1 - frac : frac;
+    }
+
+    // ---------- Output ----------
+
+    /**
+     * Win probability the solver found for a position (for checks and tools).
+     */
+    public double valueAt(int index) { return value[index]; }
+
+    public int bestActionAt(int index) { return best[index]; }
+
+    /**
+     * Writes the table file into dir (named by LaneEndgameKey.fileName).
+     */
+    public Path write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(key.fileName());
+
+        ByteBuffer buf = ByteBuffer.allocate(key.headerBytes() + 2 * key.size());
+        key.writeHeader(buf);
+        for (int i = 0; i < value.length; i++) {
+            buf.putShort(LaneEndgameKey.entry(value[i], best[i]));
+        }
+        buf.flip();
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buf.hasRemaining()) ch.write(buf);
+        }
+        return file;
+    }
+
+    // ---------- Offline tool ----------
+
+    public static void main(String[] args) throws IOException {
+        Path dir = (args.length > 0) ? Paths.get(args[0]) : LaneTablebase.DEFAULT_DIR;
+        boolean pairs = args.length > 1 && args[1].equalsIgnoreCase("pairs");
+
+        GameCatalog catalog = new DataLoader().loadCatalog();
+        List<Hero> heroes = new ArrayList<Hero>();
+        heroes.addAll(catalog.newWarriors());
+        heroes.addAll(catalog.newSorcerers());
+        heroes.addAll(catalog.newPaladins());
+
+        Set<LaneEndgameKey> keys = new LinkedHashSet<LaneEndgameKey>();
+        for (Hero h : heroes) {
+            for (Monster m : catalog.getMonsters()) {
+                if (m.getLevel() != h.getLevel()) continue;
+                keys.add(LaneTablebase.keyFor(BoardGeometry.STANDARD, h, new Monster[] { m }));
+                if (pairs) keys.add(LaneTablebase.keyFor(BoardGeometry.STANDARD, h, new Monster[] { m, m }));
+            }
+        }
+
+        System.out.println("Solving " + keys.size() + " lane endgame tables into " + dir);
+        for (LaneEndgameKey key : keys) {
+            if (Files.isRegularFile(dir.resolve(key.fileName()))) continue;
+
+            long start = System.nanoTime();
+            LaneEndgameSolver solver = new LaneEndgameSolver(key);
+            solver.solve();
+            solver.write(dir);
+            System.out.printf("%s: %d positions, %d sweeps, %.1f s%n", key.fileName(), key.size(),
+                    solver.getSweeps(), (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
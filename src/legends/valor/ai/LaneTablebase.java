@@ -0,0 +1,241 @@
+/**
+ * File: LaneTablebase.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Looks up solved lane endgames (one hero against one or two monsters)
+ *   so the hero AI can play them without searching.
+ *
+ * Responsibilities:
+ *   - Recognize a lane endgame on the live board (the hero alone in its lane
+ *     with 1-2 monsters and no obstacles)
+ *   - Quantize the matchup into a LaneEndgameKey and the position into an index
+ *   - Memory-map each table file once and read one entry per probe
+ *   - Translate the stored local action into a ValorAction for the board
+ *
+ * Tables are produced offline by LaneEndgameSolver. A matchup without a
+ * table (or with a damaged one) is a miss, and the caller searches as usual.
+ */
+package legends.valor.ai;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.data.FileUtils;
+import legends.items.Item;
+import legends.items.Spell;
+import legends.valor.combat.ValorDamageModel;
+import legends.valor.turn.ValorAction;
+import legends.valor.world.BoardGeometry;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorTile;
+
+public class LaneTablebase {
+
+    // Returned by probe when no table covers the position
+    public static final int MISS = -1;
+
+    // Default table location, next to the other save files
+    static final Path DEFAULT_DIR = FileUtils.savePath("tablebase");
+
+    private final Path dir;
+
+    // Mapped tables by file name; a null value marks a missing or unusable file
+    private final Map<String, MappedByteBuffer> tables = new HashMap<String, MappedByteBuffer>();
+
+    // Win probability stored with the last hit
+    private double lastWin = 0;
+    private long hits = 0;
+    private long misses = 0;
+
+    public LaneTablebase() {
+        this(DEFAULT_DIR);
+    }
+
+    public LaneTablebase(Path dir) {
+        this.dir = dir;
+    }
+
+    public double getLastWinProbability() { return lastWin; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+
+    /**
+     * Best action for the hero if its lane is a solved endgame, otherwise MISS.
+     */
+    public synchronized int probe(ValorBoard board, Hero hero) {
+        int action = lookup(board, hero);
+        if (action == MISS) misses++;
+        else hits++;
+        return action;
+    }
+
+    private int lookup(ValorBoard board, Hero hero) {
+        if (hero == null || hero.getHP() <= 0) return MISS;
+        int[] pos = board.locateHero(hero);
+        if (pos == null || pos[0] == 0) return MISS;
+
+        BoardGeometry g = board.getGeometry();
+        int lane = g.laneOf(pos[1]);
+        if (lane < 0) return MISS;
+        int left = g.laneColumns(lane)[0];
+        int width = g.getLaneWidth();
+
+        // The hero must be alone in a clear lane with one or two monsters
+        Monster[] monsters = new Monster[LaneEndgameKey.MAX_MONSTERS];
+        int[] cells = new int[LaneEndgameKey.MAX_MONSTERS];
+        int found = 0;
+        for (int r = 0; r < g.getRows(); r++) {
+            for (int c = left; c < left + width; c++) {
+                ValorTile tile = board.getTile(r, c);
+                if (tile.getType() == ValorCellType.OBSTACLE || !tile.getType().isAccessible()) return MISS;
+                if (tile.getHero() != null && tile.getHero() != hero) return MISS;
+
+                Monster m = tile.getMonster();
+                if (m == null || m.getHP() <= 0) continue;
+                if (found == LaneEndgameKey.MAX_MONSTERS || r == g.getRows() - 1) return MISS;
+                monsters[found] = m;
+                cells[found] = r * width + (c - left);
+                found++;
+            }
+        }
+        if (found == 0) return MISS;
+
+        // Slot order follows the sorted slot codes
+        int spell = bestSpell(hero);
+        int[] codes = new int[found];
+        for (int i = 0; i < found; i++) codes[i] = slotCode(hero, spellAt(hero, spell), monsters[i]);
+        if (found == 2 && codes[0] > codes[1]) {
+            Monster m = monsters[0]; monsters[0] = monsters[1]; monsters[1] = m;
+            int c = cells[0]; cells[0] = cells[1]; cells[1] = c;
+        }
+
+        Monster[] slots = (found == 1) ? new Monster[] { monsters[0] } : monsters;
+        LaneEndgameKey key = keyFor(g, hero, slots);
+        MappedByteBuffer table = table(key);
+        if (table == null) return MISS;
+
+        double heroMax = hero.getLevel() * 100.0;
+        int heroCell = pos[0] * width + (pos[1] - left);
+        int c1 = (found == 2) ? cells[1] : key.getCells();
+        int idx = key.index(heroCell, cells[0], c1,
+                LaneEndgameKey.hpBucket(hero.getHP(), heroMax, LaneEndgameKey.HERO_HP_BUCKETS),
+                monsterBucket(monsters[0]), (found == 2) ? monsterBucket(monsters[1]) : 1,
+                LaneEndgameKey.mpUnits(hero.getMP(), hero.getLevel() * 50.0));
+
+        int entry = table.getShort(key.headerBytes() + 2 * idx);
+        lastWin = LaneEndgameKey.entryWin(entry);
+        return toAction(LaneEndgameKey.entryAction(entry), board, left, width, cells, spell);
+    }
+
+    // Local table action -> ValorAction on the board
+    private int toAction(int local, ValorBoard board, int left, int width, int[] cells, int spell) {
+        if (local == LaneEndgameKey.ACT_WAIT) return ValorAction.encode(ValorAction.WAIT, 0, 0, 0);
+        if (local < LaneEndgameKey.ACT_ATTACK) {
+            ValorDirection d = ValorDirection.values()[local - LaneEndgameKey.ACT_MOVE];
+            return ValorAction.encode(ValorAction.MOVE, d.ordinal(), 0, 0);
+        }
+
+        boolean cast = local >= LaneEndgameKey.ACT_SPELL;
+        int slot = local - (cast ? LaneEndgameKey.ACT_SPELL : LaneEndgameKey.ACT_ATTACK);
+        int r = cells[slot] / width, c = left + cells[slot] % width;
+        return cast ? ValorAction.encode(ValorAction.CAST_SPELL, spell, r, c)
+                    : ValorAction.encode(ValorAction.ATTACK, r, c, 0);
+    }
+
+    private synchronized MappedByteBuffer table(LaneEndgameKey key) {
+        String name = key.fileName();
+        if (tables.containsKey(name)) return tables.get(name);
+
+        MappedByteBuffer buf = null;
+        Path file = dir.resolve(name);
+        if (Files.isRegularFile(file)) {
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+                buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                if (!key.matchesHeader(buf)) {
+                    System.out.println("Lane tablebase ignored " + name + ": header mismatch");
+                    buf = null;
+                }
+            } catch (IOException e) {
+                System.out.println("Lane tablebase ignored " + name + ": " + e);
+                buf = null;
+            }
+        }
+        tables.put(name, buf);
+        return buf;
+    }
+
+    // ---------- Quantization ----------
+
+    /**
+     * Table key of a hero against the given monsters (in any order).
+     */
+    public static LaneEndgameKey keyFor(BoardGeometry g, Hero hero, Monster[] monsters) {
+        int spell = bestSpell(hero);
+        Spell s = spellAt(hero, spell);
+        int[] codes = new int[monsters.length];
+        for (int i = 0; i < monsters.length; i++) codes[i] = slotCode(hero, s, monsters[i]);
+
+        int cost = 0;
+        if (s != null) {
+            double unit = hero.getLevel() * 50.0 / LaneEndgameKey.MP_UNITS;
+            cost = (int) Math.max(1, Math.ceil(s.getManaCost() / unit));
+            if (cost > LaneEndgameKey.MP_UNITS) cost = 0;
+        }
+        return new LaneEndgameKey(g.getRows(), g.getLaneWidth(),
+                LaneEndgameKey.dodge(hero.getDodgeChance()), cost, codes);
+    }
+
+    private static int slotCode(Hero hero, Spell spell, Monster m) {
+        double monsterBucket = m.getLevel() * 100.0 / LaneEndgameKey.MONSTER_HP_BUCKETS;
+        double heroBucket = hero.getLevel() * 100.0 / LaneEndgameKey.HERO_HP_BUCKETS;
+
+        int heroHit = LaneEndgameKey.tenths(ValorDamageModel.heroAttackDamage(hero),
+                monsterBucket, LaneEndgameKey.MONSTER_HP_BUCKETS);
+        int spellHit = (spell == null) ? 0 : LaneEndgameKey.tenths(ValorDamageModel.spellDamage(hero, spell),
+                monsterBucket, LaneEndgameKey.MONSTER_HP_BUCKETS);
+        int monsterHit = LaneEndgameKey.tenths(ValorDamageModel.hitTaken(m, hero),
+                heroBucket, LaneEndgameKey.HERO_HP_BUCKETS);
+        return LaneEndgameKey.slotCode(heroHit, spellHit, monsterHit, LaneEndgameKey.dodge(m.getDodgeChance()));
+    }
+
+    private static int monsterBucket(Monster m) {
+        return LaneEndgameKey.hpBucket(m.getHP(), m.getLevel() * 100.0, LaneEndgameKey.MONSTER_HP_BUCKETS);
+    }
+
+    // Index (among the hero's spells) of its hardest-hitting spell, or -1
+    private static int bestSpell(Hero hero) {
+        int best = -1, idx = 0;
+        double bestDamage = 0;
+        for (Item it : hero.getInventory().getItems()) {
+            if (!(it instanceof Spell)) continue;
+            double dmg = ValorDamageModel.spellDamage(hero, (Spell) it);
+            if (dmg > bestDamage) {
+                bestDamage = dmg;
+                best = idx;
+            }
+            idx++;
+        }
+        return best;
+    }
+
+    private static Spell spellAt(Hero hero, int index) {
+        if (index < 0) return null;
+        int idx = 0;
+        for (Item it : hero.getInventory().getItems()) {
+            if (!(it instanceof Spell)) continue;
+            if (idx++ == index) return (Spell) it;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * File: LaneTablebaseTest.java
+ * Description: Simple test harness for LaneTablebase.
+ *              Solves a small one-lane table with LaneEndgameSolver, writes it
+ *              to a temporary directory and probes every hero / monster
+ *              placement on a cleared board: the probe must return the solved
+ *              action and win probability. A second hero in the lane, an
+ *              obstacle, a monster on the last row and a missing table are
+ *              misses. Exits with status 1 on a failure.
+ */
+
+package legends.valor.ai;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import legends.characters.Dragon;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.characters.Warrior;
+import legends.valor.turn.ValorAction;
+import legends.valor.world.BoardGeometry;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorTile;
+
+public class LaneTablebaseTest {
+
+    private static int failures = 0;
+
+    // One short lane keeps the table small enough to solve on every run
+    private static final BoardGeometry LANE = new BoardGeometry(1, 2, 5);
+
+    // Stored win probabilities are 12-bit fractions
+    private static final double WIN_STEP = 1.0 / 4095;
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("lane-tablebase-test");
+
+        // --- Solve and write one table ---
+        System.out.println("=== Solve ===");
+        Hero hero = new Warrior("Hero", 1, 100, 100, 500, 500, 0);
+        Monster monster = new Dragon("Drake", 1, 100, 100, 0.0);
+        LaneEndgameKey key = LaneTablebase.keyFor(LANE, hero, new Monster[] { monster });
+        LaneEndgameSolver solver = new LaneEndgameSolver(key);
+        check(solver.solve() > 0, "solver settles");
+        Path file = solver.write(dir);
+        check(Files.size(file) == key.headerBytes() + 2L * key.size(), "table file holds the header and one entry per position");
+
+        // --- Every placement probes to the solved entry ---
+        System.out.println("\n=== Probe ===");
+        LaneTablebase tablebase = new LaneTablebase(dir);
+        int width = LANE.getLaneWidth();
+        int probes = 0, wrongAction = 0, wrongWin = 0;
+        for (int heroCell = width; heroCell < LANE.getRows() * width; heroCell++) {
+            for (int monsterCell = 0; monsterCell < (LANE.getRows() - 1) * width; monsterCell++) {
+                if (monsterCell == heroCell) continue;
+                ValorBoard board = clearBoard();
+                Hero h = new Warrior("Hero", 1, 100, 100, 500, 500, 0);
+                place(board, heroCell).placeHero(h);
+                place(board, monsterCell).placeMonster(new Dragon("Drake", 1, 100, 100, 0.0));
+
+                // Full HP and MP: top buckets, the empty second slot counts as bucket 1
+                int idx = key.index(heroCell, monsterCell, key.getCells(),
+                        LaneEndgameKey.HERO_HP_BUCKETS, LaneEndgameKey.MONSTER_HP_BUCKETS, 1,
+                        LaneEndgameKey.MP_UNITS);
+                int action = tablebase.probe(board, h);
+                if (action != expected(solver.bestActionAt(idx), monsterCell)) wrongAction++;
+                if (Math.abs(tablebase.getLastWinProbability() - solver.valueAt(idx)) > WIN_STEP) wrongWin++;
+                probes++;
+            }
+        }
+        check(tablebase.getHits() == probes && tablebase.getMisses() == 0, "every placement hits (" + probes + ")");
+        check(wrongAction == 0, "probed actions match the solver");
+        check(wrongWin == 0, "probed win probabilities match the solver");
+
+        // Next to its own Nexus row with the monster far behind, the hero walks in
+        ValorBoard near = clearBoard();
+        Hero runner = new Warrior("Hero", 1, 100, 100, 500, 500, 0);
+        near.getTile(1, 0).placeHero(runner);
+        near.getTile(3, 1).placeMonster(new Dragon("Drake", 1, 100, 100, 0.0));
+        check(tablebase.probe(near, runner) == ValorAction.encode(ValorAction.MOVE, ValorDirection.NORTH.ordinal(), 0, 0),
+                "hero one step from the enemy Nexus moves north");
+        check(tablebase.getLastWinProbability() > 0.99, "and the table calls it a win");
+
+        // --- Positions the tables do not cover ---
+        System.out.println("\n=== Misses ===");
+        ValorBoard crowded = position();
+        crowded.getTile(4, 1).placeHero(new Warrior("Other", 1, 100, 100, 500, 500, 0));
+        check(tablebase.probe(crowded, heroOn(crowded)) == LaneTablebase.MISS, "second hero in the lane misses");
+
+        ValorBoard blocked = position();
+        blocked.getTile(2, 1).setType(ValorCellType.OBSTACLE);
+        check(tablebase.probe(blocked, heroOn(blocked)) == LaneTablebase.MISS, "obstacle in the lane misses");
+
+        ValorBoard late = position();
+        late.getTile(1, 1).removeMonster();
+        late.getTile(4, 0).placeMonster(new Dragon("Drake", 1, 100, 100, 0.0));
+        check(tablebase.probe(late, heroOn(late)) == LaneTablebase.MISS, "monster on the last row misses");
+
+        LaneTablebase empty = new LaneTablebase(Files.createTempDirectory("lane-tablebase-empty"));
+        ValorBoard solved = position();
+        check(empty.probe(solved, heroOn(solved)) == LaneTablebase.MISS, "missing table misses");
+        check(empty.getMisses() == 1 && empty.getHits() == 0, "miss is counted");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Board action the probe should return for a local table action (one monster)
+    private static int expected(int local, int monsterCell) {
+        int width = LANE.getLaneWidth();
+        if (local == LaneEndgameKey.ACT_WAIT) return ValorAction.encode(ValorAction.WAIT, 0, 0, 0);
+        if (local < LaneEndgameKey.ACT_ATTACK) {
+            return ValorAction.encode(ValorAction.MOVE, local - LaneEndgameKey.ACT_MOVE, 0, 0);
+        }
+        return ValorAction.encode(ValorAction.ATTACK, monsterCell / width, monsterCell % width, 0);
+    }
+
+    // Covered position: hero at (3,0), monster at (1,1)
+    private static ValorBoard position() {
+        ValorBoard board = clearBoard();
+        board.getTile(3, 0).placeHero(new Warrior("Hero", 1, 100, 100, 500, 500, 0));
+        board.getTile(1, 1).placeMonster(new Dragon("Drake", 1, 100, 100, 0.0));
+        return board;
+    }
+
+    private static Hero heroOn(ValorBoard board) {
+        return board.getTile(3, 0).getHero();
+    }
+
+    private static ValorTile place(ValorBoard board, int cell) {
+        return board.getTile(cell / LANE.getLaneWidth(), cell % LANE.getLaneWidth());
+    }
+
+    // Test lane with every cell between the Nexus rows made plain
+    private static ValorBoard clearBoard() {
+        ValorBoard board = new ValorBoard(LANE);
+        for (int r = 1; r < board.getRows() - 1; r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                board.getTile(r, c).setType(ValorCellType.PLAIN);
+            }
+        }
+        return board;
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
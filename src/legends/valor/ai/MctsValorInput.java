@@ -0,0 +1,64 @@
+/**
+ * File: MctsValorInput.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   ValorInput that plays each hero turn with the action chosen by ValorMctsPlanner.
+ *
+ * Responsibilities:
+ *   - Search once at the start of every hero turn
+ *   - Leave the menu answers for the chosen action to EncodedActionInput
+ *   - Count turns and playouts for load tests and benchmarks
+ *
+ * Drop-in replacement for ConsoleValorInput or BotValorInput in ValorTurnManager.
+ */
+package legends.valor.ai;
+
+import java.util.List;
+
+import legends.characters.Hero;
+import legends.valor.combat.ValorCombat;
+import legends.valor.turn.ValorAction;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorMovement;
+
+public class MctsValorInput extends EncodedActionInput {
+
+    private final ValorMctsPlanner planner;
+
+    // Counters for load tests and benchmarks
+    private long turns = 0;
+    private long playouts = 0;
+
+    public MctsValorInput(ValorBoard board, ValorMovement movement, ValorCombat combat, List<Hero> heroes) {
+        this(board, movement, combat, heroes, true);
+    }
+
+    public MctsValorInput(ValorBoard board, ValorMovement movement, ValorCombat combat,
+                          List<Hero> heroes, boolean echo) {
+        super(board, movement, combat, echo);
+        this.planner = new ValorMctsPlanner(board, movement, heroes);
+    }
+
+    /**
+     * Planner used for every decision (budget, threads and seed are set here).
+     */
+    public ValorMctsPlanner getPlanner() { return planner; }
+
+    public long getTurnCount() { return turns; }
+    public long getPlayoutCount() { return playouts; }
+
+    @Override
+    protected int decide(Hero hero) {
+        int action = planner.chooseAction(hero);
+        turns++;
+        playouts += planner.getLastPlayouts();
+
+        if (echo) {
+            String source = planner.isLastFromTablebase() ? "tablebase"
+                    : planner.isLastFromBook() ? "book" : planner.getLastPlayouts() + " playouts";
+            System.out.println("[MCTS] " + hero.getName() + ": " + ValorAction.describe(action) + " (" + source + ")");
+        }
+        return action;
+    }
+}
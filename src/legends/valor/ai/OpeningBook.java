@@ -0,0 +1,173 @@
+/**
+ * File: OpeningBook.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   On-disk book of searched hero actions for early-game positions.
+ *
+ * Responsibilities:
+ *   - Key a position by the board's run-stable hash plus the hero to move
+ *   - Remember the action a search chose, keeping the one backed by the
+ *     most playouts when a position is searched again
+ *   - Load the book once at startup (memory-mapped) and write it back on save
+ *
+ * File layout (big-endian):
+ *   int MAGIC, int VERSION, int count, then per entry:
+ *   long key, int action, int weight (playouts behind the action)
+ *
+ * The first rounds after ValorSpawner.placeHeroesOnBoard repeat a lot, so
+ * ValorMctsPlanner answers them from the book and only searches new ones.
+ * A missing or damaged file just means an empty book.
+ */
+package legends.valor.ai;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import legends.characters.Hero;
+import legends.data.FileUtils;
+import legends.valor.world.ValorBoard;
+
+public class OpeningBook {
+
+    // Returned by lookup for unknown positions
+    public static final int MISS = -1;
+
+    // Decisions per planner that use the book (4 rounds of a 3-hero party)
+    public static final int DEFAULT_PLIES = 12;
+
+    private static final int MAGIC = 0x4C564F42;   // "LVOB"
+    private static final int VERSION = 1;
+    private static final int ENTRY_BYTES = 16;
+
+    // Default book location, next to the other save files
+    static final Path DEFAULT_FILE = FileUtils.savePath("opening.book");
+
+    private final Path file;
+
+    // Position key -> weight << 32 | action
+    private final Map<Long, Long> entries = new HashMap<Long, Long>();
+
+    private int maxPlies = DEFAULT_PLIES;
+
+    // Set when entries changed since the last load / save
+    private boolean dirty = false;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    public OpeningBook() {
+        this(DEFAULT_FILE);
+    }
+
+    public OpeningBook(Path file) {
+        this.file = file;
+        load();
+    }
+
+    public int getMaxPlies() { return maxPlies; }
+
+    public void setMaxPlies(int plies) {
+        this.maxPlies = Math.max(0, plies);
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+
+    /**
+     * Book key of the board with the given hero to move.
+     */
+    public static long key(ValorBoard board, Hero toMove) {
+        long x = board.snapshot().getStableHash() + String.valueOf(toMove.getName()).hashCode() * 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    /**
+     * Stored action for the position, or MISS.
+     */
+    public synchronized int lookup(long key) {
+        Long e = entries.get(key);
+        if (e == null) {
+            misses++;
+            return MISS;
+        }
+        hits++;
+        return (int) (long) e;
+    }
+
+    /**
+     * Stores a searched action unless the position already has one backed by more playouts.
+     */
+    public synchronized void record(long key, int action, long playouts) {
+        long weight = Math.min(Integer.MAX_VALUE, Math.max(0, playouts));
+        Long old = entries.get(key);
+        if (old != null && (old >>> 32) >= weight) return;
+
+        entries.put(key, (weight << 32) | (action & 0xFFFFFFFFL));
+        dirty = true;
+    }
+
+    // ---------- Persistence ----------
+
+    private void load() {
+        if (!Files.isRegularFile(file)) return;
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            if (buf.getInt() != MAGIC || buf.getInt() != VERSION) {
+                System.out.println("Opening book ignored: unknown format");
+                return;
+            }
+
+            int count = buf.getInt();
+            for (int i = 0; i < count; i++) {
+                long key = buf.getLong();
+                int action = buf.getInt();
+                long weight = buf.getInt() & 0xFFFFFFFFL;
+                entries.put(key, (weight << 32) | (action & 0xFFFFFFFFL));
+            }
+        } catch (IOException | BufferUnderflowException e) {
+            // Keep whatever was read; the rest gets searched again
+            System.out.println("Opening book partly ignored: " + e);
+        }
+    }
+
+    /**
+     * Writes the book if anything changed. Returns false if writing failed.
+     */
+    public synchronized boolean save() {
+        if (!dirty) return true;
+
+        ByteBuffer buf = ByteBuffer.allocate(12 + ENTRY_BYTES * entries.size());
+        buf.putInt(MAGIC).putInt(VERSION).putInt(entries.size());
+        for (Map.Entry<Long, Long> e : entries.entrySet()) {
+            long v = e.getValue();
+            buf.putLong(e.getKey()).putInt((int) v).putInt((int) (v >>> 32));
+        }
+        buf.flip();
+
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buf.hasRemaining()) ch.write(buf);
+            }
+            dirty = false;
+            return true;
+        } catch (IOException e) {
+            System.out.println("Could not save opening book: " + e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/**
+ * File: SelfPlayGenerator.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Headless pipeline that plays bot-versus-monster-AI matches in parallel
+ *   and records every hero decision as a training sample.
+ *
+ * Responsibilities:
+ *   - Run whole matches (the real ValorTurnManager, monster AI and the
+ *     ValorRoundEnd spawns and regeneration)
+ *   - Pick hero actions with a fast randomized policy over the legal actions
+ *     from ValorActionGenerator (mostly fight, otherwise mostly advance)
+ *   - Record board features (ValorFeatureEncoder), the legal-action mask, the chosen action and,
+ *     once the match is over, its outcome
+ *   - Give every worker its own shard writer, so workers never share state
+ *
+ * Run as a program:
+ *   java legends.valor.ai.SelfPlayGenerator [outputDir] [matches] [workers]
+ *
+ * Matches are spread over the common ForkJoin pool, one worker per core by
+ * default. Shards are written by SelfPlayShardWriter. The program switches
+ * console output off while the matches run.
+ */
+package legends.valor.ai;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import legends.characters.EntityIntTable;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.characters.Party;
+import legends.data.DataLoader;
+import legends.data.FileUtils;
+import legends.data.GameCatalog;
+import legends.market.Market;
+import legends.stats.GameStats;
+import legends.valor.combat.ValorCombat;
+import legends.valor.game.MonsterPool;
+import legends.valor.game.ValorMatch;
+import legends.valor.game.ValorRoundEnd;
+import legends.valor.game.ValorSpawner;
+import legends.valor.turn.HeroMovementActions;
+import legends.valor.turn.ValorAction;
+import legends.valor.turn.ValorActionBuffer;
+import legends.valor.turn.ValorActionGenerator;
+import legends.valor.turn.ValorTurnManager;
+import legends.valor.world.BoardGeometry;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorMovement;
+
+public class SelfPlayGenerator {
+
+    // Matches still running after this many rounds are recorded as unfinished
+    public static final int DEFAULT_MAX_ROUNDS = 300;
+
+    // Policy: chance to take an available attack / to step north, otherwise a random legal action
+    private static final double ATTACK_CHANCE = 1.0;
+    private static final double ADVANCE_CHANCE = 0.95;
+
+    private final GameCatalog catalog;
+    private final Path outDir;
+
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int maxRounds = DEFAULT_MAX_ROUNDS;
+    private int shardSamples = SelfPlayShardWriter.DEFAULT_SHARD_SAMPLES;
+    private long seed = new Random().nextLong();
+
+    // Totals of the last run
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong heroWins = new AtomicLong();
+    private final AtomicLong monsterWins = new AtomicLong();
+    private final AtomicLong unfinished = new AtomicLong();
+
+    public SelfPlayGenerator(GameCatalog catalog, Path outDir) {
+        this.catalog = catalog;
+        this.outDir = outDir;
+    }
+
+    public void setWorkers(int workers) { this.workers = Math.max(1, workers); }
+    public void setMaxRounds(int rounds) { this.maxRounds = Math.max(1, rounds); }
+    public void setShardSamples(int samples) { this.shardSamples = Math.max(1, samples); }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public long getSamples() { return samples.get(); }
+    public long getHeroWins() { return heroWins.get(); }
+    public long getMonsterWins() { return monsterWins.get(); }
+    public long getUnfinished() { return unfinished.get(); }
+
+    /**
+     * Plays the given number of matches and returns the samples written.
+     * The matches print to System.out like console matches; callers that
+     * want them quiet redirect it (main does).
+     */
+    public long run(int matches) throws IOException {
+        samples.set(0);
+        heroWins.set(0);
+        monsterWins.set(0);
+        unfinished.set(0);
+
+        List<Worker> tasks = new ArrayList<Worker>();
+        for (int w = 0; w < workers; w++) tasks.add(new Worker(w, matches));
+
+        try {
+            List<Future<Long>> done = ForkJoinPool.commonPool().invokeAll(tasks);
+            for (Future<Long> f : done) f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IOException("Self-play worker failed", e.getCause());
+        }
+        return samples.get();
+    }
+
+    // ---------- Worker ----------
+
+    /**
+     * Plays every workers-th match and writes its own shards.
+     */
+    private class Worker implements Callable<Long> {
+
+        private final int index;
+        private final int matches;
+        private final Random rng;
+        private final Market market = new Market(catalog.getItems());
+
+        Worker(int index, int matches) {
+            this.index = index;
+            this.matches = matches;
+            this.rng = new Random(seed + index * 0x9E3779B97F4A7C15L);
+        }
+
+        @Override
+        public Long call() throws IOException {
+            int features = ValorFeatureEncoder.size(BoardGeometry.STANDARD.getRows(), BoardGeometry.STANDARD.getCols());
+            SelfPlayShardWriter writer = new SelfPlayShardWriter(outDir, "selfplay-w" + index, features, shardSamples);
+            try {
+                for (int m = index; m < matches; m += workers) {
+                    playMatch(writer);
+                }
+            } finally {
+                writer.close();
+            }
+
+            long written = writer.getTotalSamples();
+            samples.addAndGet(written);
+            return written;
+        }
+
+        private void playMatch(SelfPlayShardWriter writer) throws IOException {
+            Party party = new Party();
+            party.addHero(pick(catalog.newWarriors()));
+            party.addHero(pick(catalog.newSorcerers()));
+            party.addHero(pick(catalog.newPaladins()));
+
+            ValorBoard board = new ValorBoard();
+            ValorMovement movement = new ValorMovement(board);
+            GameStats stats = new GameStats(GameStats.GameMode.LEGENDS_OF_VALOR, party.getHeroes());
+            ValorCombat combat = new ValorCombat(board, stats);
+            MonsterPool pool = new MonsterPool();
+            ValorSpawner spawner = new ValorSpawner(board, pool);
+            spawner.placeHeroesOnBoard(party);
+            List<Monster> laneMonsters = spawner.spawnLaneMonsters(party);
+
+            RecordingInput input = new RecordingInput(board, movement, combat, party.getHeroes(), writer, rng);
+            ValorTurnManager turns = new ValorTurnManager(board, movement, combat, party, laneMonsters,
+                    input, market, new Scanner(""));
+            ValorRoundEnd roundEnd = new ValorRoundEnd(board, party, laneMonsters, pool, spawner);
+
+            ValorMatch.Outcome outcome = null;
+            for (int round = 1; round <= maxRounds && outcome == null; round++) {
+                input.round = round;
+                outcome = turns.playOneRound();
+                if (outcome != null) break;
+
+                roundEnd.apply(round);
+            }
+
+            if (outcome == ValorMatch.Outcome.HERO_WIN) heroWins.incrementAndGet();
+            else if (outcome == ValorMatch.Outcome.MONSTER_WIN) monsterWins.incrementAndGet();
+            else unfinished.incrementAndGet();
+
+            writer.endMatch(outcome == ValorMatch.Outcome.HERO_WIN ? 1
+                    : outcome == ValorMatch.Outcome.MONSTER_WIN ? -1 : 0);
+        }
+
+        private <T extends Hero> T pick(List<T> heroes) {
+            return heroes.get(rng.nextInt(heroes.size()));
+        }
+    }
+
+    // ---------- Policy and recording ----------
+
+    /**
+     * Hero input that picks from the legal actions and records each decision.
+     */
+    private static class RecordingInput extends EncodedActionInput {
+
+        private final List<Hero> heroes;
+        private final SelfPlayShardWriter writer;
+        private final Random rng;
+
+        // Home lane per hero, bound the first time the hero is seen (as in ValorMctsPlanner)
+        private final EntityIntTable homeLane = new EntityIntTable(-1);
+        private final ValorActionGenerator generator;
+        private final ValorActionBuffer legal = new ValorActionBuffer();
+        private final ValorActionBuffer fights = new ValorActionBuffer();
+        private final ValorFeatureEncoder encoder;
+        private final float[] features;
+
+        // Round being played (a feature)
+        int round;
+
+        RecordingInput(ValorBoard board, ValorMovement movement, ValorCombat combat, List<Hero> heroes,
+                       SelfPlayShardWriter writer, Random rng) {
+            super(board, movement, combat, false);
+            this.heroes = heroes;
+            this.writer = writer;
+            this.rng = rng;
+            this.generator = new ValorActionGenerator(board, movement, homeLane);
+            this.encoder = new ValorFeatureEncoder(board, heroes);
+            this.features = new float[encoder.size()];
+        }
+
+        @Override
+        protected int decide(Hero hero) {
+            HeroMovementActions.bindHomeLanes(board, homeLane, heroes);
+            int[] pos = board.locateHero(hero);
+            generator.generate(hero, legal);
+
+            int mask = 0;
+            fights.clear();
+            int north = -1;
+            for (int i = 0; i < legal.size(); i++) {
+                int a = legal.get(i);
+                if (pos != null) mask |= 1 << ValorAction.maskBit(a, pos[0], pos[1]);
+                int kind = ValorAction.kind(a);
+                if (kind == ValorAction.ATTACK || kind == ValorAction.CAST_SPELL) fights.add(a);
+                if (kind == ValorAction.MOVE && ValorAction.direction(a) == ValorDirection.NORTH) north = a;
+            }
+
+            int action;
+            if (fights.size() > 0 && rng.nextDouble() < ATTACK_CHANCE) {
+                action = fights.get(rng.nextInt(fights.size()));
+            } else if (north >= 0 && rng.nextDouble() < ADVANCE_CHANCE) {
+                action = north;
+            } else {
+                action = legal.get(rng.nextInt(legal.size()));
+            }
+
+            encoder.encode(hero, round, features);
+            writer.add(features, mask, action);
+            return action;
+        }
+    }
+
+    // ---------- Program ----------
+
+    public static void main(String[] args) throws IOException {
+        Path dir = (args.length > 0) ? Paths.get(args[0]) : FileUtils.savePath("selfplay");
+        int matches = (args.length > 1) ? Integer.parseInt(args[1]) : 100;
+
+        GameCatalog catalog = new DataLoader().loadCatalog();
+        DataLoader.globalMonsters = catalog.getMonsters();
+
+        SelfPlayGenerator gen = new SelfPlayGenerator(catalog, dir);
+        if (args.length > 2) gen.setWorkers(Integer.parseInt(args[2]));
+
+        // The turn classes report to System.out; keep the console quiet while the matches run
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        long n;
+        try {
+            n = gen.run(matches);
+        } finally {
+            System.setOut(console);
+        }
+        double secs = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d matches (%d hero wins, %d monster wins, %d unfinished)%n",
+                matches, gen.getHeroWins(), gen.getMonsterWins(), gen.getUnfinished());
+        System.out.printf("%d samples in %.1f s (%.0f samples/hour) -> %s%n", n, secs, n / secs * 3600, dir);
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * File: SelfPlayShardReader.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Reads back the samples of one self-play shard (see SelfPlayShardWriter).
+ *
+ * Responsibilities:
+ *   - Check the shard header and report the feature count
+ *   - Inflate one chunk at a time and step through its records
+ *   - Expose the current record's features, mask, action and outcome
+ *
+ * Used by training tools and to check generated data.
+ */
+package legends.valor.ai;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+public class SelfPlayShardReader implements Closeable {
+
+    private final FileChannel in;
+    private final int featureCount;
+    private final int recordBytes;
+
+    private final Inflater inflater = new Inflater();
+    private final ByteBuffer chunkHeader = ByteBuffer.allocate(12);
+    private byte[] packed = new byte[0];
+    private ByteBuffer records = ByteBuffer.allocate(0);
+
+    // Fields of the current record
+    private int mask;
+    private int action;
+    private int outcome;
+
+    public SelfPlayShardReader(Path file) throws IOException {
+        in = FileChannel.open(file, StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(12);
+        readFully(header);
+        if (header.getInt() != SelfPlayShardWriter.MAGIC || header.getInt() != SelfPlayShardWriter.VERSION) {
+            in.close();
+            throw new IOException("Not a self-play shard: " + file);
+        }
+        featureCount = header.getInt();
+        recordBytes = 4 * featureCount + 9;
+    }
+
+    public int getFeatureCount() { return featureCount; }
+    public int getMask() { return mask; }
+    public int getAction() { return action; }
+    public int getOutcome() { return outcome; }
+
+    /**
+     * Moves to the next record and copies its features into the array.
+     * Returns false at the end of the shard.
+     */
+    public boolean next(float[] features) throws IOException {
+        if (!records.hasRemaining() && !nextChunk()) return false;
+
+        for (int i = 0; i < featureCount; i++) features[i] = records.getFloat();
+        mask = records.getInt();
+        action = records.getInt();
+        outcome = records.get();
+        return true;
+    }
+
+    private boolean nextChunk() throws IOException {
+        chunkHeader.clear();
+        if (in.read(chunkHeader) <= 0) return false;
+        readFully(chunkHeader);
+        int samples = chunkHeader.getInt();
+        int raw = chunkHeader.getInt();
+        int n = chunkHeader.getInt();
+        if (raw != samples * recordBytes) throw new IOException("Corrupt chunk header");
+
+        if (packed.length < n) packed = new byte[n];
+        ByteBuffer src = ByteBuffer.wrap(packed, 0, n);
+        readFully(src);
+
+        if (records.capacity() < raw) records = ByteBuffer.allocate(raw);
+        records.clear();
+        inflater.reset();
+        inflater.setInput(packed, 0, n);
+        try {
+            int got = 0;
+            while (got < raw && !inflater.finished()) {
+                got += inflater.inflate(records.array(), got, raw - got);
+            }
+            if (got != raw) throw new IOException("Truncated chunk");
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt chunk", e);
+        }
+        records.limit(raw);
+        return raw > 0 || nextChunk();
+    }
+
+    // Reads until the buffer is full, then flips it for reading
+    private void readFully(ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (in.read(buf) < 0) throw new IOException("Unexpected end of shard");
+        }
+        buf.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        in.close();
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * File: SelfPlayShardTest.java
+ * Description: Simple test harness for SelfPlayShardWriter / SelfPlayShardReader.
+ *              Writes matches of known samples to a temporary directory and
+ *              reads them back: features, mask, action and outcome survive the
+ *              round trip, discarded and unfinished matches are dropped, large
+ *              runs span several chunks and shards, and a file that is not a
+ *              shard is rejected. Exits with status 1 on a failure.
+ */
+
+package legends.valor.ai;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SelfPlayShardTest {
+
+    private static int failures = 0;
+
+    private static final int FEATURES = 4;
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("selfplay-shard-test");
+
+        // --- Small round trip: one chunk, one shard ---
+        System.out.println("=== Round trip ===");
+        SelfPlayShardWriter writer = new SelfPlayShardWriter(dir, "small", FEATURES);
+        write(writer, 0, 3);
+        writer.endMatch(1);
+        write(writer, 3, 2);
+        writer.discardMatch();
+        write(writer, 5, 2);
+        writer.endMatch(-1);
+        write(writer, 7, 4);
+        writer.close();
+
+        List<Path> small = shards(dir, "small");
+        check(small.size() == 1, "one shard written");
+        check(writer.getTotalSamples() == 5, "writer counted the finished samples");
+
+        int[] expected = { 0, 1, 2, 5, 6 };
+        int[] outcomes = { 1, 1, 1, -1, -1 };
+        float[] features = new float[FEATURES];
+        boolean same = true;
+        int read = 0;
+        try (SelfPlayShardReader reader = new SelfPlayShardReader(small.get(0))) {
+            check(reader.getFeatureCount() == FEATURES, "feature count from the header");
+            while (reader.next(features)) {
+                if (read >= expected.length || !matches(expected[read], features, reader)
+                        || reader.getOutcome() != outcomes[read]) same = false;
+                read++;
+            }
+        }
+        check(read == 5, "discarded and unfinished matches dropped");
+        check(same, "features, mask, action and outcome survive");
+
+        // --- Large run: several chunks spread over several shards ---
+        System.out.println("\n=== Chunks and shards ===");
+        writer = new SelfPlayShardWriter(dir, "large", FEATURES, 50_000);
+        int total = 0;
+        for (int match = 0; match < 40; match++) {
+            write(writer, total, 5_000);
+            total += 5_000;
+            writer.endMatch(match % 2 == 0 ? 1 : -1);
+        }
+        writer.close();
+
+        List<Path> large = shards(dir, "large");
+        check(large.size() > 1, "samples split over " + large.size() + " shards");
+
+        int next = 0;
+        same = true;
+        for (Path shard : large) {
+            try (SelfPlayShardReader reader = new SelfPlayShardReader(shard)) {
+                while (reader.next(features)) {
+                    int outcome = (next / 5_000) % 2 == 0 ? 1 : -1;
+                    if (!matches(next, features, reader) || reader.getOutcome() != outcome) same = false;
+                    next++;
+                }
+            }
+        }
+        check(next == total, "all " + total + " samples read back in order");
+        check(same, "every sample intact across chunk and shard boundaries");
+
+        // --- Not a shard ---
+        System.out.println("\n=== Bad file ===");
+        Path junk = dir.resolve("junk.lvsp");
+        Files.write(junk, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 });
+        boolean rejected = false;
+        try (SelfPlayShardReader reader = new SelfPlayShardReader(junk)) {
+            reader.next(features);
+        } catch (IOException e) {
+            rejected = true;
+        }
+        check(rejected, "wrong magic rejected");
+
+        for (Path p : shards(dir, "")) Files.deleteIfExists(p);
+        Files.deleteIfExists(dir);
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Adds count samples numbered from first; sample i has features i, i+0.5, ... and mask/action derived from i
+    private static void write(SelfPlayShardWriter writer, int first, int count) {
+        float[] f = new float[FEATURES];
+        for (int i = first; i < first + count; i++) {
+            for (int k = 0; k < FEATURES; k++) f[k] = i + k * 0.5f;
+            writer.add(f, i * 3, i * 7);
+        }
+    }
+
+    private static boolean matches(int i, float[] f, SelfPlayShardReader reader) {
+        for (int k = 0; k < FEATURES; k++) {
+            if (f[k] != i + k * 0.5f) return false;
+        }
+        return reader.getMask() == i * 3 && reader.getAction() == i * 7;
+    }
+
+    // Files in dir whose name starts with prefix, in name order
+    private static List<Path> shards(Path dir, String prefix) throws IOException {
+        List<Path> files = new ArrayList<Path>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, prefix + "*")) {
+            for (Path p : ds) files.add(p);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
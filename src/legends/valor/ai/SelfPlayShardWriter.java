@@ -0,0 +1,186 @@
+/**
+ * File: SelfPlayShardWriter.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Writes self-play decision samples into chunked, compressed binary shards.
+ *
+ * Responsibilities:
+ *   - Append one fixed-size record per hero decision without allocating
+ *   - Fill in the match outcome of a match's records once the match ends
+ *   - Deflate finished matches in chunks and append them to the current shard
+ *   - Start a new shard file after a fixed number of samples
+ *
+ * Shard layout (big-endian):
+ *   int MAGIC, int VERSION, int featureCount, then chunks of
+ *   int samples, int rawBytes, int packedBytes, packedBytes of deflated records
+ *
+ * Record layout:
+ *   float[featureCount] features (ValorFeatureEncoder layout), int action
+ *   mask (ValorAction.maskBit), int chosen action (ValorAction encoding),
+ *   byte outcome (1 heroes won, -1 monsters won, 0 unfinished)
+ *
+ * A chunk only ever holds finished matches, so every record in a shard has
+ * its outcome. One writer belongs to one worker thread.
+ */
+package legends.valor.ai;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+public class SelfPlayShardWriter implements Closeable {
+
+    static final int MAGIC = 0x4C565350;   // "LVSP"
+    static final int VERSION = 2;
+
+    // Samples per shard file before a new one is started
+    public static final int DEFAULT_SHARD_SAMPLES = 1 << 20;
+
+    // Raw bytes collected before a chunk is compressed and written
+    private static final int CHUNK_BYTES = 1 << 20;
+
+    private final Path dir;
+    private final String prefix;
+    private final int featureCount;
+    private final int recordBytes;
+    private final int shardSamples;
+
+    // Raw records of finished matches, followed by the running match
+    private ByteBuffer chunk;
+    private int matchStart = 0;
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private byte[] packed = new byte[CHUNK_BYTES];
+    private final ByteBuffer chunkHeader = ByteBuffer.allocate(12);
+
+    private FileChannel out;
+    private int shardIndex = 0;
+    private long shardCount = 0;
+    private long totalSamples = 0;
+    private long totalBytes = 0;
+
+    public SelfPlayShardWriter(Path dir, String prefix, int featureCount) {
+        this(dir, prefix, featureCount, DEFAULT_SHARD_SAMPLES);
+    }
+
+    public SelfPlayShardWriter(Path dir, String prefix, int featureCount, int shardSamples) {
+        this.dir = dir;
+        this.prefix = prefix;
+        this.featureCount = featureCount;
+        this.recordBytes = 4 * featureCount + 9;
+        this.shardSamples = Math.max(1, shardSamples);
+        this.chunk = ByteBuffer.allocate(CHUNK_BYTES + 64 * recordBytes);
+    }
+
+    public int getFeatureCount() { return featureCount; }
+    public long getTotalSamples() { return totalSamples; }
+    public long getTotalBytes() { return totalBytes; }
+
+    /**
+     * Appends a sample of the running match (its outcome is set by endMatch).
+     */
+    public void add(float[] features, int mask, int action) {
+        if (chunk.remaining() < recordBytes) grow();
+        for (int i = 0; i < featureCount; i++) chunk.putFloat(features[i]);
+        chunk.putInt(mask).putInt(action).put((byte) 0);
+    }
+
+    /**
+     * Sets the outcome of the running match's samples and writes a chunk when enough is collected.
+     */
+    public void endMatch(int outcome) throws IOException {
+        int end = chunk.position();
+        for (int p = matchStart + recordBytes - 1; p < end; p += recordBytes) {
+            chunk.put(p, (byte) outcome);
+        }
+        matchStart = end;
+        if (end >= CHUNK_BYTES) flush();
+    }
+
+    /**
+     * Drops the samples of the running match (e.g. after it failed).
+     */
+    public void discardMatch() {
+        chunk.position(matchStart);
+    }
+
+    // Compresses the finished matches into one chunk of the current shard
+    private void flush() throws IOException {
+        int raw = matchStart;
+        if (raw == 0) return;
+        if (out == null) openShard();
+
+        deflater.reset();
+        deflater.setInput(chunk.array(), 0, raw);
+        deflater.finish();
+        int n = 0;
+        while (!deflater.finished()) {
+            if (n == packed.length) packed = Arrays.copyOf(packed, packed.length * 2);
+            n += deflater.deflate(packed, n, packed.length - n);
+        }
+
+        int samples = raw / recordBytes;
+        chunkHeader.clear();
+        chunkHeader.putInt(samples).putInt(raw).putInt(n).flip();
+        write(chunkHeader);
+        write(ByteBuffer.wrap(packed, 0, n));
+
+        // Keep the running match's records at the front
+        int rest = chunk.position() - raw;
+        System.arraycopy(chunk.array(), raw, chunk.array(), 0, rest);
+        chunk.position(rest);
+        matchStart = 0;
+
+        shardCount += samples;
+        totalSamples += samples;
+        if (shardCount >= shardSamples) closeShard();
+    }
+
+    private void openShard() throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve(String.format("%s-%05d.lvsp", prefix, shardIndex++));
+        out = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(12);
+        header.putInt(MAGIC).putInt(VERSION).putInt(featureCount).flip();
+        write(header);
+        shardCount = 0;
+    }
+
+    private void closeShard() throws IOException {
+        if (out == null) return;
+        out.close();
+        out = null;
+    }
+
+    private void write(ByteBuffer buf) throws IOException {
+        totalBytes += buf.remaining();
+        while (buf.hasRemaining()) out.write(buf);
+    }
+
+    // Doubles the chunk buffer (only a very long match outgrows it)
+    private void grow() {
+        ByteBuffer bigger = ByteBuffer.allocate(chunk.capacity() * 2);
+        chunk.flip();
+        bigger.put(chunk);
+        chunk = bigger;
+    }
+
+    /**
+     * Writes the finished matches and closes the shard; unfinished samples are dropped.
+     */
+    @Override
+    public void close() throws IOException {
+        discardMatch();
+        flush();
+        closeShard();
+        deflater.end();
+    }
+}
@@ -0,0 +1,330 @@
+/**
+ * File: ValorExpectimaxPlanner.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Chooses a hero's action with an anytime expectimax search under a hard deadline.
+ *
+ * Responsibilities:
+ *   - Capture the live board once per decision into a ValorSimState
+ *   - Offer exactly the actions ValorActionGenerator reports as legal at the root
+ *   - Search hero plies as max nodes; every dodge roll of a hero attack or of
+ *     the monster phase that follows the last hero is a chance node weighted
+ *     by the dodge chance (see ChanceRolls)
+ *   - Prune with alpha-beta bounds at max nodes and Star1 bounds at chance
+ *     nodes (values are in [0, 1], so a chance node can stop once the rest of
+ *     its probability mass cannot change the result)
+ *   - Order moves: remembered best move, then attacks, then steps into cells
+ *     no monster can hit right now (the board's ThreatMap), then the rest
+ *   - Deepen one hero ply at a time until the deadline and play the best
+ *     action of the deepest search that got far enough
+ *
+ * A lighter alternative to ValorMctsPlanner: single-threaded, deterministic
+ * and without playouts; leaves are scored by ValorSimState.evaluate. Monsters
+ * follow the ValorSimState model, so they are chance, not opponent, plies.
+ */
+package legends.valor.ai;
+
+import java.util.List;
+
+import legends.characters.EntityIntTable;
+import legends.characters.Hero;
+import legends.valor.turn.HeroMovementActions;
+import legends.valor.turn.ValorAction;
+import legends.valor.turn.ValorActionBuffer;
+import legends.valor.turn.ValorActionGenerator;
+import legends.valor.world.ThreatMap;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorMovement;
+
+public class ValorExpectimaxPlanner {
+
+    // Default thinking time per decision
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    // Deepest search in hero plies
+    public static final int DEFAULT_MAX_DEPTH = 12;
+
+    // The clock is read once per this many nodes
+    private static final int CLOCK_INTERVAL = 256;
+
+    // Best-move table slots (power of two), used for move ordering only
+    private static final int TABLE_SIZE = 1 << 16;
+
+    // Move ordering scores
+    private static final int ORDER_BEST = 10000;
+    private static final int ORDER_ATTACK = 1000;
+    private static final int ORDER_SAFE_STEP = 500;
+    private static final int ORDER_STEP = 300;
+    private static final int ORDER_POTION = 200;
+    private static final int ORDER_OTHER = 100;
+
+    private final ValorBoard board;
+    private final ValorMovement movement;
+
+    // Heroes in party (turn) order
+    private final List<Hero> heroes;
+
+    // Home lane per hero, bound the first time the hero is seen on the board
+    private final EntityIntTable homeLane = new EntityIntTable(-1);
+
+    private final ValorActionGenerator generator;
+    private final ValorActionBuffer rootActions = new ValorActionBuffer();
+
+    private long budgetNanos = DEFAULT_BUDGET_MILLIS * 1_000_000L;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+
+    // Per-ply scratch (state, chance rolls, ordered moves), reused across decisions
+    private ValorSimState[] states = new ValorSimState[0];
+    private ChanceRolls[] rolls = new ChanceRolls[0];
+    private int[][] moves = new int[0][];
+    private int[][] scores = new int[0][];
+    private final ValorActionBuffer buf = new ValorActionBuffer();
+
+    // Best action per position hash from earlier iterations
+    private final long[] bestKeys = new long[TABLE_SIZE];
+    private final int[] bestMoves = new int[TABLE_SIZE];
+
+    // Search control
+    private long deadline;
+    private boolean timedOut;
+    private long nodes;
+
+    // Figures from the last decision
+    private long lastNodes = 0;
+    private long lastNanos = 0;
+    private int lastDepth = 0;
+    private double lastValue = 0;
+
+    public ValorExpectimaxPlanner(ValorBoard board, ValorMovement movement, List<Hero> heroes) {
+        if (board == null || movement == null || heroes == null) {
+            throw new IllegalArgumentException("Board, movement and heroes are required");
+        }
+        this.board = board;
+        this.movement = movement;
+        this.heroes = heroes;
+        this.generator = new ValorActionGenerator(board, movement, homeLane);
+    }
+
+    public void setTimeBudgetMillis(long millis) {
+        this.budgetNanos = Math.max(1, millis) * 1_000_000L;
+    }
+
+    public void setMaxDepth(int plies) {
+        this.maxDepth = Math.max(1, plies);
+    }
+
+    public long getLastNodes() { return lastNodes; }
+    public long getLastNanos() { return lastNanos; }
+    public int getLastDepth() { return lastDepth; }
+    public double getLastValue() { return lastValue; }
+
+    /**
+     * Searches for the best action of the given hero on the live board.
+     * Returns when the deadline passes or the maximum depth is searched.
+     *
+     * @return an encoded ValorAction that ValorActionGenerator considers legal
+     */
+    public int chooseAction(Hero hero) {
+        long start = System.nanoTime();
+        HeroMovementActions.bindHomeLanes(board, homeLane, heroes);
+
+        generator.generate(hero, rootActions);
+        lastNodes = 0;
+        lastDepth = 0;
+        lastValue = 0;
+        if (rootActions.size() == 1) {
+            lastNanos = System.nanoTime() - start;
+            return rootActions.get(0);
+        }
+
+        ValorSimState root = ValorSimState.capture(board, heroes, homeLane, hero);
+        ensurePlies(maxDepth + 1, root);
+        states[0].copyFrom(root);
+
+        deadline = start + budgetNanos;
+        timedOut = false;
+        nodes = 0;
+
+        // Root moves in search order; the previous iteration's best goes first
+        int n = rootActions.size();
+        int[] order = new int[n];
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = rootActions.get(i);
+            rank[i] = orderScore(states[0], order[i]);
+        }
+        sort(order, rank, n);
+
+        int best = order[0];
+        for (int depth = 1; depth <= maxDepth && !timedOut; depth++) {
+            int iterationBest = -1;
+            double alpha = -1;
+            for (int i = 0; i < n; i++) {
+                double v = chance(states[0], order[i], depth, 0, alpha, 2);
+                if (timedOut) break;
+                if (v > alpha) {
+                    alpha = v;
+                    iterationBest = i;
+                }
+            }
+            if (iterationBest < 0) break;
+
+            // A partly searched iteration still counts: its first move was the previous best
+            best = order[iterationBest];
+            lastValue = alpha;
+            lastDepth = depth;
+
+            int moved = order[iterationBest];
+            System.arraycopy(order, 0, order, 1, iterationBest);
+            order[0] = moved;
+            if (alpha >= 1.0) break;
+        }
+
+        lastNodes = nodes;
+        lastNanos = System.nanoTime() - start;
+        return best;
+    }
+
+    // ---------- Search ----------
+
+    // Max node: the hero to move in s picks the action with the highest expected value
+    private double search(ValorSimState s, int depth, int ply, double alpha, double beta) {
+        if (s.isOver() || depth == 0) return s.evaluate();
+        if (++nodes % CLOCK_INTERVAL == 0 && System.nanoTime() >= deadline) timedOut = true;
+        if (timedOut) return 0;
+
+        s.legalActions(buf);
+        int n = buf.size();
+        if (moves[ply].length < n) {
+            moves[ply] = new int[n * 2];
+            scores[ply] = new int[n * 2];
+        }
+        int[] m = moves[ply];
+        int[] sc = scores[ply];
+        long key = s.hash();
+        int slot = slot(key);
+        int remembered = (bestKeys[slot] == key) ? bestMoves[slot] : -1;
+        for (int i = 0; i < n; i++) {
+            m[i] = buf.get(i);
+            sc[i] = (m[i] == remembered) ? ORDER_BEST : orderScore(s, m[i]);
+        }
+        sort(m, sc, n);
+
+        double best = -1;
+        int bestMove = m[0];
+        for (int i = 0; i < n; i++) {
+            double v = chance(s, m[i], depth, ply, Math.max(alpha, best), beta);
+            if (timedOut) return 0;
+            if (v > best) {
+                best = v;
+                bestMove = m[i];
+                if (best >= beta) break;
+            }
+        }
+
+        bestKeys[slot] = key;
+        bestMoves[slot] = bestMove;
+        return best;
+    }
+
+    // Chance node: expected value of playing the action in s over all dodge outcomes
+    private double chance(ValorSimState s, int action, int depth, int ply, double alpha, double beta) {
+        ChanceRolls r = rolls[ply];
+        ValorSimState child = states[ply + 1];
+
+        double sum = 0, mass = 0;
+        r.start();
+        do {
+            child.copyFrom(s);
+            r.begin();
+            child.apply(action, r);
+            double p = r.probability();
+            if (p <= 0) continue;
+
+            // Star1 window: what this branch must score to move the result past alpha / beta
+            double rest = Math.max(0, 1.0 - mass - p);
+            double lo = Math.max(0, (alpha - sum - rest) / p);
+            double hi = Math.min(1, (beta - sum) / p);
+
+            double v = search(child, depth - 1, ply + 1, lo, hi);
+            if (timedOut) return 0;
+            sum += p * v;
+            mass += p;
+
+            if (sum >= beta) return sum;
+            if (sum + (1.0 - mass) <= alpha) return sum + (1.0 - mass);
+        } while (r.advance());
+
+        return sum;
+    }
+
+    // ---------- Move ordering ----------
+
+    // Attacks first, then steps to cells no monster can hit now, then other steps, potions, the rest
+    private int orderScore(ValorSimState s, int action) {
+        switch (ValorAction.kind(action)) {
+            case ValorAction.ATTACK:
+            case ValorAction.CAST_SPELL:
+                return ORDER_ATTACK;
+            case ValorAction.MOVE: {
+                ValorDirection d = ValorAction.direction(action);
+                int h = s.getToMove();
+                int tr = s.getHeroRow(h) + d.deltaRow(), tc = s.getHeroCol(h) + d.deltaCol();
+                int bonus = (d == ValorDirection.NORTH) ? 20 : (d == ValorDirection.SOUTH) ? 0 : 10;
+                if (!board.inBounds(tr, tc)) return ORDER_STEP + bonus;
+
+                ThreatMap threat = board.getThreatMap();
+                if (threat.getMonsterCount(tr, tc) == 0) return ORDER_SAFE_STEP + bonus;
+                int hurt = (int) Math.min(ORDER_STEP - ORDER_POTION - 30, threat.getMonsterDamage(tr, tc) / 10);
+                return ORDER_STEP + bonus - hurt;
+            }
+            case ValorAction.USE_POTION:
+                return ORDER_POTION;
+            default:
+                return ORDER_OTHER;
+        }
+    }
+
+    // Insertion sort by descending score (move lists are short)
+    private static void sort(int[] actions, int[] score, int n) {
+        for (int i = 1; i < n; i++) {
+            int a = actions[i], s = score[i];
+            int k = i;
+            while (k > 0 && score[k - 1] < s) {
+                actions[k] = actions[k - 1];
+                score[k] = score[k - 1];
+                k--;
+            }
+            actions[k] = a;
+            score[k] = s;
+        }
+    }
+
+    private static int slot(long key) {
+        return (int) (key ^ (key >>> 32)) & (TABLE_SIZE - 1);
+    }
+
+    // ---------- Setup ----------
+
+    // Grows the per-ply scratch to the given number of plies (shaped like this root)
+    private void ensurePlies(int plies, ValorSimState root) {
+        if (states.length < plies + 1) {
+            states = new ValorSimState[plies + 1];
+            rolls = new ChanceRolls[plies + 1];
+            moves = new int[plies + 1][];
+            scores = new int[plies + 1][];
+            for (int i = 0; i <= plies; i++) rolls[i] = new ChanceRolls();
+        }
+
+        // States share the captured root's read-only data, so they are rebuilt per decision
+        for (int i = 0; i < states.length; i++) {
+            states[i] = root.copy();
+            if (moves[i] == null) {
+                moves[i] = new int[32];
+                scores[i] = new int[32];
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * File: ValorFeatureEncoder.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Writes a Valor position as a fixed-layout vector of floats for learned
+ *   evaluators and linear heuristics.
+ *
+ * Responsibilities:
+ *   - Read the live board in one pass over its tiles, allocating nothing
+ *   - Fill per-cell planes (occupancy, monster figures, terrain one-hot)
+ *   - Fill a block of figures per party slot and the round number
+ *   - Write into a float[] (at any offset) or a FloatBuffer
+ *
+ * Layout (index = plane * rows * cols + row * cols + col for the planes):
+ *   planes  PLANE_HERO, PLANE_MONSTER          1 if the cell holds a hero / monster
+ *           PLANE_MONSTER_HP                   monster HP / (level * 100)
+ *           PLANE_MONSTER_DAMAGE               monster damage / 1000
+ *           PLANE_MONSTER_DEFENSE              monster defense / 1000
+ *           PLANE_MONSTER_DODGE                monster dodge chance (0..1)
+ *           PLANE_TERRAIN + type.ordinal()     1 on cells of that ValorCellType
+ *   then HERO_SLOTS blocks of HERO_FEATURES (see the HERO_* offsets), in party order
+ *   then round / 100
+ *
+ * Every value is written on every call, so buffers can be reused without
+ * clearing. One encoder belongs to one board and one thread.
+ */
+package legends.valor.ai;
+
+import java.nio.FloatBuffer;
+import java.util.List;
+
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorTile;
+
+public class ValorFeatureEncoder {
+
+    private static final ValorCellType[] CELL_TYPES = ValorCellType.values();
+
+    // Per-cell planes
+    public static final int PLANE_HERO = 0;
+    public static final int PLANE_MONSTER = 1;
+    public static final int PLANE_MONSTER_HP = 2;
+    public static final int PLANE_MONSTER_DAMAGE = 3;
+    public static final int PLANE_MONSTER_DEFENSE = 4;
+    public static final int PLANE_MONSTER_DODGE = 5;
+    public static final int PLANE_TERRAIN = 6;
+    public static final int PLANES = PLANE_TERRAIN + CELL_TYPES.length;
+
+    // Party slots (party size) and the offsets inside one slot
+    public static final int HERO_SLOTS = 3;
+    public static final int HERO_PRESENT = 0;     // alive and on the board
+    public static final int HERO_HP = 1;          // HP / (level * 100)
+    public static final int HERO_MP = 2;          // MP / (level * 50)
+    public static final int HERO_LEVEL = 3;       // level / 10
+    public static final int HERO_STRENGTH = 4;    // / 1000
+    public static final int HERO_DEXTERITY = 5;   // / 1000
+    public static final int HERO_AGILITY = 6;     // / 1000
+    public static final int HERO_ATTACK = 7;      // attack damage / 1000
+    public static final int HERO_DODGE = 8;       // dodge chance (0..1)
+    public static final int HERO_ROW = 9;         // row / (rows - 1)
+    public static final int HERO_COL = 10;        // col / (cols - 1)
+    public static final int HERO_TO_MOVE = 11;    // 1 for the hero whose turn it is
+    public static final int HERO_FEATURES = 12;
+
+    // Scale of the raw stat values in the data files
+    private static final float STAT_SCALE = 1f / 1000f;
+
+    private final ValorBoard board;
+    private final int rows;
+    private final int cols;
+    private final int cells;
+    private final int heroBase;
+    private final int size;
+
+    // Party in slot order (null for empty slots)
+    private final Hero[] heroes = new Hero[HERO_SLOTS];
+
+    // Cell of each slot's hero found during the current pass (-1 if off the board)
+    private final int[] heroCell = new int[HERO_SLOTS];
+
+    // Used only for FloatBuffers without an accessible array
+    private float[] scratch;
+
+    public ValorFeatureEncoder(ValorBoard board, List<Hero> party) {
+        this.board = board;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        this.cells = rows * cols;
+        this.heroBase = PLANES * cells;
+        this.size = size(rows, cols);
+        for (int i = 0; i < HERO_SLOTS && i < party.size(); i++) heroes[i] = party.get(i);
+    }
+
+    /**
+     * Number of floats per position on a board of the given size.
+     */
+    public static int size(int rows, int cols) {
+        return PLANES * rows * cols + HERO_SLOTS * HERO_FEATURES + 1;
+    }
+
+    public int size() { return size; }
+
+    /**
+     * Index of a plane value in the output.
+     */
+    public int planeIndex(int plane, int row, int col) {
+        return plane * cells + row * cols + col;
+    }
+
+    /**
+     * Index of a hero slot value in the output.
+     */
+    public int heroIndex(int slot, int feature) {
+        return heroBase + slot * HERO_FEATURES + feature;
+    }
+
+    public void encode(Hero toMove, int round, float[] out) {
+        encode(toMove, round, out, 0);
+    }
+
+    /**
+     * Writes the position into out[offset .. offset + size()).
+     */
+    public void encode(Hero toMove, int round, float[] out, int offset) {
+        for (int i = 0; i < HERO_SLOTS; i++) heroCell[i] = -1;
+
+        int k = offset;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++, k++) {
+                ValorTile tile = board.getTile(r, c);
+                int type = tile.getType().ordinal();
+                for (int t = 0; t < CELL_TYPES.length; t++) {
+                    out[k + (PLANE_TERRAIN + t) * cells] = (t == type) ? 1f : 0f;
+                }
+
+                Hero h = tile.getHero();
+                out[k + PLANE_HERO * cells] = (h == null) ? 0f : 1f;
+                if (h != null) {
+                    for (int i = 0; i < HERO_SLOTS; i++) {
+                        if (heroes[i] == h) heroCell[i] = r * cols + c;
+                    }
+                }
+
+                Monster m = tile.getMonster();
+                if (m == null) {
+                    out[k + PLANE_MONSTER * cells] = 0f;
+                    out[k + PLANE_MONSTER_HP * cells] = 0f;
+                    out[k + PLANE_MONSTER_DAMAGE * cells] = 0f;
+                    out[k + PLANE_MONSTER_DEFENSE * cells] = 0f;
+                    out[k + PLANE_MONSTER_DODGE * cells] = 0f;
+                } else {
+                    out[k + PLANE_MONSTER * cells] = 1f;
+                    out[k + PLANE_MONSTER_HP * cells] = (float) (m.getHP() / (m.getLevel() * 100.0));
+                    out[k + PLANE_MONSTER_DAMAGE * cells] = (float) m.getDamage() * STAT_SCALE;
+                    out[k + PLANE_MONSTER_DEFENSE * cells] = (float) m.getDefense() * STAT_SCALE;
+                    out[k + PLANE_MONSTER_DODGE * cells] = (float) m.getDodgeChance();
+                }
+            }
+        }
+
+        k = offset + heroBase;
+        for (int i = 0; i < HERO_SLOTS; i++, k += HERO_FEATURES) {
+            writeHero(heroes[i], heroCell[i], heroes[i] != null && heroes[i] == toMove, out, k);
+        }
+        out[k] = round / 100f;
+    }
+
+    /**
+     * Writes the position at the buffer's position and advances it by size().
+     */
+    public void encode(Hero toMove, int round, FloatBuffer out) {
+        if (out.hasArray()) {
+            encode(toMove, round, out.array(), out.arrayOffset() + out.position());
+            out.position(out.position() + size);
+            return;
+        }
+
+        if (scratch == null) scratch = new float[size];
+        encode(toMove, round, scratch, 0);
+        out.put(scratch);
+    }
+
+    // One party slot; figures are zero for an empty slot or a fainted hero
+    private void writeHero(Hero h, int cell, boolean toMove, float[] out, int k) {
+        if (h == null || h.getHP() <= 0 || cell < 0) {
+            for (int f = 0; f < HERO_FEATURES; f++) out[k + f] = 0f;
+            return;
+        }
+
+        int level = Math.max(1, h.getLevel());
+        out[k + HERO_PRESENT] = 1f;
+        out[k + HERO_HP] = (float) (h.getHP() / (level * 100.0));
+        out[k + HERO_MP] = (float) (h.getMP() / (level * 50.0));
+        out[k + HERO_LEVEL] = level / 10f;
+        out[k + HERO_STRENGTH] = (float) h.getStrength() * STAT_SCALE;
+        out[k + HERO_DEXTERITY] = (float) h.getDexterity() * STAT_SCALE;
+        out[k + HERO_AGILITY] = (float) h.getAgility() * STAT_SCALE;
+        out[k + HERO_ATTACK] = (float) h.getAttackDamage() * STAT_SCALE;
+        out[k + HERO_DODGE] = (float) h.getDodgeChance();
+        out[k + HERO_ROW] = (rows > 1) ? (cell / cols) / (float) (rows - 1) : 0f;
+        out[k + HERO_COL] = (cols > 1) ? (cell % cols) / (float) (cols - 1) : 0f;
+        out[k + HERO_TO_MOVE] = toMove ? 1f : 0f;
+    }
+}
@@ -0,0 +1,457 @@
+/**
+ * File: ValorMctsPlanner.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Chooses a hero's action with Monte Carlo tree search under a time budget.
+ *
+ * Responsibilities:
+ *   - Capture the live board once per decision into a ValorSimState
+ *   - Offer exactly the actions ValorActionGenerator reports as legal at the root
+ *   - Run UCT iterations from cheap state copies until the per-decision deadline
+ *   - Share statistics between transposed positions through a hash-keyed table
+ *   - Search with one independent tree per worker (root parallelism) and merge
+ *     the root visit counts; the most-visited action is played
+ *   - Play solved lane endgames from an optional LaneTablebase without searching
+ *   - Answer early-game positions from an optional OpeningBook and record new ones
+ *
+ * Each iteration copies the root state (array copies only), descends the tree
+ * with UCB1, adds one new node and finishes with a short playout (attack when
+ * possible, otherwise mostly advance north). Playouts stop after a few rounds
+ * and are scored by ValorSimState.evaluate. More cores and a longer budget
+ * both mean more playouts per decision.
+ */
+package legends.valor.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import legends.characters.EntityIntTable;
+import legends.characters.Hero;
+import legends.valor.turn.HeroMovementActions;
+import legends.valor.turn.ValorAction;
+import legends.valor.turn.ValorActionBuffer;
+import legends.valor.turn.ValorActionGenerator;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorMovement;
+
+public class ValorMctsPlanner {
+
+    // Default thinking time per decision
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    // UCB1 exploration constant (values are in [0, 1])
+    private static final double EXPLORATION = 1.4;
+
+    // Playouts look this many rounds ahead before evaluating
+    private static final int DEFAULT_HORIZON_ROUNDS = 3;
+
+    // Transposition table slots per worker (power of two)
+    private static final int TABLE_SIZE = 1 << 16;
+
+    // Playout policy: chance to take an available attack / to step north
+    private static final double ROLLOUT_ATTACK_CHANCE = 0.85;
+    private static final double ROLLOUT_ADVANCE_CHANCE = 0.60;
+
+    private final ValorBoard board;
+    private final ValorMovement movement;
+
+    // Heroes in party (turn) order
+    private final List<Hero> heroes;
+
+    // Home lane per hero, bound the first time the hero is seen on the board
+    private final EntityIntTable homeLane = new EntityIntTable(-1);
+
+    private final ValorActionGenerator generator;
+    private final ValorActionBuffer rootActions = new ValorActionBuffer();
+
+    private long budgetNanos = DEFAULT_BUDGET_MILLIS * 1_000_000L;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int horizonRounds = DEFAULT_HORIZON_ROUNDS;
+
+    // Fixed iteration count per worker instead of the deadline (0 = use the deadline)
+    private int iterationLimit = 0;
+
+    // Base seed for the per-worker RNG streams
+    private long seed = new Random().nextLong();
+    private long decisions = 0;
+
+    // Workers are kept so their tables and buffers are reused across decisions
+    private final List<Worker> workers = new ArrayList<Worker>();
+
+    // Solved lane endgames, probed before searching (null = always search)
+    private LaneTablebase tablebase;
+
+    // Early-game book and the number of decisions made so far (book plies)
+    private OpeningBook book;
+    private int plies = 0;
+
+    // Figures from the last decision
+    private long lastPlayouts = 0;
+    private long lastNanos = 0;
+    private boolean lastFromTablebase = false;
+    private boolean lastFromBook = false;
+
+    public ValorMctsPlanner(ValorBoard board, ValorMovement movement, List<Hero> heroes) {
+        if (board == null || movement == null || heroes == null) {
+            throw new IllegalArgumentException("Board, movement and heroes are required");
+        }
+        this.board = board;
+        this.movement = movement;
+        this.heroes = heroes;
+        this.generator = new ValorActionGenerator(board, movement, homeLane);
+    }
+
+    public void setTimeBudgetMillis(long millis) {
+        this.budgetNanos = Math.max(1, millis) * 1_000_000L;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    public void setHorizonRounds(int rounds) {
+        this.horizonRounds = Math.max(1, rounds);
+    }
+
+    /**
+     * Runs exactly this many iterations per worker (still capped by the time
+     * budget). With one thread and a fixed seed, decisions become repeatable.
+     */
+    public void setIterationLimit(int iterations) {
+        this.iterationLimit = Math.max(0, iterations);
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.decisions = 0;
+    }
+
+    /**
+     * Plays solved lane endgames straight from the tablebase instead of searching.
+     */
+    public void setTablebase(LaneTablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * Answers the first book.getMaxPlies() decisions from the opening book
+     * when it knows the position, and records the searched ones.
+     */
+    public void setOpeningBook(OpeningBook book) {
+        this.book = book;
+    }
+
+    public OpeningBook getOpeningBook() { return book; }
+
+    public long getLastPlayouts() { return lastPlayouts; }
+    public long getLastNanos() { return lastNanos; }
+    public boolean isLastFromTablebase() { return lastFromTablebase; }
+    public boolean isLastFromBook() { return lastFromBook; }
+
+    /**
+     * Searches for the best action of the given hero on the live board.
+     *
+     * @return an encoded ValorAction that ValorActionGenerator considers legal
+     */
+    public int chooseAction(Hero hero) {
+        long start = System.nanoTime();
+        HeroMovementActions.bindHomeLanes(board, homeLane, heroes);
+
+        generator.generate(hero, rootActions);
+        lastPlayouts = 0;
+        lastFromTablebase = false;
+        lastFromBook = false;
+        boolean inBook = book != null && plies++ < book.getMaxPlies();
+        if (rootActions.size() == 1) {
+            lastNanos = System.nanoTime() - start;
+            return rootActions.get(0);
+        }
+
+        if (tablebase != null) {
+            int solved = tablebase.probe(board, hero);
+            if (solved != LaneTablebase.MISS && rootActions.contains(solved)) {
+                lastFromTablebase = true;
+                lastNanos = System.nanoTime() - start;
+                return solved;
+            }
+        }
+
+        long bookKey = 0;
+        if (inBook) {
+            bookKey = OpeningBook.key(board, hero);
+            int known = book.lookup(bookKey);
+            if (known != OpeningBook.MISS && rootActions.contains(known)) {
+                lastFromBook = true;
+                lastNanos = System.nanoTime() - start;
+                return known;
+            }
+        }
+
+        ValorSimState root = ValorSimState.capture(board, heroes, homeLane, hero);
+        long deadline = start + budgetNanos;
+        decisions++;
+
+        while (workers.size() < threads) workers.add(new Worker());
+        List<Worker> active = workers.subList(0, threads);
+        for (int w = 0; w < threads; w++) {
+            active.get(w).prepare(root, workerSeed(w), deadline);
+        }
+
+        if (threads == 1) {
+            active.get(0).call();
+        } else {
+            runParallel(active);
+        }
+
+        // Merge the root statistics of all trees
+        int n = rootActions.size();
+        long[] visits = new long[n];
+        double[] value = new double[n];
+        for (Worker w : active) {
+            lastPlayouts += w.playouts;
+            for (int i = 0; i < n; i++) {
+                visits[i] += w.root.visits[i];
+                value[i] += w.root.value[i];
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < n; i++) {
+            if (visits[i] > visits[best]) best = i;
+            else if (visits[i] == visits[best] && value[i] > value[best]) best = i;
+        }
+
+        if (inBook) book.record(bookKey, rootActions.get(best), lastPlayouts);
+
+        lastNanos = System.nanoTime() - start;
+        return rootActions.get(best);
+    }
+
+    // Mixes the base seed, decision number and worker index into one RNG seed
+    private long workerSeed(int worker) {
+        long x = seed + decisions * 0x9E3779B97F4A7C15L + worker * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    // Runs every worker on the common pool and rethrows the first failure
+    private void runParallel(List<Worker> active) {
+        List<Future<Void>> done = ForkJoinPool.commonPool().invokeAll(active);
+        for (Future<Void> f : done) {
+            try {
+                f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Search failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Search statistics of one position: per action visit counts and summed values.
+     */
+    private static final class Node {
+
+        final int[] actions;
+        final int[] visits;
+        final double[] value;
+        int total = 0;
+
+        Node(ValorActionBuffer buf) {
+            actions = new int[buf.size()];
+            for (int i = 0; i < actions.length; i++) actions[i] = buf.get(i);
+            visits = new int[actions.length];
+            value = new double[actions.length];
+        }
+
+        // Untried actions first (from a random offset), then UCB1
+        int select(Random rng) {
+            int n = actions.length;
+            int offset = rng.nextInt(n);
+            for (int k = 0; k < n; k++) {
+                int i = (offset + k) % n;
+                if (visits[i] == 0) return i;
+            }
+
+            double logTotal = Math.log(total);
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                double s = value[i] / visits[i] + EXPLORATION * Math.sqrt(logTotal / visits[i]);
+                if (s > bestScore) {
+                    bestScore = s;
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Open-addressing map from position hash to Node. Nothing is ever removed;
+     * once three quarters full, new positions are simply not stored.
+     */
+    private static final class TranspositionTable {
+
+        private final long[] keys = new long[TABLE_SIZE];
+        private final Node[] nodes = new Node[TABLE_SIZE];
+        private int size = 0;
+
+        Node get(long key) {
+            int i = slot(key);
+            while (nodes[i] != null) {
+                if (keys[i] == key) return nodes[i];
+                i = (i + 1) & (TABLE_SIZE - 1);
+            }
+            return null;
+        }
+
+        void put(long key, Node node) {
+            if (size >= TABLE_SIZE / 4 * 3) return;
+            int i = slot(key);
+            while (nodes[i] != null && keys[i] != key) i = (i + 1) & (TABLE_SIZE - 1);
+            if (nodes[i] == null) size++;
+            keys[i] = key;
+            nodes[i] = node;
+        }
+
+        void clear() {
+            Arrays.fill(nodes, null);
+            size = 0;
+        }
+
+        private int slot(long key) {
+            return (int) (key ^ (key >>> 32)) & (TABLE_SIZE - 1);
+        }
+    }
+
+    /**
+     * One independent search tree with its own table, RNG and state copy.
+     */
+    private final class Worker implements Callable<Void> {
+
+        private final TranspositionTable table = new TranspositionTable();
+        private final ValorActionBuffer buf = new ValorActionBuffer();
+        private Random rng;
+
+        private ValorSimState origin;
+        private ValorSimState sim;
+        private long deadline;
+
+        // Nodes and chosen actions along the current descent
+        private Node[] pathNode = new Node[16];
+        private int[] pathAction = new int[16];
+
+        Node root;
+        long playouts;
+
+        void prepare(ValorSimState rootState, long workerSeed, long deadline) {
+            this.origin = rootState;
+            this.sim = rootState.copy();
+            this.rng = new Random(workerSeed);
+            this.deadline = deadline;
+            this.playouts = 0;
+
+            int maxDepth = (horizonRounds + 1) * Math.max(1, rootState.getHeroCount()) + 1;
+            if (pathNode.length < maxDepth) {
+                pathNode = new Node[maxDepth];
+                pathAction = new int[maxDepth];
+            }
+
+            table.clear();
+            root = new Node(rootActions);
+            table.put(rootState.hash(), root);
+        }
+
+        @Override
+        public Void call() {
+            while (System.nanoTime() < deadline) {
+                if (iterationLimit > 0 && playouts >= iterationLimit) break;
+                iterate();
+                playouts++;
+            }
+            return null;
+        }
+
+        private void iterate() {
+            sim.copyFrom(origin);
+            int lastRound = sim.getRound() + horizonRounds;
+
+            Node node = root;
+            int depth = 0;
+            double result;
+
+            while (true) {
+                int i = node.select(rng);
+                pathNode[depth] = node;
+                pathAction[depth] = i;
+                depth++;
+                sim.apply(node.actions[i], rng);
+
+                if (sim.isOver() || sim.getRound() >= lastRound || depth == pathNode.length) {
+                    result = sim.evaluate();
+                    break;
+                }
+
+                long key = sim.hash();
+                Node next = table.get(key);
+                if (next == null) {
+                    sim.legalActions(buf);
+                    table.put(key, new Node(buf));
+                    result = rollout(lastRound);
+                    break;
+                }
+                node = next;
+            }
+
+            for (int d = 0; d < depth; d++) {
+                Node n = pathNode[d];
+                n.visits[pathAction[d]]++;
+                n.value[pathAction[d]] += result;
+                n.total++;
+            }
+        }
+
+        private double rollout(int lastRound) {
+            while (!sim.isOver() && sim.getRound() < lastRound) {
+                sim.legalActions(buf);
+                sim.apply(pickRolloutAction(), rng);
+            }
+            return sim.evaluate();
+        }
+
+        // Attack or cast when possible, otherwise mostly advance north, otherwise anything
+        private int pickRolloutAction() {
+            int n = buf.size();
+            int attacks = 0, north = -1;
+            for (int i = 0; i < n; i++) {
+                int a = buf.get(i);
+                int kind = ValorAction.kind(a);
+                if (kind == ValorAction.ATTACK || kind == ValorAction.CAST_SPELL) attacks++;
+                else if (kind == ValorAction.MOVE && ValorAction.direction(a) == ValorDirection.NORTH) north = i;
+            }
+
+            if (attacks > 0 && rng.nextDouble() < ROLLOUT_ATTACK_CHANCE) {
+                int pick = rng.nextInt(attacks);
+                for (int i = 0; i < n; i++) {
+                    int kind = ValorAction.kind(buf.get(i));
+                    if (kind != ValorAction.ATTACK && kind != ValorAction.CAST_SPELL) continue;
+                    if (pick-- == 0) return buf.get(i);
+                }
+            }
+            if (north >= 0 && rng.nextDouble() < ROLLOUT_ADVANCE_CHANCE) return buf.get(north);
+            return buf.get(rng.nextInt(n));
+        }
+    }
+}
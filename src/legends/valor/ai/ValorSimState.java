@@ -0,0 +1,784 @@
+/**
+ * File: ValorSimState.java
+ * Package: legends.valor.ai
+ *
+ * Purpose:
+ *   Compact, copyable model of a Valor match used by search-based hero AIs.
+ *
+ * Responsibilities:
+ *   - Capture heroes, monsters and terrain from the live board into primitive arrays
+ *   - Copy itself cheaply (array copies only, no allocation) for playouts
+ *   - Generate and apply encoded ValorAction moves for the hero to act
+ *   - Run a simplified monster phase and the end-of-round rules
+ *   - Hash and evaluate positions for the search
+ *
+ * Model:
+ *   Heroes act in party order, then the monsters move front to back (attack
+ *   the first hero in range, otherwise step south, otherwise sidestep within
+ *   the lane). Living heroes regenerate 10% at the end of a round and fainted
+ *   heroes respawn on their home Nexus. Combat uses the ValorCombat formulas
+ *   and rolls dodges from the caller's RNG (a ChanceRolls picks them instead).
+ *   Terrain bonuses, spell debuffs and monster spawns are left out; playouts
+ *   are only a few rounds long.
+ *
+ * Data that never changes during a search (item stats, lane layout, max HP)
+ * is shared between copies; only the mutable arrays are copied.
+ */
+package legends.valor.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import legends.characters.EntityIntTable;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.items.Armor;
+import legends.items.Item;
+import legends.items.Potion;
+import legends.items.PotionAttribute;
+import legends.items.Spell;
+import legends.items.Weapon;
+import legends.valor.combat.ValorCombat;
+import legends.valor.combat.ValorDamageModel;
+import legends.valor.turn.ValorAction;
+import legends.valor.turn.ValorActionBuffer;
+import legends.valor.world.BoardGeometry;
+import legends.valor.world.BoardSnapshot;
+import legends.valor.world.BoardSnapshot.Unit;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorDirection;
+
+public class ValorSimState {
+
+    public static final int RUNNING = 0;
+    public static final int HERO_WIN = 1;
+    public static final int MONSTER_WIN = 2;
+
+    // Terrain codes per cell
+    private static final byte BLOCKED = 0;
+    private static final byte OPEN = 1;
+    private static final byte OBSTACLE = 2;
+
+    private static final ValorDirection[] DIRECTIONS = ValorDirection.values();
+
+    // HP / MP are hashed in buckets of 1/HP_BUCKETS of their maximum
+    private static final int HP_BUCKETS = 16;
+
+    // ---------- Shared, read-only data ----------
+
+    private final BoardGeometry geometry;
+    private final int rows;
+    private final int cols;
+
+    private final int heroCount;
+    private final double[] heroMaxHp;
+    private final double[] heroMaxMp;
+    private final double[] heroDodge;
+    private final int[] heroHome;
+
+    // Item stats per hero, flattened: hero h owns [xStart[h], xStart[h + 1]).
+    // Spell and weapon entries hold the damage of a landed hit (ValorDamageModel).
+    private final int[] spellStart;
+    private final double[] spellDamage;
+    private final double[] spellCost;
+    private final int[] potionStart;
+    private final double[] potionHp;
+    private final double[] potionMp;
+    private final int[] weaponStart;
+    private final double[] weaponAttack;
+    private final int[] armorStart;
+    private final double[] armorReduction;
+
+    private final int monsterCount;
+    private final double[] monsterMaxHp;
+    private final double monsterHpTotal;
+
+    // ---------- Mutable state (copied by copyFrom) ----------
+
+    private final byte[] terrain;
+    private final int[] heroAt;       // hero index per cell, or -1
+    private final int[] monsterAt;    // monster index per cell, or -1
+
+    private final int[] heroRow;      // -1 while fainted / off the board
+    private final int[] heroCol;
+    private final double[] heroHp;
+    private final double[] heroMp;
+    private final double[] heroAttack;
+    private final double[] heroArmor;
+    private final boolean[] potionUsed;
+
+    private final int[] monsterRow;   // -1 once slain
+    private final int[] monsterCol;
+    private final double[] monsterHp;
+    private final double[] monsterHit;   // damage of a landed hit, before armor
+    private final double[] monsterDodge;
+
+    private int toMove;
+    private int round;
+    private int outcome;
+    private long terrainHash;
+
+    // Scratch order for the monster phase (not part of the state)
+    private final int[] order;
+
+    private ValorSimState(BoardSnapshot snap, List<Hero> heroes, List<Unit> monsters, EntityIntTable homeLane) {
+        this.geometry = snap.getGeometry();
+        this.rows = snap.getRows();
+        this.cols = snap.getCols();
+        this.heroCount = heroes.size();
+        this.monsterCount = monsters.size();
+
+        heroMaxHp = new double[heroCount];
+        heroMaxMp = new double[heroCount];
+        heroDodge = new double[heroCount];
+        heroHome = new int[heroCount];
+        heroRow = new int[heroCount];
+        heroCol = new int[heroCount];
+        heroHp = new double[heroCount];
+        heroMp = new double[heroCount];
+        heroAttack = new double[heroCount];
+        heroArmor = new double[heroCount];
+
+        spellStart = new int[heroCount + 1];
+        potionStart = new int[heroCount + 1];
+        weaponStart = new int[heroCount + 1];
+        armorStart = new int[heroCount + 1];
+
+        List<Spell> spells = new ArrayList<Spell>();
+        List<Potion> potions = new ArrayList<Potion>();
+        List<Weapon> weapons = new ArrayList<Weapon>();
+        List<Armor> armors = new ArrayList<Armor>();
+
+        for (int h = 0; h < heroCount; h++) {
+            Hero hero = heroes.get(h);
+            spellStart[h] = spells.size();
+            potionStart[h] = potions.size();
+            weaponStart[h] = weapons.size();
+            armorStart[h] = armors.size();
+            for (Item it : hero.getInventory().getItems()) {
+                if (it instanceof Spell) spells.add((Spell) it);
+                else if (it instanceof Potion) potions.add((Potion) it);
+                else if (it instanceof Weapon) weapons.add((Weapon) it);
+                else if (it instanceof Armor) armors.add((Armor) it);
+            }
+
+            heroMaxHp[h] = hero.getLevel() * 100.0;
+            heroMaxMp[h] = hero.getLevel() * 50.0;
+            heroDodge[h] = hero.getDodgeChance();
+            heroHome[h] = (homeLane == null) ? -1 : homeLane.get(hero);
+            Unit unit = snap.find(hero);
+            heroHp[h] = (unit == null) ? hero.getHP() : unit.getHP();
+            heroMp[h] = hero.getMP();
+            heroAttack[h] = ValorDamageModel.heroAttackDamage(hero);
+            heroArmor[h] = (hero.getArmor() == null) ? 0 : hero.getArmor().getReduction();
+        }
+        spellStart[heroCount] = spells.size();
+        potionStart[heroCount] = potions.size();
+        weaponStart[heroCount] = weapons.size();
+        armorStart[heroCount] = armors.size();
+
+        spellDamage = new double[spells.size()];
+        spellCost = new double[spells.size()];
+        for (int h = 0; h < heroCount; h++) {
+            for (int i = spellStart[h]; i < spellStart[h + 1]; i++) {
+                spellDamage[i] = ValorDamageModel.spellDamage(heroes.get(h), spells.get(i));
+                spellCost[i] = spells.get(i).getManaCost();
+            }
+        }
+
+        potionHp = new double[potions.size()];
+        potionMp = new double[potions.size()];
+        for (int i = 0; i < potions.size(); i++) {
+            List<PotionAttribute> attrs = potions.get(i).getAttributes();
+            if (attrs == null) continue;
+            if (attrs.contains(PotionAttribute.HEALTH)) potionHp[i] = potions.get(i).getEffectAmount();
+            if (attrs.contains(PotionAttribute.MANA)) potionMp[i] = potions.get(i).getEffectAmount();
+        }
+        potionUsed = new boolean[potions.size()];
+
+        weaponAttack = new double[weapons.size()];
+        for (int h = 0; h < heroCount; h++) {
+            for (int i = weaponStart[h]; i < weaponStart[h + 1]; i++) {
+                weaponAttack[i] = ValorDamageModel.heroAttackDamage(heroes.get(h), weapons.get(i));
+            }
+        }
+
+        armorReduction = new double[armors.size()];
+        for (int i = 0; i < armors.size(); i++) armorReduction[i] = armors.get(i).getReduction();
+
+        monsterMaxHp = new double[monsterCount];
+        monsterRow = new int[monsterCount];
+        monsterCol = new int[monsterCount];
+        monsterHp = new double[monsterCount];
+        monsterHit = new double[monsterCount];
+        monsterDodge = new double[monsterCount];
+        double total = 0;
+        for (int m = 0; m < monsterCount; m++) {
+            Unit unit = monsters.get(m);
+            monsterMaxHp[m] = Math.max(1, unit.getHP());
+            monsterHp[m] = unit.getHP();
+            monsterHit[m] = ValorDamageModel.monsterAttackDamage((Monster) unit.getEntity());
+            monsterDodge[m] = unit.getDodge();
+            total += unit.getHP();
+        }
+        monsterHpTotal = Math.max(1, total);
+
+        terrain = new byte[rows * cols];
+        heroAt = new int[rows * cols];
+        monsterAt = new int[rows * cols];
+        order = new int[monsterCount];
+    }
+
+    // Copy constructor: shares read-only data, clones the mutable arrays
+    private ValorSimState(ValorSimState src) {
+        geometry = src.geometry;
+        rows = src.rows;
+        cols = src.cols;
+        heroCount = src.heroCount;
+        heroMaxHp = src.heroMaxHp;
+        heroMaxMp = src.heroMaxMp;
+        heroDodge = src.heroDodge;
+        heroHome = src.heroHome;
+        spellStart = src.spellStart;
+        spellDamage = src.spellDamage;
+        spellCost = src.spellCost;
+        potionStart = src.potionStart;
+        potionHp = src.potionHp;
+        potionMp = src.potionMp;
+        weaponStart = src.weaponStart;
+        weaponAttack = src.weaponAttack;
+        armorStart = src.armorStart;
+        armorReduction = src.armorReduction;
+        monsterCount = src.monsterCount;
+        monsterMaxHp = src.monsterMaxHp;
+        monsterHpTotal = src.monsterHpTotal;
+
+        terrain = src.terrain.clone();
+        heroAt = src.heroAt.clone();
+        monsterAt = src.monsterAt.clone();
+        heroRow = src.heroRow.clone();
+        heroCol = src.heroCol.clone();
+        heroHp = src.heroHp.clone();
+        heroMp = src.heroMp.clone();
+        heroAttack = src.heroAttack.clone();
+        heroArmor = src.heroArmor.clone();
+        potionUsed = src.potionUsed.clone();
+        monsterRow = src.monsterRow.clone();
+        monsterCol = src.monsterCol.clone();
+        monsterHp = src.monsterHp.clone();
+        monsterHit = src.monsterHit.clone();
+        monsterDodge = src.monsterDodge.clone();
+        order = new int[monsterCount];
+
+        toMove = src.toMove;
+        round = src.round;
+        outcome = src.outcome;
+        terrainHash = src.terrainHash;
+    }
+
+    /**
+     * Captures the live board. Heroes keep the given (party) order; heroes
+     * that are fainted or off the board start out waiting for a respawn.
+     *
+     * @param toMove the hero whose turn it is (heroes before it already acted)
+     */
+    public static ValorSimState capture(ValorBoard board, List<Hero> heroes, EntityIntTable homeLane, Hero toMove) {
+        return capture(board.snapshot(), heroes, homeLane, toMove);
+    }
+
+    /**
+     * Captures a board snapshot (one consistent view, no board lock held while copying).
+     */
+    public static ValorSimState capture(BoardSnapshot snap, List<Hero> heroes, EntityIntTable homeLane, Hero toMove) {
+        List<Unit> monsters = new ArrayList<Unit>();
+        for (int i = 0; i < snap.getMonsterCount(); i++) {
+            if (snap.getMonster(i).getHP() > 0) monsters.add(snap.getMonster(i));
+        }
+
+        ValorSimState s = new ValorSimState(snap, heroes, monsters, homeLane);
+        Arrays.fill(s.heroAt, -1);
+        Arrays.fill(s.monsterAt, -1);
+
+        for (int r = 0; r < s.rows; r++) {
+            for (int c = 0; c < s.cols; c++) {
+                ValorCellType type = snap.getType(r, c);
+                int cell = r * s.cols + c;
+                if (type == ValorCellType.OBSTACLE) {
+                    s.terrain[cell] = OBSTACLE;
+                    s.terrainHash ^= mix(cell + 1L);
+                } else {
+                    s.terrain[cell] = type.isAccessible() ? OPEN : BLOCKED;
+                }
+            }
+        }
+
+        for (int h = 0; h < s.heroCount; h++) {
+            Unit u = snap.find(heroes.get(h));
+            boolean placed = u != null && u.getHP() > 0;
+            s.heroRow[h] = placed ? u.getRow() : -1;
+            s.heroCol[h] = placed ? u.getCol() : -1;
+            if (placed) s.heroAt[u.getRow() * s.cols + u.getCol()] = h;
+        }
+
+        for (int m = 0; m < s.monsterCount; m++) {
+            Unit u = monsters.get(m);
+            s.monsterRow[m] = u.getRow();
+            s.monsterCol[m] = u.getCol();
+            s.monsterAt[u.getRow() * s.cols + u.getCol()] = m;
+        }
+
+        s.toMove = Math.max(0, heroes.indexOf(toMove));
+        return s;
+    }
+
+    /**
+     * Returns an independent copy (shares only read-only data).
+     */
+    public ValorSimState copy() {
+        return new ValorSimState(this);
+    }
+
+    /**
+     * Overwrites this state with src without allocating.
+     * src must be this state's origin or another copy of it.
+     */
+    public void copyFrom(ValorSimState src) {
+        if (src.heroMaxHp != heroMaxHp) {
+            throw new IllegalArgumentException("States were captured separately");
+        }
+        System.arraycopy(src.terrain, 0, terrain, 0, terrain.length);
+        System.arraycopy(src.heroAt, 0, heroAt, 0, heroAt.length);
+        System.arraycopy(src.monsterAt, 0, monsterAt, 0, monsterAt.length);
+        System.arraycopy(src.heroRow, 0, heroRow, 0, heroCount);
+        System.arraycopy(src.heroCol, 0, heroCol, 0, heroCount);
+        System.arraycopy(src.heroHp, 0, heroHp, 0, heroCount);
+        System.arraycopy(src.heroMp, 0, heroMp, 0, heroCount);
+        System.arraycopy(src.heroAttack, 0, heroAttack, 0, heroCount);
+        System.arraycopy(src.heroArmor, 0, heroArmor, 0, heroCount);
+        System.arraycopy(src.potionUsed, 0, potionUsed, 0, potionUsed.length);
+        System.arraycopy(src.monsterRow, 0, monsterRow, 0, monsterCount);
+        System.arraycopy(src.monsterCol, 0, monsterCol, 0, monsterCount);
+        System.arraycopy(src.monsterHp, 0, monsterHp, 0, monsterCount);
+        System.arraycopy(src.monsterHit, 0, monsterHit, 0, monsterCount);
+        System.arraycopy(src.monsterDodge, 0, monsterDodge, 0, monsterCount);
+        toMove = src.toMove;
+        round = src.round;
+        outcome = src.outcome;
+        terrainHash = src.terrainHash;
+    }
+
+    public int getOutcome() { return outcome; }
+    public int getRound() { return round; }
+    public int getToMove() { return toMove; }
+    public int getHeroCount() { return heroCount; }
+    public int getHeroRow(int h) { return heroRow[h]; }
+    public int getHeroCol(int h) { return heroCol[h]; }
+    public boolean isOver() { return outcome != RUNNING; }
+
+    // ---------- Action generation ----------
+
+    /**
+     * Fills out with the actions of the hero to move: moves, attacks, spells,
+     * potions, recall (when off the Nexus), obstacle removal and WAIT.
+     * Teleports and equipment swaps are only applied, never generated.
+     */
+    public int legalActions(ValorActionBuffer out) {
+        out.clear();
+        int h = toMove;
+        if (outcome == RUNNING && heroRow[h] >= 0) {
+            int r = heroRow[h], c = heroCol[h];
+
+            for (ValorDirection d : DIRECTIONS) {
+                if (canHeroStep(r, c, r + d.deltaRow(), c + d.deltaCol())) {
+                    out.add(ValorAction.encode(ValorAction.MOVE, d.ordinal(), 0, 0));
+                }
+            }
+
+            for (int[] d : ValorCombat.NEIGHBOR_OFFSETS) {
+                int mr = r + d[0], mc = c + d[1];
+                if (monsterIndexAt(mr, mc) >= 0) out.add(ValorAction.encode(ValorAction.ATTACK, mr, mc, 0));
+            }
+
+            for (int s = spellStart[h]; s < spellStart[h + 1]; s++) {
+                if (heroMp[h] < spellCost[s]) continue;
+                for (int[] d : ValorCombat.NEIGHBOR_OFFSETS) {
+                    int mr = r + d[0], mc = c + d[1];
+                    if (monsterIndexAt(mr, mc) >= 0) {
+                        out.add(ValorAction.encode(ValorAction.CAST_SPELL, s - spellStart[h], mr, mc));
+                    }
+                }
+            }
+
+            for (int p = potionStart[h]; p < potionStart[h + 1]; p++) {
+                if (!potionUsed[p] && (potionHp[p] > 0 || potionMp[p] > 0)) {
+                    out.add(ValorAction.encode(ValorAction.USE_POTION, p - potionStart[h], 0, 0));
+                }
+            }
+
+            if (r != rows - 1 && recallCell(h) >= 0) out.add(ValorAction.encode(ValorAction.RECALL, 0, 0, 0));
+
+            for (ValorDirection d : DIRECTIONS) {
+                int tr = r + d.deltaRow(), tc = c + d.deltaCol();
+                if (inBounds(tr, tc) && terrain[tr * cols + tc] == OBSTACLE) {
+                    out.add(ValorAction.encode(ValorAction.REMOVE_OBSTACLE, d.ordinal(), 0, 0));
+                }
+            }
+        }
+        out.add(ValorAction.encode(ValorAction.WAIT, 0, 0, 0));
+        return out.size();
+    }
+
+    // ---------- Applying actions ----------
+
+    /**
+     * Applies an action for the hero to move, then passes the turn on
+     * (running the monster phase and end of round after the last hero).
+     * Actions that are not legal here are treated as WAIT.
+     */
+    public void apply(int action, Random rng) {
+        if (outcome != RUNNING) return;
+        int h = toMove;
+
+        if (heroRow[h] >= 0) {
+            int r = heroRow[h], c = heroCol[h];
+            int a = ValorAction.a(action), b = ValorAction.b(action);
+
+            switch (ValorAction.kind(action)) {
+                case ValorAction.MOVE: {
+                    ValorDirection d = ValorAction.direction(action);
+                    int tr = r + d.deltaRow(), tc = c + d.deltaCol();
+                    if (canHeroStep(r, c, tr, tc)) placeHero(h, tr, tc);
+                    break;
+                }
+                case ValorAction.ATTACK:
+                    if (Math.abs(a - r) <= 1 && Math.abs(b - c) <= 1) {
+                        hitMonster(monsterIndexAt(a, b), heroAttack[h], rng);
+                    }
+                    break;
+                case ValorAction.CAST_SPELL:
+                    castSpell(h, spellStart[h] + a, b, ValorAction.c(action), rng);
+                    break;
+                case ValorAction.USE_POTION: {
+                    int p = potionStart[h] + a;
+                    if (p < potionStart[h + 1] && !potionUsed[p]) {
+                        heroHp[h] += potionHp[p];
+                        heroMp[h] += potionMp[p];
+                        potionUsed[p] = true;
+                    }
+                    break;
+                }
+                case ValorAction.EQUIP_WEAPON:
+                    if (weaponStart[h] + a < weaponStart[h + 1]) {
+                        heroAttack[h] = weaponAttack[weaponStart[h] + a];
+                    }
+                    break;
+                case ValorAction.EQUIP_ARMOR:
+                    if (armorStart[h] + a < armorStart[h + 1]) heroArmor[h] = armorReduction[armorStart[h] + a];
+                    break;
+                case ValorAction.TELEPORT:
+                    if (isFreeForHero(a, b)) placeHero(h, a, b);
+                    break;
+                case ValorAction.RECALL: {
+                    int cell = recallCell(h);
+                    if (cell >= 0) placeHero(h, cell / cols, cell % cols);
+                    break;
+                }
+                case ValorAction.REMOVE_OBSTACLE: {
+                    ValorDirection d = ValorAction.direction(action);
+                    int tr = r + d.deltaRow(), tc = c + d.deltaCol();
+                    if (inBounds(tr, tc) && terrain[tr * cols + tc] == OBSTACLE) {
+                        terrain[tr * cols + tc] = OPEN;
+                        terrainHash ^= mix(tr * cols + tc + 1L);
+                    }
+                    break;
+                }
+                default:
+                    // WAIT
+            }
+
+            if (heroRow[h] == 0) {
+                outcome = HERO_WIN;
+                return;
+            }
+        }
+
+        passTurn(rng);
+    }
+
+    private void castSpell(int h, int s, int tr, int tc, Random rng) {
+        if (s >= spellStart[h + 1] || heroMp[h] < spellCost[s]) return;
+        if (Math.abs(tr - heroRow[h]) > 1 || Math.abs(tc - heroCol[h]) > 1) return;
+
+        int m = monsterIndexAt(tr, tc);
+        if (m < 0) return;
+
+        heroMp[h] = Math.max(0, heroMp[h] - spellCost[s]);
+        hitMonster(m, spellDamage[s], rng);
+    }
+
+    private void hitMonster(int m, double dmg, Random rng) {
+        if (m < 0) return;
+        if (dodges(monsterDodge[m], rng)) return;
+
+        monsterHp[m] = Math.max(0, monsterHp[m] - dmg);
+        if (monsterHp[m] <= 0) {
+            monsterAt[monsterRow[m] * cols + monsterCol[m]] = -1;
+            monsterRow[m] = -1;
+        }
+    }
+
+    // Next hero on the board in party order; the monster phase after the last one
+    private void passTurn(Random rng) {
+        for (int h = toMove + 1; h < heroCount; h++) {
+            if (heroRow[h] >= 0) {
+                toMove = h;
+                return;
+            }
+        }
+
+        monsterPhase(rng);
+        if (outcome != RUNNING) return;
+        endRound();
+
+        toMove = 0;
+        for (int h = 0; h < heroCount; h++) {
+            if (heroRow[h] >= 0) {
+                toMove = h;
+                return;
+            }
+        }
+    }
+
+    // ---------- Monster phase and end of round ----------
+
+    private void monsterPhase(Random rng) {
+        // Living monsters, front (highest row) first
+        int n = 0;
+        for (int m = 0; m < monsterCount; m++) {
+            if (monsterRow[m] < 0) continue;
+            int k = n++;
+            while (k > 0 && monsterRow[order[k - 1]] < monsterRow[m]) {
+                order[k] = order[k - 1];
+                k--;
+            }
+            order[k] = m;
+        }
+
+        for (int i = 0; i < n; i++) {
+            int m = order[i];
+            if (monsterRow[m] < 0) continue;
+            int r = monsterRow[m], c = monsterCol[m];
+
+            int target = firstHeroInRange(r, c);
+            if (target >= 0) {
+                hitHero(target, m, rng);
+                continue;
+            }
+
+            int blockRow = closestHeroRowAhead(r, geometry.laneOf(c));
+            if (canMonsterStep(r + 1, c, blockRow)) {
+                placeMonster(m, r + 1, c);
+            } else {
+                int first = rng.nextBoolean() ? -1 : 1;
+                if (canMonsterSidestep(r, c, c + first)) placeMonster(m, r, c + first);
+                else if (canMonsterSidestep(r, c, c - first)) placeMonster(m, r, c - first);
+            }
+
+            if (monsterRow[m] == rows - 1) outcome = MONSTER_WIN;
+        }
+    }
+
+    private void hitHero(int h, int m, Random rng) {
+        if (dodges(heroDodge[h], rng)) return;
+
+        double dmg = monsterHit[m];
+        heroHp[h] = Math.max(0, heroHp[h] - Math.max(0, dmg - heroArmor[h]));
+        if (heroHp[h] <= 0) {
+            heroAt[heroRow[h] * cols + heroCol[h]] = -1;
+            heroRow[h] = -1;
+            heroCol[h] = -1;
+        }
+    }
+
+    // Dodge roll; with ChanceRolls the search picks the outcome instead of drawing it
+    private static boolean dodges(double chance, Random rng) {
+        if (rng instanceof ChanceRolls) return ((ChanceRolls) rng).dodges(chance);
+        return rng.nextDouble() < chance;
+    }
+
+    // Regeneration for living heroes, respawn on the home Nexus for fainted ones
+    private void endRound() {
+        for (int h = 0; h < heroCount; h++) {
+            if (heroRow[h] >= 0) {
+                heroHp[h] = Math.min(heroMaxHp[h], heroHp[h] + 0.10 * heroMaxHp[h]);
+                heroMp[h] = Math.min(heroMaxMp[h], heroMp[h] + 0.10 * heroMaxMp[h]);
+                continue;
+            }
+
+            int cell = recallCell(h);
+            if (cell < 0) continue;
+            heroHp[h] = heroMaxHp[h];
+            heroMp[h] = heroMaxMp[h];
+            placeHero(h, cell / cols, cell % cols);
+        }
+        round++;
+    }
+
+    // ---------- Board rules ----------
+
+    private boolean canHeroStep(int fr, int fc, int tr, int tc) {
+        if (!isFreeForHero(tr, tc)) return false;
+
+        int laneFrom = geometry.laneOf(fc), laneTo = geometry.laneOf(tc);
+        if (laneFrom == -1 || laneTo == -1) return false;
+        if (laneFrom != laneTo) return true;
+
+        // No walking past the closest monster ahead in the lane
+        int blockRow = -1;
+        for (int m = 0; m < monsterCount; m++) {
+            int mr = monsterRow[m];
+            if (mr >= 0 && mr < fr && mr > blockRow && geometry.laneOf(monsterCol[m]) == laneFrom) blockRow = mr;
+        }
+        return blockRow < 0 || tr >= blockRow;
+    }
+
+    private boolean canMonsterStep(int tr, int tc, int blockRow) {
+        if (!inBounds(tr, tc)) return false;
+        int cell = tr * cols + tc;
+        if (terrain[cell] != OPEN || monsterAt[cell] >= 0 || heroAt[cell] >= 0) return false;
+        return tr <= blockRow;
+    }
+
+    private boolean canMonsterSidestep(int r, int c, int tc) {
+        if (!inBounds(r, tc) || geometry.laneOf(tc) != geometry.laneOf(c)) return false;
+        return canMonsterStep(r, tc, Integer.MAX_VALUE);
+    }
+
+    private int closestHeroRowAhead(int r, int lane) {
+        int best = Integer.MAX_VALUE;
+        for (int h = 0; h < heroCount; h++) {
+            int hr = heroRow[h];
+            if (hr > r && hr < best && geometry.laneOf(heroCol[h]) == lane) best = hr;
+        }
+        return best;
+    }
+
+    private int firstHeroInRange(int r, int c) {
+        for (int[] d : ValorCombat.NEIGHBOR_OFFSETS) {
+            int nr = r + d[0], nc = c + d[1];
+            if (inBounds(nr, nc) && heroAt[nr * cols + nc] >= 0) return heroAt[nr * cols + nc];
+        }
+        return -1;
+    }
+
+    // First free heroes' Nexus cell of the hero's home lane, or -1
+    private int recallCell(int h) {
+        if (heroHome[h] < 0) return -1;
+        int r = rows - 1;
+        for (int c : geometry.laneColumns(heroHome[h])) {
+            if (isFreeForHero(r, c)) return r * cols + c;
+        }
+        return -1;
+    }
+
+    private boolean isFreeForHero(int r, int c) {
+        if (!inBounds(r, c)) return false;
+        int cell = r * cols + c;
+        return terrain[cell] == OPEN && heroAt[cell] < 0 && monsterAt[cell] < 0;
+    }
+
+    private int monsterIndexAt(int r, int c) {
+        return inBounds(r, c) ? monsterAt[r * cols + c] : -1;
+    }
+
+    private void placeHero(int h, int r, int c) {
+        if (heroRow[h] >= 0) heroAt[heroRow[h] * cols + heroCol[h]] = -1;
+        heroRow[h] = r;
+        heroCol[h] = c;
+        heroAt[r * cols + c] = h;
+    }
+
+    private void placeMonster(int m, int r, int c) {
+        monsterAt[monsterRow[m] * cols + monsterCol[m]] = -1;
+        monsterRow[m] = r;
+        monsterCol[m] = c;
+        monsterAt[r * cols + c] = m;
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+
+    // ---------- Hashing and evaluation ----------
+
+    /**
+     * Position hash over the hero to move, unit cells, HP / MP buckets,
+     * equipment, used potions and removed obstacles. The round number is
+     * left out so the same position reached in different rounds transposes.
+     */
+    public long hash() {
+        long x = terrainHash ^ mix(0x5EED0000L + toMove);
+        for (int h = 0; h < heroCount; h++) {
+            long cell = (heroRow[h] < 0) ? 0 : heroRow[h] * cols + heroCol[h] + 1;
+            long v = (cell << 16) | ((long) bucket(heroHp[h], heroMaxHp[h]) << 8) | bucket(heroMp[h], heroMaxMp[h]);
+            x ^= mix(((long) h << 40) ^ v);
+            x ^= mix(((long) h << 40) ^ Double.doubleToLongBits(heroAttack[h] * 31 + heroArmor[h]));
+        }
+        for (int p = 0; p < potionUsed.length; p++) {
+            if (potionUsed[p]) x ^= mix(0x9077000000L + p);
+        }
+        for (int m = 0; m < monsterCount; m++) {
+            if (monsterRow[m] < 0) continue;
+            long cell = monsterRow[m] * cols + monsterCol[m] + 1;
+            x ^= mix(((long) (m + heroCount) << 40) ^ (cell << 16) ^ bucket(monsterHp[m], monsterMaxHp[m]));
+        }
+        return x;
+    }
+
+    /**
+     * Scores the position for the heroes in [0, 1]: 1 = won, 0 = lost.
+     * Otherwise a blend of hero progress, monster HP removed, hero health and
+     * how far the front-most monster still is from the heroes' Nexus.
+     */
+    public double evaluate() {
+        if (outcome == HERO_WIN) return 1.0;
+        if (outcome == MONSTER_WIN) return 0.0;
+
+        double span = Math.max(1, rows - 1);
+        double progress = 0, health = 0;
+        for (int h = 0; h < heroCount; h++) {
+            if (heroRow[h] < 0) continue;
+            progress += (rows - 1 - heroRow[h]) / span;
+            health += Math.min(1.0, heroHp[h] / heroMaxHp[h]);
+        }
+        progress /= Math.max(1, heroCount);
+        health /= Math.max(1, heroCount);
+
+        double hpLeft = 0;
+        int front = 0;
+        for (int m = 0; m < monsterCount; m++) {
+            if (monsterRow[m] < 0) continue;
+            hpLeft += monsterHp[m];
+            front = Math.max(front, monsterRow[m]);
+        }
+        double damageDone = 1.0 - hpLeft / monsterHpTotal;
+        double safety = 1.0 - front / span;
+
+        return 0.35 * progress + 0.30 * damageDone + 0.20 * health + 0.15 * safety;
+    }
+
+    private static int bucket(double value, double max) {
+        if (max <= 0) return 0;
+        return (int) Math.min(HP_BUCKETS, Math.max(0, value * HP_BUCKETS / max));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
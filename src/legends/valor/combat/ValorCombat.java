@@ -23,8 +23,10 @@ import legends.valor.ui.ValorCombatLogView;
 import legends.valor.world.ValorBoard;
 import legends.valor.world.ValorTile;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 public class ValorCombat {
 
@@ -35,27 +37,40 @@ public class ValorCombat {
     private final GameStats gameStats;
 
     // Combat log view renders turn-by-turn messages (buffered where needed)
-    private final ValorCombatLogView log = new ValorCombatLogView();
+    private final ValorCombatLogView log;
+
+    // Source of dodge rolls; null uses Math.random()
+    private final Random rng;
 
     // Percent reduction applied by debuff spells (keeps current 10% behavior)
     private static final double DEBUFF_PCT = 0.10;
 
-    // Monster damage scaling for Valor combat
-    private static final double MONSTER_DAMAGE_FACTOR = 0.30;
-
-    // Dexterity scaling factor for spell damage calculations
-    private static final double DEX_SPELL_SCALE_DIVISOR = 10000.0;
-
-    // Range model: current tile + 4-neighborhood (orthogonal adjacency)
-    private static final int[][] NEIGHBOR_OFFSETS = {
+    // Range model: current tile + its 8 neighbours, in target order. Shared by
+    // the monster planner, the action generator and the search state (read only).
+    public static final int[][] NEIGHBOR_OFFSETS = {
             {-1, -1}, {-1, 0}, {-1, 1},
             { 0, -1}, {0, 0}, { 0, 1},
             { 1, -1}, { 1, 0}, { 1, 1}
     };
 
     public ValorCombat(ValorBoard board, GameStats gameStats) {
+        this(board, gameStats, new ValorCombatLogView(), null);
+    }
+
+    private ValorCombat(ValorBoard board, GameStats gameStats, ValorCombatLogView log, Random rng) {
         this.board = board;
         this.gameStats = gameStats;
+        this.log = log;
+        this.rng = rng;
+    }
+
+    /**
+     * Returns a combat engine on the same board and stats that rolls dodges
+     * from the given RNG and writes its log to the given stream. Used to run
+     * one lane of the monster phase in isolation.
+     */
+    public ValorCombat forLane(Random laneRng, PrintStream laneOut) {
+        return new ValorCombat(board, gameStats, new ValorCombatLogView(laneOut), laneRng);
     }
 
     /**
@@ -150,6 +165,7 @@ public class ValorCombat {
         if (hs != null) hs.addDamageDealt(dmg);
 
         monster.takeDamage(dmg);
+        board.refreshHealth(monster);
         double after = monster.getHP();
 
         log.heroAttack(hero, monster, dmg, before, after);
@@ -187,6 +203,7 @@ public class ValorCombat {
         if (hs != null) hs.addDamageTaken(dmg);
 
         hero.takeDamage(dmg);
+        board.refreshHealth(hero);
         double after = hero.getHP();
 
         log.monsterAttack(monster, hero, dmg, before, after);
@@ -239,6 +256,7 @@ public class ValorCombat {
         if (hs != null) hs.addDamageDealt(dmg);
 
         target.takeDamage(dmg);
+        board.refreshHealth(target);
         double after = target.getHP();
 
         log.spellCast(hero, spell, target, dmg, before, after);
@@ -264,30 +282,29 @@ public class ValorCombat {
      * Resolves a dodge outcome based on the provided probability.
      */
     private boolean rollDodge(double dodgeChance) {
-        return Math.random() < dodgeChance;
+        double roll = (rng == null) ? Math.random() : rng.nextDouble();
+        return roll < dodgeChance;
     }
 
     /**
      * Computes hero basic-attack damage using the hero's attack value.
      */
     private int calculateHeroAttackDamage(Hero hero) {
-        return (int) Math.round(hero.getAttackDamage());
+        return ValorDamageModel.heroAttackDamage(hero);
     }
 
     /**
      * Computes monster basic-attack damage using the configured scaling factor.
      */
     private int calculateMonsterAttackDamage(Monster monster) {
-        return (int) Math.round(monster.getDamage() * MONSTER_DAMAGE_FACTOR);
+        return ValorDamageModel.monsterAttackDamage(monster);
     }
 
     /**
      * Computes spell damage using base spell damage and dexterity scaling.
      */
     private int calculateSpellDamage(Hero hero, Spell spell) {
-        double base = spell.getDamage();
-        double raw = base + (hero.getDexterity() / DEX_SPELL_SCALE_DIVISOR) * base;
-        return (int) Math.round(raw);
+        return ValorDamageModel.spellDamage(hero, spell);
     }
 
     /**
@@ -309,6 +326,7 @@ public class ValorCombat {
             case ICE: {
                 double before = target.getDamage();
                 target.setDamage(applyPercentReduction(before, DEBUFF_PCT));
+                board.refreshThreat(target);
                 log.info("DEBUFF", target.getName() + " DMG reduced by 10% (Ice)");
                 break;
             }
@@ -347,13 +365,7 @@ public class ValorCombat {
      */
     private int[] findHero(Hero hero) {
         if (hero == null) return null;
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                ValorTile tile = board.getTile(r, c);
-                if (tile.getHero() == hero) return new int[]{r, c};
-            }
-        }
-        return null;
+        return board.locateHero(hero);
     }
 
     /**
@@ -361,13 +373,7 @@ public class ValorCombat {
      */
     private int[] findMonster(Monster monster) {
         if (monster == null) return null;
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                ValorTile tile = board.getTile(r, c);
-                if (tile.getMonster() == monster) return new int[]{r, c};
-            }
-        }
-        return null;
+        return board.locateMonster(monster);
     }
 
     /**
@@ -0,0 +1,305 @@
+/**
+ * File: ValorDamageModel.java
+ * Package: legends.valor.combat
+ *
+ * Purpose:
+ *   Closed-form odds for Valor combat: expected damage, kill chance and
+ *   survival chance, computed from the same formulas ValorCombat applies.
+ *
+ * Responsibilities:
+ *   - Hold the deterministic damage formulas (hero attack, spell, monster
+ *     attack after armor) that ValorCombat uses when a hit lands
+ *   - Turn a single dodge roll into expected damage and kill chance
+ *   - Compute the chance a hero survives the next monster phase on a cell by
+ *     enumerating which of the monsters in range land their hit
+ *   - Score encoded ValorActions (attacks, spells, steps, teleports,
+ *     potions, armor) so menus and AIs can preview them without sampling
+ *
+ * A combat outcome only depends on one dodge roll, so every figure here is
+ * exact for a single action. Survival assumes every monster in range of the
+ * cell attacks this hero once (the worst case; monsters pick one target) and
+ * leaves spell debuffs out.
+ */
+package legends.valor.combat;
+
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.items.Armor;
+import legends.items.Item;
+import legends.items.Potion;
+import legends.items.PotionAttribute;
+import legends.items.Spell;
+import legends.items.Weapon;
+import legends.valor.turn.ValorAction;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorTile;
+
+public class ValorDamageModel {
+
+    // Share of a monster's damage stat dealt by one basic attack (also read by the threat map)
+    public static final double MONSTER_DAMAGE_FACTOR = 0.30;
+
+    // Dexterity scaling of spell damage
+    private static final double DEX_SPELL_SCALE_DIVISOR = 10000.0;
+
+    // A monster hits every cell of its 3x3 range
+    private static final int MAX_ATTACKERS = 9;
+
+    private final ValorBoard board;
+
+    // Hits of the monsters in range of the cell being scored (scratch)
+    private final double[] hits = new double[MAX_ATTACKERS];
+
+    public ValorDamageModel(ValorBoard board) {
+        this.board = board;
+    }
+
+    // ---------- Damage formulas (shared with ValorCombat) ----------
+
+    /**
+     * Damage of a hero basic attack that lands.
+     */
+    public static int heroAttackDamage(Hero hero) {
+        return (int) Math.round(hero.getAttackDamage());
+    }
+
+    /**
+     * Damage of a hero basic attack that lands with the given weapon equipped.
+     */
+    public static int heroAttackDamage(Hero hero, Weapon weapon) {
+        return (int) Math.round(hero.getAttackDamage(weapon));
+    }
+
+    /**
+     * Damage of a spell that lands (base damage scaled by dexterity).
+     */
+    public static int spellDamage(Hero hero, Spell spell) {
+        double base = spell.getDamage();
+        double raw = base + (hero.getDexterity() / DEX_SPELL_SCALE_DIVISOR) * base;
+        return (int) Math.round(raw);
+    }
+
+    /**
+     * Damage of a monster basic attack that lands, before the target's armor.
+     */
+    public static int monsterAttackDamage(Monster monster) {
+        return (int) Math.round(monster.getDamage() * MONSTER_DAMAGE_FACTOR);
+    }
+
+    /**
+     * HP a hero loses to a monster hit that lands (armor subtracted).
+     */
+    public static double hitTaken(Monster monster, Hero hero) {
+        return hitTaken(monster, armorReduction(hero));
+    }
+
+    // ---------- Single-action odds ----------
+
+    /**
+     * Expected HP a basic attack removes from the monster.
+     */
+    public static double expectedAttack(Hero hero, Monster target) {
+        return (1.0 - target.getDodgeChance()) * Math.min(heroAttackDamage(hero), target.getHP());
+    }
+
+    /**
+     * Chance a basic attack slays the monster.
+     */
+    public static double attackKillChance(Hero hero, Monster target) {
+        return (heroAttackDamage(hero) >= target.getHP()) ? 1.0 - target.getDodgeChance() : 0.0;
+    }
+
+    /**
+     * Expected HP the spell removes from the monster (0 if the hero cannot cast it).
+     */
+    public static double expectedSpell(Hero hero, Spell spell, Monster target) {
+        if (!hero.canCast(spell)) return 0.0;
+        return (1.0 - target.getDodgeChance()) * Math.min(spellDamage(hero, spell), target.getHP());
+    }
+
+    /**
+     * Chance the spell slays the monster (0 if the hero cannot cast it).
+     */
+    public static double spellKillChance(Hero hero, Spell spell, Monster target) {
+        if (!hero.canCast(spell)) return 0.0;
+        return (spellDamage(hero, spell) >= target.getHP()) ? 1.0 - target.getDodgeChance() : 0.0;
+    }
+
+    /**
+     * Expected HP the hero loses to one attack of the monster.
+     */
+    public static double expectedHitTaken(Monster monster, Hero hero) {
+        return (1.0 - hero.getDodgeChance()) * Math.min(hitTaken(monster, hero), hero.getHP());
+    }
+
+    /**
+     * Chance one attack of the monster makes the hero faint.
+     */
+    public static double faintChance(Monster monster, Hero hero) {
+        return (hitTaken(monster, hero) >= hero.getHP()) ? 1.0 - hero.getDodgeChance() : 0.0;
+    }
+
+    // ---------- Monster phase ----------
+
+    /**
+     * Chance the hero, standing on the cell, survives one attack from every
+     * living monster in range of it.
+     */
+    public double survivalChance(Hero hero, int row, int col) {
+        return survivalChance(hero, row, col, hero.getHP(), armorReduction(hero), null);
+    }
+
+    // Survival with the given HP / armor; 'ignore' is left out (e.g. a monster just slain)
+    private double survivalChance(Hero hero, int row, int col, double hp, double armor, Monster ignore) {
+        if (hp <= 0) return 0.0;
+
+        int n = 0;
+        for (int r = row - 1; r <= row + 1; r++) {
+            for (int c = col - 1; c <= col + 1; c++) {
+                ValorTile tile = board.getTile(r, c);
+                if (tile == null) continue;
+                Monster m = tile.getMonster();
+                if (m == null || m == ignore || m.getHP() <= 0) continue;
+                double hit = hitTaken(m, armor);
+                if (hit > 0) hits[n++] = hit;
+            }
+        }
+        if (n == 0) return 1.0;
+
+        // Every subset of landed hits: survive if their sum stays below the HP
+        double land = 1.0 - hero.getDodgeChance();
+        double survive = 0.0;
+        for (int mask = 0; mask < (1 << n); mask++) {
+            double taken = 0;
+            int landed = 0;
+            for (int i = 0; i < n; i++) {
+                if ((mask & (1 << i)) == 0) continue;
+                taken += hits[i];
+                landed++;
+            }
+            if (taken < hp) survive += Math.pow(land, landed) * Math.pow(1.0 - land, n - landed);
+        }
+        return survive;
+    }
+
+    // ---------- Encoded actions ----------
+
+    /**
+     * Expected HP the action removes from its target (0 for non-combat actions).
+     */
+    public double expectedDamage(Hero hero, int action) {
+        Monster target = target(action);
+        if (target == null) return 0.0;
+
+        if (ValorAction.kind(action) == ValorAction.ATTACK) return expectedAttack(hero, target);
+        Spell spell = spellAt(hero, ValorAction.a(action));
+        return (spell == null) ? 0.0 : expectedSpell(hero, spell, target);
+    }
+
+    /**
+     * Chance the action slays its target (0 for non-combat actions).
+     */
+    public double killChance(Hero hero, int action) {
+        Monster target = target(action);
+        if (target == null) return 0.0;
+
+        if (ValorAction.kind(action) == ValorAction.ATTACK) return attackKillChance(hero, target);
+        Spell spell = spellAt(hero, ValorAction.a(action));
+        return (spell == null) ? 0.0 : spellKillChance(hero, spell, target);
+    }
+
+    /**
+     * Chance the hero survives the monster phase after playing the action:
+     * scored on the cell the hero ends on, with the HP / armor the action
+     * leaves, and without the target if the action slays it. Recall is
+     * scored on the current lane's spawn cell.
+     */
+    public double survivalChance(Hero hero, int action) {
+        int[] pos = board.locateHero(hero);
+        if (pos == null) return 0.0;
+
+        int r = pos[0], c = pos[1];
+        double hp = hero.getHP();
+        double armor = armorReduction(hero);
+
+        switch (ValorAction.kind(action)) {
+            case ValorAction.MOVE: {
+                ValorDirection d = ValorAction.direction(action);
+                if (board.canHeroEnter(r + d.deltaRow(), c + d.deltaCol())) {
+                    r += d.deltaRow();
+                    c += d.deltaCol();
+                }
+                break;
+            }
+            case ValorAction.TELEPORT:
+                r = ValorAction.a(action);
+                c = ValorAction.b(action);
+                break;
+            case ValorAction.RECALL: {
+                int[] spawn = board.getHeroSpawnCell(board.getLane(c));
+                r = spawn[0];
+                c = spawn[1];
+                break;
+            }
+            case ValorAction.USE_POTION: {
+                Potion p = itemAt(hero, Potion.class, ValorAction.a(action));
+                if (p != null && p.getAttributes() != null && p.getAttributes().contains(PotionAttribute.HEALTH)) {
+                    hp += p.getEffectAmount();
+                }
+                break;
+            }
+            case ValorAction.EQUIP_ARMOR: {
+                Armor a = itemAt(hero, Armor.class, ValorAction.a(action));
+                if (a != null) armor = a.getReduction();
+                break;
+            }
+            case ValorAction.ATTACK:
+            case ValorAction.CAST_SPELL: {
+                double kill = killChance(hero, action);
+                if (kill <= 0) break;
+                Monster target = target(action);
+                return kill * survivalChance(hero, r, c, hp, armor, target)
+                        + (1.0 - kill) * survivalChance(hero, r, c, hp, armor, null);
+            }
+            default:
+                // WAIT, weapons and obstacles leave the hero where it is
+        }
+        return survivalChance(hero, r, c, hp, armor, null);
+    }
+
+    // ---------- Helpers ----------
+
+    private static double hitTaken(Monster monster, double armor) {
+        return Math.max(0, monsterAttackDamage(monster) - armor);
+    }
+
+    private static double armorReduction(Hero hero) {
+        return (hero.getArmor() == null) ? 0 : hero.getArmor().getReduction();
+    }
+
+    // Monster on the action's target cell, or null
+    private Monster target(int action) {
+        int kind = ValorAction.kind(action);
+        if (kind != ValorAction.ATTACK && kind != ValorAction.CAST_SPELL) return null;
+
+        int r = (kind == ValorAction.CAST_SPELL) ? ValorAction.b(action) : ValorAction.a(action);
+        int c = (kind == ValorAction.CAST_SPELL) ? ValorAction.c(action) : ValorAction.b(action);
+        ValorTile tile = board.getTile(r, c);
+        return (tile == null) ? null : tile.getMonster();
+    }
+
+    private static Spell spellAt(Hero hero, int index) {
+        return itemAt(hero, Spell.class, index);
+    }
+
+    // index-th item of a kind in inventory order (the order of HeroTurnUIHelper's lists)
+    private static <T extends Item> T itemAt(Hero hero, Class<T> kind, int index) {
+        int i = 0;
+        for (Item it : hero.getInventory().getItems()) {
+            if (!kind.isInstance(it)) continue;
+            if (i++ == index) return kind.cast(it);
+        }
+        return null;
+    }
+}
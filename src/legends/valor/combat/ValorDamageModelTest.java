@@ -0,0 +1,131 @@
+/**
+ * File: ValorDamageModelTest.java
+ * Description: Simple test harness for ValorDamageModel.
+ *              Checks the damage formulas, expected attack / kill chance and
+ *              the monster-phase survival chance against hand-computed cases:
+ *              landed-hit subsets, armor, monsters out of range or slain, and
+ *              an attack that removes one of the attackers. Exits with status
+ *              1 on a failure.
+ */
+
+package legends.valor.combat;
+
+import legends.characters.Dragon;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.characters.Warrior;
+import legends.items.Armor;
+import legends.items.Spell;
+import legends.items.SpellType;
+import legends.valor.turn.ValorAction;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorTile;
+
+public class ValorDamageModelTest {
+
+    private static int failures = 0;
+
+    private static final double EPS = 1e-9;
+
+    public static void main(String[] args) {
+
+        // --- Formulas: strength 500 -> 500 * 0.31 = 155; dexterity 500 scales a 100 spell to 105 ---
+        System.out.println("=== Formulas ===");
+        Hero hero = hero(100, 0);
+        Spell bolt = new Spell("Bolt", 100, 1, 100, 20, SpellType.LIGHTNING);
+        check(ValorDamageModel.heroAttackDamage(hero) == 155, "hero attack 155");
+        check(ValorDamageModel.spellDamage(hero, bolt) == 105, "spell damage 105");
+        check(ValorDamageModel.monsterAttackDamage(dragon(1, 200, 0)) == 60, "monster hit 30% of 200 = 60");
+        check(ValorDamageModel.monsterAttackDamage(dragon(1, 105, 0)) == 32, "monster hit 31.5 rounds to 32");
+
+        // --- Single attacks: one dodge roll decides everything ---
+        System.out.println("\n=== Attack odds ===");
+        Monster weak = dragon(1, 200, 0.2);       // 100 HP
+        Monster tough = dragon(2, 200, 0.25);     // 200 HP
+        check(near(ValorDamageModel.expectedAttack(hero, weak), 0.8 * 100), "expected attack capped at the monster's HP (80)");
+        check(near(ValorDamageModel.attackKillChance(hero, weak), 0.8), "kill chance is the chance to land (0.8)");
+        check(near(ValorDamageModel.expectedAttack(hero, tough), 0.75 * 155), "expected attack on a tougher monster (116.25)");
+        check(ValorDamageModel.attackKillChance(hero, tough) == 0.0, "no kill when the hit is short of the HP");
+        check(near(ValorDamageModel.expectedSpell(hero, bolt, tough), 0.75 * 105), "expected spell 78.75");
+        hero.spendMana(hero.getMP());
+        check(ValorDamageModel.expectedSpell(hero, bolt, tough) == 0.0, "no spell without the mana");
+
+        // --- Monster phase on a cell (hero dodge 0.2, every hit lands with 0.8) ---
+        System.out.println("\n=== Survival ===");
+        ValorBoard board = clearBoard();
+        ValorDamageModel model = new ValorDamageModel(board);
+        Hero target = hero(90, 100);
+        check(model.survivalChance(target, 4, 0) == 1.0, "no monster in range: certain survival");
+
+        board.getTile(3, 0).placeMonster(dragon(1, 200, 0));     // 60
+        board.getTile(3, 1).placeMonster(dragon(1, 200, 0));     // 60
+        // Dies only if both land: 1 - 0.8^2
+        check(near(model.survivalChance(target, 4, 0), 0.36), "two 60 hits on 90 HP: 0.36");
+
+        board.getTile(5, 1).placeMonster(dragon(1, 100, 0));     // 30
+        // Any two of 60 / 60 / 30 reach 90: survive with no hit or one hit
+        check(near(model.survivalChance(target, 4, 0), 0.2 * 0.2 * 0.2 + 3 * 0.8 * 0.2 * 0.2), "three hits on 90 HP: 0.104");
+
+        Monster far = dragon(1, 1000, 0);
+        board.getTile(6, 0).placeMonster(far);
+        Monster slain = dragon(1, 1000, 0);
+        slain.takeDamage(slain.getHP());
+        board.getTile(5, 0).placeMonster(slain);
+        check(near(model.survivalChance(target, 4, 0), 0.104), "monsters out of range or slain do not count");
+
+        target.equipArmor(new Armor("Plate", 100, 1, 30));
+        // Hits become 30 / 30 / 0: even both land short of 90
+        check(model.survivalChance(target, 4, 0) == 1.0, "armor 30 makes every combination survivable");
+
+        // --- An attack that slays one attacker is scored without it ---
+        System.out.println("\n=== Survival after an action ===");
+        ValorBoard duel = clearBoard();
+        ValorDamageModel duelModel = new ValorDamageModel(duel);
+        Hero fighter = hero(90, 100);
+        duel.getTile(4, 0).placeHero(fighter);
+        duel.getTile(3, 0).placeMonster(dragon(1, 200, 0));      // 100 HP, never dodges
+        duel.getTile(3, 1).placeMonster(dragon(2, 200, 0));      // 200 HP, survives the hit
+        int wait = ValorAction.encode(ValorAction.WAIT, 0, 0, 0);
+        int kill = ValorAction.encode(ValorAction.ATTACK, 3, 0, 0);
+        int wound = ValorAction.encode(ValorAction.ATTACK, 3, 1, 0);
+        check(near(duelModel.survivalChance(fighter, wait), 0.36), "waiting faces both hits: 0.36");
+        check(near(duelModel.killChance(fighter, kill), 1.0), "attack on the 100 HP monster always kills");
+        check(duelModel.survivalChance(fighter, kill) == 1.0, "after the kill one 60 hit is left: certain survival");
+        check(near(duelModel.survivalChance(fighter, wound), 0.36), "attack that does not kill leaves both hits");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Strength 500, dexterity 500, given HP and agility (agility 100 -> dodge 0.2)
+    private static Hero hero(double hp, double agility) {
+        return new Warrior("Hero", 1, hp, 100, 500, 500, agility);
+    }
+
+    // Monster with level * 100 HP
+    private static Monster dragon(int level, double damage, double dodge) {
+        return new Dragon("Drake", level, damage, 0, dodge);
+    }
+
+    private static boolean near(double a, double b) {
+        return Math.abs(a - b) < EPS;
+    }
+
+    // Standard board with every lane cell between the Nexus rows made plain
+    private static ValorBoard clearBoard() {
+        ValorBoard board = new ValorBoard();
+        for (int r = 1; r < board.getRows() - 1; r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                ValorTile tile = board.getTile(r, c);
+                if (tile.getType() != ValorCellType.INACCESSIBLE) tile.setType(ValorCellType.PLAIN);
+            }
+        }
+        return board;
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * File: MonsterPool.java
+ * Package: legends.valor.game
+ *
+ * Purpose:
+ *   Per-match pool of Monster instances so spawns reuse dead monsters.
+ *
+ * Responsibilities:
+ *   - Hand out monsters initialized from catalog prototypes
+ *   - Reuse a dead instance of the same monster type when one is free
+ *   - Compact dead monsters out of the lane list at the end of each round
+ *
+ * A monster is only reclaimed once it is dead; combat has already removed
+ * it from the board by then, so nothing else still points at it.
+ */
+package legends.valor.game;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import legends.characters.Monster;
+
+public class MonsterPool {
+
+    // Monsters handed out and not yet reclaimed
+    private final List<Monster> active = new ArrayList<Monster>();
+
+    // Reclaimed instances, one free list per monster type (Dragon/Spirit/Exoskeleton)
+    private final Map<Class<?>, ArrayDeque<Monster>> free = new HashMap<Class<?>, ArrayDeque<Monster>>();
+
+    // Number of instances actually allocated by this pool
+    private int created = 0;
+
+    /**
+     * Returns a monster with the prototype's stats, reusing a reclaimed
+     * instance of the same type when possible.
+     */
+    public Monster acquire(Monster prototype) {
+        if (prototype == null) return null;
+
+        ArrayDeque<Monster> list = free.get(prototype.getClass());
+        Monster m = (list == null) ? null : list.poll();
+
+        if (m == null) {
+            m = prototype.copy();
+            created++;
+        } else {
+            m.resetFrom(prototype);
+        }
+
+        active.add(m);
+        return m;
+    }
+
+    /**
+     * Removes dead monsters from the lane list and returns every dead
+     * monster this pool handed out to its free lists.
+     *
+     * @return number of monsters reclaimed
+     */
+    public int compact(List<Monster> laneMonsters) {
+        if (laneMonsters != null) {
+            laneMonsters.removeIf(m -> m == null || m.getHP() <= 0);
+        }
+
+        // Single in-place pass over the active list
+        int kept = 0;
+        int reclaimed = 0;
+        for (int i = 0; i < active.size(); i++) {
+            Monster m = active.get(i);
+            if (m.getHP() <= 0) {
+                free.computeIfAbsent(m.getClass(), k -> new ArrayDeque<Monster>()).push(m);
+                reclaimed++;
+            } else {
+                active.set(kept++, m);
+            }
+        }
+        active.subList(kept, active.size()).clear();
+
+        return reclaimed;
+    }
+
+    /**
+     * Returns how many monster objects this pool has allocated in total.
+     */
+    public int getCreatedCount() { return created; }
+
+    /**
+     * Returns how many pooled monsters are currently alive in the match.
+     */
+    public int getActiveCount() { return active.size(); }
+}
@@ -0,0 +1,77 @@
+/**
+ * File: MonsterPoolTest.java
+ * Description: Simple test harness for MonsterPool.
+ *              Checks that dead monsters are compacted out of the lane list,
+ *              that a reused instance is fully reset to its new prototype
+ *              (HP and spell debuffs), and that types never share instances.
+ *              Exits with status 1 on a failure.
+ */
+
+package legends.valor.game;
+
+import legends.characters.Dragon;
+import legends.characters.Monster;
+import legends.characters.Spirit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MonsterPoolTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        Monster drake = new Dragon("Drake", 2, 300, 200, 0.2);
+        Monster wyrm = new Dragon("Wyrm", 5, 600, 500, 0.4);
+        Monster ghost = new Spirit("Ghost", 2, 250, 150, 0.5);
+
+        MonsterPool pool = new MonsterPool();
+        List<Monster> lane = new ArrayList<Monster>();
+
+        // --- First spawns allocate copies, never the prototype itself ---
+        System.out.println("=== Acquire ===");
+        Monster a = pool.acquire(drake);
+        Monster b = pool.acquire(ghost);
+        lane.add(a);
+        lane.add(b);
+        check(a != drake && a.getName().equals("Drake"), "copy of the prototype");
+        check(pool.getCreatedCount() == 2 && pool.getActiveCount() == 2, "two allocated, two active");
+        check(pool.acquire(null) == null, "null prototype gives null");
+
+        // --- Compact removes the dead from the lane and frees them ---
+        System.out.println("\n=== Compact ===");
+        a.applyFireDebuff(50);
+        a.applyIceDebuff(40);
+        a.applyLightningDebuff(0.1);
+        a.setHP(0);
+        check(pool.compact(lane) == 1, "one monster reclaimed");
+        check(lane.size() == 1 && lane.get(0) == b, "dead monster left the lane");
+        check(pool.getActiveCount() == 1, "one still active");
+        check(pool.compact(lane) == 0, "nothing reclaimed twice");
+
+        // --- Reuse takes every stat from the new prototype ---
+        System.out.println("\n=== Reuse ===");
+        Monster c = pool.acquire(wyrm);
+        check(c == a, "dead dragon instance reused");
+        check(pool.getCreatedCount() == 2, "no new allocation");
+        check(c.getName().equals("Wyrm") && c.getLevel() == 5, "name and level reset");
+        check(c.getHP() == wyrm.getHP() && c.isAlive(), "HP reset");
+        check(c.getDamage() == 600 && c.getDefense() == 500 && c.getDodgeChance() == 0.4, "debuffs cleared");
+
+        // --- A type's free list never serves another type ---
+        System.out.println("\n=== Types ===");
+        b.setHP(0);
+        pool.compact(lane);
+        Monster d = pool.acquire(drake);
+        check(d != b && d instanceof Dragon, "spirit instance not reused for a dragon");
+        check(pool.getCreatedCount() == 3, "new dragon allocated");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
@@ -45,7 +45,7 @@ public class ValorIntroScreen {
 
         // Party composition rules
         System.out.println(BOLD + "Team Setup" + RESET);
-        System.out.println(" - You must select " + BOLD + "exactly 3 Heroes" + RESET + " (one per lane).\n");
+        System.out.println(" - You must select " + BOLD + "one Hero per lane" + RESET + " (3 on the standard board).\n");
 
         // Terrain-based hero bonuses
         System.out.println(BOLD + "Terrain Bonuses (Heroes only)" + RESET);
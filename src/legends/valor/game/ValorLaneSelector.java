@@ -3,10 +3,10 @@
  * Package: legends.valor.game
  *
  * Purpose:
- *   Collects user input to assign each of the three heroes to a Valor lane.
+ *   Collects user input to assign each hero to a Valor lane.
  *
  * Responsibilities:
- *   - Validate that exactly three heroes are provided for lane assignment
+ *   - Validate that the board has a lane for every hero
  *   - Prompt the user to choose a unique lane for each hero
  *   - Return a mapping from hero to lane index for match setup
  *   - Display formatted lane selection instructions and summary output
@@ -15,6 +15,7 @@ package legends.valor.game;
 
 import legends.characters.Hero;
 import legends.characters.Party;
+import legends.valor.world.BoardGeometry;
 
 import java.util.HashMap;
 import java.util.List;
@@ -23,7 +24,7 @@ import java.util.Scanner;
 
 public class ValorLaneSelector {
 
-    // Lane identifiers used throughout the Valor game mode
+    // Lane identifiers of the standard 3-lane board
     public static final int TOP = 0;
     public static final int MID = 1;
     public static final int BOT = 2;
@@ -31,6 +32,9 @@ public class ValorLaneSelector {
     // Console input source for lane selection
     private final Scanner in;
 
+    // Lane count, names and columns of the board being set up
+    private final BoardGeometry geometry;
+
     // ANSI (same style you use elsewhere)
     private static final String RESET = "\u001B[0m";
     private static final String BOLD  = "\u001B[1m";
@@ -43,23 +47,32 @@ public class ValorLaneSelector {
     // Fixed width used for the lane-selection UI box
     private static final int BOX_W = 62;
 
+    // Lanes listed per line of the instructions box
+    private static final int LANES_PER_LINE = 3;
+
     public ValorLaneSelector(Scanner in) {
+        this(in, BoardGeometry.STANDARD);
+    }
+
+    public ValorLaneSelector(Scanner in, BoardGeometry geometry) {
         this.in = in;
+        this.geometry = (geometry == null) ? BoardGeometry.STANDARD : geometry;
     }
 
     /**
      * Prompts the user to assign each hero in the party to a distinct lane.
      *
-     * @return mapping from hero to lane constant (TOP/MID/BOT)
+     * @return mapping from hero to lane index (TOP/MID/BOT on the standard board)
      */
     public Map<Hero, Integer> chooseLanes(Party party) {
         Map<Hero, Integer> result = new HashMap<Hero, Integer>();
 
-        // Lane selection is only defined for a party of exactly three heroes
+        // Every hero needs a lane of its own
         if (party == null) return result;
         List<Hero> heroes = party.getHeroes();
-        if (heroes == null || heroes.size() != 3) {
-            System.out.println(RED + "Lane selection requires exactly 3 heroes." + RESET);
+        int laneCount = geometry.getLaneCount();
+        if (heroes == null || heroes.isEmpty() || heroes.size() > laneCount) {
+            System.out.println(RED + "Lane selection needs 1 to " + laneCount + " heroes." + RESET);
             return result;
         }
 
@@ -67,19 +80,20 @@ public class ValorLaneSelector {
         printHeaderBox();
 
         // Tracks which lanes have already been assigned
-        boolean[] used = new boolean[3];
+        boolean[] used = new boolean[laneCount];
 
         for (int i = 0; i < heroes.size(); i++) {
             Hero h = heroes.get(i);
             if (h == null) continue;
 
             while (true) {
-                System.out.print(CYAN + "Choose lane for " + BOLD + h.getName() + RESET + CYAN + " (0/1/2): " + RESET);
+                System.out.print(CYAN + "Choose lane for " + BOLD + h.getName() + RESET + CYAN
+                        + " (0-" + (laneCount - 1) + "): " + RESET);
                 String line = in.nextLine().trim();
 
                 Integer lane = parseLane(line);
                 if (lane == null) {
-                    System.out.println(RED + "Invalid input. Enter 0, 1, or 2." + RESET);
+                    System.out.println(RED + "Invalid input. Enter a lane from 0 to " + (laneCount - 1) + "." + RESET);
                     continue;
                 }
 
@@ -109,9 +123,14 @@ public class ValorLaneSelector {
         System.out.println(center(MAG + BOLD + "=== LANE SELECTION ===" + RESET, BOX_W));
         System.out.println(repeat("=", BOX_W));
         System.out.println("Assign each hero to a lane:");
-        System.out.println("  " + BOLD + "0" + RESET + " = TOP " + dim("(cols 0–1)") +
-                "    " + BOLD + "1" + RESET + " = MID " + dim("(cols 3–4)") +
-                "    " + BOLD + "2" + RESET + " = BOT " + dim("(cols 6–7)"));
+        // Three lanes per line keeps wide boards inside the box
+        StringBuilder lanes = new StringBuilder();
+        for (int lane = 0; lane < geometry.getLaneCount(); lane++) {
+            if (lane > 0) lanes.append(lane % LANES_PER_LINE == 0 ? "\n  " : "    ");
+            lanes.append(BOLD).append(lane).append(RESET).append(" = ")
+                    .append(geometry.laneName(lane)).append(' ').append(dim(geometry.laneColsLabel(lane)));
+        }
+        System.out.println("  " + lanes);
         System.out.println(repeat("-", BOX_W));
     }
 
@@ -142,7 +161,7 @@ public class ValorLaneSelector {
     }
 
     /**
-     * Parses a lane input string and validates it as 0, 1, or 2.
+     * Parses a lane input string and validates it against the board's lanes.
      *
      * @return Integer lane value, or null if invalid
      */
@@ -157,7 +176,7 @@ public class ValorLaneSelector {
         } catch (Exception e) {
             return null;
         }
-        if (v < 0 || v > 2) return null;
+        if (v < 0 || v >= geometry.getLaneCount()) return null;
         return Integer.valueOf(v);
     }
 
@@ -165,24 +184,15 @@ public class ValorLaneSelector {
      * Returns a colored lane label for immediate user feedback.
      */
     private String laneName(int lane) {
-        switch (lane) {
-            case TOP: return CYAN + "TOP" + RESET;
-            case MID: return CYAN + "MID" + RESET;
-            case BOT: return CYAN + "BOT" + RESET;
-            default:  return CYAN + "?" + RESET;
-        }
+        return CYAN + laneNamePlain(lane) + RESET;
     }
 
     /**
      * Returns a plain lane label for summary table formatting.
      */
     private String laneNamePlain(int lane) {
-        switch (lane) {
-            case TOP: return "TOP";
-            case MID: return "MID";
-            case BOT: return "BOT";
-            default:  return "?";
-        }
+        String name = geometry.laneName(lane);
+        return "-".equals(name) ? "?" : name;
     }
 
     /**
@@ -196,12 +206,10 @@ public class ValorLaneSelector {
      * Returns the board column range represented by a lane.
      */
     private String laneColsPlain(int lane) {
-        switch (lane) {
-            case TOP: return "(0-1)";
-            case MID: return "(3-4)";
-            case BOT: return "(6-7)";
-            default:  return "(?)";
-        }
+        int[] cols = geometry.laneColumns(lane);
+        if (cols.length == 0) return "(?)";
+        int first = cols[0], last = cols[cols.length - 1];
+        return (first == last) ? "(" + first + ")" : "(" + first + "-" + last + ")";
     }
 
     /**
@@ -8,7 +8,8 @@
  * Responsibilities:
  *   - Initialize and coordinate match components (board, party, combat, turn manager)
  *   - Run the round loop until a win/lose/quit outcome occurs
- *   - Apply end-of-round rules (hero regeneration and periodic monster spawns)
+ *   - Write back the hero AI's opening book when the match ends
+ *   - Apply end-of-round rules (hero regeneration, dead monster cleanup and periodic spawns) via ValorRoundEnd
  *   - Expose match results and statistics for post-game processing
  */
 package legends.valor.game;
@@ -17,13 +18,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
-import legends.characters.Hero;
 import legends.characters.Monster;
 import legends.characters.Party;
+import legends.data.CatalogPreloader;
 import legends.market.Market;
 import legends.stats.GameStats;
+import legends.valor.ai.OpeningBook;
 import legends.valor.combat.ValorCombat;
+import legends.valor.game.targeting.TargetPolicy;
 import legends.valor.turn.ConsoleValorInput;
+import legends.valor.turn.ValorInput;
 import legends.valor.turn.ValorTurnManager;
 import legends.valor.ui.ValorRoundStatusView;
 import legends.valor.world.ValorBoard;
@@ -47,6 +51,15 @@ public class ValorMatch {
     private Market market;
     private List<Monster> laneMonsters = new ArrayList<Monster>();
 
+    // Who answers the hero turn prompts (null = the player at the console)
+    private ValorInput heroInput;
+
+    // How monsters choose among heroes in range (null = first in range)
+    private TargetPolicy monsterTargetPolicy;
+
+    // Opening book the hero AI records into (null = none), written back when the match ends
+    private OpeningBook openingBook;
+
     // Runtime statistics used for summaries and leaderboard records
     private GameStats gameStats;
     private int roundsPlayed = 0;
@@ -54,11 +67,12 @@ public class ValorMatch {
     // Renders per-round status UI before each round begins
     private final ValorRoundStatusView statusView = new ValorRoundStatusView();
 
-    // Monster spawn frequency in rounds
-    private static final int SPAWN_INTERVAL = 4;
-
-    // Spawner created once the board exists
+    // Spawner and end-of-round rules created once the board exists
     private ValorSpawner spawner;
+    private ValorRoundEnd roundEnd;
+
+    // Reuses dead monster instances for later spawns during this match
+    private final MonsterPool monsterPool = new MonsterPool();
 
     public ValorMatch(Scanner in) {
         this.in = in;
@@ -68,6 +82,9 @@ public class ValorMatch {
      * Runs the full match loop until an outcome is reached.
      */
     public Outcome play() {
+        // Kick off data loading (no-op if the app already started it) before the intro waits for ENTER
+        CatalogPreloader.start();
+
         // Display game rules and controls before starting setup
         new ValorIntroScreen(in).show();
 
@@ -76,8 +93,9 @@ public class ValorMatch {
         boolean ok = setup.setup(this);
         if (!ok) return Outcome.QUIT;
 
-        // Create spawner after board is initialized
-        this.spawner = new ValorSpawner(board);
+        // Create spawner and end-of-round rules after board is initialized
+        this.spawner = new ValorSpawner(board, monsterPool);
+        this.roundEnd = new ValorRoundEnd(board, party, laneMonsters, monsterPool, spawner);
 
         // Turn manager owns hero/monster action sequencing for each round
         ValorTurnManager turnManager = new ValorTurnManager(
@@ -86,10 +104,11 @@ public class ValorMatch {
                 combat,
                 party,
                 laneMonsters,
-                new ConsoleValorInput(in),
+                (heroInput != null) ? heroInput : new ConsoleValorInput(in),
                 market,
                 in
         );
+        turnManager.setMonsterTargetPolicy(monsterTargetPolicy);
 
         while (true) {
             roundsPlayed++;
@@ -99,37 +118,13 @@ public class ValorMatch {
 
             // Run one full round; if an outcome is returned, the match ends
             Outcome outcome = turnManager.playOneRound();
-            if (outcome != null) return outcome;
-
-            // Apply end-of-round regeneration rules for living heroes
-            endOfRound(party.getHeroes());
-
-            // Periodically spawn new monsters and append them to lane state
-            if (roundsPlayed % SPAWN_INTERVAL == 0) {
-                List<Monster> spawned = spawner.spawnLaneMonsters(party);
-                if (spawned != null && !spawned.isEmpty()) {
-                    laneMonsters.addAll(spawned);
-                }
+            if (outcome != null) {
+                if (openingBook != null) openingBook.save();
+                return outcome;
             }
-        }
-    }
-
-    /**
-     * End-of-round regeneration rule:
-     * Only alive heroes recover 10% of their computed max HP/MP, capped at max.
-     */
-    private void endOfRound(List<Hero> heroes) {
-        if (heroes == null) return;
-
-        for (Hero h : heroes) {
-            if (h == null) continue;
-            if (h.getHP() <= 0) continue;
 
-            double maxHP = h.getLevel() * 100.0;
-            double maxMP = h.getLevel() * 50.0;
-
-            h.setHP(Math.min(maxHP, h.getHP() + 0.10 * maxHP));
-            h.setMP(Math.min(maxMP, h.getMP() + 0.10 * maxMP));
+            // Regeneration, dead monster cleanup and periodic spawns
+            roundEnd.apply(roundsPlayed);
         }
     }
 
@@ -153,6 +148,14 @@ public class ValorMatch {
     void setMarket(Market market) { this.market = market; }
     void setLaneMonsters(List<Monster> laneMonsters) { this.laneMonsters = laneMonsters; }
     void setGameStats(GameStats gameStats) { this.gameStats = gameStats; }
+    void setHeroInput(ValorInput heroInput) { this.heroInput = heroInput; }
+    void setMonsterTargetPolicy(TargetPolicy policy) { this.monsterTargetPolicy = policy; }
+    void setOpeningBook(OpeningBook openingBook) { this.openingBook = openingBook; }
+
+    /**
+     * Monster pool shared by every spawner of this match.
+     */
+    MonsterPool getMonsterPool() { return monsterPool; }
 
     /**
      * Prints round status UI using the dedicated renderer.
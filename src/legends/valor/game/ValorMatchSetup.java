@@ -7,9 +7,12 @@
  *
  * Responsibilities:
  *   - Load items and monsters needed for the match
+ *   - Let the player pick the board layout for the match
  *   - Drive hero selection and construct the player's party
  *   - Create core match systems (board, movement, combat, stats, market)
  *   - Perform lane assignment and initial placement/spawning
+ *   - Let the player hand the heroes to an AI (rule bot, MCTS or expectimax)
+ *   - Let the player pick how monsters choose their targets (difficulty)
  *   - Inject initialized components into the ValorMatch instance
  */
 package legends.valor.game;
@@ -21,32 +24,51 @@ import java.util.Scanner;
 import legends.characters.Hero;
 import legends.characters.Monster;
 import legends.characters.Party;
+import legends.data.CatalogPreloader;
 import legends.data.DataLoader;
-import legends.items.Item;
+import legends.data.GameCatalog;
 import legends.market.Market;
 import legends.stats.GameStats;
+import legends.valor.ai.ExpectimaxValorInput;
+import legends.valor.ai.LaneTablebase;
+import legends.valor.ai.MctsValorInput;
+import legends.valor.ai.OpeningBook;
 import legends.valor.combat.ValorCombat;
+import legends.valor.game.targeting.TargetPolicy;
+import legends.valor.game.targeting.TargetPolicyFactory;
+import legends.valor.turn.BotValorInput;
+import legends.valor.turn.ValorInput;
+import legends.valor.world.BoardGeometry;
 import legends.valor.world.ValorBoard;
 import legends.valor.world.ValorMovement;
 
 public class ValorMatchSetup {
 
+    // Monster targeting rules offered at setup, easiest first (TargetPolicyFactory names)
+    private static final String[] TARGET_POLICIES = {
+            "FIRST_IN_RANGE", "LOWEST_ARMOR", "HIGHEST_THREAT", "SPELLCASTER_FIRST", "LOWEST_HP"
+    };
+
     /**
      * Configures the provided match instance with all required state and systems.
      *
      * @return true if setup completes successfully, false if the match should abort
      */
     public boolean setup(ValorMatch match) {
-        // Load game content required for Valor mode (items, market inventory, monster pool)
-        DataLoader loader = new DataLoader();
-        List<Item> items = loader.loadAllItems();
-        Market market = new Market(items);
-        DataLoader.globalMonsters = loader.loadAllMonsters();
+        // Join the background data load for items, market inventory and the monster pool
+        GameCatalog catalog = CatalogPreloader.get();
+        Market market = new Market(catalog.getItems());
+        DataLoader.globalMonsters = catalog.getMonsters();
+
+        // Pick the board first: its lane count sets the party size
+        Scanner in = new Scanner(System.in);
+        BoardGeometry geometry = chooseBoard(in);
 
-        // Collect exactly three heroes for Valor lane-based gameplay
+        // Collect one hero per lane so no lane is left without a defender
+        int partySize = geometry.getLaneCount();
         System.out.println();
         System.out.println("Now choose your heroes for Legends of Valor...");
-        legends.game.HeroSelection selector = new legends.game.HeroSelection(loader, 3, 3);
+        legends.game.HeroSelection selector = new legends.game.HeroSelection(catalog, partySize, partySize);
         Party party = selector.selectHeroes();
 
         // Abort if hero selection fails or returns an empty party
@@ -56,23 +78,27 @@ public class ValorMatchSetup {
         }
 
         // Create core match systems (board, movement, runtime stats, combat rules)
-        ValorBoard board = new ValorBoard();
+        ValorBoard board = new ValorBoard(geometry);
         ValorMovement movement = new ValorMovement(board);
 
         GameStats stats = new GameStats(GameStats.GameMode.LEGENDS_OF_VALOR, party.getHeroes());
         ValorCombat combat = new ValorCombat(board, stats);
 
         // Choose lanes and place heroes accordingly, then perform initial monster spawns
-        Scanner in = new Scanner(System.in);
-
-        ValorLaneSelector laneSelector = new ValorLaneSelector(in);
+        ValorLaneSelector laneSelector = new ValorLaneSelector(in, geometry);
         Map<Hero, Integer> lanes = laneSelector.chooseLanes(party);
 
-        ValorSpawner spawner = new ValorSpawner(board);
+        ValorSpawner spawner = new ValorSpawner(board, match.getMonsterPool());
         spawner.placeHeroesOnBoard(party, lanes);
 
         List<Monster> laneMonsters = spawner.spawnLaneMonsters(party);
 
+        // Console play unless the player lets an AI take the hero turns
+        ValorInput heroInput = chooseHeroInput(in, board, movement, combat, market, party);
+
+        // How monsters pick among heroes in range
+        TargetPolicy targetPolicy = chooseTargetPolicy(in);
+
         // Inject all initialized state into the match for execution by the match loop
         match.setMarket(market);
         match.setParty(party);
@@ -81,7 +107,102 @@ public class ValorMatchSetup {
         match.setGameStats(stats);
         match.setCombat(combat);
         match.setLaneMonsters(laneMonsters);
+        match.setHeroInput(heroInput);
+        match.setMonsterTargetPolicy(targetPolicy);
+        if (heroInput instanceof MctsValorInput) {
+            match.setOpeningBook(((MctsValorInput) heroInput).getPlanner().getOpeningBook());
+        }
 
         return true;
     }
+
+    /**
+     * Lists the preset board layouts and reads the player's choice.
+     * Blank or invalid input falls back to the standard board.
+     */
+    private BoardGeometry chooseBoard(Scanner in) {
+        BoardGeometry[] presets = BoardGeometry.presets();
+
+        System.out.println();
+        System.out.println("Choose a board:");
+        for (int i = 0; i < presets.length; i++) {
+            String tag = (presets[i] == BoardGeometry.STANDARD) ? "  (default)" : "";
+            System.out.println("  " + (i + 1) + ") " + presets[i].describe() + tag);
+        }
+        System.out.print("Board [1-" + presets.length + "]: ");
+
+        if (!in.hasNextLine()) return BoardGeometry.STANDARD;
+        String line = in.nextLine().trim();
+        try {
+            int choice = Integer.parseInt(line);
+            if (choice >= 1 && choice <= presets.length) return presets[choice - 1];
+        } catch (NumberFormatException e) {
+            // fall through to the default board
+        }
+        if (!line.isEmpty()) System.out.println("Unknown board, using the standard layout.");
+        return BoardGeometry.STANDARD;
+    }
+
+    /**
+     * Asks who plays the heroes. Returns null for the console player (also on
+     * blank or invalid input), otherwise the chosen AI input.
+     */
+    private ValorInput chooseHeroInput(Scanner in, ValorBoard board, ValorMovement movement,
+                                       ValorCombat combat, Market market, Party party) {
+        System.out.println();
+        System.out.println("Who plays the heroes?");
+        System.out.println("  1) You, at the console  (default)");
+        System.out.println("  2) Rule-based bot");
+        System.out.println("  3) MCTS planner");
+        System.out.println("  4) Expectimax planner");
+        System.out.print("Player [1-4]: ");
+
+        if (!in.hasNextLine()) return null;
+        String line = in.nextLine().trim();
+        switch (line) {
+            case "":
+            case "1":
+                return null;
+            case "2":
+                return new BotValorInput(board, movement, combat, market);
+            case "3":
+                // Solved lane endgames come from the tablebase, early turns from the opening book
+                MctsValorInput mcts = new MctsValorInput(board, movement, combat, party.getHeroes());
+                mcts.getPlanner().setTablebase(new LaneTablebase());
+                mcts.getPlanner().setOpeningBook(new OpeningBook());
+                return mcts;
+            case "4":
+                return new ExpectimaxValorInput(board, movement, combat, party.getHeroes());
+            default:
+                System.out.println("Unknown player, you keep the heroes.");
+                return null;
+        }
+    }
+
+    /**
+     * Lists the monster targeting rules and reads the player's choice.
+     * Blank or invalid input keeps the original first-in-range rule.
+     */
+    private TargetPolicy chooseTargetPolicy(Scanner in) {
+        System.out.println();
+        System.out.println("How do monsters pick their targets?");
+        for (int i = 0; i < TARGET_POLICIES.length; i++) {
+            String tag = (i == 0) ? "  (default)" : "";
+            System.out.println("  " + (i + 1) + ") " + TargetPolicyFactory.create(TARGET_POLICIES[i]).getName() + tag);
+        }
+        System.out.print("Targeting [1-" + TARGET_POLICIES.length + "]: ");
+
+        if (!in.hasNextLine()) return TargetPolicyFactory.create(TARGET_POLICIES[0]);
+        String line = in.nextLine().trim();
+        try {
+            int choice = Integer.parseInt(line);
+            if (choice >= 1 && choice <= TARGET_POLICIES.length) {
+                return TargetPolicyFactory.create(TARGET_POLICIES[choice - 1]);
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the default rule
+        }
+        if (!line.isEmpty()) System.out.println("Unknown choice, monsters attack the first hero in range.");
+        return TargetPolicyFactory.create(TARGET_POLICIES[0]);
+    }
 }
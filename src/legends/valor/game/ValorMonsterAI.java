@@ -7,17 +7,16 @@
  *
  * Responsibilities:
  *   - Choose movement directions for monsters based on lane-based rules
- *   - Prefer advancing toward the heroes' Nexus with fallback sidestep behavior
+ *   - Follow the board's distance field toward the heroes' Nexus (paths around obstacles)
  *   - Delegate legality and execution of movement to ValorMovement
  *   - Add small randomness to reduce predictable sidestep patterns
  */
 package legends.valor.game;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Random;
 
 import legends.characters.Monster;
+import legends.valor.world.NexusDistanceField;
 import legends.valor.world.ValorBoard;
 import legends.valor.world.ValorDirection;
 import legends.valor.world.ValorMovement;
@@ -30,51 +29,108 @@ public class ValorMonsterAI {
     // Movement engine enforces legality and performs actual relocation
     private final ValorMovement movement;
 
+    // Sidestep randomness (seeded per lane when the monster phase runs lanes separately)
+    private final Random rng;
+
+    // Candidate steps, reused between calls (each lane gets its own AI instance)
+    private static final ValorDirection[] ALL_STEPS = ValorDirection.values();
+    private final ValorDirection[] shuffled = ALL_STEPS.clone();
+    private final ValorDirection[] ranked = new ValorDirection[ALL_STEPS.length];
+    private final int[] rankedDist = new int[ALL_STEPS.length];
+
     public ValorMonsterAI(ValorBoard board, ValorMovement movement) {
+        this(board, movement, new Random());
+    }
+
+    public ValorMonsterAI(ValorBoard board, ValorMovement movement, Random rng) {
         this.board = board;
         this.movement = movement;
+        this.rng = (rng == null) ? new Random() : rng;
+    }
+
+    /**
+     * Returns an AI on the same board that draws its sidesteps from the given RNG.
+     */
+    public ValorMonsterAI withRandom(Random laneRng) {
+        return new ValorMonsterAI(board, movement, laneRng);
     }
 
     /**
-     * Advances a monster by one step following the AI movement priorities.
+     * Returns the lane a monster currently stands in, or -1 if it is not on the board.
+     */
+    public int laneOf(Monster monster) {
+        if (board == null || movement == null) return -1;
+        int[] pos = movement.findMonster(monster);
+        return (pos == null) ? -1 : board.getLane(pos[1]);
+    }
+
+    /**
+     * Number of lanes on the board this AI plays on.
+     */
+    public int getLaneCount() {
+        return (board == null) ? 0 : board.getGeometry().getLaneCount();
+    }
+
+    /**
+     * Advances a monster by one step along the board's distance field:
+     * the in-lane neighbour closest to the heroes' Nexus first (ties in random
+     * order), never a step that walks away, and a backward step only if
+     * nothing else is possible. This paths monsters around obstacles.
      */
     public void advanceMonster(Monster monster) {
         if (monster == null) return;
         if (board == null || movement == null) return;
 
-        // Primary objective: move toward the heroes' Nexus
-        if (movement.moveMonster(monster, ValorDirection.SOUTH)) {
-            return;
-        }
-
-        // If blocked, determine current lane so sidesteps remain within lane boundaries
         int[] pos = movement.findMonster(monster);
         if (pos == null || pos.length < 2) return;
 
-        int col = pos[1];
+        int tried = rankSteps(pos[0], pos[1], ranked);
+        for (int i = 0; i < tried; i++) {
+            if (movement.moveMonster(monster, ranked[i])) return;
+        }
+
+        // Final fallback: attempt a small backward move if no forward/side move is possible
+        movement.moveMonster(monster, ValorDirection.NORTH);
+    }
+
+    /**
+     * Fills out[] with the in-lane steps from (row, col) that do not increase
+     * the distance to the heroes' Nexus, closest first (ties in random order).
+     * Occupancy is not checked; out must hold at least four entries.
+     *
+     * @return number of entries written
+     */
+    public int rankSteps(int row, int col, ValorDirection[] out) {
+        NexusDistanceField field = board.getDistanceField();
         int lane = board.getLane(col);
-        if (lane == -1) return;
+        int here = field.distance(row, col);
 
-        // Randomize sidestep order to reduce identical movement patterns across monsters
-        List<ValorDirection> sides = new ArrayList<ValorDirection>();
-        sides.add(ValorDirection.WEST);
-        sides.add(ValorDirection.EAST);
-        Collections.shuffle(sides);
+        // Random starting order so equal-distance steps are tie-broken randomly
+        for (int i = ALL_STEPS.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            ValorDirection t = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = t;
+        }
 
-        for (int i = 0; i < sides.size(); i++) {
-            ValorDirection dir = sides.get(i);
-            if (dir == null) continue;
+        int n = 0;
+        for (ValorDirection d : shuffled) {
+            int r = row + d.deltaRow(), c = col + d.deltaCol();
+            if (board.getLane(c) != lane) continue;
 
-            // Enforce lane constraint before attempting movement
-            int toCol = col + dir.deltaCol();
-            if (board.getLane(toCol) != lane) continue;
+            int dist = field.distance(r, c);
+            if (dist == NexusDistanceField.UNREACHABLE || dist > here) continue;
 
-            if (movement.moveMonster(monster, dir)) {
-                return;
+            // Insertion sort by distance (stable, so random tie order is kept)
+            int k = n++;
+            while (k > 0 && rankedDist[k - 1] > dist) {
+                out[k] = out[k - 1];
+                rankedDist[k] = rankedDist[k - 1];
+                k--;
             }
+            out[k] = d;
+            rankedDist[k] = dist;
         }
-
-        // Final fallback: attempt a small backward move if no forward/side move is possible
-        movement.moveMonster(monster, ValorDirection.NORTH);
+        return n;
     }
 }
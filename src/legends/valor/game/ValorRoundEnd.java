@@ -0,0 +1,92 @@
+/**
+ * File: ValorRoundEnd.java
+ * Package: legends.valor.game
+ *
+ * Purpose:
+ *   Applies the end-of-round rules of a Legends of Valor match.
+ *
+ * Responsibilities:
+ *   - Regenerate living heroes (10% of their max HP/MP, capped at max)
+ *   - Drop dead monsters from the lane list through the match's MonsterPool
+ *   - Spawn a new monster wave every SPAWN_INTERVAL rounds
+ *
+ * Shared by ValorMatch and the headless self-play matches, so both play
+ * by the same rules.
+ */
+package legends.valor.game;
+
+import java.util.List;
+
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.characters.Party;
+import legends.valor.world.ValorBoard;
+
+public class ValorRoundEnd {
+
+    // Monster spawn frequency in rounds
+    public static final int SPAWN_INTERVAL = 4;
+
+    // Board whose health bars follow the regenerated heroes
+    private final ValorBoard board;
+
+    // Party regenerated and spawned against
+    private final Party party;
+
+    // Live lane monster list shared with the turn manager (compacted and appended in place)
+    private final List<Monster> laneMonsters;
+
+    // Pool that recycles the dead monsters dropped from the lane list
+    private final MonsterPool pool;
+
+    // Spawner for the periodic monster waves
+    private final ValorSpawner spawner;
+
+    public ValorRoundEnd(ValorBoard board, Party party, List<Monster> laneMonsters,
+                         MonsterPool pool, ValorSpawner spawner) {
+        this.board = board;
+        this.party = party;
+        this.laneMonsters = laneMonsters;
+        this.pool = pool;
+        this.spawner = spawner;
+    }
+
+    /**
+     * Applies the end-of-round rules after the given round (1-based) was played.
+     */
+    public void apply(int round) {
+        // Apply end-of-round regeneration rules for living heroes
+        regenerate(party.getHeroes());
+
+        // Drop dead monsters from the lane list so it stays bounded over long matches
+        pool.compact(laneMonsters);
+
+        // Periodically spawn new monsters and append them to lane state
+        if (round % SPAWN_INTERVAL == 0) {
+            List<Monster> spawned = spawner.spawnLaneMonsters(party);
+            if (spawned != null && !spawned.isEmpty()) {
+                laneMonsters.addAll(spawned);
+            }
+        }
+    }
+
+    /**
+     * End-of-round regeneration rule:
+     * Only alive heroes recover 10% of their computed max HP/MP, capped at max.
+     */
+    private void regenerate(List<Hero> heroes) {
+        if (heroes == null) return;
+
+        for (Hero h : heroes) {
+            if (h == null) continue;
+            if (h.getHP() <= 0) continue;
+
+            double maxHP = h.getLevel() * 100.0;
+            double maxMP = h.getLevel() * 50.0;
+
+            h.setHP(Math.min(maxHP, h.getHP() + 0.10 * maxHP));
+            h.setMP(Math.min(maxMP, h.getMP() + 0.10 * maxMP));
+            if (board != null) board.refreshHealth(h);
+        }
+    }
+}
@@ -8,7 +8,7 @@
  * Responsibilities:
  *   - Place heroes onto the heroes' Nexus row using lane-based spawn rules
  *   - Support both default lane placement and explicit hero-to-lane assignment
- *   - Spawn lane monsters at configured monster spawn cells
+ *   - Spawn lane monsters at configured monster spawn cells (instances come from a MonsterPool)
  *   - Provide consistent console feedback for spawn events
  */
 package legends.valor.game;
@@ -30,6 +30,12 @@ public class ValorSpawner {
     // Board used to resolve lane spawn coordinates and access tiles
     private final ValorBoard board;
 
+    // Supplies monster instances, reusing dead ones from earlier spawns
+    private final MonsterPool pool;
+
+    // Reused buffer for the prototypes picked on each spawn wave
+    private final List<Monster> picked = new ArrayList<Monster>();
+
     // ANSI colors for spawn feedback output
     private static final String RESET = "\u001B[0m";
     private static final String GREEN = "\u001B[92m";
@@ -37,12 +43,17 @@ public class ValorSpawner {
     private static final String YELL  = "\u001B[93m";
 
     public ValorSpawner(ValorBoard board) {
+        this(board, new MonsterPool());
+    }
+
+    public ValorSpawner(ValorBoard board, MonsterPool pool) {
         this.board = board;
+        this.pool = pool;
     }
 
     /**
      * Default hero placement policy:
-     * hero0->lane0, hero1->lane1, hero2->lane2.
+     * hero0->lane0, hero1->lane1, hero2->lane2 (and so on for wider boards).
      */
     public void placeHeroesOnBoard(Party party) {
         if (party == null) return;
@@ -50,8 +61,9 @@ public class ValorSpawner {
         List<Hero> heroes = party.getHeroes();
         if (heroes == null || heroes.isEmpty()) return;
 
+        int laneCount = board.getGeometry().getLaneCount();
         int lane = 0;
-        for (int i = 0; i < heroes.size() && lane < 3; i++) {
+        for (int i = 0; i < heroes.size() && lane < laneCount; i++) {
             Hero h = heroes.get(i);
             if (h == null) continue;
             placeHeroInLane(h, lane);
@@ -80,7 +92,7 @@ public class ValorSpawner {
             // Use explicit assignment when present; otherwise fallback by index
             Integer lane = heroToLane.get(h);
             if (lane == null) {
-                lane = Integer.valueOf(Math.min(i, 2));
+                lane = Integer.valueOf(Math.min(i, board.getGeometry().getLaneCount() - 1));
             }
 
             placeHeroInLane(h, lane.intValue());
@@ -93,7 +105,8 @@ public class ValorSpawner {
      */
     private void placeHeroInLane(Hero hero, int lane) {
         if (hero == null) return;
-        if (lane < 0 || lane > 2) lane = 1;
+        int laneCount = board.getGeometry().getLaneCount();
+        if (lane < 0 || lane >= laneCount) lane = laneCount / 2;
 
         int[] spawn = board.getHeroSpawnCell(lane);
         if (spawn == null || spawn.length < 2) {
@@ -106,23 +119,24 @@ public class ValorSpawner {
 
         ValorTile tile = board.getTile(row, colUsed);
 
-        // If occupied, try the other heroes' nexus column for the same lane
+        // If occupied, try the other heroes' nexus columns for the same lane
         if (tile.getHero() != null) {
             int[] cols = board.getNexusColumnsForLane(lane);
-            if (cols != null && cols.length == 2) {
-
-                int altCol = cols[1];
-                ValorTile alt = board.getTile(row, altCol);
-
-                if (alt.getHero() == null) {
-                    tile = alt;
-                    colUsed = altCol;
-                } else {
-                    System.out.println("Both hero nexus cells occupied in lane " + lane
-                            + ". Cannot place " + hero.getName());
-                    return;
+            ValorTile alt = null;
+            for (int i = 1; i < cols.length && alt == null; i++) {
+                ValorTile t = board.getTile(row, cols[i]);
+                if (t.getHero() == null) {
+                    alt = t;
+                    colUsed = cols[i];
                 }
             }
+
+            if (alt == null) {
+                System.out.println("All hero nexus cells occupied in lane " + lane
+                        + ". Cannot place " + hero.getName());
+                return;
+            }
+            tile = alt;
         }
 
         // Commit placement on the selected tile
@@ -143,19 +157,26 @@ public class ValorSpawner {
      */
     public List<Monster> spawnLaneMonsters(Party party) {
         List<Monster> laneMonsters = new ArrayList<Monster>();
+        int laneCount = board.getGeometry().getLaneCount();
+
+        // Pick catalog prototypes sized for the current party strength (at least one per lane)
+        picked.clear();
+        do {
+            int before = picked.size();
+            MonsterFactory.pickPrototypesForParty(party, picked);
+            if (picked.size() == before) break;
+        } while (picked.size() < laneCount);
 
-        // Generate a candidate pool sized for the current party strength
-        List<Monster> generated = MonsterFactory.generateMonstersForParty(party);
-        if (generated == null || generated.isEmpty()) {
+        if (picked.isEmpty()) {
             System.out.println("No monsters generated for Legends of Valor.");
             return laneMonsters;
         }
 
         // Randomize selection so lanes don't always get the same monsters
-        Collections.shuffle(generated);
+        Collections.shuffle(picked);
 
         int genIdx = 0;
-        for (int lane = 0; lane < 3; lane++) {
+        for (int lane = 0; lane < laneCount; lane++) {
 
             int[] spawn = board.getMonsterSpawnCell(lane);
             if (spawn == null || spawn.length < 2) continue;
@@ -166,11 +187,12 @@ public class ValorSpawner {
             ValorTile tile = board.getTile(row, col);
             if (tile.getMonster() != null) continue;
 
-            // Skip any null entries in the generated pool defensively
-            while (genIdx < generated.size() && generated.get(genIdx) == null) genIdx++;
-            if (genIdx >= generated.size()) break;
+            // Skip any null entries in the picked prototypes defensively
+            while (genIdx < picked.size() && picked.get(genIdx) == null) genIdx++;
+            if (genIdx >= picked.size()) break;
 
-            Monster m = generated.get(genIdx++);
+            // Only monsters that actually spawn take an instance from the pool
+            Monster m = pool.acquire(picked.get(genIdx++));
             tile.placeMonster(m);
             laneMonsters.add(m);
 
@@ -180,7 +202,7 @@ public class ValorSpawner {
                     + " lane " + YELL + laneCols(lane) + RESET
                     + " at (" + row + "," + col + ")");
 
-            if (laneMonsters.size() >= 3) break;
+            if (laneMonsters.size() >= laneCount) break;
         }
 
         return laneMonsters;
@@ -190,23 +212,13 @@ public class ValorSpawner {
      * Returns the lane label for display.
      */
     private String laneName(int lane) {
-        switch (lane) {
-            case 0: return "TOP";
-            case 1: return "MID";
-            case 2: return "BOT";
-            default: return "?";
-        }
+        return board.getGeometry().laneName(lane);
     }
 
     /**
      * Returns the board column range associated with a lane.
      */
     private String laneCols(int lane) {
-        switch (lane) {
-            case 0: return "(cols 0–1)";
-            case 1: return "(cols 3–4)";
-            case 2: return "(cols 6–7)";
-            default: return "(cols ?)";
-        }
+        return board.getGeometry().laneColsLabel(lane);
     }
 }
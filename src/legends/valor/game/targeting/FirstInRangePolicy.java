@@ -0,0 +1,24 @@
+/**
+ * File: FirstInRangePolicy.java
+ * Package: legends.valor.game.targeting
+ *
+ * Purpose:
+ *   Attacks the first hero in range order (the original monster behavior).
+ */
+package legends.valor.game.targeting;
+
+import legends.characters.Hero;
+
+public class FirstInRangePolicy implements TargetPolicy {
+
+    @Override
+    public double score(Hero hero, HeroTargetStats stats) {
+        // Every hero scores the same, so range order decides
+        return 0;
+    }
+
+    @Override
+    public String getName() {
+        return "First in range";
+    }
+}
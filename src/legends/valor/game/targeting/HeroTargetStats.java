@@ -0,0 +1,91 @@
+/**
+ * File: HeroTargetStats.java
+ * Package: legends.valor.game.targeting
+ *
+ * Purpose:
+ *   Cached per-hero effective stats used to score monster targets.
+ *
+ * Responsibilities:
+ *   - Store HP, armor reduction, expected hit and spellcaster flag per hero id
+ *   - Refresh a hero's entry once per monster phase (and HP after each hit)
+ *   - Answer lookups in O(1) without allocation
+ *
+ * Entries are indexed by Entity id. Only refresh() may grow the arrays, so
+ * it must run before lanes are processed concurrently; refreshHP() only
+ * writes an existing entry and is safe to call from a lane.
+ */
+package legends.valor.game.targeting;
+
+import java.util.Arrays;
+
+import legends.characters.Entity;
+import legends.characters.Hero;
+import legends.characters.Sorcerer;
+import legends.items.Item;
+import legends.items.Spell;
+import legends.valor.world.ThreatMap;
+
+public class HeroTargetStats {
+
+    // Current HP per hero id
+    private double[] hp = new double[0];
+
+    // Damage absorbed per hit by equipped armor, per hero id
+    private double[] armor = new double[0];
+
+    // Expected basic-attack damage per hero id
+    private double[] threat = new double[0];
+
+    // True for Sorcerers and for heroes carrying a spell they can afford
+    private boolean[] caster = new boolean[0];
+
+    /**
+     * Recomputes every cached stat for a hero.
+     */
+    public void refresh(Hero hero) {
+        if (hero == null || hero.getId() < 0) return;
+        int id = hero.getId();
+        ensureCapacity(id + 1);
+
+        hp[id] = hero.getHP();
+        armor[id] = (hero.getArmor() == null) ? 0 : hero.getArmor().getReduction();
+        threat[id] = ThreatMap.expectedHit(hero);
+        caster[id] = isCaster(hero);
+    }
+
+    /**
+     * Updates only the cached HP of a hero that was refreshed before.
+     */
+    public void refreshHP(Hero hero) {
+        if (!has(hero)) return;
+        hp[hero.getId()] = hero.getHP();
+    }
+
+    public double getHP(Hero hero) { return has(hero) ? hp[hero.getId()] : 0; }
+    public double getArmor(Hero hero) { return has(hero) ? armor[hero.getId()] : 0; }
+    public double getThreat(Hero hero) { return has(hero) ? threat[hero.getId()] : 0; }
+    public boolean isCaster(Entity hero) { return has(hero) && caster[hero.getId()]; }
+
+    private boolean has(Entity e) {
+        return e != null && e.getId() >= 0 && e.getId() < hp.length;
+    }
+
+    private static boolean isCaster(Hero hero) {
+        if (hero instanceof Sorcerer) return true;
+        if (hero.getInventory() == null) return false;
+
+        for (Item it : hero.getInventory().getItems()) {
+            if (it instanceof Spell && hero.canCast((Spell) it)) return true;
+        }
+        return false;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= hp.length) return;
+        int size = Math.max(n, Math.max(16, hp.length * 2));
+        hp = Arrays.copyOf(hp, size);
+        armor = Arrays.copyOf(armor, size);
+        threat = Arrays.copyOf(threat, size);
+        caster = Arrays.copyOf(caster, size);
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * File: HighestThreatPolicy.java
+ * Package: legends.valor.game.targeting
+ *
+ * Purpose:
+ *   Attacks the hero that deals the most damage per hit.
+ */
+package legends.valor.game.targeting;
+
+import legends.characters.Hero;
+
+public class HighestThreatPolicy implements TargetPolicy {
+
+    @Override
+    public double score(Hero hero, HeroTargetStats stats) {
+        return stats.getThreat(hero);
+    }
+
+    @Override
+    public String getName() {
+        return "Highest threat";
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * File: LowestArmorPolicy.java
+ * Package: legends.valor.game.targeting
+ *
+ * Purpose:
+ *   Attacks the hero whose armor absorbs the least damage (lowest HP on ties).
+ */
+package legends.valor.game.targeting;
+
+import legends.characters.Hero;
+
+public class LowestArmorPolicy implements TargetPolicy {
+
+    @Override
+    public double score(Hero hero, HeroTargetStats stats) {
+        // Armor reduction dominates; HP only separates equally armored heroes
+        return -stats.getArmor(hero) * 1e6 - stats.getHP(hero);
+    }
+
+    @Override
+    public String getName() {
+        return "Lowest armor";
+    }
+}
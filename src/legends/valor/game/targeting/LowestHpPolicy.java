@@ -0,0 +1,23 @@
+/**
+ * File: LowestHpPolicy.java
+ * Package: legends.valor.game.targeting
+ *
+ * Purpose:
+ *   Focuses the hero with the least HP left, to finish heroes off.
+ */
+package legends.valor.game.targeting;
+
+import legends.characters.Hero;
+
+public class LowestHpPolicy implements TargetPolicy {
+
+    @Override
+    public double score(Hero hero, HeroTargetStats stats) {
+        return -stats.getHP(hero);
+    }
+
+    @Override
+    public String getName() {
+        return "Lowest HP";
+    }
+}
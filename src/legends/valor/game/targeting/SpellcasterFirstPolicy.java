@@ -0,0 +1,24 @@
+/**
+ * File: SpellcasterFirstPolicy.java
+ * Package: legends.valor.game.targeting
+ *
+ * Purpose:
+ *   Attacks spellcasters before other heroes (lowest HP among equals).
+ */
+package legends.valor.game.targeting;
+
+import legends.characters.Hero;
+
+public class SpellcasterFirstPolicy implements TargetPolicy {
+
+    @Override
+    public double score(Hero hero, HeroTargetStats stats) {
+        // Caster flag dominates; HP only separates heroes of the same kind
+        return (stats.isCaster(hero) ? 1e9 : 0) - stats.getHP(hero);
+    }
+
+    @Override
+    public String getName() {
+        return "Spellcaster first";
+    }
+}
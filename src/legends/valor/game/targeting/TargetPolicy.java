@@ -0,0 +1,30 @@
+/**
+ * File: TargetPolicy.java
+ * Package: legends.valor.game.targeting
+ *
+ * Purpose:
+ *   Defines how a monster chooses which hero in range to attack.
+ *
+ * Responsibilities:
+ *   - Score a candidate hero from cached per-hero stats (higher score is attacked first)
+ *   - Stay allocation-free so target selection does not slow the monster phase
+ *
+ * Candidates are visited in range order (same order as
+ * ValorCombat.getHeroesInRange); on equal scores the earlier one wins.
+ */
+package legends.valor.game.targeting;
+
+import legends.characters.Hero;
+
+public interface TargetPolicy {
+
+    /**
+     * Returns the priority of attacking the given hero; higher is preferred.
+     */
+    double score(Hero hero, HeroTargetStats stats);
+
+    /**
+     * Short name shown in menus and logs.
+     */
+    String getName();
+}
@@ -0,0 +1,36 @@
+package legends.valor.game.targeting;
+
+/**
+ * Class: TargetPolicyFactory.java
+ * Package: legends.valor.game.targeting
+ * Purpose:
+ * Creates monster target policies by name (e.g. for difficulty settings).
+ */
+public class TargetPolicyFactory {
+
+    private TargetPolicyFactory() {
+        // utility class
+    }
+
+    /**
+     * Returns the policy for a name such as "LOWEST_HP" (case-insensitive).
+     * Unknown or missing names fall back to FirstInRangePolicy.
+     */
+    public static TargetPolicy create(String name) {
+        if (name == null) return new FirstInRangePolicy();
+
+        switch (name.trim().toUpperCase()) {
+            case "LOWEST_HP":
+                return new LowestHpPolicy();
+            case "HIGHEST_THREAT":
+                return new HighestThreatPolicy();
+            case "SPELLCASTER_FIRST":
+                return new SpellcasterFirstPolicy();
+            case "LOWEST_ARMOR":
+                return new LowestArmorPolicy();
+            case "FIRST_IN_RANGE":
+            default:
+                return new FirstInRangePolicy();
+        }
+    }
+}
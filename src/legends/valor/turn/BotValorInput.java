@@ -0,0 +1,378 @@
+/**
+ * File: BotValorInput.java
+ * Package: legends.valor.turn
+ *
+ * Purpose:
+ *   Autopilot that answers hero turn prompts so matches can run unattended.
+ *
+ * Responsibilities:
+ *   - Pick a command for each hero turn from a fast rule-based policy
+ *   - Answer the follow-up prompts (spell, target, item, direction) of that command
+ *   - Fall back to the next command when the game rejects one (e.g. a blocked move)
+ *   - Shop for upgrades directly through MarketService while standing on the Nexus
+ *
+ * Policy, in priority order:
+ *   1. Low HP: drink a healing potion, otherwise recall to the Nexus
+ *   2. Monster in range: pick the target most likely to die (then the most
+ *      expected damage, then the lowest HP); cast the spell with the highest
+ *      expected damage on it if that beats a basic attack, otherwise attack
+ *   3. Better weapon or armor in the inventory: equip it
+ *   4. Advance north (clearing obstacles, sidestepping within the lane), unless
+ *      the hero would more likely than not faint there in the monster phase
+ *   5. Wait
+ *
+ * Odds come from ValorDamageModel (closed form, no sampling).
+ *
+ * The market controller reads from the console, so the bot buys through
+ * MarketService itself instead of opening it.
+ */
+package legends.valor.turn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.game.market.MarketService;
+import legends.items.Armor;
+import legends.items.Item;
+import legends.items.Potion;
+import legends.items.PotionAttribute;
+import legends.items.Spell;
+import legends.items.Weapon;
+import legends.market.Market;
+import legends.valor.combat.ValorCombat;
+import legends.valor.combat.ValorDamageModel;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorMovement;
+
+public class BotValorInput implements ValorInput {
+
+    // Below this share of max HP the bot heals or retreats
+    private static final double LOW_HP_RATIO = 0.30;
+
+    // Lowest chance to survive the monster phase on a cell the bot steps into
+    private static final double MIN_SURVIVAL = 0.5;
+
+    private final ValorBoard board;
+    private final ValorMovement movement;
+    private final ValorCombat combat;
+    private final ValorDamageModel damageModel;
+
+    // Market used for Nexus shopping (null disables shopping)
+    private final Market market;
+    private final MarketService marketService = new MarketService();
+
+    // Whether prompts and answers are echoed to the console
+    private final boolean echo;
+
+    // Hero whose turn is running and the commands still to try this turn
+    private Hero current;
+    private final List<Character> plan = new ArrayList<Character>();
+    private int planPos = 0;
+
+    // Answer for the equip menu ("1" weapon, "2" armor) and the obstacle direction
+    private String equipChoice = "0";
+    private String obstacleDir = "0";
+
+    // Counters for load tests and benchmarks
+    private long turns = 0;
+    private long commands = 0;
+
+    public BotValorInput(ValorBoard board, ValorMovement movement, ValorCombat combat, Market market) {
+        this(board, movement, combat, market, true);
+    }
+
+    public BotValorInput(ValorBoard board, ValorMovement movement, ValorCombat combat,
+                         Market market, boolean echo) {
+        this.board = board;
+        this.movement = movement;
+        this.combat = combat;
+        this.damageModel = new ValorDamageModel(board);
+        this.market = market;
+        this.echo = echo;
+    }
+
+    @Override
+    public void beginTurn(Hero hero) {
+        current = hero;
+        plan.clear();
+        planPos = 0;
+        turns++;
+    }
+
+    @Override
+    public String readLine(String prompt) {
+        String answer = answer(prompt == null ? "" : prompt);
+        if (echo) System.out.println(prompt + answer);
+        return answer;
+    }
+
+    public long getTurnCount() { return turns; }
+    public long getCommandCount() { return commands; }
+
+    // ---------- Prompt dispatch ----------
+
+    private String answer(String prompt) {
+        if (current == null) return "N";
+
+        if (prompt.startsWith("Enter command")) return String.valueOf(nextCommand());
+        if (prompt.startsWith("Choose: ")) return equipChoice;
+        if (prompt.startsWith("Choose weapon")) return pick(bestWeaponIndex());
+        if (prompt.startsWith("Choose armor")) return pick(bestArmorIndex());
+        if (prompt.startsWith("Choose potion")) return pick(bestHealingPotionIndex());
+        if (prompt.startsWith("Choose spell")) return pick(bestSpellIndex());
+        if (prompt.startsWith("Choose monster")) return pick(bestTargetIndex());
+        if (prompt.startsWith("Direction")) return obstacleDir;
+
+        // Teleport choices, ENTER pauses and anything unexpected: cancel / continue
+        return prompt.startsWith("Press ENTER") ? "" : "0";
+    }
+
+    // 1-based answer for a 0-based index, "0" (cancel) when nothing fits
+    private String pick(int index) {
+        return (index < 0) ? "0" : String.valueOf(index + 1);
+    }
+
+    /**
+     * Returns the next command to try this turn. The plan is built on the
+     * first prompt of the turn; each rejected command moves on to the next.
+     */
+    private char nextCommand() {
+        if (planPos == 0 && plan.isEmpty()) buildPlan();
+        commands++;
+        return (planPos < plan.size()) ? plan.get(planPos++) : 'N';
+    }
+
+    private void buildPlan() {
+        Hero h = current;
+        int[] pos = movement.findHero(h);
+        if (pos == null) {
+            plan.add('N');
+            return;
+        }
+
+        boolean onNexus = board.isHeroesNexus(pos[0], pos[1]);
+        if (onNexus) shop(h);
+
+        // 1. Heal or retreat when low
+        if (h.getHP() < maxHP(h) * LOW_HP_RATIO) {
+            if (bestHealingPotionIndex() >= 0) plan.add('P');
+            if (!onNexus) plan.add('R');
+        }
+
+        // 2. Fight whatever is in range
+        List<Monster> inRange = combat.getMonstersInRange(h);
+        if (!inRange.isEmpty()) {
+            Monster target = inRange.get(bestTargetIndex());
+            int spell = bestSpellIndex();
+            if (spell >= 0 && ValorDamageModel.expectedSpell(h, spellAt(spell), target)
+                    > ValorDamageModel.expectedAttack(h, target)) plan.add('C');
+            plan.add('F');
+        }
+
+        // 3. Equip upgrades
+        if (bestWeaponIndex() >= 0 && isUpgrade(weaponAt(bestWeaponIndex()), h.getWeapon())) {
+            equipChoice = "1";
+            plan.add('E');
+        } else if (bestArmorIndex() >= 0 && isUpgrade(armorAt(bestArmorIndex()), h.getArmor())) {
+            equipChoice = "2";
+            plan.add('E');
+        }
+
+        // 4. Advance toward the monsters' Nexus
+        if (inRange.isEmpty()) planAdvance(h, pos[0], pos[1]);
+
+        plan.add('N');
+    }
+
+    private void planAdvance(Hero h, int r, int c) {
+        int lane = board.getLane(c);
+
+        if (board.inBounds(r - 1, c) && board.getTile(r - 1, c).getType() == ValorCellType.OBSTACLE) {
+            obstacleDir = "W";
+            plan.add('O');
+        }
+
+        // Do not walk into a cell where the hero would likely faint
+        int north = ValorAction.encode(ValorAction.MOVE, ValorDirection.NORTH.ordinal(), 0, 0);
+        if (damageModel.survivalChance(h, north) >= MIN_SURVIVAL) plan.add('W');
+
+        // Sidestep within the lane when the way north is blocked
+        if (board.getLane(c - 1) == lane) plan.add('A');
+        if (board.getLane(c + 1) == lane) plan.add('D');
+    }
+
+    // ---------- Shopping ----------
+
+    private void shop(Hero h) {
+        if (market == null) return;
+
+        Weapon w = bestAffordable(market.getWeapons(), h);
+        if (w != null && isUpgrade(w, bestOwned(weapons(h), h.getWeapon()))) buy(h, w);
+
+        Armor a = bestAffordable(market.getArmor(), h);
+        if (a != null && isUpgrade(a, bestOwned(armors(h), h.getArmor()))) buy(h, a);
+
+        if (bestSpellIndex() < 0) {
+            Spell s = bestAffordable(market.getSpells(), h);
+            if (s != null) buy(h, s);
+        }
+
+        if (bestHealingPotionIndex() < 0) {
+            Potion p = bestAffordable(market.getPotions(), h);
+            if (p != null && heals(p)) buy(h, p);
+        }
+    }
+
+    private void buy(Hero h, Item item) {
+        marketService.buy(h, item);
+        if (echo) System.out.println("[Bot] " + h.getName() + " bought " + item.getName());
+    }
+
+    // Highest-value item the hero can afford and use, or null
+    private <T extends Item> T bestAffordable(List<T> items, Hero h) {
+        T best = null;
+        if (items == null) return null;
+        for (T it : items) {
+            if (it == null || !h.canAfford(it) || h.getLevel() < it.getRequiredLevel()) continue;
+            if (it instanceof Potion && !heals((Potion) it)) continue;
+            if (best == null || value(it) > value(best)) best = it;
+        }
+        return best;
+    }
+
+    // ---------- Item choice (indices follow HeroTurnUIHelper's list order) ----------
+
+    private int bestWeaponIndex() {
+        return bestIndex(weapons(current));
+    }
+
+    private int bestArmorIndex() {
+        return bestIndex(armors(current));
+    }
+
+    private int bestHealingPotionIndex() {
+        List<Potion> potions = new ArrayList<Potion>();
+        for (Item it : current.getInventory().getItems()) if (it instanceof Potion) potions.add((Potion) it);
+
+        int best = -1;
+        for (int i = 0; i < potions.size(); i++) {
+            if (!heals(potions.get(i))) continue;
+            if (best < 0 || value(potions.get(i)) > value(potions.get(best))) best = i;
+        }
+        return best;
+    }
+
+    // Castable spell with the highest expected damage on the chosen target (highest base damage without one)
+    private int bestSpellIndex() {
+        List<Monster> inRange = combat.getMonstersInRange(current);
+        Monster target = inRange.isEmpty() ? null : inRange.get(bestTargetIndex());
+
+        List<Spell> spells = spells(current);
+        int best = -1;
+        double bestValue = -1;
+        for (int i = 0; i < spells.size(); i++) {
+            if (!current.canCast(spells.get(i))) continue;
+            double v = (target == null) ? spells.get(i).getDamage()
+                    : ValorDamageModel.expectedSpell(current, spells.get(i), target);
+            if (v > bestValue) {
+                best = i;
+                bestValue = v;
+            }
+        }
+        return best;
+    }
+
+    // Target most likely to die this turn, then the most expected damage, then the lowest HP
+    private int bestTargetIndex() {
+        List<Monster> inRange = combat.getMonstersInRange(current);
+        List<Spell> spells = spells(current);
+        int best = -1;
+        double bestKill = -1, bestDamage = -1;
+        for (int i = 0; i < inRange.size(); i++) {
+            Monster m = inRange.get(i);
+            double kill = ValorDamageModel.attackKillChance(current, m);
+            double damage = ValorDamageModel.expectedAttack(current, m);
+            for (Spell s : spells) {
+                kill = Math.max(kill, ValorDamageModel.spellKillChance(current, s, m));
+                damage = Math.max(damage, ValorDamageModel.expectedSpell(current, s, m));
+            }
+
+            boolean better = best < 0 || kill > bestKill
+                    || (kill == bestKill && damage > bestDamage)
+                    || (kill == bestKill && damage == bestDamage && m.getHP() < inRange.get(best).getHP());
+            if (better) {
+                best = i;
+                bestKill = kill;
+                bestDamage = damage;
+            }
+        }
+        return best;
+    }
+
+    private <T extends Item> int bestIndex(List<T> items) {
+        int best = -1;
+        for (int i = 0; i < items.size(); i++) {
+            if (current.getLevel() < items.get(i).getRequiredLevel()) continue;
+            if (best < 0 || value(items.get(i)) > value(items.get(best))) best = i;
+        }
+        return best;
+    }
+
+    private Weapon weaponAt(int i) { return weapons(current).get(i); }
+    private Armor armorAt(int i) { return armors(current).get(i); }
+    private Spell spellAt(int i) { return spells(current).get(i); }
+
+    private List<Weapon> weapons(Hero h) {
+        List<Weapon> out = new ArrayList<Weapon>();
+        for (Item it : h.getInventory().getItems()) if (it instanceof Weapon) out.add((Weapon) it);
+        return out;
+    }
+
+    private List<Armor> armors(Hero h) {
+        List<Armor> out = new ArrayList<Armor>();
+        for (Item it : h.getInventory().getItems()) if (it instanceof Armor) out.add((Armor) it);
+        return out;
+    }
+
+    private List<Spell> spells(Hero h) {
+        List<Spell> out = new ArrayList<Spell>();
+        for (Item it : h.getInventory().getItems()) if (it instanceof Spell) out.add((Spell) it);
+        return out;
+    }
+
+    // Best owned item of a kind (including the equipped one)
+    private <T extends Item> T bestOwned(List<T> owned, T equipped) {
+        T best = equipped;
+        for (T it : owned) {
+            if (best == null || value(it) > value(best)) best = it;
+        }
+        return best;
+    }
+
+    private boolean isUpgrade(Item candidate, Item equipped) {
+        return candidate != null && candidate != equipped
+                && (equipped == null || value(candidate) > value(equipped));
+    }
+
+    // Comparable strength of an item within its kind
+    private double value(Item it) {
+        if (it instanceof Weapon) return ((Weapon) it).getDamage();
+        if (it instanceof Armor) return ((Armor) it).getReduction();
+        if (it instanceof Spell) return ((Spell) it).getDamage();
+        if (it instanceof Potion) return ((Potion) it).getEffectAmount();
+        return it.getPrice();
+    }
+
+    private boolean heals(Potion p) {
+        return p.getAttributes() != null && p.getAttributes().contains(PotionAttribute.HEALTH);
+    }
+
+    // Same max HP rule as the end-of-round regeneration
+    private double maxHP(Hero h) {
+        return h.getLevel() * 100.0;
+    }
+}
@@ -13,6 +13,7 @@
  */
 package legends.valor.turn;
 
+import legends.characters.EntityIntTable;
 import legends.characters.Hero;
 import legends.characters.Monster;
 import legends.market.Market;
@@ -20,7 +21,6 @@ import legends.valor.combat.ValorCombat;
 import legends.valor.world.*;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
 
 public class HeroActionService {
@@ -39,7 +39,7 @@ public class HeroActionService {
                              ValorCombat combat,
                              List<Monster> laneMonsters,
                              HeroTurnUIHelper ui,
-                             Map<Hero, Integer> homeLane,
+                             EntityIntTable homeLane,
                              Market market,
                              Scanner scanner) {
 
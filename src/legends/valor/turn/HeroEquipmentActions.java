@@ -64,6 +64,10 @@ public class HeroEquipmentActions {
 
         hero.usePotion(p);
         hero.getInventory().removeItem(p);
+        if (board != null) {
+            board.refreshThreat(hero);
+            board.refreshHealth(hero);
+        }
 
         System.out.println(hero.getName() + " used potion: " + p.getName());
         return true;
@@ -98,6 +102,7 @@ public class HeroEquipmentActions {
             if (w == null) return false;
 
             hero.equipWeapon(w);
+            if (board != null) board.refreshThreat(hero);
             System.out.println("Equipped weapon: " + w.getName());
             return true;
         }
@@ -13,12 +13,12 @@
  */
 package legends.valor.turn;
 
+import legends.characters.EntityIntTable;
 import legends.characters.Hero;
 import legends.valor.world.*;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class HeroMovementActions {
 
@@ -32,12 +32,12 @@ public class HeroMovementActions {
     private final HeroTurnUIHelper ui;
 
     // Stores each hero's assigned lane for recall and lane-based rules
-    private final Map<Hero, Integer> homeLane;
+    private final EntityIntTable homeLane;
 
     public HeroMovementActions(ValorBoard board,
                                ValorMovement movement,
                                HeroTurnUIHelper ui,
-                               Map<Hero, Integer> homeLane) {
+                               EntityIntTable homeLane) {
         this.board = board;
         this.movement = movement;
         this.ui = ui;
@@ -59,30 +59,47 @@ public class HeroMovementActions {
      * Records the hero's home lane based on current board position if not already set.
      */
     public void bindHomeLaneIfMissing(Hero hero) {
-        if (hero == null || homeLane == null || board == null || movement == null) return;
-        if (homeLane.containsKey(hero)) return;
+        bindHomeLane(board, homeLane, hero);
+    }
 
-        int[] pos = movement.findHero(hero);
+    /**
+     * Records the lane the hero stands in as its home lane, unless one is already set.
+     * Heroes start in their home lane, so the first position seen is the home lane.
+     * Shared with the AI planners, which keep their own home-lane tables.
+     */
+    public static void bindHomeLane(ValorBoard board, EntityIntTable homeLane, Hero hero) {
+        if (hero == null || homeLane == null || board == null) return;
+        if (homeLane.contains(hero)) return;
+
+        int[] pos = board.locateHero(hero);
         if (pos == null) return;
 
         int lane = board.getLane(pos[1]);
         if (lane != -1) homeLane.put(hero, lane);
     }
 
+    /**
+     * Binds the home lane of every hero in the list (see bindHomeLane).
+     */
+    public static void bindHomeLanes(ValorBoard board, EntityIntTable homeLane, List<Hero> heroes) {
+        if (heroes == null) return;
+        for (Hero h : heroes) bindHomeLane(board, homeLane, h);
+    }
+
     /**
      * Recalls the hero back to an available heroes' Nexus cell in their home lane.
      */
     public boolean recall(Hero hero) {
         if (hero == null || board == null || movement == null || homeLane == null) return false;
 
-        Integer lane = homeLane.get(hero);
-        if (lane == null) {
+        int lane = homeLane.get(hero);
+        if (lane == -1) {
             System.out.println("Recall failed: home lane unknown.");
             return false;
         }
 
         int[] cols = board.getNexusColumnsForLane(lane);
-        int r = ValorBoard.ROWS - 1;
+        int r = board.getRows() - 1;
 
         int[] dest = null;
         if (cols.length >= 1 && board.canHeroEnter(r, cols[0])) dest = new int[]{r, cols[0]};
@@ -215,12 +232,9 @@ public class HeroMovementActions {
      */
     private List<Hero> getOtherAliveHeroesOnBoard(Hero self) {
         List<Hero> out = new ArrayList<Hero>();
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                Hero h = board.getTile(r, c).getHero();
-                if (h != null && h != self && h.getHP() > 0 && !out.contains(h)) {
-                    out.add(h);
-                }
+        for (Hero h : board.getHeroesOnBoard()) {
+            if (h != null && h != self && h.getHP() > 0) {
+                out.add(h);
             }
         }
         return out;
@@ -6,7 +6,7 @@
  *   Controls the interactive turn flow for a single hero in Legends of Valor.
  *
  * Responsibilities:
- *   - Render the board and hero turn menu for the active hero
+ *   - Render the board and hero turn menu (with combat previews) for the active hero
  *   - Read and interpret a single command input from the player
  *   - Delegate action execution to HeroActionService (combat, movement, equipment, market)
  *   - Provide non-consuming info actions (status, inventory)
@@ -14,17 +14,18 @@
  */
 package legends.valor.turn;
 
+import legends.characters.EntityIntTable;
 import legends.characters.Hero;
 import legends.characters.Monster;
 import legends.market.Market;
 import legends.valor.combat.ValorCombat;
+import legends.valor.combat.ValorDamageModel;
 import legends.valor.ui.ValorRoundStatusView;
 import legends.valor.world.ValorBoard;
 import legends.valor.world.ValorDirection;
 import legends.valor.world.ValorMovement;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
 
 public class HeroTurnController {
@@ -55,6 +56,9 @@ public class HeroTurnController {
     // Renders the turn menu and available command options for the hero
     private final HeroTurnMenuView menuView;
 
+    // Closed-form combat odds shown under the menu
+    private final ValorDamageModel damageModel;
+
     // Prints status tables for heroes + monsters (non-consuming action)
     private final ValorRoundStatusView statusView = new ValorRoundStatusView();
 
@@ -66,7 +70,7 @@ public class HeroTurnController {
                               ValorCombat combat,
                               List<Monster> laneMonsters,
                               ValorInput input,
-                              Map<Hero, Integer> homeLane,
+                              EntityIntTable homeLane,
                               Market market,
                               Scanner scanner,
                               RoundProvider roundProvider) {
@@ -80,6 +84,7 @@ public class HeroTurnController {
         HeroTurnUIHelper ui = new HeroTurnUIHelper(input);
         this.actions = new HeroActionService(board, movement, combat, laneMonsters, ui, homeLane, market, scanner);
         this.menuView = new HeroTurnMenuView();
+        this.damageModel = new ValorDamageModel(board);
     }
 
     /**
@@ -93,6 +98,9 @@ public class HeroTurnController {
         // Ensure recall/teleport rules have a home lane binding for this hero
         actions.bindHomeLaneIfMissing(hero);
 
+        // Let scripted/bot input know whose turn the following prompts belong to
+        input.beginTurn(hero);
+
         while (true) {
             // Flush any pending grouped logs BEFORE drawing the board/menu again
             if (combat != null) {
@@ -106,7 +114,10 @@ public class HeroTurnController {
             int[] pos = movement.findHero(hero);
             int lane = (pos == null) ? -1 : board.getLane(pos[1]);
 
-            menuView.renderTurnMenu(heroNumber, hero, pos, lane);
+            menuView.renderTurnMenu(heroNumber, hero, pos,
+                    lane == -1 ? null : board.getGeometry().laneName(lane));
+            menuView.renderPreview(hero, pos, combat == null ? null : combat.getMonstersInRange(hero),
+                    movement.canMoveHero(hero, ValorDirection.NORTH), damageModel);
 
             char cmd = readCommand();
             if (cmd == 0) continue;
@@ -164,6 +175,12 @@ public class HeroTurnController {
                     showStatus();
                     break;
 
+                case 'X':
+                    // Danger overlay is informational (non-consuming)
+                    board.printDangerMap();
+                    input.readLine("Press ENTER to continue...");
+                    break;
+
                 case 'W':
                     if (actions.move(hero, ValorDirection.NORTH)) return true;
                     break;
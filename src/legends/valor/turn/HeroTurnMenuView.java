@@ -9,11 +9,20 @@
  *   - Display the active hero's turn header and current position/lane
  *   - Show hero status values (level, HP/MP, gold) in a readable format
  *   - Present available command keys and actions for the current turn
+ *   - Preview attack / spell odds against monsters in range and the chance to
+ *     survive the monster phase (ValorDamageModel)
  *   - Provide small formatting helpers for consistent console alignment
  */
 package legends.valor.turn;
 
+import java.util.List;
+
 import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.items.Item;
+import legends.items.Spell;
+import legends.valor.combat.ValorDamageModel;
+import legends.valor.world.ValorDirection;
 
 public class HeroTurnMenuView {
 
@@ -22,19 +31,18 @@ public class HeroTurnMenuView {
     private static final String BOLD  = "\u001B[1m";
     private static final String CYAN  = "\u001B[36m";
     private static final String YELLOW= "\u001B[33m";
-    private static final String GREEN = "\u001B[32m";
     private static final String MAGENTA = "\u001B[35m";
     private static final String WHITE = "\u001B[37m";
 
     /**
      * Prints the formatted turn menu for a specific hero.
      */
-    public void renderTurnMenu(int heroNumber, Hero hero, int[] pos, int lane) {
+    public void renderTurnMenu(int heroNumber, Hero hero, int[] pos, String lane) {
         System.out.println();
         System.out.println(CYAN + BOLD + "┏━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┓" + RESET);
 
         // Lane/position context helps the player plan movement and actions
-        String laneName = laneName(lane);
+        String laneName = (lane == null) ? "UNKNOWN" : lane + " LANE";
         String where = (pos == null) ? "(?,?)" : "(" + pos[0] + "," + pos[1] + ")";
         String title = " HERO " + heroNumber + " TURN ";
         String nameLine = hero.getName() + "  " + WHITE + where + RESET + "  " + YELLOW + laneName + RESET;
@@ -61,22 +69,51 @@ public class HeroTurnMenuView {
         System.out.println(CYAN + "┃ " + RESET + formatKey("E", "Equip") + "     " + formatKey("T", "Teleport") + padRight("", 19) + CYAN + "┃" + RESET);
         System.out.println(CYAN + "┃ " + RESET + formatKey("R", "Recall") + "    " + formatKey("O", "Remove Obstacle") + padRight("", 12) + CYAN + "┃" + RESET);
         System.out.println(CYAN + "┃ " + RESET + formatKey("M", "Market") + "    " + formatKey("I", "Inventory") + padRight("", 18) + CYAN + "┃" + RESET);
-        System.out.println(CYAN + "┃ " + RESET + formatKey("Z", "Status") + "    " + GREEN + RESET + padRight("", 6) + padRight("", 25) + CYAN + "┃" + RESET);
+        System.out.println(CYAN + "┃ " + RESET + formatKey("Z", "Status") + "    " + formatKey("X", "Danger Map") + padRight("", 17) + CYAN + "┃" + RESET);
         System.out.println(CYAN + "┃ " + RESET + formatKey("N", "Wait") + "      " + formatKey("Q", "Quit") + padRight("", 23) + CYAN + "┃" + RESET);
 
         System.out.println(CYAN + BOLD + "┗━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┛" + RESET);
     }
 
     /**
-     * Converts a lane index into a human-readable label.
+     * Prints instant combat previews under the menu: per monster in range the
+     * expected damage and kill chance of an attack and of the best castable
+     * spell, then the chance to survive the monster phase staying or (when the
+     * step is legal) stepping north.
      */
-    private String laneName(int lane) {
-        switch (lane) {
-            case 0: return "TOP LANE";
-            case 1: return "MID LANE";
-            case 2: return "BOT LANE";
-            default: return "UNKNOWN";
+    public void renderPreview(Hero hero, int[] pos, List<Monster> inRange, boolean canStepNorth,
+                              ValorDamageModel model) {
+        if (hero == null || pos == null || model == null) return;
+
+        if (inRange != null && !inRange.isEmpty()) {
+            System.out.println(YELLOW + BOLD + " Targets in range:" + RESET);
+            for (Monster m : inRange) {
+                String line = "  " + m.getName() + " (HP " + (int) m.getHP() + ")"
+                        + "  attack ~" + (int) Math.round(ValorDamageModel.expectedAttack(hero, m))
+                        + " (kill " + percent(ValorDamageModel.attackKillChance(hero, m)) + ")";
+
+                Spell best = null;
+                for (Item it : hero.getInventory().getItems()) {
+                    if (!(it instanceof Spell) || !hero.canCast((Spell) it)) continue;
+                    if (best == null || ValorDamageModel.expectedSpell(hero, (Spell) it, m)
+                            > ValorDamageModel.expectedSpell(hero, best, m)) best = (Spell) it;
+                }
+                if (best != null) {
+                    line += "  " + best.getName() + " ~" + (int) Math.round(ValorDamageModel.expectedSpell(hero, best, m))
+                            + " (kill " + percent(ValorDamageModel.spellKillChance(hero, best, m)) + ")";
+                }
+                System.out.println(line);
+            }
         }
+
+        String survive = " Survive monster phase: stay " + percent(model.survivalChance(hero, pos[0], pos[1]));
+        int north = ValorAction.encode(ValorAction.MOVE, ValorDirection.NORTH.ordinal(), 0, 0);
+        if (canStepNorth) survive += " | north " + percent(model.survivalChance(hero, north));
+        System.out.println(WHITE + survive + RESET);
+    }
+
+    private String percent(double p) {
+        return Math.round(p * 100) + "%";
     }
 
     /**
@@ -0,0 +1,367 @@
+/**
+ * File: MonsterPhasePlanner.java
+ * Package: legends.valor.turn
+ *
+ * Purpose:
+ *   Plans and applies the monster phase in bulk instead of monster by monster.
+ *
+ * Responsibilities:
+ *   - Capture hero and monster positions once per phase (board snapshot)
+ *   - Decide every monster's action (attack or step) in a single pass over the snapshot
+ *   - Resolve cell conflicts deterministically (front-most monster claims a cell first)
+ *   - Pick attack targets with a pluggable TargetPolicy over cached hero stats
+ *   - Apply the planned attacks and moves without re-validating against the board
+ *   - Keep planning off the board's locks so lanes can be planned concurrently
+ *
+ * Conflict rule:
+ *   Monsters of a lane are planned front to back (highest row first, lane
+ *   list order for ties). Each planned step reserves its destination and
+ *   frees its source in the snapshot, so a monster can follow into a cell
+ *   vacated by the monster ahead, and two monsters never claim the same cell.
+ *   Monsters that find no step get a second try after everyone else has
+ *   been planned (only then may they step backward). Moves are applied in
+ *   the order they were claimed, so every destination is free when entered.
+ *   A monster planned to attack whose heroes in range all fell earlier in
+ *   the phase claims a step after the planned moves instead of idling.
+ *
+ * Lanes only touch their own columns, so lanes may be planned concurrently
+ * against one shared snapshot. Planning reads nothing but the snapshot, the
+ * terrain and the distance field, none of which take the ValorBoard lock.
+ * Applying a plan does (every attack and move updates the board's index,
+ * hash and threat map under it), so plans are applied one lane at a time on
+ * the phase thread instead of from the lane tasks, where they would only
+ * queue up behind each other on that lock.
+ */
+package legends.valor.turn;
+
+import java.util.Arrays;
+import java.util.List;
+
+import legends.characters.EntityIntTable;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.valor.combat.ValorCombat;
+import legends.valor.game.ValorMonsterAI;
+import legends.valor.game.targeting.FirstInRangePolicy;
+import legends.valor.game.targeting.HeroTargetStats;
+import legends.valor.game.targeting.TargetPolicy;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorMovement;
+
+public class MonsterPhasePlanner {
+
+    // Planned action per monster
+    private static final int IDLE = 0;
+    private static final int ATTACK = 1;
+    private static final int MOVE = 2;
+
+    private final ValorBoard board;
+    private final ValorMovement movement;
+    private final int rows;
+    private final int cols;
+
+    // Snapshot: living hero per cell (row * cols + col), or null
+    private final Hero[] heroAt;
+
+    // Snapshot: cell holds (or is reserved by) a monster; updated while planning
+    private final boolean[] monsterAt;
+
+    // Snapshot: cell (row * cols + col) of each living monster, -1 if not on the board
+    private EntityIntTable monsterCell = new EntityIntTable(-1);
+
+    // Snapshot: positions of the living heroes on the board
+    private int[] heroRow = new int[0];
+    private int[] heroCol = new int[0];
+    private int heroCount = 0;
+
+    // How monsters choose among heroes in range, scored from the cached hero stats
+    private TargetPolicy targetPolicy = new FirstInRangePolicy();
+    private final HeroTargetStats heroStats = new HeroTargetStats();
+
+    public MonsterPhasePlanner(ValorBoard board, ValorMovement movement) {
+        if (board == null || movement == null) {
+            throw new IllegalArgumentException("Board and movement are required");
+        }
+        this.board = board;
+        this.movement = movement;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        this.heroAt = new Hero[rows * cols];
+        this.monsterAt = new boolean[rows * cols];
+    }
+
+    public void setTargetPolicy(TargetPolicy policy) {
+        this.targetPolicy = (policy == null) ? new FirstInRangePolicy() : policy;
+    }
+
+    public TargetPolicy getTargetPolicy() { return targetPolicy; }
+
+    /**
+     * Captures hero and monster positions for the coming phase.
+     * Must be called once before the lanes are planned.
+     */
+    public void snapshot() {
+        Arrays.fill(heroAt, null);
+        Arrays.fill(monsterAt, false);
+        monsterCell = new EntityIntTable(-1);
+
+        List<Hero> heroes = board.getHeroesOnBoard();
+        if (heroRow.length < heroes.size()) {
+            heroRow = new int[heroes.size()];
+            heroCol = new int[heroes.size()];
+        }
+        heroCount = 0;
+        for (Hero h : heroes) {
+            if (h == null || h.getHP() <= 0) continue;
+            int[] pos = board.locateHero(h);
+            if (pos == null) continue;
+            heroAt[pos[0] * cols + pos[1]] = h;
+            heroStats.refresh(h);
+            heroRow[heroCount] = pos[0];
+            heroCol[heroCount] = pos[1];
+            heroCount++;
+        }
+
+        for (Monster m : board.getMonstersOnBoard()) {
+            if (m == null || m.getHP() <= 0) continue;
+            int[] pos = board.locateMonster(m);
+            if (pos == null) continue;
+            monsterAt[pos[0] * cols + pos[1]] = true;
+            monsterCell.put(m, pos[0] * cols + pos[1]);
+        }
+    }
+
+    /**
+     * One lane's planned actions, ready to be applied with applyLane.
+     */
+    public static final class LanePlan {
+
+        // Living monsters of the lane, in lane list order
+        private final List<Monster> monsters;
+
+        // Lane AI used for the plan (ranks fallback steps when the plan is applied)
+        private final ValorMonsterAI ai;
+
+        // Snapshot cell of each monster, -1 if it is not on the board
+        private final int[] from;
+
+        // Monster indices front to back (attack order)
+        private final int[] order;
+
+        // Planned action and step destination per monster
+        private final int[] action;
+        private final int[] to;
+
+        // Monsters in the order their steps were claimed (= safe apply order)
+        private final int[] moves;
+        private int moveCount = 0;
+
+        private LanePlan(List<Monster> monsters, ValorMonsterAI ai, int[] from, int[] order) {
+            int n = monsters.size();
+            this.monsters = monsters;
+            this.ai = ai;
+            this.from = from;
+            this.order = order;
+            this.action = new int[n];
+            this.to = new int[n];
+            this.moves = new int[n];
+        }
+    }
+
+    /**
+     * Plans one lane's monsters against the current snapshot without touching
+     * the board: every monster either attacks a hero in range or claims a step.
+     * Safe to call for different lanes at the same time.
+     *
+     * @param monsters living monsters of one lane, in lane list order
+     * @param laneAi   AI for this lane (step ranking and its RNG)
+     */
+    public LanePlan planLane(List<Monster> monsters, ValorMonsterAI laneAi) {
+        int n = monsters.size();
+
+        // Current cell of each monster (snapshot)
+        int[] from = new int[n];
+        for (int i = 0; i < n; i++) from[i] = monsterCell.get(monsters.get(i));
+
+        LanePlan plan = new LanePlan(monsters, laneAi, from, frontToBack(from));
+        ValorDirection[] steps = new ValorDirection[ValorDirection.values().length];
+
+        // Planning pass: attack if a hero is in range, otherwise claim a step
+        int[] retry = new int[plan.order.length];
+        int retryCount = 0;
+        for (int i : plan.order) {
+            int r = from[i] / cols, c = from[i] % cols;
+
+            if (bestHeroInRange(r, c) != null) {
+                plan.action[i] = ATTACK;
+                continue;
+            }
+
+            int dest = claimStep(from[i], laneAi, steps, false);
+            if (dest < 0) {
+                retry[retryCount++] = i;
+                continue;
+            }
+            plan.action[i] = MOVE;
+            plan.to[i] = dest;
+            plan.moves[plan.moveCount++] = i;
+        }
+
+        // Monsters blocked by a same-row neighbour that has since moved get one more try
+        for (int k = 0; k < retryCount; k++) {
+            int i = retry[k];
+            int dest = claimStep(from[i], laneAi, steps, true);
+            if (dest < 0) continue;
+            plan.action[i] = MOVE;
+            plan.to[i] = dest;
+            plan.moves[plan.moveCount++] = i;
+        }
+        return plan;
+    }
+
+    /**
+     * Applies a lane plan to the board: attacks first (in plan order), then all
+     * moves. An attacker left without a hero in range steps instead, after the
+     * planned moves. Lanes must be applied one at a time.
+     *
+     * @param plan       plan returned by planLane for this phase's snapshot
+     * @param laneCombat combat engine for this lane (attacks and log output)
+     */
+    public void applyLane(LanePlan plan, ValorCombat laneCombat) {
+        if (plan == null) return;
+        int[] from = plan.from;
+
+        // Apply attacks; a monster whose target already fell takes the next-best hero in range
+        int[] stranded = new int[plan.order.length];
+        int strandedCount = 0;
+        for (int i : plan.order) {
+            if (plan.action[i] != ATTACK) continue;
+            Hero target = bestHeroInRange(from[i] / cols, from[i] % cols);
+            if (target == null) {
+                stranded[strandedCount++] = i;
+                continue;
+            }
+            laneCombat.monsterAttack(plan.monsters.get(i), target);
+            heroStats.refreshHP(target);
+        }
+        flushSafely(laneCombat);
+
+        // Apply moves in claim order, so every destination has been vacated already
+        for (int k = 0; k < plan.moveCount; k++) {
+            int i = plan.moves[k];
+            movement.applyMonsterMove(plan.monsters.get(i),
+                    from[i] / cols, from[i] % cols, plan.to[i] / cols, plan.to[i] % cols);
+        }
+
+        // Attackers whose heroes all fell claim a step against the lane's final claims
+        ValorDirection[] steps = new ValorDirection[ValorDirection.values().length];
+        for (int k = 0; k < strandedCount; k++) {
+            int i = stranded[k];
+            int dest = claimStep(from[i], plan.ai, steps, true);
+            if (dest < 0) continue;
+            plan.action[i] = MOVE;
+            plan.to[i] = dest;
+            movement.applyMonsterMove(plan.monsters.get(i),
+                    from[i] / cols, from[i] % cols, dest / cols, dest % cols);
+        }
+    }
+
+    /**
+     * Returns monster indices sorted by row, front (heroes' side) first.
+     * Counting sort by row, stable so lane list order breaks ties.
+     */
+    private int[] frontToBack(int[] from) {
+        int[] start = new int[rows + 1];
+        for (int cell : from) {
+            if (cell >= 0) start[rows - 1 - cell / cols + 1]++;
+        }
+        for (int k = 1; k <= rows; k++) start[k] += start[k - 1];
+
+        int[] order = new int[start[rows]];
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] < 0) continue;
+            order[start[rows - 1 - from[i] / cols]++] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Claims the best free step for the monster on cell using the AI's step
+     * ranking, honoring snapshot occupancy and the no-bypass rule, and moves
+     * its reservation there. The backward fallback is only considered when
+     * allowBackward is set.
+     *
+     * @return the claimed destination cell, or -1 if the monster stays put
+     */
+    private int claimStep(int cell, ValorMonsterAI laneAi, ValorDirection[] steps, boolean allowBackward) {
+        int r = cell / cols, c = cell % cols;
+        int blockRow = closestHeroRowAhead(r, board.getLane(c));
+
+        int dest = -1;
+        int count = laneAi.rankSteps(r, c, steps);
+        for (int k = 0; k < count && dest < 0; k++) {
+            int tr = r + steps[k].deltaRow(), tc = c + steps[k].deltaCol();
+            if (canClaim(tr, tc, blockRow)) dest = tr * cols + tc;
+        }
+
+        // Fallback: a backward step if nothing else is possible
+        int back = r + ValorDirection.NORTH.deltaRow();
+        if (dest < 0 && allowBackward && canClaim(back, c, blockRow)) dest = back * cols + c;
+        if (dest < 0) return -1;
+
+        monsterAt[cell] = false;
+        monsterAt[dest] = true;
+        return dest;
+    }
+
+    // Destination must be enterable, unclaimed and not past the closest hero ahead
+    private boolean canClaim(int tr, int tc, int blockRow) {
+        if (!board.inBounds(tr, tc)) return false;
+        if (!board.getTile(tr, tc).isAccessible()) return false;
+        if (monsterAt[tr * cols + tc]) return false;
+        return blockRow == Integer.MAX_VALUE || tr <= blockRow;
+    }
+
+    // Row of the closest living snapshot hero ahead of row r in the lane, or Integer.MAX_VALUE
+    private int closestHeroRowAhead(int r, int lane) {
+        int best = Integer.MAX_VALUE;
+        for (int k = 0; k < heroCount; k++) {
+            int hr = heroRow[k];
+            if (hr <= r || hr >= best || board.getLane(heroCol[k]) != lane) continue;
+
+            // Heroes that fell earlier in the phase no longer block
+            Hero h = heroAt[hr * cols + heroCol[k]];
+            if (h != null && h.getHP() > 0) best = hr;
+        }
+        return best;
+    }
+
+    // Highest-scoring living snapshot hero in the 3x3 range around (r, c), or null
+    private Hero bestHeroInRange(int r, int c) {
+        Hero best = null;
+        double bestScore = 0;
+        for (int[] d : ValorCombat.NEIGHBOR_OFFSETS) {
+            int nr = r + d[0], nc = c + d[1];
+            if (!board.inBounds(nr, nc)) continue;
+            Hero h = heroAt[nr * cols + nc];
+            if (h == null || h.getHP() <= 0) continue;
+
+            // Strictly greater, so range order breaks ties
+            double s = targetPolicy.score(h, heroStats);
+            if (best == null || s > bestScore) {
+                best = h;
+                bestScore = s;
+            }
+        }
+        return best;
+    }
+
+    private void flushSafely(ValorCombat c) {
+        try {
+            c.flushLogs();
+        } catch (Exception ignored) {
+            // swallow to avoid crashing the match on logging issues
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * File: MonsterPhasePlannerTest.java
+ * Description: Simple test harness for MonsterPhasePlanner claim ordering.
+ *              On a board with the random terrain cleared, checks that the
+ *              front-most monster claims first whatever the lane list order,
+ *              that a monster may follow into a cell vacated ahead of it,
+ *              that a blocked monster gets its retry after the others moved,
+ *              that a monster with a hero in range attacks instead of
+ *              stepping, and that an attacker whose hero fell earlier in the
+ *              phase steps instead. Exits with status 1 on a failure.
+ */
+
+package legends.valor.turn;
+
+import legends.characters.Dragon;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.characters.Warrior;
+import legends.stats.GameStats;
+import legends.valor.combat.ValorCombat;
+import legends.valor.game.ValorMonsterAI;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorMovement;
+import legends.valor.world.ValorTile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class MonsterPhasePlannerTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+
+        // --- Front monster claims first, the one behind follows into its cell ---
+        System.out.println("=== Follow ===");
+        for (boolean frontListedFirst : new boolean[] { true, false }) {
+            ValorBoard board = clearBoard();
+            Monster front = place(board, 3, 0);
+            Monster back = place(board, 2, 0);
+            runLane(board, frontListedFirst ? Arrays.asList(front, back) : Arrays.asList(back, front));
+            String order = frontListedFirst ? " (front listed first)" : " (back listed first)";
+            check(at(board, front, 4, 0), "front monster steps south" + order);
+            check(at(board, back, 3, 0), "back monster takes the vacated cell" + order);
+        }
+
+        // --- A monster blocked in the first pass retries after the others ---
+        System.out.println("\n=== Retry ===");
+        ValorBoard board = clearBoard();
+        board.getTile(4, 0).setType(ValorCellType.OBSTACLE);
+        Monster blocked = place(board, 3, 0);
+        Monster beside = place(board, 3, 1);
+        runLane(board, Arrays.asList(blocked, beside));
+        check(at(board, beside, 4, 1), "free monster steps south");
+        check(at(board, blocked, 3, 1), "blocked monster sidesteps into the freed cell");
+
+        // --- Monsters never share a cell ---
+        System.out.println("\n=== No shared cells ===");
+        board = clearBoard();
+        List<Monster> crowd = new ArrayList<Monster>();
+        for (int r = 1; r <= 4; r++) {
+            crowd.add(place(board, r, 0));
+            crowd.add(place(board, r, 1));
+        }
+        runLane(board, crowd);
+        boolean distinct = true;
+        boolean[] seen = new boolean[board.getRows() * board.getCols()];
+        for (Monster m : crowd) {
+            int[] pos = board.locateMonster(m);
+            int cell = pos[0] * board.getCols() + pos[1];
+            if (seen[cell]) distinct = false;
+            seen[cell] = true;
+        }
+        check(distinct, "eight monsters end on eight cells");
+        check(at(board, crowd.get(6), 5, 0) && at(board, crowd.get(7), 5, 1), "front row advanced");
+
+        // --- A hero in range is attacked instead of walked past ---
+        System.out.println("\n=== Attack ===");
+        board = clearBoard();
+        Hero hero = new Warrior("Guard", 1, 100, 100, 500, 500, 500);
+        board.getTile(5, 0).placeHero(hero);
+        Monster adjacent = place(board, 4, 1);
+        Monster behind = place(board, 2, 1);
+        runLane(board, Arrays.asList(adjacent, behind));
+        check(at(board, adjacent, 4, 1), "monster next to the hero stays to attack");
+        check(at(board, behind, 3, 1), "monster behind still advances");
+
+        // --- An attacker whose hero already fell steps instead of idling ---
+        System.out.println("\n=== Fallen target ===");
+        board = clearBoard();
+        Hero weak = new Warrior("Weak", 1, 1, 100, 500, 500, 0);
+        board.getTile(5, 0).placeHero(weak);
+        Monster striker = place(board, 4, 0);
+        Monster second = place(board, 4, 1);
+        runLane(board, Arrays.asList(striker, second));
+        check(weak.getHP() <= 0 && board.locateHero(weak) == null, "first attacker knocks the hero out");
+        check(at(board, striker, 4, 0), "first attacker stays where it attacked");
+        int[] pos = board.locateMonster(second);
+        check(pos != null && pos[0] == 5, "second attacker advances once its target is gone");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Snapshots the board, then plans and applies lane 0 with a fixed seed
+    private static void runLane(ValorBoard board, List<Monster> monsters) {
+        ValorMovement movement = new ValorMovement(board);
+        MonsterPhasePlanner planner = new MonsterPhasePlanner(board, movement);
+        GameStats stats = new GameStats(GameStats.GameMode.LEGENDS_OF_VALOR, board.getHeroesOnBoard());
+        ValorCombat combat = new ValorCombat(board, stats);
+        Random rng = new Random(7);
+
+        planner.snapshot();
+        MonsterPhasePlanner.LanePlan plan = planner.planLane(monsters, new ValorMonsterAI(board, movement).withRandom(rng));
+        planner.applyLane(plan, combat);
+    }
+
+    // Standard board with every lane cell between the Nexus rows made plain
+    private static ValorBoard clearBoard() {
+        ValorBoard board = new ValorBoard();
+        for (int r = 1; r < board.getRows() - 1; r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                ValorTile tile = board.getTile(r, c);
+                if (tile.getType() != ValorCellType.INACCESSIBLE) tile.setType(ValorCellType.PLAIN);
+            }
+        }
+        return board;
+    }
+
+    private static Monster place(ValorBoard board, int row, int col) {
+        Monster m = new Dragon("Drake", 1, 100, 100, 0.0);
+        board.getTile(row, col).placeMonster(m);
+        return m;
+    }
+
+    private static boolean at(ValorBoard board, Monster m, int row, int col) {
+        int[] pos = board.locateMonster(m);
+        return pos != null && pos[0] == row && pos[1] == col;
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
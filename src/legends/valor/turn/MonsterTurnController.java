@@ -6,20 +6,33 @@
  *   Controls the monster phase of a Legends of Valor round.
  *
  * Responsibilities:
- *   - Iterate through active lane monsters and determine their action each phase
+ *   - Snapshot the board once per phase and let MonsterPhasePlanner batch each lane
+ *   - Plan lanes independently (in parallel on large boards), then apply them in lane order
  *   - Use ValorCombat to attack heroes when targets are in range
- *   - Delegate monster movement decisions to ValorMonsterAI when no attack occurs
+ *   - Use ValorMonsterAI's step ranking for monsters that do not attack
  *   - Flush buffered combat logs at safe points to preserve log ordering
+ *
+ * Only planning runs on the pool. Applying a plan goes through the
+ * synchronized ValorBoard callbacks, so lane tasks that applied their own
+ * plans would just take turns on the board lock; the phase thread applies
+ * them one after another instead.
  */
 package legends.valor.turn;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import legends.characters.Hero;
 import legends.characters.Monster;
 import legends.valor.combat.ValorCombat;
 import legends.valor.game.ValorMonsterAI;
+import legends.valor.game.targeting.TargetPolicy;
+import legends.valor.turn.MonsterPhasePlanner.LanePlan;
 
 import static legends.ui.ConsoleUI.*;
 
@@ -31,56 +44,154 @@ public class MonsterTurnController {
     // AI used to advance monsters when they are not attacking
     private final ValorMonsterAI ai;
 
-    public MonsterTurnController(ValorCombat combat, ValorMonsterAI ai) {
+    // Plans and applies each lane's actions from one board snapshot per phase
+    private final MonsterPhasePlanner planner;
+
+    // Lane-parallel planning only pays off with enough monsters on the board
+    private static final int PARALLEL_THRESHOLD = 32;
+
+    // Base seed for the per-lane RNG streams (same seed => same phases)
+    private long seed = new Random().nextLong();
+
+    // Number of lane-partitioned phases run so far (mixed into each lane's seed)
+    private int phaseCount = 0;
+
+    public MonsterTurnController(ValorCombat combat, ValorMonsterAI ai, MonsterPhasePlanner planner) {
         this.combat = combat;
         this.ai = ai;
+        this.planner = planner;
     }
 
     /**
      * Executes the monster phase for the provided lane monster list.
+     *
+     * Positions are captured once in a board snapshot; each lane's actions are
+     * then planned in one pass and applied in bulk (see MonsterPhasePlanner).
+     * Lanes are walled off from each other and the no-bypass rule is lane-local,
+     * so monsters are partitioned by lane and each lane gets its own RNG stream
+     * (seeded from the phase seed and lane index). Lanes are planned concurrently
+     * on the common ForkJoinPool when there are enough monsters, then applied in
+     * lane order on this thread, so the result is the same whether the lanes
+     * were planned in parallel or one after another.
      */
     public void monstersPhase(List<Monster> laneMonsters) {
         if (laneMonsters == null || laneMonsters.isEmpty()) return;
 
-        // Combat is required for range/attack; AI is required for movement
-        if (combat == null || ai == null) return;
+        // Combat is required for range/attack; AI and planner are required for movement
+        if (combat == null || ai == null || planner == null) return;
 
         System.out.println();
         System.out.println(RED + "Monsters advance toward your Nexus..." + RESET);
 
-        // Iterate on a snapshot to avoid concurrent modification while monsters die/remove
-        for (Monster m : new ArrayList<Monster>(laneMonsters)) {
+        phaseCount++;
+        int laneCount = ai.getLaneCount();
+
+        // Partition living, placed monsters by lane, keeping list order within a lane
+        List<List<Monster>> byLane = new ArrayList<List<Monster>>(laneCount);
+        for (int lane = 0; lane < laneCount; lane++) byLane.add(new ArrayList<Monster>());
+
+        int total = 0;
+        for (Monster m : laneMonsters) {
             if (m == null || m.getHP() <= 0) continue;
+            int lane = ai.laneOf(m);
+            if (lane < 0 || lane >= laneCount) continue;
+            byLane.get(lane).add(m);
+            total++;
+        }
 
-            // Decide between attack and movement based on current targets in range
-            List<Hero> heroesInRange = combat.getHeroesInRange(m);
-
-            if (heroesInRange != null && !heroesInRange.isEmpty()) {
-                Hero target = heroesInRange.get(0);
-                if (target != null && target.getHP() > 0) {
-                    combat.monsterAttack(m, target);
-                } else {
-                    // If the chosen target is invalid, fall back to movement
-                    flushCombatLogsSafely();
-                    ai.advanceMonster(m);
-                }
-            } else {
-                // Flush grouped logs before movement so output stays in correct phase order
-                flushCombatLogsSafely();
-                ai.advanceMonster(m);
-            }
+        planner.snapshot();
+
+        List<LanePhase> lanes = new ArrayList<LanePhase>(laneCount);
+        for (int lane = 0; lane < laneCount; lane++) {
+            if (byLane.get(lane).isEmpty()) continue;
+            lanes.add(new LanePhase(byLane.get(lane), new Random(laneSeed(lane))));
+        }
+
+        if (lanes.size() > 1 && total >= PARALLEL_THRESHOLD) {
+            planParallel(lanes);
+        } else {
+            for (LanePhase lp : lanes) lp.call();
+        }
+
+        // Deterministic merge: apply lane plans in lane order
+        for (LanePhase lp : lanes) {
+            ValorCombat laneCombat = combat.forLane(lp.rng, System.out);
+            planner.applyLane(lp.plan, laneCombat);
+            flushCombatLogsSafely(laneCombat);
         }
 
-        // Flush any remaining buffered logs at the end of the monster phase
         flushCombatLogsSafely();
     }
 
+    /**
+     * Sets how monsters choose which hero in range to attack (e.g. per difficulty).
+     */
+    public void setTargetPolicy(TargetPolicy policy) {
+        if (planner != null) planner.setTargetPolicy(policy);
+    }
+
+    /**
+     * Fixes the seed used for monster-phase randomness so phases can be replayed.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.phaseCount = 0;
+    }
+
+    // Mixes the phase seed, phase number and lane into one RNG seed
+    private long laneSeed(int lane) {
+        long x = seed + phaseCount * 0x9E3779B97F4A7C15L + lane * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    // Plans every lane on the common pool and rethrows the first lane failure
+    private void planParallel(List<LanePhase> lanes) {
+        List<Future<Void>> done = ForkJoinPool.commonPool().invokeAll(lanes);
+        for (Future<Void> f : done) {
+            try {
+                f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Monster phase failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Planning step of a single lane with its own RNG; the plan is applied later.
+     */
+    private final class LanePhase implements Callable<Void> {
+
+        private final List<Monster> monsters;
+        private final Random rng;
+        private LanePlan plan;
+
+        LanePhase(List<Monster> monsters, Random rng) {
+            this.monsters = monsters;
+            this.rng = rng;
+        }
+
+        @Override
+        public Void call() {
+            plan = planner.planLane(monsters, ai.withRandom(rng));
+            return null;
+        }
+    }
+
     /**
      * Flushes combat logs defensively to avoid crashes from logging failures.
      */
     private void flushCombatLogsSafely() {
+        flushCombatLogsSafely(combat);
+    }
+
+    private void flushCombatLogsSafely(ValorCombat c) {
         try {
-            combat.flushLogs();
+            c.flushLogs();
         } catch (Exception ignored) {
             // swallow to avoid crashing the match on logging issues
         }
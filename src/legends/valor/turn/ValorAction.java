@@ -0,0 +1,112 @@
+/**
+ * File: ValorAction.java
+ * Package: legends.valor.turn
+ *
+ * Purpose:
+ *   Packs a hero action into a single int so action lists need no objects.
+ *
+ * Responsibilities:
+ *   - Define the action kinds a hero can take on its turn
+ *   - Encode / decode an action's kind and up to three byte-sized arguments
+ *   - Describe an encoded action for logs and debugging
+ *
+ * Layout (one int):
+ *   bits 24-31 kind | bits 16-23 a | bits 8-15 b | bits 0-7 c
+ *
+ *   MOVE, REMOVE_OBSTACLE   a = ValorDirection ordinal
+ *   ATTACK, TELEPORT        a = row, b = col (target monster / destination cell)
+ *   CAST_SPELL              a = spell index, b = row, c = col of the target monster
+ *   USE_POTION              a = potion index
+ *   EQUIP_WEAPON/ARMOR      a = weapon / armor index
+ *   RECALL, WAIT            no arguments
+ *
+ * Item indices count items of that type in inventory order, which is the
+ * order HeroTurnUIHelper lists them in (so index + 1 is the menu answer).
+ *
+ * Action mask (maskBit), a fixed 31-bit layout relative to the hero's cell:
+ *   0-3 MOVE by direction | 4-12 ATTACK by 3x3 offset | 13-21 CAST_SPELL by offset
+ *   22 USE_POTION | 23 EQUIP_WEAPON/ARMOR | 24 TELEPORT | 25 RECALL
+ *   26-29 REMOVE_OBSTACLE by direction | 30 WAIT
+ */
+package legends.valor.turn;
+
+import legends.valor.world.ValorDirection;
+
+public final class ValorAction {
+
+    public static final int WAIT = 0;
+    public static final int MOVE = 1;
+    public static final int ATTACK = 2;
+    public static final int CAST_SPELL = 3;
+    public static final int USE_POTION = 4;
+    public static final int EQUIP_WEAPON = 5;
+    public static final int EQUIP_ARMOR = 6;
+    public static final int TELEPORT = 7;
+    public static final int RECALL = 8;
+    public static final int REMOVE_OBSTACLE = 9;
+
+    // Number of bits used by maskBit
+    public static final int MASK_BITS = 31;
+
+    // Directions in ordinal order, for decoding
+    private static final ValorDirection[] DIRECTIONS = ValorDirection.values();
+
+    private ValorAction() {
+        // utility class
+    }
+
+    public static int encode(int kind, int a, int b, int c) {
+        return (kind << 24) | ((a & 0xFF) << 16) | ((b & 0xFF) << 8) | (c & 0xFF);
+    }
+
+    public static int kind(int action) { return action >>> 24; }
+    public static int a(int action) { return (action >>> 16) & 0xFF; }
+    public static int b(int action) { return (action >>> 8) & 0xFF; }
+    public static int c(int action) { return action & 0xFF; }
+
+    /**
+     * Direction argument of a MOVE or REMOVE_OBSTACLE action.
+     */
+    public static ValorDirection direction(int action) {
+        return DIRECTIONS[a(action)];
+    }
+
+    /**
+     * Bit of the action in the fixed action mask, for a hero at (row, col).
+     */
+    public static int maskBit(int action, int row, int col) {
+        switch (kind(action)) {
+            case MOVE:            return a(action);
+            case ATTACK:          return 4 + offset(a(action) - row, b(action) - col);
+            case CAST_SPELL:      return 13 + offset(b(action) - row, c(action) - col);
+            case USE_POTION:      return 22;
+            case EQUIP_WEAPON:
+            case EQUIP_ARMOR:     return 23;
+            case TELEPORT:        return 24;
+            case RECALL:          return 25;
+            case REMOVE_OBSTACLE: return 26 + a(action);
+            default:              return 30;
+        }
+    }
+
+    // Index 0-8 of a 3x3 offset, row-major from (-1, -1)
+    private static int offset(int dRow, int dCol) {
+        return (Math.max(-1, Math.min(1, dRow)) + 1) * 3 + Math.max(-1, Math.min(1, dCol)) + 1;
+    }
+
+    public static String describe(int action) {
+        switch (kind(action)) {
+            case WAIT:            return "Wait";
+            case MOVE:            return "Move " + direction(action);
+            case ATTACK:          return "Attack (" + a(action) + "," + b(action) + ")";
+            case CAST_SPELL:      return "Cast spell #" + (a(action) + 1) + " on (" + b(action) + "," + c(action) + ")";
+            case USE_POTION:      return "Use potion #" + (a(action) + 1);
+            case EQUIP_WEAPON:    return "Equip weapon #" + (a(action) + 1);
+            case EQUIP_ARMOR:     return "Equip armor #" + (a(action) + 1);
+            case TELEPORT:        return "Teleport to (" + a(action) + "," + b(action) + ")";
+            case RECALL:          return "Recall";
+            case REMOVE_OBSTACLE: return "Remove obstacle " + direction(action);
+            default:              return "Unknown action";
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * File: ValorActionBuffer.java
+ * Package: legends.valor.turn
+ *
+ * Purpose:
+ *   Reusable growable list of encoded ValorAction ints.
+ *
+ * Responsibilities:
+ *   - Hold generated actions without boxing or per-call allocation
+ *   - Grow on demand and keep its capacity across clear() calls
+ */
+package legends.valor.turn;
+
+import java.util.Arrays;
+
+public class ValorActionBuffer {
+
+    private int[] actions;
+    private int size = 0;
+
+    public ValorActionBuffer() {
+        this(64);
+    }
+
+    public ValorActionBuffer(int capacity) {
+        this.actions = new int[Math.max(8, capacity)];
+    }
+
+    public void add(int action) {
+        if (size == actions.length) actions = Arrays.copyOf(actions, size * 2);
+        actions[size++] = action;
+    }
+
+    public int get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Action " + i + " of " + size);
+        return actions[i];
+    }
+
+    public boolean contains(int action) {
+        for (int i = 0; i < size; i++) {
+            if (actions[i] == action) return true;
+        }
+        return false;
+    }
+
+    public int size() { return size; }
+
+    public void clear() { size = 0; }
+}
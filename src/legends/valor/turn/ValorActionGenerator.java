@@ -0,0 +1,183 @@
+/**
+ * File: ValorActionGenerator.java
+ * Package: legends.valor.turn
+ *
+ * Purpose:
+ *   Enumerates every legal action of a hero as encoded ValorAction ints.
+ *
+ * Responsibilities:
+ *   - Apply the same legality rules as the hero action classes (movement,
+ *     combat, equipment, teleport, recall, obstacle removal)
+ *   - Write results into a caller-owned ValorActionBuffer
+ *   - Do no I/O and change no game state, so AIs and UIs can call it freely
+ *
+ * Order of the generated list: moves, attacks, spells, potions, equips,
+ * teleports, recall, obstacle removals, then WAIT (always legal).
+ */
+package legends.valor.turn;
+
+import legends.characters.EntityIntTable;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.items.Armor;
+import legends.items.Item;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+import legends.valor.combat.ValorCombat;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorMovement;
+
+public class ValorActionGenerator {
+
+    // Orthogonal cells around a teleport target (same order as HeroMovementActions)
+    private static final int[][] TELEPORT_OFFSETS = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+    private static final ValorDirection[] DIRECTIONS = ValorDirection.values();
+
+    private final ValorBoard board;
+    private final ValorMovement movement;
+
+    // Home lane per hero, needed to decide whether recall is possible
+    private final EntityIntTable homeLane;
+
+    public ValorActionGenerator(ValorBoard board, ValorMovement movement, EntityIntTable homeLane) {
+        if (board == null || movement == null) {
+            throw new IllegalArgumentException("Board and movement are required");
+        }
+        this.board = board;
+        this.movement = movement;
+        this.homeLane = homeLane;
+    }
+
+    /**
+     * Clears the buffer and fills it with every legal action for the hero.
+     *
+     * @return number of actions generated
+     */
+    public int generate(Hero hero, ValorActionBuffer out) {
+        out.clear();
+        if (hero == null || hero.getHP() <= 0) {
+            out.add(ValorAction.encode(ValorAction.WAIT, 0, 0, 0));
+            return out.size();
+        }
+
+        int[] pos = movement.findHero(hero);
+        if (pos != null) {
+            int r = pos[0], c = pos[1];
+            addMoves(hero, out);
+            addAttacksAndSpells(hero, r, c, out);
+            addItems(hero, out);
+            addTeleports(hero, r, c, out);
+            addRecall(hero, out);
+            addObstacleRemovals(r, c, out);
+        } else {
+            addItems(hero, out);
+        }
+
+        out.add(ValorAction.encode(ValorAction.WAIT, 0, 0, 0));
+        return out.size();
+    }
+
+    // ---------- Movement ----------
+
+    private void addMoves(Hero hero, ValorActionBuffer out) {
+        for (ValorDirection d : DIRECTIONS) {
+            if (movement.canMoveHero(hero, d)) {
+                out.add(ValorAction.encode(ValorAction.MOVE, d.ordinal(), 0, 0));
+            }
+        }
+    }
+
+    // ---------- Combat ----------
+
+    private void addAttacksAndSpells(Hero hero, int r0, int c0, ValorActionBuffer out) {
+        for (int[] d : ValorCombat.NEIGHBOR_OFFSETS) {
+            int r = r0 + d[0], c = c0 + d[1];
+            if (hasLivingMonster(r, c)) out.add(ValorAction.encode(ValorAction.ATTACK, r, c, 0));
+        }
+
+        int spellIdx = 0;
+        for (Item it : hero.getInventory().getItems()) {
+            if (!(it instanceof Spell)) continue;
+            if (hero.canCast((Spell) it)) {
+                for (int[] d : ValorCombat.NEIGHBOR_OFFSETS) {
+                    int r = r0 + d[0], c = c0 + d[1];
+                    if (hasLivingMonster(r, c)) out.add(ValorAction.encode(ValorAction.CAST_SPELL, spellIdx, r, c));
+                }
+            }
+            spellIdx++;
+        }
+    }
+
+    private boolean hasLivingMonster(int r, int c) {
+        if (!board.inBounds(r, c)) return false;
+        Monster m = board.getTile(r, c).getMonster();
+        return m != null && m.getHP() > 0;
+    }
+
+    // ---------- Potions and equipment ----------
+
+    private void addItems(Hero hero, ValorActionBuffer out) {
+        int potionIdx = 0, weaponIdx = 0, armorIdx = 0;
+        for (Item it : hero.getInventory().getItems()) {
+            if (it instanceof Potion) {
+                out.add(ValorAction.encode(ValorAction.USE_POTION, potionIdx++, 0, 0));
+            } else if (it instanceof Weapon) {
+                if (it != hero.getWeapon()) out.add(ValorAction.encode(ValorAction.EQUIP_WEAPON, weaponIdx, 0, 0));
+                weaponIdx++;
+            } else if (it instanceof Armor) {
+                if (it != hero.getArmor()) out.add(ValorAction.encode(ValorAction.EQUIP_ARMOR, armorIdx, 0, 0));
+                armorIdx++;
+            }
+        }
+    }
+
+    // ---------- Teleport / recall / obstacles ----------
+
+    private void addTeleports(Hero hero, int myR, int myC, ValorActionBuffer out) {
+        int myLane = board.getLane(myC);
+
+        for (Hero other : board.getHeroesOnBoard()) {
+            if (other == null || other == hero || other.getHP() <= 0) continue;
+
+            int[] tp = movement.findHero(other);
+            if (tp == null || board.getLane(tp[1]) == myLane) continue;
+
+            for (int[] d : TELEPORT_OFFSETS) {
+                int r = tp[0] + d[0], c = tp[1] + d[1];
+                if (!board.inBounds(r, c) || board.getLane(c) == -1) continue;
+                if (r < tp[0]) continue;
+                if (!movement.canTeleportHeroTo(hero, r, c)) continue;
+
+                int action = ValorAction.encode(ValorAction.TELEPORT, r, c, 0);
+                if (!out.contains(action)) out.add(action);
+            }
+        }
+    }
+
+    private void addRecall(Hero hero, ValorActionBuffer out) {
+        if (homeLane == null) return;
+        int lane = homeLane.get(hero);
+        if (lane == -1) return;
+
+        // Same destinations HeroMovementActions.recall tries
+        int[] cols = board.getNexusColumnsForLane(lane);
+        int r = board.getRows() - 1;
+        boolean free = (cols.length >= 1 && board.canHeroEnter(r, cols[0]))
+                || (cols.length >= 2 && board.canHeroEnter(r, cols[1]));
+        if (free) out.add(ValorAction.encode(ValorAction.RECALL, 0, 0, 0));
+    }
+
+    private void addObstacleRemovals(int r0, int c0, ValorActionBuffer out) {
+        for (ValorDirection d : DIRECTIONS) {
+            int r = r0 + d.deltaRow(), c = c0 + d.deltaCol();
+            if (!board.inBounds(r, c)) continue;
+            if (board.getTile(r, c).getType() == ValorCellType.OBSTACLE) {
+                out.add(ValorAction.encode(ValorAction.REMOVE_OBSTACLE, d.ordinal(), 0, 0));
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * File: ValorActionGeneratorTest.java
+ * Description: Simple test harness for ValorActionGenerator.
+ *              On scripted boards (random terrain cleared), compares the
+ *              generated moves, attacks, teleports and recall with what
+ *              HeroMovementActions and ValorCombat actually accept: a
+ *              teleport held back by the no-bypass rule, teleports next to and
+ *              behind a teammate in another lane, and recall with a full or
+ *              half-full Nexus. Exits with status 1 on a failure.
+ */
+
+package legends.valor.turn;
+
+import legends.characters.Dragon;
+import legends.characters.EntityIntTable;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.characters.Warrior;
+import legends.stats.GameStats;
+import legends.valor.combat.ValorCombat;
+import legends.valor.world.ValorBoard;
+import legends.valor.world.ValorCellType;
+import legends.valor.world.ValorDirection;
+import legends.valor.world.ValorMovement;
+import legends.valor.world.ValorTile;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+public class ValorActionGeneratorTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+
+        // --- A teleport may not land past the target lane's front monster ---
+        System.out.println("=== No-bypass blocking ===");
+        Supplier<Scenario> blocking = () -> {
+            Scenario s = new Scenario();
+            s.actor = s.hero(7, 0);
+            s.hero(2, 3);
+            s.monster(3, 4);
+            s.monster(6, 1);
+            return s;
+        };
+        Set<Integer> blocked = generated(blocking.get(), ValorAction.TELEPORT);
+        check(!blocked.contains(ValorAction.encode(ValorAction.TELEPORT, 2, 4, 0)), "cell past the front monster is not offered");
+        check(blocked.contains(ValorAction.encode(ValorAction.TELEPORT, 3, 3, 0)), "cell level with it is offered");
+        compareAll(blocking);
+
+        // --- Teleport next to or behind a hero in another lane ---
+        System.out.println("\n=== Teleport behind a teammate ===");
+        Supplier<Scenario> teleport = () -> {
+            Scenario s = new Scenario();
+            s.actor = s.hero(7, 0);
+            s.hero(4, 3);
+            s.hero(2, 6);
+            s.monster(3, 7);
+            s.board.getTile(4, 4).setType(ValorCellType.OBSTACLE);
+            return s;
+        };
+        Set<Integer> teleports = generated(teleport.get(), ValorAction.TELEPORT);
+        check(teleports.contains(ValorAction.encode(ValorAction.TELEPORT, 5, 3, 0)), "cell behind the teammate is offered");
+        check(!teleports.contains(ValorAction.encode(ValorAction.TELEPORT, 3, 3, 0)), "cell ahead of the teammate is not");
+        compareAll(teleport);
+
+        // --- Recall needs a free cell of the home lane's Nexus ---
+        System.out.println("\n=== Recall ===");
+        for (boolean bothTaken : new boolean[] { true, false }) {
+            Supplier<Scenario> recall = () -> {
+                Scenario s = new Scenario();
+                s.actor = s.hero(7, 0);
+                HeroMovementActions.bindHomeLane(s.board, s.homeLane, s.actor);
+                s.board.getTile(7, 0).removeHero();
+                s.board.getTile(4, 1).placeHero(s.actor);
+                s.hero(7, 0);
+                if (bothTaken) s.hero(7, 1);
+                return s;
+            };
+            String nexus = bothTaken ? " (Nexus full)" : " (one Nexus cell free)";
+            check(generated(recall.get(), ValorAction.RECALL).isEmpty() == bothTaken,
+                    "recall " + (bothTaken ? "not " : "") + "generated" + nexus);
+            check(acceptedRecall(recall) == !bothTaken, "recall " + (bothTaken ? "fails" : "succeeds") + nexus);
+            compareAll(recall);
+        }
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Moves, attacks, teleports and recall must match what the executors accept
+    private static void compareAll(Supplier<Scenario> setup) {
+        check(generated(setup.get(), ValorAction.MOVE).equals(acceptedMoves(setup)), "moves match HeroMovementActions.move");
+        check(generated(setup.get(), ValorAction.ATTACK).equals(acceptedAttacks(setup.get())), "attacks match ValorCombat range");
+        check(generated(setup.get(), ValorAction.TELEPORT).equals(acceptedTeleports(setup)), "teleports match HeroMovementActions.teleport");
+        check(generated(setup.get(), ValorAction.RECALL).isEmpty() != acceptedRecall(setup), "recall matches HeroMovementActions.recall");
+    }
+
+    // Generated actions of one kind for the scenario's actor
+    private static Set<Integer> generated(Scenario s, int kind) {
+        ValorActionBuffer buf = new ValorActionBuffer();
+        new ValorActionGenerator(s.board, s.movement, s.homeLane).generate(s.actor, buf);
+        Set<Integer> out = new TreeSet<Integer>();
+        for (int i = 0; i < buf.size(); i++) {
+            if (ValorAction.kind(buf.get(i)) == kind) out.add(buf.get(i));
+        }
+        return out;
+    }
+
+    // Directions HeroMovementActions.move accepts, each tried on a fresh board
+    private static Set<Integer> acceptedMoves(Supplier<Scenario> setup) {
+        Set<Integer> out = new TreeSet<Integer>();
+        for (ValorDirection d : ValorDirection.values()) {
+            Scenario s = setup.get();
+            if (s.actions().move(s.actor, d)) out.add(ValorAction.encode(ValorAction.MOVE, d.ordinal(), 0, 0));
+        }
+        return out;
+    }
+
+    // Cells of the monsters ValorCombat lets the hero attack
+    private static Set<Integer> acceptedAttacks(Scenario s) {
+        ValorCombat combat = new ValorCombat(s.board, new GameStats(GameStats.GameMode.LEGENDS_OF_VALOR, s.heroes));
+        Set<Integer> out = new TreeSet<Integer>();
+        for (Monster m : combat.getMonstersInRange(s.actor)) {
+            int[] pos = s.board.locateMonster(m);
+            out.add(ValorAction.encode(ValorAction.ATTACK, pos[0], pos[1], 0));
+        }
+        return out;
+    }
+
+    // Destinations HeroMovementActions.teleport reaches for every scripted hero / cell pick
+    private static Set<Integer> acceptedTeleports(Supplier<Scenario> setup) {
+        Set<Integer> out = new TreeSet<Integer>();
+        int others = setup.get().board.getHeroesOnBoard().size() - 1;
+        for (int hero = 1; hero <= others; hero++) {
+            for (int cell = 1; cell <= 4; cell++) {
+                Scenario s = setup.get();
+                if (!s.actions(String.valueOf(hero), String.valueOf(cell)).teleport(s.actor)) continue;
+                int[] pos = s.board.locateHero(s.actor);
+                out.add(ValorAction.encode(ValorAction.TELEPORT, pos[0], pos[1], 0));
+            }
+        }
+        return out;
+    }
+
+    private static boolean acceptedRecall(Supplier<Scenario> setup) {
+        Scenario s = setup.get();
+        return s.actions().recall(s.actor);
+    }
+
+    // One scripted position on a standard board with plain lanes
+    private static final class Scenario {
+        final ValorBoard board = clearBoard();
+        final ValorMovement movement = new ValorMovement(board);
+        final EntityIntTable homeLane = new EntityIntTable(-1);
+        final List<Hero> heroes = new ArrayList<Hero>();
+        Hero actor;
+
+        Hero hero(int row, int col) {
+            Hero h = new Warrior("H" + heroes.size(), 1, 100, 100, 500, 500, 0);
+            board.getTile(row, col).placeHero(h);
+            heroes.add(h);
+            return h;
+        }
+
+        Monster monster(int row, int col) {
+            Monster m = new Dragon("Drake", 1, 100, 100, 0.0);
+            board.getTile(row, col).placeMonster(m);
+            return m;
+        }
+
+        // Executor whose menu prompts are answered from the given lines
+        HeroMovementActions actions(String... answers) {
+            Deque<String> queue = new ArrayDeque<String>(Arrays.asList(answers));
+            ValorInput input = prompt -> queue.poll();
+            return new HeroMovementActions(board, movement, new HeroTurnUIHelper(input), homeLane);
+        }
+    }
+
+    // Standard board with every lane cell between the Nexus rows made plain
+    private static ValorBoard clearBoard() {
+        ValorBoard board = new ValorBoard();
+        for (int r = 1; r < board.getRows() - 1; r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                ValorTile tile = board.getTile(r, c);
+                if (tile.getType() != ValorCellType.INACCESSIBLE) tile.setType(ValorCellType.PLAIN);
+            }
+        }
+        return board;
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
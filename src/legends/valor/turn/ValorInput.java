@@ -11,12 +11,15 @@
  *     or automated tests without touching gameplay code
  *
  * Design notes:
- *   - Intentionally small: a single readLine method
+ *   - Intentionally small: a single readLine method, plus an optional
+ *     beginTurn notification that bots use to know which hero is acting
  *   - Higher-level parsing (commands, menus, validation) lives
  *     in controllers and UI helpers, not here
  */
 package legends.valor.turn;
 
+import legends.characters.Hero;
+
 public interface ValorInput {
 
     /**
@@ -26,4 +29,11 @@ public interface ValorInput {
      * @return the raw input line (may be empty, but never modified)
      */
     String readLine(String prompt);
+
+    /**
+     * Called when a hero's turn starts, before the first prompt of that turn.
+     * Console input ignores it.
+     */
+    default void beginTurn(Hero hero) {
+    }
 }
@@ -14,11 +14,10 @@
  */
 package legends.valor.turn;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
 
+import legends.characters.EntityIntTable;
 import legends.characters.Hero;
 import legends.characters.Monster;
 import legends.characters.Party;
@@ -26,6 +25,7 @@ import legends.market.Market;
 import legends.valor.combat.ValorCombat;
 import legends.valor.game.ValorMatch;
 import legends.valor.game.ValorMonsterAI;
+import legends.valor.game.targeting.TargetPolicy;
 import legends.valor.ui.ValorCombatLogView;
 import legends.valor.world.ValorBoard;
 import legends.valor.world.ValorMovement;
@@ -33,8 +33,8 @@ import legends.valor.world.ValorTile;
 
 public class ValorTurnManager {
 
-    // Default lane used when a hero has no known home lane binding
-    private static final int DEFAULT_LANE = 1; // MID
+    // Default lane used when a hero has no known home lane binding (middle lane)
+    private final int defaultLane;
 
     // Core match systems required for turn execution
     private final ValorBoard board;
@@ -49,8 +49,8 @@ public class ValorTurnManager {
     private final HeroTurnController heroTurnController;
     private final MonsterTurnController monsterTurnController;
 
-    // Stores each hero's home lane used for recall and respawn placement
-    private final Map<Hero, Integer> homeLane = new HashMap<Hero, Integer>();
+    // Stores each hero's home lane used for recall and respawn placement (-1 = not bound yet)
+    private final EntityIntTable homeLane = new EntityIntTable(-1);
 
     // UI logger used for end-of-round messages such as respawns
     private final ValorCombatLogView log = new ValorCombatLogView();
@@ -72,6 +72,7 @@ public class ValorTurnManager {
         this.combat = combat;
         this.party = party;
         this.laneMonsters = laneMonsters;
+        this.defaultLane = (board == null) ? 1 : board.getGeometry().getLaneCount() / 2;
 
         // RoundProvider allows the HeroTurnController (and its UI) to query the current round number
         // without needing direct access to this manager or its internal state.
@@ -87,9 +88,17 @@ public class ValorTurnManager {
                 board, movement, combat, laneMonsters, input, homeLane, market, scanner, roundProvider
         );
 
-        // Monster controller uses combat for attacks and AI for advancement
-        this.monsterTurnController =
-                new MonsterTurnController(combat, new ValorMonsterAI(board, movement));
+        // Monster controller uses combat for attacks, AI for step ranking and the planner for batching
+        this.monsterTurnController = new MonsterTurnController(
+                combat, new ValorMonsterAI(board, movement), new MonsterPhasePlanner(board, movement)
+        );
+    }
+
+    /**
+     * Sets how monsters choose which hero in range to attack (harder difficulty settings).
+     */
+    public void setMonsterTargetPolicy(TargetPolicy policy) {
+        monsterTurnController.setTargetPolicy(policy);
     }
 
     /**
@@ -165,9 +174,8 @@ public class ValorTurnManager {
             // Teleport back to home nexus and capture the placement location for logging
             int[] placed = teleportHeroToHomeNexus(h);
 
-            int lane = DEFAULT_LANE;
-            Integer laneObj = homeLane.get(h);
-            if (laneObj != null) lane = laneObj.intValue();
+            int lane = homeLane.get(h);
+            if (lane == -1) lane = defaultLane;
 
             String laneName = laneName(lane);
             if (placed != null && placed.length >= 2) {
@@ -206,8 +214,8 @@ public class ValorTurnManager {
             if (t != null) t.removeHero();
         }
 
-        Integer laneObj = homeLane.get(hero);
-        int lane = (laneObj == null) ? DEFAULT_LANE : laneObj.intValue();
+        int lane = homeLane.get(hero);
+        if (lane == -1) lane = defaultLane;
 
         int[] spawn = board.getHeroSpawnCell(lane);
         if (spawn == null || spawn.length < 2) return null;
@@ -240,11 +248,6 @@ public class ValorTurnManager {
      * Converts lane index into a short label for UI logging.
      */
     private String laneName(int lane) {
-        switch (lane) {
-            case 0: return "TOP";
-            case 1: return "MID";
-            case 2: return "BOT";
-            default: return "-";
-        }
+        return (board == null) ? "-" : board.getGeometry().laneName(lane);
     }
-}
\ No newline at end of file
+}
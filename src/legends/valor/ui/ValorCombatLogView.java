@@ -17,6 +17,7 @@ import legends.characters.Hero;
 import legends.characters.Monster;
 import legends.items.Spell;
 
+import java.io.PrintStream;
 import java.util.regex.Pattern;
 
 public class ValorCombatLogView {
@@ -33,6 +34,9 @@ public class ValorCombatLogView {
     private static final String CYAN  = "\u001B[36m";
     private static final String WHITE = "\u001B[37m";
 
+    // Destination for log output (System.out unless a phase buffers it)
+    private final PrintStream out;
+
     // Pattern used to strip ANSI codes for width/alignment calculations
     private static final Pattern ANSI_PATTERN = Pattern.compile("\u001B\\[[;\\d]*m");
 
@@ -41,6 +45,17 @@ public class ValorCombatLogView {
     private double pendingDodgeChance = 0.0;
     private int pendingDodgeCount = 0;
 
+    public ValorCombatLogView() {
+        this(System.out);
+    }
+
+    /**
+     * Creates a log that writes to the given stream (used to buffer per-lane output).
+     */
+    public ValorCombatLogView(PrintStream out) {
+        this.out = (out == null) ? System.out : out;
+    }
+
     /**
      * Flushes any pending grouped dodge log output.
      * Intended to be called before non-dodge events and at the end of phases.
@@ -55,7 +70,7 @@ public class ValorCombatLogView {
             titleLine = " " + BOLD + pendingDodgeName + RESET + " dodged attacks!";
         }
 
-        System.out.println(titleLine);
+        out.println(titleLine);
         printDetails("Result", YELLOW + "DODGE" + RESET);
 
         if (pendingDodgeCount > 1) {
@@ -78,7 +93,7 @@ public class ValorCombatLogView {
     public void heroAttack(Hero hero, Monster target, int damage, double hpBefore, double hpAfter) {
         flush();
         printHeader("ATTACK", CYAN);
-        System.out.println(" " + BOLD + hero.getName() + RESET + " attacks " + BOLD + target.getName() + RESET);
+        out.println(" " + BOLD + hero.getName() + RESET + " attacks " + BOLD + target.getName() + RESET);
         printDetails("Result", GREEN + "HIT" + RESET);
         printDetails("Damage", YELLOW + String.valueOf(damage) + RESET);
         printDetails("Target HP", formatHP(hpBefore) + "  →  " + formatHP(hpAfter));
@@ -91,7 +106,7 @@ public class ValorCombatLogView {
     public void monsterAttack(Monster monster, Hero hero, int damage, double hpBefore, double hpAfter) {
         flush();
         printHeader("MONSTER ATTACK", RED);
-        System.out.println(" " + BOLD + monster.getName() + RESET + " attacks " + BOLD + hero.getName() + RESET);
+        out.println(" " + BOLD + monster.getName() + RESET + " attacks " + BOLD + hero.getName() + RESET);
         printDetails("Result", GREEN + "HIT" + RESET);
         printDetails("Damage", YELLOW + String.valueOf(damage) + RESET);
         printDetails("Hero HP", formatHP(hpBefore) + "  →  " + formatHP(hpAfter));
@@ -104,7 +119,7 @@ public class ValorCombatLogView {
     public void spellCast(Hero hero, Spell spell, Monster target, int damage, double hpBefore, double hpAfter) {
         flush();
         printHeader("SPELL", MAGENTA);
-        System.out.println(" " + BOLD + hero.getName() + RESET + " casts " + MAGENTA + spell.getName() + RESET
+        out.println(" " + BOLD + hero.getName() + RESET + " casts " + MAGENTA + spell.getName() + RESET
                 + " on " + BOLD + target.getName() + RESET);
         printDetails("Type", CYAN + String.valueOf(spell.getType()) + RESET);
         printDetails("Damage", YELLOW + String.valueOf(damage) + RESET);
@@ -135,7 +150,7 @@ public class ValorCombatLogView {
     public void slain(String name) {
         flush();
         printHeader("KILL", GREEN);
-        System.out.println(" " + GREEN + BOLD + "✔ " + name + " has been slain!" + RESET);
+        out.println(" " + GREEN + BOLD + "✔ " + name + " has been slain!" + RESET);
         printFooter();
     }
 
@@ -145,7 +160,7 @@ public class ValorCombatLogView {
     public void fallen(String name) {
         flush();
         printHeader("DOWN", RED);
-        System.out.println(" " + RED + BOLD + "✖ " + name + " has fallen!" + RESET);
+        out.println(" " + RED + BOLD + "✖ " + name + " has fallen!" + RESET);
         printDetails("Next", CYAN + "Respawns at Nexus (end of round)" + RESET);
         printFooter();
     }
@@ -157,7 +172,7 @@ public class ValorCombatLogView {
         flush();
         printHeader("RESPAWN", BLUE);
 
-        System.out.println(" " + BOLD + heroName + RESET + " returns to Nexus");
+        out.println(" " + BOLD + heroName + RESET + " returns to Nexus");
         printDetails("Lane", CYAN + laneName + RESET);
         printDetails("Position", "(" + row + "," + col + ")");
         printDetails("HP", GREEN + String.valueOf(hp) + RESET);
@@ -172,7 +187,7 @@ public class ValorCombatLogView {
     public void info(String title, String msg) {
         flush();
         printHeader(title, BLUE);
-        System.out.println(" " + msg);
+        out.println(" " + msg);
         printFooter();
     }
 
@@ -180,11 +195,11 @@ public class ValorCombatLogView {
      * Prints the top portion of a boxed combat log message.
      */
     private void printHeader(String title, String color) {
-        System.out.println();
-        System.out.println(color + BOLD + "┌──────────────────────────────────────────────┐" + RESET);
+        out.println();
+        out.println(color + BOLD + "┌──────────────────────────────────────────────┐" + RESET);
         String line = " " + title + " ";
-        System.out.println(color + "│" + RESET + padCenter(line, 46) + color + "│" + RESET);
-        System.out.println(color + BOLD + "├──────────────────────────────────────────────┤" + RESET);
+        out.println(color + "│" + RESET + padCenter(line, 46) + color + "│" + RESET);
+        out.println(color + BOLD + "├──────────────────────────────────────────────┤" + RESET);
     }
 
     /**
@@ -192,14 +207,14 @@ public class ValorCombatLogView {
      */
     private void printDetails(String k, String v) {
         String left = DIM + k + RESET + ": " + v;
-        System.out.println(" " + padRight(left, 46));
+        out.println(" " + padRight(left, 46));
     }
 
     /**
      * Prints the bottom portion of a boxed combat log message.
      */
     private void printFooter() {
-        System.out.println(WHITE + BOLD + "└──────────────────────────────────────────────┘" + RESET);
+        out.println(WHITE + BOLD + "└──────────────────────────────────────────────┘" + RESET);
     }
 
     /**
@@ -10,13 +10,19 @@
  *   - Render a formatted table of heroes with position, lane, and HP/MP status
  *   - Render a formatted table of monsters with position, lane, and HP status
  *   - Provide ANSI-safe formatting helpers to keep tables aligned with colored text
+ *
+ * Units come from the board's occupant lists rather than a full grid scan,
+ * so the cost follows the number of units, not the board size.
  */
 package legends.valor.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import legends.characters.Hero;
 import legends.characters.Monster;
+import legends.valor.world.BoardGeometry;
 import legends.valor.world.ValorBoard;
-import legends.valor.world.ValorTile;
 
 public class ValorRoundStatusView {
 
@@ -51,8 +57,16 @@ public class ValorRoundStatusView {
     public void printRoundStatus(ValorBoard board, int round) {
         if (board == null) return;
 
-        int heroCount = countHeroes(board);
-        int monsterCount = countMonsters(board);
+        BoardGeometry geo = board.getGeometry();
+
+        // Row-major order (top to bottom, left to right) like the board itself
+        List<Hero> heroes = new ArrayList<Hero>(board.getHeroesOnBoard());
+        heroes.sort((a, b) -> cellIndex(board.locateHero(a), board) - cellIndex(board.locateHero(b), board));
+        List<Monster> monsters = new ArrayList<Monster>(board.getMonstersOnBoard());
+        monsters.sort((a, b) -> cellIndex(board.locateMonster(a), board) - cellIndex(board.locateMonster(b), board));
+
+        int heroCount = heroes.size();
+        int monsterCount = monsters.size();
 
         System.out.println();
         System.out.println(WHITE + BOLD + LINE + RESET);
@@ -75,32 +89,28 @@ public class ValorRoundStatusView {
         System.out.println(heroHeader);
         System.out.println(DIM + DASH + RESET);
 
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                ValorTile tile = board.getTile(r, c);
-                if (tile == null) continue;
+        for (Hero h : heroes) {
+            int[] at = board.locateHero(h);
+            if (at == null) continue;
+            int r = at[0], c = at[1];
 
-                Hero h = tile.getHero();
-                if (h == null) continue;
+            String name = trimTo(h.getName(), W_NAME);
+            String lv = "L" + h.getLevel();
+            String pos = "(" + r + "," + c + ")";
 
-                String name = trimTo(h.getName(), W_NAME);
-                String lv = "L" + h.getLevel();
-                String pos = "(" + r + "," + c + ")";
+            String hp = coloredHP((int) Math.round(h.getHP())) + "/" + (h.getLevel() * 100);
+            String mp = (int) Math.round(h.getMP()) + "/" + (h.getLevel() * 50);
+            String lane = geo.laneName(board.getLane(c));
 
-                String hp = coloredHP((int) Math.round(h.getHP())) + "/" + (h.getLevel() * 100);
-                String mp = (int) Math.round(h.getMP()) + "/" + (h.getLevel() * 50);
-                String lane = laneName(board.getLane(c));
+            String row =
+                    padCell(name, W_NAME) + " " +
+                    padCell(lv,   W_LV)   + " " +
+                    padCell(pos,  W_POS)  + " " +
+                    padCell(hp,   W_HP)   + " " +
+                    padCell(mp,   W_MP)   + " " +
+                    padCell(lane, W_LANE);
 
-                String row =
-                        padCell(name, W_NAME) + " " +
-                        padCell(lv,   W_LV)   + " " +
-                        padCell(pos,  W_POS)  + " " +
-                        padCell(hp,   W_HP)   + " " +
-                        padCell(mp,   W_MP)   + " " +
-                        padCell(lane, W_LANE);
-
-                System.out.println(row);
-            }
+            System.out.println(row);
         }
 
         // Monster table section (position, lane, HP)
@@ -118,29 +128,25 @@ public class ValorRoundStatusView {
         System.out.println(monsterHeader);
         System.out.println(DIM + DASH + RESET);
 
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                ValorTile tile = board.getTile(r, c);
-                if (tile == null) continue;
-
-                Monster m = tile.getMonster();
-                if (m == null) continue;
-
-                String name = trimTo(m.getName(), W_NAME);
-                String lv = "L" + m.getLevel();
-                String pos = "(" + r + "," + c + ")";
-                String hp = String.valueOf((int) Math.round(m.getHP()));
-                String lane = laneName(board.getLane(c));
-
-                String row =
-                        padCell(name, W_NAME) + " " +
-                        padCell(lv,   W_LV)   + " " +
-                        padCell(pos,  W_POS)  + " " +
-                        padCell(hp,   10)     + " " +
-                        padCell(lane, W_LANE);
-
-                System.out.println(row);
-            }
+        for (Monster m : monsters) {
+            int[] at = board.locateMonster(m);
+            if (at == null) continue;
+            int r = at[0], c = at[1];
+
+            String name = trimTo(m.getName(), W_NAME);
+            String lv = "L" + m.getLevel();
+            String pos = "(" + r + "," + c + ")";
+            String hp = String.valueOf((int) Math.round(m.getHP()));
+            String lane = geo.laneName(board.getLane(c));
+
+            String row =
+                    padCell(name, W_NAME) + " " +
+                    padCell(lv,   W_LV)   + " " +
+                    padCell(pos,  W_POS)  + " " +
+                    padCell(hp,   10)     + " " +
+                    padCell(lane, W_LANE);
+
+            System.out.println(row);
         }
 
         System.out.println(WHITE + BOLD + LINE + RESET);
@@ -148,43 +154,10 @@ public class ValorRoundStatusView {
     }
 
     /**
-     * Counts how many heroes are currently placed on the board.
-     */
-    private int countHeroes(ValorBoard board) {
-        int cnt = 0;
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                ValorTile t = board.getTile(r, c);
-                if (t != null && t.getHero() != null) cnt++;
-            }
-        }
-        return cnt;
-    }
-
-    /**
-     * Counts how many monsters are currently placed on the board.
-     */
-    private int countMonsters(ValorBoard board) {
-        int cnt = 0;
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                ValorTile t = board.getTile(r, c);
-                if (t != null && t.getMonster() != null) cnt++;
-            }
-        }
-        return cnt;
-    }
-
-    /**
-     * Converts a lane index into a short label for the table.
+     * Row-major cell index used to list units in board order.
      */
-    private static String laneName(int lane) {
-        switch (lane) {
-            case 0: return "TOP";
-            case 1: return "MID";
-            case 2: return "BOT";
-            default: return "-";
-        }
+    private static int cellIndex(int[] pos, ValorBoard board) {
+        return (pos == null) ? Integer.MAX_VALUE : pos[0] * board.getCols() + pos[1];
     }
 
     /**
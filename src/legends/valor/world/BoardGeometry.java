@@ -0,0 +1,153 @@
+/**
+ * File: BoardGeometry.java
+ * Package: legends.valor.world
+ *
+ * Purpose:
+ *   Describes the shape of a Legends of Valor board: lane count, lane width and length.
+ *
+ * Responsibilities:
+ *   - Derive board size and wall columns from the lane layout
+ *   - Precompute column -> lane and lane -> columns lookup tables once
+ *   - Provide lane labels for the console UI
+ *   - Offer the preset layouts a match can be played on
+ *
+ * Layout:
+ *   Lanes are laneWidth columns wide and separated by one wall column, so a
+ *   board has laneCount * laneWidth + (laneCount - 1) columns. Row 0 is the
+ *   monsters' Nexus and the last row is the heroes' Nexus.
+ */
+package legends.valor.world;
+
+public final class BoardGeometry {
+
+    // The classic 3-lane, 2-wide, 8-row board
+    public static final BoardGeometry STANDARD = new BoardGeometry(3, 2, 8);
+
+    // Longer march to the Nexus (more rounds of monster waves per lane)
+    public static final BoardGeometry LONG = new BoardGeometry(3, 2, 12);
+
+    // Shorter march to the Nexus (a quick match)
+    public static final BoardGeometry SHORT = new BoardGeometry(3, 2, 6);
+
+    // Five lanes and a long march (one hero per lane, so a party of five)
+    public static final BoardGeometry GRAND = new BoardGeometry(5, 2, 32);
+
+    // Boards offered when a match is set up, in menu order. Lanes stay two
+    // columns wide: the lane blocking rules only stop units from slipping past
+    // each other when every unit level with them is also in attack range.
+    private static final BoardGeometry[] PRESETS = { STANDARD, LONG, SHORT, GRAND };
+
+    private final int laneCount;
+    private final int laneWidth;
+    private final int rows;
+    private final int cols;
+
+    // laneOfCol[c] = lane index of column c, or -1 for wall columns
+    private final int[] laneOfCol;
+
+    // laneCols[lane] = board columns that make up the lane (left to right)
+    private final int[][] laneCols;
+
+    // Short lane labels used in tables and logs
+    private final String[] laneNames;
+
+    // Column range labels such as "(cols 0–1)"
+    private final String[] laneColLabels;
+
+    public BoardGeometry(int laneCount, int laneWidth, int rows) {
+        if (laneCount <= 0 || laneWidth <= 0 || rows < 3) {
+            throw new IllegalArgumentException("Board needs at least one lane, lane width 1 and 3 rows");
+        }
+        this.laneCount = laneCount;
+        this.laneWidth = laneWidth;
+        this.rows = rows;
+        this.cols = laneCount * laneWidth + (laneCount - 1);
+
+        this.laneOfCol = new int[cols];
+        this.laneCols = new int[laneCount][laneWidth];
+        this.laneNames = new String[laneCount];
+        this.laneColLabels = new String[laneCount];
+
+        for (int c = 0; c < cols; c++) {
+            int block = c / (laneWidth + 1);
+            int offset = c % (laneWidth + 1);
+            if (offset == laneWidth) {
+                laneOfCol[c] = -1;
+            } else {
+                laneOfCol[c] = block;
+                laneCols[block][offset] = c;
+            }
+        }
+
+        for (int lane = 0; lane < laneCount; lane++) {
+            int first = laneCols[lane][0];
+            int last = laneCols[lane][laneWidth - 1];
+            laneNames[lane] = defaultLaneName(lane, laneCount);
+            laneColLabels[lane] = (first == last)
+                    ? "(col " + first + ")"
+                    : "(cols " + first + "–" + last + ")";
+        }
+    }
+
+    // Classic boards keep TOP/MID/BOT; larger boards number their lanes
+    private static String defaultLaneName(int lane, int laneCount) {
+        if (laneCount == 3) {
+            switch (lane) {
+                case 0: return "TOP";
+                case 1: return "MID";
+                case 2: return "BOT";
+                default: break;
+            }
+        }
+        return "L" + (lane + 1);
+    }
+
+    /**
+     * Board layouts a player can pick from (copy; STANDARD first).
+     */
+    public static BoardGeometry[] presets() {
+        return PRESETS.clone();
+    }
+
+    /**
+     * Short description such as "3 lanes x 2 cols, 8 rows" for menus.
+     */
+    public String describe() {
+        return laneCount + " lanes x " + laneWidth + (laneWidth == 1 ? " col, " : " cols, ") + rows + " rows";
+    }
+
+    public int getLaneCount() { return laneCount; }
+    public int getLaneWidth() { return laneWidth; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    /**
+     * Returns the lane index for a column, or -1 for walls and out-of-range columns.
+     */
+    public int laneOf(int col) {
+        if (col < 0 || col >= cols) return -1;
+        return laneOfCol[col];
+    }
+
+    public boolean isWallColumn(int col) {
+        return col >= 0 && col < cols && laneOfCol[col] == -1;
+    }
+
+    /**
+     * Returns the columns of a lane (shared table, do not modify), or an empty array.
+     */
+    public int[] laneColumns(int lane) {
+        if (lane < 0 || lane >= laneCount) return new int[0];
+        return laneCols[lane];
+    }
+
+    public String laneName(int lane) {
+        if (lane < 0 || lane >= laneCount) return "-";
+        return laneNames[lane];
+    }
+
+    public String laneColsLabel(int lane) {
+        if (lane < 0 || lane >= laneCount) return "(cols ?)";
+        return laneColLabels[lane];
+    }
+}
@@ -0,0 +1,315 @@
+/**
+ * File: BoardSnapshot.java
+ * Package: legends.valor.world
+ *
+ * Purpose:
+ *   Immutable, structurally shared view of a Valor board position.
+ *
+ * Responsibilities:
+ *   - Freeze cell types, unit positions and unit combat figures at capture time
+ *   - Answer cell / unit queries without touching the live board or entities
+ *   - Produce modified positions copy-on-write: only the rows and unit arrays
+ *     a change touches are copied, everything else is shared with the parent
+ *   - Carry the position's Zobrist hash along, updated with the same keys as ValorBoard
+ *
+ * A snapshot never changes after construction, so "copying" one is just
+ * passing the reference, and any number of threads may read it or branch
+ * from it without locks. Units keep their Entity only as an identity; their
+ * figures (HP, attack, dodge, armor) are the captured values.
+ */
+package legends.valor.world;
+
+import java.util.Arrays;
+import java.util.List;
+
+import legends.characters.Entity;
+import legends.characters.Hero;
+import legends.characters.Monster;
+
+public final class BoardSnapshot {
+
+    /**
+     * Frozen state of one hero or monster.
+     */
+    public static final class Unit {
+
+        private final Entity entity;
+        private final boolean hero;
+        private final int level;
+        private final int row;
+        private final int col;
+        private final double hp;
+
+        // Expected basic-attack damage (ThreatMap.expectedHit), dodge chance and flat armor
+        private final double attack;
+        private final double dodge;
+        private final double armor;
+
+        Unit(Entity entity, boolean hero, int level, int row, int col,
+             double hp, double attack, double dodge, double armor) {
+            this.entity = entity;
+            this.hero = hero;
+            this.level = level;
+            this.row = row;
+            this.col = col;
+            this.hp = hp;
+            this.attack = attack;
+            this.dodge = dodge;
+            this.armor = armor;
+        }
+
+        public Entity getEntity() { return entity; }
+        public boolean isHero() { return hero; }
+        public int getLevel() { return level; }
+        public int getRow() { return row; }
+        public int getCol() { return col; }
+        public double getHP() { return hp; }
+        public double getAttack() { return attack; }
+        public double getDodge() { return dodge; }
+        public double getArmor() { return armor; }
+
+        Unit at(int r, int c) {
+            return new Unit(entity, hero, level, r, c, hp, attack, dodge, armor);
+        }
+
+        Unit withHP(double newHp) {
+            return new Unit(entity, hero, level, row, col, newHp, attack, dodge, armor);
+        }
+
+        long key(int cols) {
+            return key(cols, entity.getId());
+        }
+
+        long nameKey(int cols) {
+            return key(cols, String.valueOf(entity.getName()).hashCode());
+        }
+
+        private long key(int cols, int id) {
+            int bucket = ZobristHash.hpBucket(hp, level);
+            int cell = row * cols + col;
+            return hero ? ZobristHash.heroKey(id, cell, bucket)
+                        : ZobristHash.monsterKey(id, cell, bucket);
+        }
+    }
+
+    private static final ValorCellType[] TYPES = ValorCellType.values();
+    private static final Unit[] NO_UNITS = new Unit[0];
+
+    private final BoardGeometry geometry;
+    private final int rows;
+    private final int cols;
+
+    // Per row: cell type ordinals and occupants; rows are shared between snapshots
+    private final byte[][] types;
+    private final Unit[][] heroGrid;
+    private final Unit[][] monsterGrid;
+
+    // Units on the board (order is not meaningful)
+    private final Unit[] heroes;
+    private final Unit[] monsters;
+
+    // Keys for cell types (read-only after construction)
+    private final ZobristHash keys;
+    private final long hash;
+
+    private BoardSnapshot(BoardGeometry geometry, byte[][] types, Unit[][] heroGrid, Unit[][] monsterGrid,
+                          Unit[] heroes, Unit[] monsters, ZobristHash keys, long hash) {
+        this.geometry = geometry;
+        this.rows = geometry.getRows();
+        this.cols = geometry.getCols();
+        this.types = types;
+        this.heroGrid = heroGrid;
+        this.monsterGrid = monsterGrid;
+        this.heroes = heroes;
+        this.monsters = monsters;
+        this.keys = keys;
+        this.hash = hash;
+    }
+
+    /**
+     * Builds a snapshot of the board. Called by ValorBoard.snapshot while it
+     * holds its lock, so positions are consistent.
+     */
+    static BoardSnapshot of(ValorBoard board, List<Hero> heroesOnBoard, List<Monster> monstersOnBoard,
+                            ZobristHash keys) {
+        BoardGeometry g = board.getGeometry();
+        int rows = g.getRows(), cols = g.getCols();
+
+        byte[][] types = new byte[rows][cols];
+        Unit[][] heroGrid = new Unit[rows][cols];
+        Unit[][] monsterGrid = new Unit[rows][cols];
+        long hash = 0;
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                ValorCellType t = board.getTile(r, c).getType();
+                types[r][c] = (byte) t.ordinal();
+                hash ^= keys.typeKey(r, c, t);
+            }
+        }
+
+        Unit[] heroes = new Unit[heroesOnBoard.size()];
+        int heroCount = 0;
+        for (Hero h : heroesOnBoard) {
+            int[] pos = board.locateHero(h);
+            if (pos == null) continue;
+            double armor = (h.getArmor() == null) ? 0 : h.getArmor().getReduction();
+            Unit u = new Unit(h, true, h.getLevel(), pos[0], pos[1], h.getHP(),
+                    ThreatMap.expectedHit(h), h.getDodgeChance(), armor);
+            heroGrid[pos[0]][pos[1]] = u;
+            heroes[heroCount++] = u;
+            hash ^= u.key(cols);
+        }
+
+        Unit[] monsters = new Unit[monstersOnBoard.size()];
+        int monsterCount = 0;
+        for (Monster m : monstersOnBoard) {
+            int[] pos = board.locateMonster(m);
+            if (pos == null) continue;
+            Unit u = new Unit(m, false, m.getLevel(), pos[0], pos[1], m.getHP(),
+                    ThreatMap.expectedHit(m), m.getDodgeChance(), 0);
+            monsterGrid[pos[0]][pos[1]] = u;
+            monsters[monsterCount++] = u;
+            hash ^= u.key(cols);
+        }
+
+        return new BoardSnapshot(g, types, heroGrid, monsterGrid,
+                Arrays.copyOf(heroes, heroCount), Arrays.copyOf(monsters, monsterCount), keys, hash);
+    }
+
+    // ---------- Queries ----------
+
+    public BoardGeometry getGeometry() { return geometry; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    /**
+     * Zobrist hash of this position (same keys as ValorBoard.getHash).
+     */
+    public long getHash() { return hash; }
+
+    /**
+     * Hash that also matches across runs: like getHash, but units are keyed
+     * by name instead of their per-run entity id (for on-disk lookups).
+     */
+    public long getStableHash() {
+        long h = hash;
+        for (Unit u : heroes) h ^= u.key(cols) ^ u.nameKey(cols);
+        for (Unit u : monsters) h ^= u.key(cols) ^ u.nameKey(cols);
+        return h;
+    }
+
+    public boolean inBounds(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
+    public ValorCellType getType(int row, int col) {
+        return TYPES[types[row][col]];
+    }
+
+    public Unit heroAt(int row, int col) {
+        return inBounds(row, col) ? heroGrid[row][col] : null;
+    }
+
+    public Unit monsterAt(int row, int col) {
+        return inBounds(row, col) ? monsterGrid[row][col] : null;
+    }
+
+    public int getHeroCount() { return heroes.length; }
+    public int getMonsterCount() { return monsters.length; }
+    public Unit getHero(int i) { return heroes[i]; }
+    public Unit getMonster(int i) { return monsters[i]; }
+
+    /**
+     * The snapshot unit of an entity, or null if it was not on the board.
+     */
+    public Unit find(Entity e) {
+        for (Unit u : heroes) if (u.entity == e) return u;
+        for (Unit u : monsters) if (u.entity == e) return u;
+        return null;
+    }
+
+    /**
+     * True if a hero could stand on the cell (accessible and no hero there).
+     */
+    public boolean isEmptyForHero(int row, int col) {
+        return inBounds(row, col) && getType(row, col).isAccessible() && heroGrid[row][col] == null;
+    }
+
+    /**
+     * True if a monster could stand on the cell (accessible and no monster there).
+     */
+    public boolean isEmptyForMonster(int row, int col) {
+        return inBounds(row, col) && getType(row, col).isAccessible() && monsterGrid[row][col] == null;
+    }
+
+    // ---------- Copy-on-write updates ----------
+
+    /**
+     * Position after the unit moved to (toR, toC). The caller checks legality.
+     */
+    public BoardSnapshot withMoved(Unit u, int toR, int toC) {
+        if (u == null || find(u.entity) != u) throw new IllegalArgumentException("Unit is not in this snapshot");
+
+        Unit moved = u.at(toR, toC);
+        Unit[][] grid = u.hero ? heroGrid.clone() : monsterGrid.clone();
+        grid[u.row] = grid[u.row].clone();
+        grid[u.row][u.col] = null;
+        if (toR != u.row) grid[toR] = grid[toR].clone();
+        grid[toR][toC] = moved;
+
+        long h = hash ^ u.key(cols) ^ moved.key(cols);
+        return u.hero
+                ? new BoardSnapshot(geometry, types, grid, monsterGrid, replace(heroes, u, moved), monsters, keys, h)
+                : new BoardSnapshot(geometry, types, heroGrid, grid, heroes, replace(monsters, u, moved), keys, h);
+    }
+
+    /**
+     * Position after the unit's HP changed; at 0 HP or below it leaves the board.
+     */
+    public BoardSnapshot withHP(Unit u, double hp) {
+        if (u == null || find(u.entity) != u) throw new IllegalArgumentException("Unit is not in this snapshot");
+
+        Unit changed = (hp > 0) ? u.withHP(hp) : null;
+        Unit[][] grid = u.hero ? heroGrid.clone() : monsterGrid.clone();
+        grid[u.row] = grid[u.row].clone();
+        grid[u.row][u.col] = changed;
+
+        long h = hash ^ u.key(cols);
+        if (changed != null) h ^= changed.key(cols);
+        return u.hero
+                ? new BoardSnapshot(geometry, types, grid, monsterGrid, replace(heroes, u, changed), monsters, keys, h)
+                : new BoardSnapshot(geometry, types, heroGrid, grid, heroes, replace(monsters, u, changed), keys, h);
+    }
+
+    /**
+     * Position after a cell changed type (e.g. an obstacle was removed).
+     */
+    public BoardSnapshot withType(int row, int col, ValorCellType type) {
+        ValorCellType old = getType(row, col);
+        if (old == type) return this;
+
+        byte[][] t = types.clone();
+        t[row] = t[row].clone();
+        t[row][col] = (byte) type.ordinal();
+
+        long h = hash ^ keys.typeKey(row, col, old) ^ keys.typeKey(row, col, type);
+        return new BoardSnapshot(geometry, t, heroGrid, monsterGrid, heroes, monsters, keys, h);
+    }
+
+    // Copy of units with old replaced by repl (or dropped when repl is null)
+    private static Unit[] replace(Unit[] units, Unit old, Unit repl) {
+        if (repl == null) {
+            if (units.length == 1) return NO_UNITS;
+            Unit[] out = new Unit[units.length - 1];
+            int k = 0;
+            for (Unit u : units) if (u != old) out[k++] = u;
+            return out;
+        }
+        Unit[] out = units.clone();
+        for (int i = 0; i < out.length; i++) {
+            if (out[i] == old) out[i] = repl;
+        }
+        return out;
+    }
+}
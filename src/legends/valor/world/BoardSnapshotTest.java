@@ -0,0 +1,109 @@
+/**
+ * File: BoardSnapshotTest.java
+ * Description: Simple test harness for BoardSnapshot copy-on-write.
+ *              Checks that a snapshot is frozen against later board changes,
+ *              that withMoved / withHP / withType leave the parent untouched,
+ *              that sibling branches do not see each other's changes, and that
+ *              every derived hash equals the live board's hash after the same
+ *              change. Exits with status 1 on a failure.
+ */
+
+package legends.valor.world;
+
+import legends.characters.Dragon;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.characters.Warrior;
+import legends.valor.world.BoardSnapshot.Unit;
+
+public class BoardSnapshotTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        ValorBoard board = new ValorBoard();
+        ValorMovement movement = new ValorMovement(board);
+        board.getTile(3, 4).setType(ValorCellType.PLAIN);
+        board.getTile(4, 4).setType(ValorCellType.PLAIN);
+        board.getTile(5, 0).setType(ValorCellType.PLAIN);
+
+        Hero hero = new Warrior("Guard", 1, 100, 100, 500, 500, 500);
+        int[] spawn = board.getHeroSpawnCell(0);
+        board.getTile(spawn[0], spawn[1]).placeHero(hero);
+        Monster monster = new Dragon("Drake", 2, 100, 100, 0.0);
+        board.getTile(3, 4).placeMonster(monster);
+
+        // --- Capture ---
+        System.out.println("=== Capture ===");
+        BoardSnapshot root = board.snapshot();
+        Unit m = root.find(monster);
+        Unit h = root.find(hero);
+        check(root.getHash() == board.getHash(), "hash matches the board");
+        check(m != null && m.getRow() == 3 && m.getCol() == 4 && root.monsterAt(3, 4) == m, "monster captured");
+        check(h != null && h.getHP() == hero.getHP() && root.getHeroCount() == 1, "hero captured");
+
+        // --- Moves: the child changes, the parent does not ---
+        System.out.println("\n=== withMoved ===");
+        BoardSnapshot moved = root.withMoved(m, 4, 4);
+        movement.applyMonsterMove(monster, 3, 4, 4, 4);
+        check(moved.monsterAt(4, 4) != null && moved.monsterAt(3, 4) == null, "child sees the move");
+        check(root.monsterAt(3, 4) == m && root.monsterAt(4, 4) == null, "parent unchanged");
+        check(root.find(monster) == m && m.getRow() == 3, "parent unit unchanged");
+        check(moved.getHash() == board.getHash(), "child hash matches the board after the same move");
+        check(root.getHash() != moved.getHash(), "parent keeps its own hash");
+
+        // --- Frozen against the live board ---
+        System.out.println("\n=== Frozen ===");
+        hero.takeDamage(60);
+        board.refreshHealth(hero);
+        check(root.find(hero).getHP() == h.getHP() && h.getHP() != hero.getHP(), "later damage not seen by the snapshot");
+
+        // --- HP changes, including removal at 0 HP ---
+        System.out.println("\n=== withHP ===");
+        BoardSnapshot hurt = moved.withHP(moved.find(hero), hero.getHP());
+        check(hurt.getHash() == board.getHash(), "child hash matches the board after the same damage");
+        check(moved.find(hero).getHP() == h.getHP(), "parent HP unchanged");
+
+        BoardSnapshot slain = hurt.withHP(hurt.find(monster), 0);
+        check(slain.find(monster) == null && slain.monsterAt(4, 4) == null && slain.getMonsterCount() == 0,
+                "monster at 0 HP leaves the child");
+        check(hurt.find(monster) != null && hurt.getMonsterCount() == 1, "parent keeps the monster");
+        monster.setHP(0);
+        board.getTile(4, 4).removeMonster();
+        check(slain.getHash() == board.getHash(), "child hash matches the board after the removal");
+
+        // --- Terrain ---
+        System.out.println("\n=== withType ===");
+        BoardSnapshot bush = slain.withType(5, 0, ValorCellType.BUSH);
+        board.getTile(5, 0).setType(ValorCellType.BUSH);
+        check(bush.getType(5, 0) == ValorCellType.BUSH && slain.getType(5, 0) == ValorCellType.PLAIN,
+                "child sees the new type, parent keeps the old one");
+        check(bush.getHash() == board.getHash(), "child hash matches the board after the same change");
+        check(slain.withType(5, 0, ValorCellType.PLAIN) == slain, "unchanged type returns the same snapshot");
+
+        // --- Siblings branch independently ---
+        System.out.println("\n=== Branches ===");
+        BoardSnapshot left = root.withMoved(m, 3, 5);
+        BoardSnapshot right = root.withMoved(m, 2, 4);
+        check(left.monsterAt(3, 5) != null && left.monsterAt(2, 4) == null, "left branch sees only its move");
+        check(right.monsterAt(2, 4) != null && right.monsterAt(3, 5) == null, "right branch sees only its move");
+        check(left.getHash() != right.getHash(), "branches hash differently");
+        check(root.withMoved(m, 3, 5).getHash() == left.getHash(), "same change gives the same hash");
+
+        boolean rejected = false;
+        try {
+            left.withMoved(m, 4, 4);
+        } catch (IllegalArgumentException e) {
+            rejected = true;
+        }
+        check(rejected, "unit from another snapshot rejected");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
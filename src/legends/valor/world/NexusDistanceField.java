@@ -0,0 +1,106 @@
+/**
+ * File: NexusDistanceField.java
+ * Package: legends.valor.world
+ *
+ * Purpose:
+ *   Per-cell walking distance to the heroes' Nexus, used for monster pathing.
+ *
+ * Responsibilities:
+ *   - Run one BFS per lane from the heroes' Nexus row over accessible cells
+ *   - Recompute a lane only after its terrain changed (e.g. obstacle removed)
+ *   - Answer distance queries in O(1)
+ *
+ * Units are not obstacles here: the field only reflects terrain, so it
+ * stays valid while monsters and heroes move around.
+ */
+package legends.valor.world;
+
+import java.util.Arrays;
+
+public class NexusDistanceField {
+
+    // Distance reported for cells that cannot reach the Nexus (or are not in a lane)
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // 4-neighbourhood used for walking distance
+    private static final int[][] STEPS = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+    private final ValorBoard board;
+    private final int rows;
+    private final int cols;
+
+    // dist[row * cols + col] = steps to the heroes' Nexus row within the lane
+    private final int[] dist;
+
+    // Lanes whose terrain changed since their last BFS
+    private final boolean[] dirty;
+
+    NexusDistanceField(ValorBoard board) {
+        this.board = board;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        this.dist = new int[rows * cols];
+        this.dirty = new boolean[board.getGeometry().getLaneCount()];
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(dirty, true);
+    }
+
+    /**
+     * Returns the walking distance from (row, col) to the heroes' Nexus,
+     * or UNREACHABLE. Recomputes the cell's lane first if its terrain changed.
+     */
+    public int distance(int row, int col) {
+        if (!board.inBounds(row, col)) return UNREACHABLE;
+        int lane = board.getLane(col);
+        if (lane < 0) return UNREACHABLE;
+
+        if (dirty[lane]) recompute(lane);
+        return dist[row * cols + col];
+    }
+
+    /**
+     * Marks the lane containing this column for recomputation.
+     */
+    void invalidate(int col) {
+        int lane = board.getLane(col);
+        if (lane >= 0) dirty[lane] = true;
+    }
+
+    // Multi-source BFS from the lane's heroes' Nexus cells
+    private void recompute(int lane) {
+        int[] laneCols = board.getNexusColumnsForLane(lane);
+        int[] queue = new int[rows * laneCols.length];
+        int head = 0, tail = 0;
+
+        for (int r = 0; r < rows; r++) {
+            for (int c : laneCols) dist[r * cols + c] = UNREACHABLE;
+        }
+
+        int nexusRow = rows - 1;
+        for (int c : laneCols) {
+            if (!board.getTile(nexusRow, c).isAccessible()) continue;
+            dist[nexusRow * cols + c] = 0;
+            queue[tail++] = nexusRow * cols + c;
+        }
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int r = cell / cols, c = cell % cols;
+            int next = dist[cell] + 1;
+
+            for (int[] s : STEPS) {
+                int nr = r + s[0], nc = c + s[1];
+                if (!board.inBounds(nr, nc) || board.getLane(nc) != lane) continue;
+
+                int n = nr * cols + nc;
+                if (dist[n] != UNREACHABLE) continue;
+                if (!board.getTile(nr, nc).isAccessible()) continue;
+
+                dist[n] = next;
+                queue[tail++] = n;
+            }
+        }
+
+        dirty[lane] = false;
+    }
+}
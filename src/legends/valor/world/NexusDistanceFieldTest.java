@@ -0,0 +1,68 @@
+/**
+ * File: NexusDistanceFieldTest.java
+ * Description: Simple test harness for NexusDistanceField.
+ *              Clears the random terrain, then checks straight-line distances
+ *              in an open lane, detours around an obstacle, cells cut off from
+ *              the Nexus, and that a terrain change is picked up only by the
+ *              lane it happened in. Exits with status 1 on a failure.
+ */
+
+package legends.valor.world;
+
+public class NexusDistanceFieldTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        ValorBoard board = new ValorBoard();
+        clearTerrain(board);
+        NexusDistanceField field = board.getDistanceField();
+        int last = board.getRows() - 1;
+
+        // --- Open lane: distance is the number of rows to the Nexus ---
+        System.out.println("=== Open lane ===");
+        check(field.distance(last, 0) == 0 && field.distance(last, 1) == 0, "Nexus row is distance 0");
+        check(field.distance(4, 0) == last - 4, "straight walk down the lane");
+        check(field.distance(0, 1) == last, "far Nexus row walks the whole lane");
+        check(field.distance(3, 2) == NexusDistanceField.UNREACHABLE, "wall column unreachable");
+        check(field.distance(-1, 0) == NexusDistanceField.UNREACHABLE, "off the board unreachable");
+
+        // --- Obstacle: the field walks around it ---
+        System.out.println("\n=== Detour ===");
+        board.getTile(5, 0).setType(ValorCellType.OBSTACLE);
+        check(field.distance(5, 0) == NexusDistanceField.UNREACHABLE, "obstacle cell unreachable");
+        check(field.distance(4, 0) == (last - 4) + 1, "detour through the other lane column");
+        check(field.distance(5, 1) == last - 5, "column beside the obstacle unchanged");
+        check(field.distance(4, 3) == last - 4, "other lane untouched");
+
+        // --- Blocked lane: cells behind a full row of obstacles are cut off ---
+        System.out.println("\n=== Cut off ===");
+        board.getTile(5, 1).setType(ValorCellType.OBSTACLE);
+        check(field.distance(4, 0) == NexusDistanceField.UNREACHABLE, "row behind the block unreachable");
+        check(field.distance(6, 1) == last - 6, "row in front of the block still reachable");
+
+        // --- Clearing the obstacle restores the straight path ---
+        System.out.println("\n=== Cleared ===");
+        board.getTile(5, 0).setType(ValorCellType.PLAIN);
+        board.getTile(5, 1).setType(ValorCellType.PLAIN);
+        check(field.distance(4, 0) == last - 4, "straight walk after the obstacle is removed");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    // Turns every lane cell between the Nexus rows into plain terrain
+    private static void clearTerrain(ValorBoard board) {
+        for (int r = 1; r < board.getRows() - 1; r++) {
+            for (int c = 0; c < board.getCols(); c++) {
+                ValorTile tile = board.getTile(r, c);
+                if (tile.getType() != ValorCellType.INACCESSIBLE) tile.setType(ValorCellType.PLAIN);
+            }
+        }
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * File: ThreatMap.java
+ * Package: legends.valor.world
+ *
+ * Purpose:
+ *   Per-cell threat figures for the Valor board, kept up to date incrementally.
+ *
+ * Responsibilities:
+ *   - Count, per cell, the living monsters (and heroes) that can hit that cell
+ *   - Sum the expected basic-attack damage of those units per cell
+ *   - Stamp / unstamp a unit's 3x3 attack range as it is placed, moved or removed
+ *
+ * Every unit stamps the cells of its 3x3 range with +1 count and its
+ * expected hit. The amount stamped is remembered per entity id so removal
+ * subtracts exactly what was added, even if the unit's stats changed in
+ * between (call ValorBoard.refreshThreat after stat changes).
+ */
+package legends.valor.world;
+
+import java.util.Arrays;
+
+import legends.characters.Entity;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.valor.combat.ValorDamageModel;
+
+public class ThreatMap {
+
+    private final int rows;
+    private final int cols;
+
+    // Per cell (row * cols + col): monsters able to hit it and their summed expected damage
+    private final int[] monsterCount;
+    private final double[] monsterDamage;
+
+    // Per cell: heroes able to hit it and their summed expected damage
+    private final int[] heroCount;
+    private final double[] heroDamage;
+
+    // Expected hit each entity stamped when placed, indexed by entity id
+    private double[] stamped = new double[16];
+
+    ThreatMap(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.monsterCount = new int[rows * cols];
+        this.monsterDamage = new double[rows * cols];
+        this.heroCount = new int[rows * cols];
+        this.heroDamage = new double[rows * cols];
+    }
+
+    /**
+     * Expected damage of one monster basic attack (before the target's dodge).
+     */
+    public static double expectedHit(Monster m) {
+        return (m == null) ? 0 : m.getDamage() * ValorDamageModel.MONSTER_DAMAGE_FACTOR;
+    }
+
+    /**
+     * Expected damage of one hero basic attack (before the target's dodge).
+     */
+    public static double expectedHit(Hero h) {
+        return (h == null) ? 0 : h.getAttackDamage();
+    }
+
+    // ---------- Updates (called by ValorBoard) ----------
+
+    void addMonster(Monster m, int row, int col) {
+        double dmg = expectedHit(m);
+        remember(m, dmg);
+        stamp(monsterCount, monsterDamage, row, col, 1, dmg);
+    }
+
+    void removeMonster(Monster m, int row, int col) {
+        stamp(monsterCount, monsterDamage, row, col, -1, -stamped[m.getId()]);
+    }
+
+    void addHero(Hero h, int row, int col) {
+        double dmg = expectedHit(h);
+        remember(h, dmg);
+        stamp(heroCount, heroDamage, row, col, 1, dmg);
+    }
+
+    void removeHero(Hero h, int row, int col) {
+        stamp(heroCount, heroDamage, row, col, -1, -stamped[h.getId()]);
+    }
+
+    // Applies a count/damage delta to every in-bounds cell of the 3x3 range around (row, col)
+    private void stamp(int[] count, double[] damage, int row, int col, int dc, double dd) {
+        int r0 = Math.max(0, row - 1), r1 = Math.min(rows - 1, row + 1);
+        int c0 = Math.max(0, col - 1), c1 = Math.min(cols - 1, col + 1);
+
+        for (int r = r0; r <= r1; r++) {
+            int base = r * cols;
+            for (int c = c0; c <= c1; c++) {
+                count[base + c] += dc;
+                damage[base + c] += dd;
+                // Keep an emptied cell at exactly zero despite rounding
+                if (count[base + c] == 0) damage[base + c] = 0;
+            }
+        }
+    }
+
+    private void remember(Entity e, double dmg) {
+        int id = e.getId();
+        if (id >= stamped.length) {
+            stamped = Arrays.copyOf(stamped, Math.max(id + 1, stamped.length * 2));
+        }
+        stamped[id] = dmg;
+    }
+
+    // ---------- Queries (O(1)) ----------
+
+    /**
+     * Number of living monsters that can attack (row, col).
+     */
+    public int getMonsterCount(int row, int col) {
+        return inBounds(row, col) ? monsterCount[row * cols + col] : 0;
+    }
+
+    /**
+     * Summed expected damage of the monsters that can attack (row, col).
+     */
+    public double getMonsterDamage(int row, int col) {
+        return inBounds(row, col) ? monsterDamage[row * cols + col] : 0;
+    }
+
+    /**
+     * Number of living heroes that can attack (row, col).
+     */
+    public int getHeroCount(int row, int col) {
+        return inBounds(row, col) ? heroCount[row * cols + col] : 0;
+    }
+
+    /**
+     * Summed expected damage of the heroes that can attack (row, col).
+     */
+    public double getHeroDamage(int row, int col) {
+        return inBounds(row, col) ? heroDamage[row * cols + col] : 0;
+    }
+
+    private boolean inBounds(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+}
@@ -2,31 +2,63 @@
 /**
  * ValorBoard.java
  *
- * Represents the 8x8 game board for Legends of Valor.
+ * Represents the game board for Legends of Valor (8x8 by default).
  * Handles board generation, lane structure, terrain placement,
  * hero/monster positioning, movement validation, rendering,
  * and win-condition checks.
+ *
+ * Lane layout comes from a BoardGeometry. Tiles report every hero and
+ * monster placement back to the board, so unit positions are looked up
+ * in O(1) instead of scanning the grid. The same callbacks keep a Zobrist
+ * hash of the position up to date and give each unit its id for this match.
  */
 package legends.valor.world;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
+import legends.characters.EntityIds;
+import legends.characters.EntityIntTable;
 import legends.characters.Hero;
 import legends.characters.Monster;
 
 
 public class ValorBoard {
 
-    public static final int ROWS = 8;
-    public static final int COLS = 8;
+    // Lane count, lane width and board length
+    private final BoardGeometry geometry;
 
-    // Fixed wall columns separating the three lanes
-    private static final int WALL_COL_1 = 2;
-    private static final int WALL_COL_2 = 5;
+    // Board size (taken from the geometry)
+    private final int rows;
+    private final int cols;
 
     // Board tiles store cell type + current occupants (hero/monster)
     private final ValorTile[][] grid;
 
+    // Dense ids for the units of this match (issued when a unit is first placed)
+    private final EntityIds ids = new EntityIds();
+
+    // Cell index (row * cols + col) of each hero/monster on the board, -1 if off the board
+    private final EntityIntTable heroCell = new EntityIntTable(-1);
+    private final EntityIntTable monsterCell = new EntityIntTable(-1);
+
+    // Units currently on the board, plus each unit's slot in its list (for O(1) removal)
+    private final List<Hero> heroesOnBoard = new ArrayList<Hero>();
+    private final List<Monster> monstersOnBoard = new ArrayList<Monster>();
+    private final EntityIntTable heroSlot = new EntityIntTable(-1);
+    private final EntityIntTable monsterSlot = new EntityIntTable(-1);
+
+    // Walking distance to the heroes' Nexus per cell (recomputed per lane on terrain change)
+    private final NexusDistanceField distanceField;
+
+    // Per-cell monster/hero threat, updated as units are placed, moved and removed
+    private final ThreatMap threatMap;
+
+    // Hash of cell types, unit positions and HP buckets, XOR-updated on every change
+    private final ZobristHash zobrist;
+
     // RNG used for randomized lane terrain generation
     private final Random rng = new Random();
 
@@ -42,35 +74,52 @@ public class ValorBoard {
     private static final String WHITE   = "\u001B[37m";
 
     public ValorBoard() {
-        this.grid = new ValorTile[ROWS][COLS];
+        this(BoardGeometry.STANDARD);
+    }
+
+    public ValorBoard(BoardGeometry geometry) {
+        this.geometry = (geometry == null) ? BoardGeometry.STANDARD : geometry;
+        this.rows = this.geometry.getRows();
+        this.cols = this.geometry.getCols();
+        this.grid = new ValorTile[rows][cols];
+        this.zobrist = new ZobristHash(rows, cols);
         generateLayout();
+        this.distanceField = new NexusDistanceField(this);
+        this.threatMap = new ThreatMap(rows, cols);
     }
 
+    public BoardGeometry getGeometry() { return geometry; }
+    public EntityIds getEntityIds() { return ids; }
+    public NexusDistanceField getDistanceField() { return distanceField; }
+    public ThreatMap getThreatMap() { return threatMap; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
     public ValorTile getTile(int row, int col) {
         if (!inBounds(row, col)) return null;
         return grid[row][col];
     }
 
     public boolean inBounds(int row, int col) {
-        return row >= 0 && row < ROWS && col >= 0 && col < COLS;
+        return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 
     // Builds initial board tiles: walls, nexus rows, and randomized lane terrain
     private void generateLayout() {
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
 
                 if (isWall(r, c)) {
                     grid[r][c] = new ValorTile(ValorCellType.INACCESSIBLE);
-                    continue;
-                }
-
-                if (isNexus(r, c)) {
+                } else if (isNexus(r, c)) {
                     grid[r][c] = new ValorTile(ValorCellType.NEXUS);
-                    continue;
+                } else {
+                    grid[r][c] = new ValorTile(randomLaneType());
                 }
 
-                grid[r][c] = new ValorTile(randomLaneType());
+                // Tiles report occupancy changes back to this board
+                grid[r][c].bind(this, r, c);
+                zobrist.cellType(r, c, grid[r][c].getType());
             }
         }
     }
@@ -88,11 +137,11 @@ public class ValorBoard {
 
     // Nexus rows are the first and last board rows
     public boolean isNexus(int row, int col) {
-        return row == 0 || row == ROWS - 1;
+        return row == 0 || row == rows - 1;
     }
 
     public boolean isHeroesNexus(int row, int col) {
-        return row == ROWS - 1;
+        return row == rows - 1;
     }
 
     public boolean isMonstersNexus(int row, int col) {
@@ -100,19 +149,16 @@ public class ValorBoard {
     }
 
     /**
-     * Returns the lane index for a board column.
-     * 0 = top lane (cols 0–1), 1 = mid lane (cols 3–4), 2 = bot lane (cols 6–7), -1 = not a lane.
+     * Returns the lane index for a board column (table lookup), or -1 if not a lane.
+     * On the standard board: 0 = top (cols 0–1), 1 = mid (cols 3–4), 2 = bot (cols 6–7).
      */
     public int getLane(int col) {
-        if (col == 0 || col == 1) return 0;
-        if (col == 3 || col == 4) return 1;
-        if (col == 6 || col == 7) return 2;
-        return -1;
+        return geometry.laneOf(col);
     }
 
     // Wall columns are always inaccessible
     public boolean isWall(int row, int col) {
-        return col == WALL_COL_1 || col == WALL_COL_2;
+        return geometry.isWallColumn(col);
     }
 
     // Checks whether a hero can enter a destination tile (bounds + occupancy + accessibility handled by tile)
@@ -155,28 +201,193 @@ public class ValorBoard {
         to.placeMonster(monster);
     }
 
-    // Returns the two nexus columns that belong to a lane (used for spawns/respawns)
+    // Returns the nexus columns that belong to a lane (shared table, do not modify)
     public int[] getNexusColumnsForLane(int lane) {
-        switch (lane) {
-            case 0: return new int[]{0, 1};
-            case 1: return new int[]{3, 4};
-            case 2: return new int[]{6, 7};
-            default: return new int[0];
-        }
+        return geometry.laneColumns(lane);
     }
 
     // Default hero spawn is the first nexus column in the lane on the bottom row
     public int[] getHeroSpawnCell(int lane) {
-        int[] cols = getNexusColumnsForLane(lane);
-        if (cols.length == 0) return new int[]{ROWS - 1, 0};
-        return new int[]{ROWS - 1, cols[0]};
+        int[] laneCols = getNexusColumnsForLane(lane);
+        if (laneCols.length == 0) return new int[]{rows - 1, 0};
+        return new int[]{rows - 1, laneCols[0]};
     }
 
-    // Default monster spawn is the second nexus column in the lane on the top row
+    // Default monster spawn is the last nexus column in the lane on the top row
     public int[] getMonsterSpawnCell(int lane) {
-        int[] cols = getNexusColumnsForLane(lane);
-        if (cols.length == 0) return new int[]{0, 0};
-        return (cols.length < 2) ? new int[]{0, cols[0]} : new int[]{0, cols[1]};
+        int[] laneCols = getNexusColumnsForLane(lane);
+        if (laneCols.length == 0) return new int[]{0, 0};
+        return new int[]{0, laneCols[laneCols.length - 1]};
+    }
+
+    /**
+     * Returns {row, col} of a hero on the board, or null if it is not placed.
+     */
+    public synchronized int[] locateHero(Hero hero) {
+        int cell = heroCell.get(hero);
+        return (cell < 0) ? null : new int[]{cell / cols, cell % cols};
+    }
+
+    /**
+     * Returns {row, col} of a monster on the board, or null if it is not placed.
+     */
+    public synchronized int[] locateMonster(Monster monster) {
+        int cell = monsterCell.get(monster);
+        return (cell < 0) ? null : new int[]{cell / cols, cell % cols};
+    }
+
+    /**
+     * Heroes currently on the board, in no particular order (read-only view).
+     */
+    public List<Hero> getHeroesOnBoard() {
+        return Collections.unmodifiableList(heroesOnBoard);
+    }
+
+    /**
+     * Monsters currently on the board, in no particular order (read-only view).
+     */
+    public List<Monster> getMonstersOnBoard() {
+        return Collections.unmodifiableList(monstersOnBoard);
+    }
+
+    // Called by a tile whose type changed (e.g. obstacle removed)
+    synchronized void terrainChanged(int row, int col, ValorCellType oldType, ValorCellType newType) {
+        zobrist.cellType(row, col, oldType);
+        zobrist.cellType(row, col, newType);
+        if (distanceField != null) distanceField.invalidate(col);
+    }
+
+    // ---------- Occupancy callbacks from ValorTile ----------
+    // Synchronized because lanes of the monster phase may move units concurrently.
+
+    synchronized void heroPlaced(Hero hero, int row, int col) {
+        ids.issue(hero);
+        if (!heroSlot.contains(hero)) {
+            heroSlot.put(hero, heroesOnBoard.size());
+            heroesOnBoard.add(hero);
+        } else {
+            int old = heroCell.get(hero);
+            threatMap.removeHero(hero, old / cols, old % cols);
+        }
+        heroCell.put(hero, row * cols + col);
+        threatMap.addHero(hero, row, col);
+        zobrist.addHero(hero, row, col);
+    }
+
+    synchronized void heroRemoved(Hero hero) {
+        int slot = heroSlot.get(hero);
+        if (slot < 0) return;
+
+        // Swap-remove keeps removal O(1)
+        Hero last = heroesOnBoard.remove(heroesOnBoard.size() - 1);
+        if (last != hero) {
+            heroesOnBoard.set(slot, last);
+            heroSlot.put(last, slot);
+        }
+        int cell = heroCell.get(hero);
+        threatMap.removeHero(hero, cell / cols, cell % cols);
+        zobrist.remove(hero);
+
+        heroSlot.put(hero, -1);
+        heroCell.put(hero, -1);
+    }
+
+    synchronized void monsterPlaced(Monster monster, int row, int col) {
+        ids.issue(monster);
+        if (!monsterSlot.contains(monster)) {
+            monsterSlot.put(monster, monstersOnBoard.size());
+            monstersOnBoard.add(monster);
+        } else {
+            int old = monsterCell.get(monster);
+            threatMap.removeMonster(monster, old / cols, old % cols);
+        }
+        monsterCell.put(monster, row * cols + col);
+        threatMap.addMonster(monster, row, col);
+        zobrist.addMonster(monster, row, col);
+    }
+
+    synchronized void monsterRemoved(Monster monster) {
+        int slot = monsterSlot.get(monster);
+        if (slot < 0) return;
+
+        Monster last = monstersOnBoard.remove(monstersOnBoard.size() - 1);
+        if (last != monster) {
+            monstersOnBoard.set(slot, last);
+            monsterSlot.put(last, slot);
+        }
+        int cell = monsterCell.get(monster);
+        threatMap.removeMonster(monster, cell / cols, cell % cols);
+        zobrist.remove(monster);
+
+        monsterSlot.put(monster, -1);
+        monsterCell.put(monster, -1);
+    }
+
+    /**
+     * Re-stamps a hero's threat after its attack damage changed (equip, level up).
+     */
+    public synchronized void refreshThreat(Hero hero) {
+        int cell = heroCell.get(hero);
+        if (cell < 0) return;
+        threatMap.removeHero(hero, cell / cols, cell % cols);
+        threatMap.addHero(hero, cell / cols, cell % cols);
+    }
+
+    /**
+     * Re-stamps a monster's threat after its damage changed (e.g. Ice debuff).
+     */
+    public synchronized void refreshThreat(Monster monster) {
+        int cell = monsterCell.get(monster);
+        if (cell < 0) return;
+        threatMap.removeMonster(monster, cell / cols, cell % cols);
+        threatMap.addMonster(monster, cell / cols, cell % cols);
+    }
+
+    /**
+     * Immutable copy of the current position (types, units, HP, hash) that
+     * search threads can read and branch from without locking the board.
+     */
+    public synchronized BoardSnapshot snapshot() {
+        return BoardSnapshot.of(this, heroesOnBoard, monstersOnBoard, zobrist);
+    }
+
+    // ---------- Zobrist hash ----------
+
+    /**
+     * Zobrist hash of cell types, hero/monster positions and HP buckets.
+     */
+    public synchronized long getHash() {
+        return zobrist.get();
+    }
+
+    /**
+     * Re-stamps a hero's HP bucket in the hash after its HP changed (damage, potion, regen).
+     */
+    public synchronized void refreshHealth(Hero hero) {
+        int cell = heroCell.get(hero);
+        if (cell >= 0) zobrist.addHero(hero, cell / cols, cell % cols);
+    }
+
+    /**
+     * Re-stamps a monster's HP bucket in the hash after its HP changed.
+     */
+    public synchronized void refreshHealth(Monster monster) {
+        int cell = monsterCell.get(monster);
+        if (cell >= 0) zobrist.addMonster(monster, cell / cols, cell % cols);
+    }
+
+    /**
+     * Builds the hash from scratch. Equals getHash() as long as every HP
+     * change was followed by refreshHealth; meant for consistency checks.
+     */
+    public synchronized long recomputeHash() {
+        long x = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) x ^= zobrist.typeKey(r, c, grid[r][c].getType());
+        }
+        for (Hero h : heroesOnBoard) x ^= ZobristHash.heroKey(h, heroCell.get(h));
+        for (Monster m : monstersOnBoard) x ^= ZobristHash.monsterKey(m, monsterCell.get(m));
+        return x;
     }
 
     // Renders the full board grid using box characters and colored cell symbols
@@ -185,21 +396,36 @@ public class ValorBoard {
         System.out.println(MAGENTA + BOLD + "===  LEGENDS OF VALOR MAP  ===" + RESET);
         System.out.println();
 
+        printGrid(false);
+    }
+
+    // Renders the board with each free cell showing how many monsters can hit it
+    public void printDangerMap() {
+        System.out.println();
+        System.out.println(MAGENTA + BOLD + "===  DANGER MAP  ===" + RESET);
+        System.out.println("  Number = monsters that can attack the cell "
+                + YELLOW + "(1)" + RESET + " " + RED + "(2+)" + RESET);
+        System.out.println();
+
+        printGrid(true);
+    }
+
+    private void printGrid(boolean danger) {
         printTopBorder();
 
-        for (int r = 0; r < ROWS; r++) {
+        for (int r = 0; r < rows; r++) {
             System.out.print("  ");
             System.out.print("┃");
-            for (int c = 0; c < COLS; c++) {
-                String sym = getCellSymbol(grid[r][c], r);
+            for (int c = 0; c < cols; c++) {
+                String sym = danger ? getDangerSymbol(grid[r][c], r, c) : getCellSymbol(grid[r][c], r);
                 System.out.print(" " + sym + " ");
-                if (c < COLS - 1) {
+                if (c < cols - 1) {
                     System.out.print("┃");
                 }
             }
             System.out.println("┃");
 
-            if (r < ROWS - 1) {
+            if (r < rows - 1) {
                 printMiddleBorder();
             }
         }
@@ -210,9 +436,9 @@ public class ValorBoard {
     private void printTopBorder() {
         System.out.print("  ");
         System.out.print("┏");
-        for (int c = 0; c < COLS; c++) {
+        for (int c = 0; c < cols; c++) {
             System.out.print("━━━");
-            if (c < COLS - 1) System.out.print("┳");
+            if (c < cols - 1) System.out.print("┳");
         }
         System.out.println("┓");
     }
@@ -220,9 +446,9 @@ public class ValorBoard {
     private void printMiddleBorder() {
         System.out.print("  ");
         System.out.print("┣");
-        for (int c = 0; c < COLS; c++) {
+        for (int c = 0; c < cols; c++) {
             System.out.print("━━━");
-            if (c < COLS - 1) System.out.print("╋");
+            if (c < cols - 1) System.out.print("╋");
         }
         System.out.println("┫");
     }
@@ -230,9 +456,9 @@ public class ValorBoard {
     private void printBottomBorder() {
         System.out.print("  ");
         System.out.print("┗");
-        for (int c = 0; c < COLS; c++) {
+        for (int c = 0; c < cols; c++) {
             System.out.print("━━━");
-            if (c < COLS - 1) System.out.print("┻");
+            if (c < cols - 1) System.out.print("┻");
         }
         System.out.println("┛");
     }
@@ -275,26 +501,33 @@ public class ValorBoard {
         }
     }
 
+    // Units and blocked cells keep their normal symbol; free cells show the monster threat count
+    private String getDangerSymbol(ValorTile tile, int row, int col) {
+        if (tile == null || tile.hasHero() || tile.hasMonster() || !tile.isAccessible()) {
+            return getCellSymbol(tile, row);
+        }
+
+        int n = threatMap.getMonsterCount(row, col);
+        if (n <= 0) return color(WHITE, ".");
+        return color(n == 1 ? YELLOW : RED, n > 9 ? "+" : String.valueOf(n));
+    }
+
     private String color(String code, String text) {
         return code + text + RESET;
     }
 
     // Heroes win when any hero reaches the top nexus row
     public boolean heroesReachedEnemyNexus() {
-        int monstersRow = 0;
-        for (int c = 0; c < COLS; c++) {
-            ValorTile t = grid[monstersRow][c];
-            if (t != null && t.hasHero()) return true;
+        for (int i = 0; i < heroesOnBoard.size(); i++) {
+            if (heroCell.get(heroesOnBoard.get(i)) / cols == 0) return true;
         }
         return false;
     }
 
     // Monsters win when any monster reaches the bottom nexus row
     public boolean monstersReachedHeroesNexus() {
-        int heroesRow = ROWS - 1;
-        for (int c = 0; c < COLS; c++) {
-            ValorTile t = grid[heroesRow][c];
-            if (t != null && t.hasMonster()) return true;
+        for (int i = 0; i < monstersOnBoard.size(); i++) {
+            if (monsterCell.get(monstersOnBoard.get(i)) / cols == rows - 1) return true;
         }
         return false;
     }
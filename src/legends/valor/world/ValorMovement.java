@@ -23,24 +23,13 @@ public class ValorMovement {
     }
 
     public boolean moveHero(Hero hero, ValorDirection dir) {
-        if (hero == null || dir == null) return false;
+        if (!canMoveHero(hero, dir)) return false;
 
-        // Locate the hero on the board before attempting movement
         int[] pos = findHero(hero);
-        if (pos == null) return false;
-
         int fromR = pos[0], fromC = pos[1];
         int toR = fromR + dir.deltaRow();
         int toC = fromC + dir.deltaCol();
-
-        if (!board.inBounds(toR, toC)) return false;
-
-        // Destination must be empty and enterable for a hero
         ValorTile dest = board.getTile(toR, toC);
-        if (!dest.isEmptyForHero()) return false;
-
-        // Lane rule: heroes cannot move past the closest blocking monster in the same lane
-        if (wouldHeroBypassMonster(fromR, fromC, toR, toC)) return false;
 
         // Notify the current tile that the hero is leaving (terrain effect cleanup)
         ValorTile fromTile = board.getTile(fromR, fromC);
@@ -51,10 +40,35 @@ public class ValorMovement {
 
         // Notify the destination tile that the hero entered (terrain effect apply)
         dest.onEnter(hero);
+        board.refreshThreat(hero);
 
         return true;
     }
 
+    /**
+     * Checks whether a hero could legally take one step in the given direction
+     * (same rules as moveHero, without moving).
+     */
+    public boolean canMoveHero(Hero hero, ValorDirection dir) {
+        if (hero == null || dir == null) return false;
+
+        // Locate the hero on the board before attempting movement
+        int[] pos = findHero(hero);
+        if (pos == null) return false;
+
+        int fromR = pos[0], fromC = pos[1];
+        int toR = fromR + dir.deltaRow();
+        int toC = fromC + dir.deltaCol();
+
+        if (!board.inBounds(toR, toC)) return false;
+
+        // Destination must be empty and enterable for a hero
+        if (!board.getTile(toR, toC).isEmptyForHero()) return false;
+
+        // Lane rule: heroes cannot move past the closest blocking monster in the same lane
+        return !wouldHeroBypassMonster(fromR, fromC, toR, toC);
+    }
+
     public boolean moveMonster(Monster monster, ValorDirection dir) {
         if (monster == null || dir == null) return false;
 
@@ -75,17 +89,26 @@ public class ValorMovement {
         // Lane rule: monsters cannot move past the closest blocking hero in the same lane
         if (wouldMonsterBypassHero(fromR, fromC, toR, toC)) return false;
 
+        applyMonsterMove(monster, fromR, fromC, toR, toC);
+        return true;
+    }
+
+    /**
+     * Moves a monster between two cells with terrain exit/enter hooks, without
+     * checking legality. Used to apply moves that were already validated
+     * (e.g. by the batch-planned monster phase).
+     */
+    public void applyMonsterMove(Monster monster, int fromR, int fromC, int toR, int toC) {
+        if (monster == null) return;
+
         // Notify the current tile that the monster is leaving (safe even if no bonuses apply)
-        ValorTile fromTile = board.getTile(fromR, fromC);
-        fromTile.onExit(monster);
+        board.getTile(fromR, fromC).onExit(monster);
 
         // Perform the actual board occupancy update
         board.moveMonster(monster, fromR, fromC, toR, toC);
 
         // Notify the destination tile that the monster entered
-        dest.onEnter(monster);
-
-        return true;
+        board.getTile(toR, toC).onEnter(monster);
     }
 
     /**
@@ -113,7 +136,7 @@ public class ValorMovement {
         }
 
         // Cross-lane teleport cannot place the hero behind the foremost monster of the target lane
-        int blockRowDest = closestBlockingMonsterRow(ValorBoard.ROWS, toLane);
+        int blockRowDest = closestBlockingMonsterRow(board.getRows(), toLane);
         return blockRowDest == Integer.MIN_VALUE || toR >= blockRowDest;
     }
 
@@ -140,6 +163,7 @@ public class ValorMovement {
 
         // Notify destination tile that the hero entered
         board.getTile(toR, toC).onEnter(hero);
+        board.refreshThreat(hero);
     }
 
     // Determines whether a hero move would bypass a blocking monster in the same lane
@@ -159,24 +183,19 @@ public class ValorMovement {
 
     /**
      * Finds the closest monster "ahead" of a hero within a lane (toward the enemy nexus).
+     * Walks rows outward from the reference row and stops at the first hit.
      * Returns Integer.MIN_VALUE when no blocking monster exists.
      */
     private int closestBlockingMonsterRow(int referenceRow, int lane) {
         int[] cols = board.getNexusColumnsForLane(lane);
-        int best = Integer.MIN_VALUE;
 
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
+        for (int r = Math.min(referenceRow, board.getRows()) - 1; r >= 0; r--) {
             for (int i = 0; i < cols.length; i++) {
-                int c = cols[i];
-                Monster m = board.getTile(r, c).getMonster();
-                if (!isAlive(m)) continue;
-
-                if (r < referenceRow) {
-                    best = Math.max(best, r);
-                }
+                Monster m = board.getTile(r, cols[i]).getMonster();
+                if (isAlive(m)) return r;
             }
         }
-        return best;
+        return Integer.MIN_VALUE;
     }
 
     // Determines whether a monster move would bypass a blocking hero in the same lane
@@ -193,24 +212,19 @@ public class ValorMovement {
 
     /**
      * Finds the closest hero "ahead" of a monster within a lane (toward the heroes' nexus).
+     * Walks rows outward from the reference row and stops at the first hit.
      * Returns Integer.MAX_VALUE when no blocking hero exists.
      */
     private int closestBlockingHeroRow(int referenceRow, int lane) {
         int[] cols = board.getNexusColumnsForLane(lane);
-        int best = Integer.MAX_VALUE;
 
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
+        for (int r = Math.max(referenceRow, -1) + 1; r < board.getRows(); r++) {
             for (int i = 0; i < cols.length; i++) {
-                int c = cols[i];
-                Hero h = board.getTile(r, c).getHero();
-                if (!isAlive(h)) continue;
-
-                if (r > referenceRow) {
-                    best = Math.min(best, r);
-                }
+                Hero h = board.getTile(r, cols[i]).getHero();
+                if (isAlive(h)) return r;
             }
         }
-        return best;
+        return Integer.MAX_VALUE;
     }
 
     // Hero is considered alive if it exists and has positive HP
@@ -224,34 +238,20 @@ public class ValorMovement {
     }
 
     /**
-     * Finds the current board position of a hero.
+     * Finds the current board position of a hero (O(1) board index lookup).
      * @return {row, col} if found, otherwise null
      */
     public int[] findHero(Hero hero) {
         if (hero == null) return null;
-
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                ValorTile tile = board.getTile(r, c);
-                if (tile.getHero() == hero) return new int[]{r, c};
-            }
-        }
-        return null;
+        return board.locateHero(hero);
     }
 
     /**
-     * Finds the current board position of a monster.
+     * Finds the current board position of a monster (O(1) board index lookup).
      * @return {row, col} if found, otherwise null
      */
     public int[] findMonster(Monster monster) {
         if (monster == null) return null;
-
-        for (int r = 0; r < ValorBoard.ROWS; r++) {
-            for (int c = 0; c < ValorBoard.COLS; c++) {
-                ValorTile tile = board.getTile(r, c);
-                if (tile.getMonster() == monster) return new int[]{r, c};
-            }
-        }
-        return null;
+        return board.locateMonster(monster);
     }
 }
@@ -9,6 +9,7 @@
  * - tracking tile type and accessibility
  * - applying and reverting terrain bonuses
  * - managing hero and monster occupancy
+ * - reporting occupancy changes to the owning board's position index
  */
 package legends.valor.world;
 
@@ -27,10 +28,22 @@ public class ValorTile extends Tile {
     private Hero hero;              // Hero currently on this tile
     private Monster monster;        // Monster currently on this tile
 
+    private ValorBoard board;       // Owning board (null for standalone tiles)
+    private int row, col;           // This tile's coordinates on the owning board
+
     public ValorTile(ValorCellType type) {
         setType(type);
     }
 
+    /**
+     * Attaches this tile to its board so placements keep the board's position index current.
+     */
+    void bind(ValorBoard board, int row, int col) {
+        this.board = board;
+        this.row = row;
+        this.col = col;
+    }
+
     public ValorCellType getType() {
         return type;
     }
@@ -41,8 +54,10 @@ public class ValorTile extends Tile {
      */
     public void setType(ValorCellType newType) {
         if (newType == null) return;
+        ValorCellType oldType = this.type;
         this.type = newType;
         this.terrain = TerrainFactory.create(newType);
+        if (board != null) board.terrainChanged(row, col, oldType, newType);
     }
 
     @Override
@@ -99,12 +114,14 @@ public class ValorTile extends Tile {
             throw new IllegalStateException("Tile already contains a hero.");
         }
         this.hero = h;
+        if (board != null) board.heroPlaced(h, row, col);
     }
 
     /**
      * Removes the hero from this tile.
      */
     public void removeHero() {
+        if (board != null && hero != null) board.heroRemoved(hero);
         this.hero = null;
     }
 
@@ -118,12 +135,14 @@ public class ValorTile extends Tile {
             throw new IllegalStateException("Tile already contains a monster.");
         }
         this.monster = m;
+        if (board != null) board.monsterPlaced(m, row, col);
     }
 
     /**
      * Removes the monster from this tile.
      */
     public void removeMonster() {
+        if (board != null && monster != null) board.monsterRemoved(monster);
         this.monster = null;
     }
 
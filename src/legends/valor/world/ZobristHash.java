@@ -0,0 +1,130 @@
+/**
+ * File: ZobristHash.java
+ * Package: legends.valor.world
+ *
+ * Purpose:
+ *   Incremental 64-bit Zobrist hash of a Valor board position.
+ *
+ * Responsibilities:
+ *   - Hold one random key per (cell, cell type)
+ *   - Derive a key per (unit, cell, HP bucket) for heroes and monsters
+ *   - XOR keys in and out as cells change type and units are placed, moved,
+ *     removed or change HP bucket, so the hash is never rebuilt from scratch
+ *
+ * Keys come from a fixed seed, so the same position hashes to the same value
+ * in every run (useful for replay divergence checks). As in ThreatMap, the
+ * key a unit stamped is remembered per entity id, so removal XORs out exactly
+ * what was added even if the unit's HP changed in between.
+ */
+package legends.valor.world;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import legends.characters.Entity;
+
+public class ZobristHash {
+
+    // Fixed seed so hashes are stable across runs
+    private static final long SEED = 0x56414C4F52L;
+
+    // HP is hashed in buckets of 1/HP_BUCKETS of the unit's max HP (level * 100)
+    public static final int HP_BUCKETS = 8;
+
+    // Salts that keep hero and monster keys apart
+    private static final long HERO_SALT = 0x4845524FL;
+    private static final long MONSTER_SALT = 0x4D4F4E53L;
+
+    private final int cols;
+
+    // typeKey[cell * typeCount + type.ordinal()]
+    private final long[] typeKey;
+    private final int typeCount = ValorCellType.values().length;
+
+    // Key each entity stamped when placed (0 = not on the board), indexed by entity id
+    private long[] stamped = new long[16];
+
+    private long hash = 0;
+
+    ZobristHash(int rows, int cols) {
+        this.cols = cols;
+        this.typeKey = new long[rows * cols * typeCount];
+
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        for (int i = 0; i < typeKey.length; i++) typeKey[i] = rnd.nextLong();
+    }
+
+    /**
+     * Current hash of the position.
+     */
+    public long get() { return hash; }
+
+    /**
+     * HP bucket used in unit keys: 0 (no HP) .. HP_BUCKETS (full or above).
+     */
+    public static int hpBucket(Entity e) {
+        return hpBucket(e.getHP(), e.getLevel());
+    }
+
+    public static int hpBucket(double hp, int level) {
+        double max = Math.max(1, level) * 100.0;
+        return (int) Math.max(0, Math.min(HP_BUCKETS, hp * HP_BUCKETS / max));
+    }
+
+    // ---------- Updates (called by ValorBoard) ----------
+
+    void cellType(int row, int col, ValorCellType type) {
+        if (type != null) hash ^= typeKey[(row * cols + col) * typeCount + type.ordinal()];
+    }
+
+    void addHero(Entity e, int row, int col) {
+        stamp(e, heroKey(e, row * cols + col));
+    }
+
+    void addMonster(Entity e, int row, int col) {
+        stamp(e, monsterKey(e, row * cols + col));
+    }
+
+    void remove(Entity e) {
+        int id = e.getId();
+        if (id < 0 || id >= stamped.length) return;
+        hash ^= stamped[id];
+        stamped[id] = 0;
+    }
+
+    private void stamp(Entity e, long key) {
+        int id = e.getId();
+        if (id >= stamped.length) {
+            stamped = Arrays.copyOf(stamped, Math.max(id + 1, stamped.length * 2));
+        }
+        hash ^= stamped[id];
+        stamped[id] = key;
+        hash ^= key;
+    }
+
+    /**
+     * Key of a unit (kind, id, cell, HP bucket), mixed with SplitMix64.
+     */
+    private static long unitKey(long salt, int id, int cell, int bucket) {
+        long x = mix(SEED + salt * 0x9E3779B97F4A7C15L + id);
+        x = mix(x + (((long) cell << 4) | bucket));
+        // 0 marks "nothing stamped"
+        return (x == 0) ? 1 : x;
+    }
+
+    private static long mix(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    static long heroKey(Entity e, int cell) { return heroKey(e.getId(), cell, hpBucket(e)); }
+    static long monsterKey(Entity e, int cell) { return monsterKey(e.getId(), cell, hpBucket(e)); }
+
+    static long heroKey(int id, int cell, int bucket) { return unitKey(HERO_SALT, id, cell, bucket); }
+    static long monsterKey(int id, int cell, int bucket) { return unitKey(MONSTER_SALT, id, cell, bucket); }
+
+    long typeKey(int row, int col, ValorCellType type) {
+        return typeKey[(row * cols + col) * typeCount + type.ordinal()];
+    }
+}
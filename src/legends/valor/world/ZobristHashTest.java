@@ -0,0 +1,116 @@
+/**
+ * File: ZobristHashTest.java
+ * Description: Simple test harness for the incremental board hash.
+ *              Checks that ValorBoard.getHash() matches recomputeHash() after
+ *              placements, moves, HP changes, terrain changes and removals,
+ *              that undoing a change restores the earlier hash, and that a long
+ *              seeded random sequence of changes never lets the two drift
+ *              apart. Exits with status 1 on a failure.
+ */
+
+package legends.valor.world;
+
+import legends.characters.Dragon;
+import legends.characters.Hero;
+import legends.characters.Monster;
+import legends.characters.Warrior;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ZobristHashTest {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) {
+        ValorBoard board = new ValorBoard();
+        ValorMovement movement = new ValorMovement(board);
+
+        // --- Single changes ---
+        System.out.println("=== Single changes ===");
+        check(board.getHash() == board.recomputeHash(), "fresh board");
+        board.getTile(3, 4).setType(ValorCellType.PLAIN);
+        board.getTile(4, 4).setType(ValorCellType.PLAIN);
+        long empty = board.getHash();
+
+        Hero hero = new Warrior("Guard", 1, 100, 100, 500, 500, 500);
+        int[] heroSpawn = board.getHeroSpawnCell(0);
+        board.getTile(heroSpawn[0], heroSpawn[1]).placeHero(hero);
+        check(board.getHash() == board.recomputeHash(), "hero placed");
+
+        Monster monster = new Dragon("Drake", 1, 100, 100, 0.0);
+        board.getTile(3, 4).placeMonster(monster);
+        check(board.getHash() == board.recomputeHash(), "monster placed");
+        long placed = board.getHash();
+
+        movement.applyMonsterMove(monster, 3, 4, 4, 4);
+        check(board.getHash() == board.recomputeHash(), "monster moved");
+        check(board.getHash() != placed, "move changes the hash");
+        movement.applyMonsterMove(monster, 4, 4, 3, 4);
+        check(board.getHash() == placed, "moving back restores the hash");
+
+        hero.takeDamage(60);
+        board.refreshHealth(hero);
+        check(board.getHash() == board.recomputeHash(), "hero HP bucket changed");
+        check(board.getHash() != placed, "HP bucket is part of the hash");
+
+        ValorTile tile = board.getTile(5, 3);
+        ValorCellType before = tile.getType();
+        tile.setType(before == ValorCellType.BUSH ? ValorCellType.CAVE : ValorCellType.BUSH);
+        check(board.getHash() == board.recomputeHash(), "terrain changed");
+        tile.setType(before);
+
+        board.getTile(3, 4).removeMonster();
+        board.getTile(heroSpawn[0], heroSpawn[1]).removeHero();
+        check(board.getHash() == board.recomputeHash(), "units removed");
+        check(board.getHash() == empty, "empty board hash restored");
+
+        // --- Long random sequence ---
+        System.out.println("\n=== Random sequence ===");
+        Random rng = new Random(42);
+        List<Monster> monsters = new ArrayList<Monster>();
+        int mismatches = 0;
+        for (int step = 0; step < 5000; step++) {
+            int op = rng.nextInt(5);
+            int r = 1 + rng.nextInt(board.getRows() - 2);
+            int c = rng.nextInt(board.getCols());
+            ValorTile t = board.getTile(r, c);
+
+            if (op == 0 && t.isAccessible() && !t.hasMonster()) {
+                Monster m = new Dragon("Drake", 1 + rng.nextInt(5), 100, 100, 0.0);
+                t.placeMonster(m);
+                monsters.add(m);
+            } else if (op == 1 && !monsters.isEmpty()) {
+                Monster m = monsters.get(rng.nextInt(monsters.size()));
+                int[] pos = board.locateMonster(m);
+                int tr = pos[0] + rng.nextInt(3) - 1, tc = pos[1] + rng.nextInt(3) - 1;
+                ValorTile dest = board.getTile(tr, tc);
+                if (dest != null && dest.isAccessible() && !dest.hasMonster()) {
+                    movement.applyMonsterMove(m, pos[0], pos[1], tr, tc);
+                }
+            } else if (op == 2 && !monsters.isEmpty()) {
+                Monster m = monsters.get(rng.nextInt(monsters.size()));
+                m.setHP(Math.max(1, m.getHP() - rng.nextInt(80)));
+                board.refreshHealth(m);
+            } else if (op == 3 && !monsters.isEmpty()) {
+                Monster m = monsters.remove(rng.nextInt(monsters.size()));
+                int[] pos = board.locateMonster(m);
+                board.getTile(pos[0], pos[1]).removeMonster();
+            } else if (op == 4 && !t.hasMonster() && !t.hasHero() && t.getType() != ValorCellType.INACCESSIBLE) {
+                t.setType(rng.nextBoolean() ? ValorCellType.PLAIN : ValorCellType.KOULOU);
+            }
+
+            if (board.getHash() != board.recomputeHash()) mismatches++;
+        }
+        check(mismatches == 0, "incremental hash matches recompute after every step");
+
+        System.out.println(failures == 0 ? "\nAll checks passed." : "\n" + failures + " check(s) failed.");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "PASS " : "FAIL ") + what);
+        if (!ok) failures++;
+    }
+}